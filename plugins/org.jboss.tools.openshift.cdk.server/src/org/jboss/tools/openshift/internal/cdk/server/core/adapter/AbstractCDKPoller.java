@@ -13,6 +13,7 @@ package org.jboss.tools.openshift.internal.cdk.server.core.adapter;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.TimeoutException;
 
@@ -26,6 +27,17 @@ import org.jboss.tools.openshift.internal.cdk.server.core.CDKCoreActivator;
 
 public abstract class AbstractCDKPoller implements IServerStatePoller2 {
 
+	/**
+	 * The maximum interval in milliseconds between 2 pings. The interval starts at
+	 * {@link #MIN_POLL_INTERVAL} and doubles with each ping that reports the same
+	 * status as the previous one.
+	 */
+	public static final String MAX_POLL_INTERVAL_KEY = "org.jboss.tools.openshift.cdk.poller.maxinterval";
+	protected static final long MIN_POLL_INTERVAL = 700;
+	private static final long DEFAULT_MAX_POLL_INTERVAL = 5000;
+	// how often #probe() is checked while waiting for the next ping
+	private static final long PROBE_INTERVAL = 1000;
+
 	protected IServer server;
 	protected boolean canceled, done;
 	protected boolean state;
@@ -56,6 +68,9 @@ public abstract class AbstractCDKPoller implements IServerStatePoller2 {
 	protected void pollerRun() {
 		setStateInternal(false, state);
 		Map<String, String> env = createEnvironment(server);
+		long maxInterval = Long.getLong(MAX_POLL_INTERVAL_KEY, DEFAULT_MAX_POLL_INTERVAL);
+		long interval = MIN_POLL_INTERVAL;
+		IStatus previous = null;
 		while (aborted == null && !canceled && !done) {
 			IStatus stat = onePingSafe(server, env);
 			int status = stat.getSeverity();
@@ -63,14 +78,60 @@ public abstract class AbstractCDKPoller implements IServerStatePoller2 {
 			boolean completeDown = (status == IStatus.ERROR && !expectedState);
 			if (completeUp || completeDown) {
 				setStateInternal(true, expectedState);
+			} else {
+				interval = getNextInterval(interval, maxInterval, previous, stat);
+				previous = stat;
+				waitForNextPing(interval);
 			}
+		}
+	}
+
+	/**
+	 * Returns the interval until the next ping. It is doubled up to the given
+	 * maximum if the given status is the same as the previous one and reset to
+	 * {@link #MIN_POLL_INTERVAL} otherwise.
+	 */
+	protected static long getNextInterval(long interval, long maxInterval, IStatus previous, IStatus current) {
+		if (previous == null
+				|| previous.getSeverity() != current.getSeverity()
+				|| !Objects.equals(previous.getMessage(), current.getMessage())) {
+			return MIN_POLL_INTERVAL;
+		}
+		return Math.min(interval * 2, Math.max(maxInterval, MIN_POLL_INTERVAL));
+	}
+
+	/**
+	 * Waits for the given interval. Returns earlier if the poller is canceled or if
+	 * {@link #probe()} reports a change.
+	 */
+	protected void waitForNextPing(long interval) {
+		long end = System.currentTimeMillis() + interval;
+		Object probed = probe();
+		long remaining = interval;
+		while (remaining > 0 && !canceled) {
 			try {
-				Thread.sleep(700);
+				Thread.sleep(Math.min(remaining, PROBE_INTERVAL));
 			} catch (InterruptedException ie) {
-			} // ignore
+				// ping right away
+				return;
+			}
+			if (!Objects.equals(probed, probe())) {
+				return;
+			}
+			remaining = end - System.currentTimeMillis();
 		}
 	}
 
+	/**
+	 * Returns the state of the instance as seen by a check that is a lot cheaper
+	 * than a ping (ex. a request to an http endpoint). A change of this state
+	 * triggers the next ping immediately. Returns {@code null} by default,
+	 * subclasses can override.
+	 */
+	protected Object probe() {
+		return null;
+	}
+
 	protected abstract Map<String, String> createEnvironment(IServer server);
 
 	protected synchronized void setStateInternal(boolean done, boolean state) {
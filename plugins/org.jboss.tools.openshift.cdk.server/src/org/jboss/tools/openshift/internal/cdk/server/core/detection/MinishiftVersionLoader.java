@@ -13,7 +13,9 @@ package org.jboss.tools.openshift.internal.cdk.server.core.detection;
 import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.tools.openshift.internal.cdk.server.core.adapter.controllers.CommandTimeoutException;
 import org.jboss.tools.openshift.internal.cdk.server.core.adapter.controllers.ProcessLaunchUtility;
@@ -26,8 +28,41 @@ public class MinishiftVersionLoader {
 	public static final String CDK_VERSION_KEY_OLD = "CDK Version";
 	public static final String CRC_VERSION_KEY = "CRC";
 	public static final String CRC_VERSION_KEY_OLD = "CRC Version";
-	
+
+	// versions by binary path, reloaded once the binary is replaced
+	private static final Map<String, CachedVersions> CACHE = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the versions reported by the given binary. The versions are loaded
+	 * once per binary and kept until its modification time or size change.
+	 * 
+	 * @param commandPath
+	 * @return the versions
+	 */
 	public static MinishiftVersions getVersionProperties(String commandPath) {
+		if (commandPath == null) {
+			return loadVersionProperties(commandPath);
+		}
+		File binary = new File(commandPath);
+		long modified = binary.lastModified();
+		long size = binary.length();
+		CachedVersions cached = CACHE.get(commandPath);
+		if (cached != null
+				&& cached.modified == modified
+				&& cached.size == size) {
+			return cached.versions;
+		}
+		MinishiftVersions versions = loadVersionProperties(commandPath);
+		if (versions.getError() == null
+				&& modified != 0) {
+			CACHE.put(commandPath, new CachedVersions(versions, modified, size));
+		} else {
+			CACHE.remove(commandPath);
+		}
+		return versions;
+	}
+
+	private static MinishiftVersions loadVersionProperties(String commandPath) {
 		Properties ret = new Properties();
 		try {
 			String[] lines = ProcessLaunchUtility.call(commandPath, new String[] { "version" },
@@ -53,6 +88,18 @@ public class MinishiftVersionLoader {
 		return new MinishiftVersions(ret);
 	}
 
+	private static class CachedVersions {
+		private final MinishiftVersions versions;
+		private final long modified;
+		private final long size;
+
+		private CachedVersions(MinishiftVersions versions, long modified, long size) {
+			this.versions = versions;
+			this.modified = modified;
+			this.size = size;
+		}
+	}
+
 	public static class MinishiftVersions {
 		private Properties p;
 
@@ -12,11 +12,15 @@ package org.jboss.tools.openshift.internal.crc.server.core.adapter;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeoutException;
 
+import javax.net.ssl.SSLException;
+
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.wst.server.core.IServer;
@@ -32,11 +36,17 @@ import org.jboss.tools.openshift.internal.cdk.server.core.detection.MinishiftVer
 import org.jboss.tools.openshift.internal.cdk.server.core.detection.MinishiftVersionLoader.MinishiftVersions;
 import org.jboss.tools.openshift.internal.cdk.server.core.listeners.ServiceManagerEnvironment;
 import org.jboss.tools.openshift.internal.cdk.server.core.listeners.ServiceManagerEnvironmentLoader;
+import org.jboss.tools.openshift.internal.crc.server.core.listeners.ConfigureCRCFrameworksListener;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 public class CRC100Poller extends AbstractCDKPoller {
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	private static final String API_READY_URL = ConfigureCRCFrameworksListener.CRC_HOST_URL + ":"
+			+ ConfigureCRCFrameworksListener.CRC_HOST_PORT + "/readyz";
+	private static final int API_PROBE_TIMEOUT = 500;
+
 	private String crcVers;
 	
 	protected void launchThread() {
@@ -151,8 +161,7 @@ public class CRC100Poller extends AbstractCDKPoller {
 			// JBIDE-27589
 			if (lines != null && lines.length != 0) {
 				String allContent = String.join("\n", lines);
-			    ObjectMapper mapper = new ObjectMapper();
-			    JsonNode actualObj = mapper.readTree(allContent);
+			    JsonNode actualObj = MAPPER.readTree(allContent);
 				// Since crc 1.22.0 there is another patch that breaks this code.
 				// https://github.com/code-ready/crc/issues/1909
 				// Now "./crc status --output json" output does not end on stdErr
@@ -208,6 +217,37 @@ public class CRC100Poller extends AbstractCDKPoller {
 		return StatusFactory.infoStatus(CDKCoreActivator.PLUGIN_ID, "The CRC Container is starting.");
 	}
 
+	/**
+	 * Returns whether the OpenShift API of the CRC instance responds. This is a
+	 * lot cheaper than forking {@code crc status}, a change triggers the next
+	 * {@code crc status} right away.
+	 */
+	@Override
+	protected Object probe() {
+		return isApiResponding(API_READY_URL, API_PROBE_TIMEOUT);
+	}
+
+	protected boolean isApiResponding(String url, int timeout) {
+		HttpURLConnection connection = null;
+		try {
+			connection = (HttpURLConnection) new URL(url).openConnection();
+			connection.setConnectTimeout(timeout);
+			connection.setReadTimeout(timeout);
+			// any response, even an unauthorized one, means the api server is up
+			connection.getResponseCode();
+			return true;
+		} catch (SSLException e) {
+			// the api server answered with its (self-signed) certificate
+			return true;
+		} catch (IOException e) {
+			return false;
+		} finally {
+			if (connection != null) {
+				connection.disconnect();
+			}
+		}
+	}
+
 	private boolean checkOpenShiftHealth(IServer server, int timeout) throws OpenShiftNotReadyPollingException {
 		ServiceManagerEnvironment adb = ServiceManagerEnvironmentLoader.type(server)
 				.getOrLoadServiceManagerEnvironment(server, true, true);
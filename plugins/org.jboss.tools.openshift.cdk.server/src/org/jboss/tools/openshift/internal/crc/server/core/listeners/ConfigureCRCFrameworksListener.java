@@ -39,8 +39,8 @@ public class ConfigureCRCFrameworksListener extends UnitedServerListener {
 
 	private static final int CONNECT_TRIES = 3;
 	private static final long RECONNECT_DELAY = 3 * 1000l;
-	private static final String CRC_HOST_URL = "https://api.crc.testing";
-	private static final int CRC_HOST_PORT = 6443;
+	public static final String CRC_HOST_URL = "https://api.crc.testing";
+	public static final int CRC_HOST_PORT = 6443;
 	private static final String CRC_DEV_USERNAME = "developer";
 	private static final String CRC_DEV_PASSWORD = "developer";
 
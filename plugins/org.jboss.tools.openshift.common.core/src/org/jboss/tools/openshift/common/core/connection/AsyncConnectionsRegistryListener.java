@@ -0,0 +1,333 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.common.core.connection;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.osgi.util.NLS;
+import org.jboss.tools.openshift.internal.common.core.OpenShiftCommonCoreActivator;
+
+/**
+ * A listener that notifies the listener it wraps in a thread of its own
+ * instead of the thread that fired the event. The events are queued in a
+ * bounded queue and delivered in the order they were fired. Changes to the
+ * same resource that are still queued are coalesced into a single change from
+ * the oldest to the newest value. The thread that fires an event is blocked
+ * while the queue is full.
+ *
+ * @see ConnectionsRegistry#addAsyncListener(IConnectionsRegistryListener,
+ *      Function)
+ */
+public class AsyncConnectionsRegistryListener implements IConnectionsRegistryListener {
+
+	/** The maximum number of events that are queued for a listener */
+	public static final String QUEUE_SIZE_KEY = "org.jboss.tools.openshift.connections.dispatch.queue";
+
+	private static final int DEFAULT_QUEUE_SIZE = 1000;
+	private static final ExecutorService EXECUTOR = createExecutor();
+
+	private enum EventType {
+		ADDED, REMOVED, CHANGED
+	}
+
+	private final IConnectionsRegistryListener delegate;
+	private final Function<Object, Object> resourceKey;
+	private final int capacity;
+	private final Map<Object, Event> queue = new LinkedHashMap<>();
+	private boolean dispatching = false;
+	private Thread dispatchThread;
+	private boolean disposed = false;
+	// metrics
+	private int maxQueueDepth = 0;
+	private long dispatched = 0;
+	private long coalesced = 0;
+	private long totalLatency = 0;
+	private long maxLatency = 0;
+
+	/**
+	 * @param delegate
+	 *            the listener to notify
+	 * @param resourceKey
+	 *            returns the key that identifies the resource that the old or
+	 *            new value of a change is, {@code null} if it's not a resource.
+	 *            Changes of resources with the same key are coalesced.
+	 */
+	public AsyncConnectionsRegistryListener(IConnectionsRegistryListener delegate,
+			Function<Object, Object> resourceKey) {
+		this(delegate, resourceKey, Integer.getInteger(QUEUE_SIZE_KEY, DEFAULT_QUEUE_SIZE));
+	}
+
+	public AsyncConnectionsRegistryListener(IConnectionsRegistryListener delegate,
+			Function<Object, Object> resourceKey, int capacity) {
+		this.delegate = delegate;
+		this.resourceKey = resourceKey;
+		this.capacity = capacity;
+	}
+
+	public IConnectionsRegistryListener getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public void connectionAdded(IConnection connection) {
+		enqueue(new Object(), new Event(EventType.ADDED, connection, null, null, null));
+	}
+
+	@Override
+	public void connectionRemoved(IConnection connection) {
+		enqueue(new Object(), new Event(EventType.REMOVED, connection, null, null, null));
+	}
+
+	@Override
+	public void connectionChanged(IConnection connection, String property, Object oldValue, Object newValue) {
+		Event event = new Event(EventType.CHANGED, connection, property, oldValue, newValue);
+		Object key = getResourceKey(oldValue, newValue);
+		if (key == null) {
+			enqueue(new Object(), event);
+		} else {
+			enqueue(new ChangeKey(connection, property, key), event);
+		}
+	}
+
+	private Object getResourceKey(Object oldValue, Object newValue) {
+		if (resourceKey == null) {
+			return null;
+		}
+		Object key = resourceKey.apply(newValue != null ? newValue : oldValue);
+		if (key == null
+				|| (oldValue != null
+					&& newValue != null
+					&& !key.equals(resourceKey.apply(oldValue)))) {
+			return null;
+		}
+		return key;
+	}
+
+	private synchronized void enqueue(Object key, Event event) {
+		if (disposed) {
+			return;
+		}
+		Event queued = queue.get(key);
+		if (queued != null) {
+			coalesce(key, queued, event);
+			return;
+		}
+		// the wrapped listener may fire events itself, it must not wait for itself
+		while (queue.size() >= capacity
+				&& !disposed
+				&& Thread.currentThread() != dispatchThread) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+		queue.put(key, event);
+		this.maxQueueDepth = Math.max(maxQueueDepth, queue.size());
+		if (!dispatching) {
+			this.dispatching = true;
+			EXECUTOR.execute(this::dispatch);
+		}
+	}
+
+	/**
+	 * Merges the given event into the queued one, keeping its position in the
+	 * queue. A resource that was added and removed again is not notified at all.
+	 */
+	private void coalesce(Object key, Event queued, Event event) {
+		this.coalesced++;
+		queued.newValue = event.newValue;
+		if (queued.oldValue == null
+				&& queued.newValue == null) {
+			queue.remove(key);
+			notifyAll();
+		}
+	}
+
+	private void dispatch() {
+		synchronized (this) {
+			this.dispatchThread = Thread.currentThread();
+		}
+		Event event;
+		while ((event = next()) != null) {
+			long start = System.nanoTime();
+			try {
+				event.notify(delegate);
+			} catch (RuntimeException e) {
+				OpenShiftCommonCoreActivator.log(NLS.bind("Could not notify listener {0}", delegate), e);
+			}
+			record(System.nanoTime() - start);
+		}
+	}
+
+	private synchronized Event next() {
+		Iterator<Event> events = queue.values().iterator();
+		if (disposed
+				|| !events.hasNext()) {
+			this.dispatching = false;
+			this.dispatchThread = null;
+			return null;
+		}
+		Event event = events.next();
+		events.remove();
+		notifyAll();
+		return event;
+	}
+
+	private synchronized void record(long latency) {
+		this.dispatched++;
+		this.totalLatency += latency;
+		this.maxLatency = Math.max(maxLatency, latency);
+	}
+
+	/**
+	 * Drops the queued events and stops notifying the wrapped listener.
+	 */
+	public synchronized void dispose() {
+		this.disposed = true;
+		queue.clear();
+		notifyAll();
+	}
+
+	/**
+	 * Returns the number of events that are waiting to be delivered.
+	 */
+	public synchronized int getQueueDepth() {
+		return queue.size();
+	}
+
+	/**
+	 * Returns the largest number of events that were waiting to be delivered.
+	 */
+	public synchronized int getMaxQueueDepth() {
+		return maxQueueDepth;
+	}
+
+	/**
+	 * Returns the number of events that were delivered.
+	 */
+	public synchronized long getDispatchedCount() {
+		return dispatched;
+	}
+
+	/**
+	 * Returns the number of changes that were merged into a change that was
+	 * still queued.
+	 */
+	public synchronized long getCoalescedCount() {
+		return coalesced;
+	}
+
+	/**
+	 * Returns the average time in milliseconds the wrapped listener took to
+	 * handle an event.
+	 */
+	public synchronized long getAverageLatency() {
+		if (dispatched == 0) {
+			return 0;
+		}
+		return TimeUnit.NANOSECONDS.toMillis(totalLatency / dispatched);
+	}
+
+	/**
+	 * Returns the longest time in milliseconds the wrapped listener took to
+	 * handle an event.
+	 */
+	public synchronized long getMaxLatency() {
+		return TimeUnit.NANOSECONDS.toMillis(maxLatency);
+	}
+
+	@Override
+	public String toString() {
+		return "AsyncConnectionsRegistryListener [" + delegate + "]";
+	}
+
+	private static ExecutorService createExecutor() {
+		AtomicInteger threads = new AtomicInteger();
+		return Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "OpenShift Connections Listener " + threads.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private static class Event {
+
+		private final EventType type;
+		private final IConnection connection;
+		private final String property;
+		private final Object oldValue;
+		private Object newValue;
+
+		private Event(EventType type, IConnection connection, String property, Object oldValue, Object newValue) {
+			this.type = type;
+			this.connection = connection;
+			this.property = property;
+			this.oldValue = oldValue;
+			this.newValue = newValue;
+		}
+
+		private void notify(IConnectionsRegistryListener listener) {
+			switch (type) {
+			case ADDED:
+				listener.connectionAdded(connection);
+				break;
+			case REMOVED:
+				listener.connectionRemoved(connection);
+				break;
+			case CHANGED:
+				listener.connectionChanged(connection, property, oldValue, newValue);
+				break;
+			}
+		}
+	}
+
+	private static class ChangeKey {
+
+		private final IConnection connection;
+		private final String property;
+		private final Object resource;
+
+		private ChangeKey(IConnection connection, String property, Object resource) {
+			this.connection = connection;
+			this.property = property;
+			this.resource = resource;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(System.identityHashCode(connection), property, resource);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ChangeKey)) {
+				return false;
+			}
+			ChangeKey other = (ChangeKey) obj;
+			return connection == other.connection
+					&& Objects.equals(property, other.property)
+					&& Objects.equals(resource, other.resource);
+		}
+	}
+}
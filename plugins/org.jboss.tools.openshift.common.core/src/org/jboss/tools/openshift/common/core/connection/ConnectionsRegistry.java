@@ -17,8 +17,10 @@ import java.net.MalformedURLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.eclipse.osgi.util.NLS;
 import org.jboss.tools.common.databinding.ObservablePojo;
@@ -45,8 +47,49 @@ public class ConnectionsRegistry {
 		listeners.add(listener);
 	}
 
+	/**
+	 * Adds a listener that is notified in a thread of its own so that it does not
+	 * hold up the thread that fires the events (ex. the thread of a watch).
+	 * Changes to the same resource that the listener did not get yet are
+	 * coalesced.
+	 * 
+	 * @param listener
+	 *            the listener to add
+	 * @param resourceKey
+	 *            returns the key that identifies a resource, {@code null} if the
+	 *            given value is not a resource
+	 * @return the listener that's registered, it provides queue depth and latency
+	 *         metrics
+	 */
+	public synchronized AsyncConnectionsRegistryListener addAsyncListener(IConnectionsRegistryListener listener,
+			Function<Object, Object> resourceKey) {
+		AsyncConnectionsRegistryListener asyncListener = new AsyncConnectionsRegistryListener(listener, resourceKey);
+		listeners.add(asyncListener);
+		return asyncListener;
+	}
+
+	/**
+	 * Removes the given listener. Listeners that were added with
+	 * {@link #addAsyncListener(IConnectionsRegistryListener, Function)} may be
+	 * removed by passing in the listener that was wrapped.
+	 */
 	public synchronized void removeListener(IConnectionsRegistryListener listener) {
-		listeners.remove(listener);
+		for (Iterator<IConnectionsRegistryListener> it = listeners.iterator(); it.hasNext();) {
+			IConnectionsRegistryListener registered = it.next();
+			if (registered.equals(listener)
+					|| (registered instanceof AsyncConnectionsRegistryListener
+						&& ((AsyncConnectionsRegistryListener) registered).getDelegate() == listener)) {
+				it.remove();
+				dispose(registered);
+				return;
+			}
+		}
+	}
+
+	private void dispose(IConnectionsRegistryListener listener) {
+		if (listener instanceof AsyncConnectionsRegistryListener) {
+			((AsyncConnectionsRegistryListener) listener).dispose();
+		}
 	}
 
 	/**
@@ -55,6 +55,8 @@ import com.openshift.restclient.capability.server.IConsole;
 import com.openshift.restclient.model.IResource;
 import com.openshift.restclient.model.IResourceBuilder;
 
+import okhttp3.OkHttpClient;
+
 public class Connection extends ObservablePojo implements IRefreshable, IOpenShiftConnection {
 
 	public static final String SECURE_STORAGE_BASEKEY = "org.jboss.tools.openshift.core";
@@ -584,6 +586,16 @@ public class Connection extends ObservablePojo implements IRefreshable, IOpenShi
 		return loadAuthorizationContext().getToken();
 	}
 
+	/**
+	 * Returns the http client that this connection talks to the cluster with.
+	 * 
+	 * @return the http client or {@code null} if the client of this connection
+	 *         has none
+	 */
+	public OkHttpClient getHttpClient() {
+		return client.adapt(OkHttpClient.class);
+	}
+
 	public void setToken(String token) {
 		IAuthorizationContext context = client.getAuthorizationContext();
 		String old = context.getToken();
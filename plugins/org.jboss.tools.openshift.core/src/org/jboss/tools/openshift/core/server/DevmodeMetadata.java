@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.jboss.tools.openshift.core.server;
 
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -31,6 +32,9 @@ public class DevmodeMetadata {
 			.compile("\\\"com\\.redhat\\.dev-mode\\\" ?\\: ?\\\"([^(:|\\\")]+)(:|\\\")([^\\\"]*)");
 	private static final Pattern REGEX_LABEL_DEVMODE_PORT = Pattern
 			.compile("\\\"com\\.redhat\\.dev-mode\\.port\\\" ?\\: ?\\\"([^(:|\\\")]+)(:|\\\")([^\\\"]*)");
+	private static final String LABEL_DEVMODE = "com.redhat.dev-mode";
+	private static final String LABEL_DEVMODE_PORT = "com.redhat.dev-mode.port";
+	private static final String LABEL_VALUE_SEPARATOR = ":";
 
 	private String enablementKey;
 	private String enablementValue;
@@ -41,6 +45,32 @@ public class DevmodeMetadata {
 		parse(metadata);
 	}
 
+	/**
+	 * Creates the devmode metadata for the given image labels. The labels have
+	 * values of the form {@code KEY:VALUE}.
+	 *
+	 * @param labels
+	 *            the labels of the image
+	 */
+	public DevmodeMetadata(Map<String, String> labels) {
+		String[] enablement = splitLabelValue(labels.get(LABEL_DEVMODE));
+		if (enablement != null) {
+			this.enablementKey = enablement[0];
+			this.enablementValue = enablement[1];
+		} else {
+			this.enablementKey = DEFAULT_ENABLEMENT_KEY;
+			this.enablementValue = DEFAULT_ENABLEMENT_VALUE;
+		}
+		String[] port = splitLabelValue(labels.get(LABEL_DEVMODE_PORT));
+		if (port != null) {
+			this.portKey = port[0];
+			this.portValue = port[1];
+		} else {
+			this.portKey = DEFAULT_PORT_KEY;
+			this.portValue = DEFAULT_PORT_VALUE;
+		}
+	}
+
 	public String getEnablementKey() {
 		return enablementKey;
 	}
@@ -64,6 +94,17 @@ public class DevmodeMetadata {
 		}
 	}
 
+	private String[] splitLabelValue(String value) {
+		if (StringUtils.isEmpty(value)) {
+			return null;
+		}
+		int separator = value.indexOf(LABEL_VALUE_SEPARATOR);
+		if (separator < 0) {
+			return new String[] { value, "" };
+		}
+		return new String[] { value.substring(0, separator), value.substring(separator + 1) };
+	}
+
 	private void parseEnablement(String metadata) {
 		Matcher matcher = REGEX_LABEL_DEVMODE.matcher(metadata);
 		if (matcher.find()) {
@@ -19,6 +19,8 @@ import org.jboss.tools.foundation.core.plugin.log.StatusFactory;
 import org.jboss.tools.openshift.common.core.utils.StringUtils;
 import org.jboss.tools.openshift.core.connection.Connection;
 import org.jboss.tools.openshift.internal.core.OpenShiftCoreActivator;
+import org.jboss.tools.openshift.internal.core.docker.ImageMetadata;
+import org.jboss.tools.openshift.internal.core.docker.ImageMetadataCache;
 import org.jboss.tools.openshift.internal.core.util.ResourceUtils;
 
 import com.openshift.restclient.OpenShiftException;
@@ -33,7 +35,8 @@ public class DockerImageLabels {
 
 	private IResource resource;
 	private Connection connection;
-	private String metadata;
+	private IDeploymentConfig dc;
+	private ImageMetadata metadata;
 	private DevmodeMetadata devmodeMetadata;
 	private PodDeploymentPathMetadata podPathMetadata;
 
@@ -95,6 +98,21 @@ public class DockerImageLabels {
 		return this.podPathMetadata.get();
 	}
 
+	/**
+	 * Returns the deployment config for the resource of this instance. It is
+	 * looked up until it's found and then kept so that it is not resolved again
+	 * by the different parties that need it while the server is launched.
+	 * Returns {@code null} if it doesn't exist (yet).
+	 * 
+	 * @return the deployment config or {@code null}
+	 */
+	public IDeploymentConfig getDeploymentConfig() {
+		if (dc == null) {
+			this.dc = ResourceUtils.getDeploymentConfigFor(resource, connection);
+		}
+		return dc;
+	}
+
 	public boolean load(IProgressMonitor monitor) throws CoreException {
 		return loadIfRequired(monitor);
 	}
@@ -107,19 +125,53 @@ public class DockerImageLabels {
 		if (isLoaded()) {
 			return true;
 		}
-		this.metadata = load(resource, monitor);
-		if (StringUtils.isEmpty(metadata)) {
-			return false;
+		ImageMetadata metadata = getCachedMetadata();
+		if (metadata == null) {
+			String imageStreamTag = load(resource, monitor);
+			if (StringUtils.isEmpty(imageStreamTag)) {
+				return false;
+			}
+			metadata = ImageMetadataCache.getInstance().put(imageStreamTag);
 		}
-		this.devmodeMetadata = new DevmodeMetadata(metadata);
-		this.podPathMetadata = new PodDeploymentPathMetadata(metadata);
+		this.devmodeMetadata = new DevmodeMetadata(metadata.labels());
+		this.podPathMetadata = new PodDeploymentPathMetadata(metadata.labels(), metadata.workingDir());
+		this.metadata = metadata;
 		return true;
 	}
 
+	/**
+	 * Returns the cached metadata of the image that the deployment config runs.
+	 * The images of the containers are pinned to a digest once the image change
+	 * trigger resolved them, the image stream tag then doesn't need to be
+	 * loaded if the metadata of this digest is cached.
+	 */
+	private ImageMetadata getCachedMetadata() {
+		IDeploymentConfig dc = getDeploymentConfig();
+		if (dc == null
+				|| dc.getImages() == null) {
+			return null;
+		}
+		for (String image : dc.getImages()) {
+			ImageMetadata metadata = ImageMetadataCache.getInstance().get(image);
+			if (metadata != null) {
+				return metadata;
+			}
+		}
+		return null;
+	}
+
 	public boolean isAvailable() {
 		return isLoaded();
 	}
 
+	public IResource getResource() {
+		return resource;
+	}
+
+	public Connection getConnection() {
+		return connection;
+	}
+
 	/**
 	 * Loads the docker image meta data for a given resource. The given resource is
 	 * used to infer a deployment config which then is used to determined the docker
@@ -132,7 +184,7 @@ public class DockerImageLabels {
 	 * @throws CoreException 
 	 */
 	protected String load(IResource resource, IProgressMonitor monitor) throws CoreException {
-		IDeploymentConfig dc = ResourceUtils.getDeploymentConfigFor(resource, connection);
+		IDeploymentConfig dc = getDeploymentConfig();
 		if (dc == null) {
 			throw new CoreException(StatusFactory.errorStatus(OpenShiftCoreActivator.PLUGIN_ID,
 					resource == null ? "Could not determine the deployment config." 
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.jboss.tools.openshift.core.server;
 
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -30,14 +31,34 @@ public class PodDeploymentPathMetadata {
 			.compile("\"org\\.jboss\\.deployments-dir\"[^\"]*\"([^\"]*)\",");
 	// "image->"dockerImageMetadata"->"Config"->"WorkginDir"
 	private static final Pattern PATTERN_WOKRING_DIR = Pattern.compile("\"WorkingDir\"[^\"]*\"([^\"]*)\",");
+	private static final String LABEL_REDHAT_DEPLOYMENTS_DIR = "com.redhat.deployments-dir";
+	private static final String LABEL_JBOSS_DEPLOYMENTS_DIR = "org.jboss.deployments-dir";
 
 	private String metadata;
+	private Map<String, String> labels;
+	private String workingDir;
 
 	public PodDeploymentPathMetadata(String metadata) {
 		this.metadata = metadata;
 	}
 
+	/**
+	 * Creates the pod path metadata for the given image labels and working dir.
+	 *
+	 * @param labels
+	 *            the labels of the image
+	 * @param workingDir
+	 *            the working dir of the image
+	 */
+	public PodDeploymentPathMetadata(Map<String, String> labels, String workingDir) {
+		this.labels = labels;
+		this.workingDir = workingDir;
+	}
+
 	public String get() {
+		if (labels != null) {
+			return getPodPath(labels, workingDir);
+		}
 		if (StringUtils.isEmpty(metadata)) {
 			return null;
 		}
@@ -61,6 +82,15 @@ public class PodDeploymentPathMetadata {
 		return podPath;
 	}
 
+	private String getPodPath(Map<String, String> labels, String workingDir) {
+		String podPath = null;
+		if (StringUtils.isEmpty(podPath = labels.get(LABEL_REDHAT_DEPLOYMENTS_DIR))
+				&& StringUtils.isEmpty(podPath = labels.get(LABEL_JBOSS_DEPLOYMENTS_DIR))) {
+			podPath = workingDir;
+		}
+		return podPath;
+	}
+
 	private String matchFirstGroup(String imageStreamTag, Pattern pattern) {
 		Matcher matcher = pattern.matcher(imageStreamTag);
 		if (matcher.find() && matcher.groupCount() == 1) {
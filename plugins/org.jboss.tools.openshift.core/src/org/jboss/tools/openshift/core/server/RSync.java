@@ -16,16 +16,39 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.Executors;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
+import org.apache.commons.lang.StringUtils;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.wst.server.core.IServer;
+import org.jboss.dmr.ModelNode;
 import org.jboss.ide.eclipse.as.core.server.IServerConsoleWriter;
+import org.jboss.tools.common.util.FileUtils;
 import org.jboss.tools.openshift.core.connection.Connection;
+import org.jboss.tools.openshift.core.server.RSyncManifest.Delta;
 import org.jboss.tools.openshift.internal.core.OpenShiftCoreActivator;
 import org.jboss.tools.openshift.internal.core.ocbinary.OCBinaryOperation;
 import org.jboss.tools.openshift.internal.core.util.ResourceUtils;
@@ -44,8 +67,19 @@ import com.openshift.restclient.model.IResource;
 
 public class RSync {
 
+	/**
+	 * System property that sets the number of pods that are synced at the same
+	 * time.
+	 */
+	public static final String PARALLELISM_KEY = "org.jboss.tools.openshift.rsync.parallelism";
+	private static final int DEFAULT_PARALLELISM = 4;
 	private static final String POD_STATUS_RUNNING = "Running";
 
+	private static final int PARALLELISM = Math.max(1, Integer.getInteger(PARALLELISM_KEY, DEFAULT_PARALLELISM));
+	private static final ExecutorService SYNC_EXECUTOR = createExecutor("OpenShift RSync");
+	// rsync blocks once its output is not read, a sync thus drains its output itself if no log thread is idle
+	private static final ExecutorService LOG_EXECUTOR = createLogExecutor("OpenShift RSync Log");
+
 	private final IResource resource;
 	private final String podPath;
 	private final IServer server;
@@ -61,42 +95,244 @@ public class RSync {
 	public MultiStatus syncPodsToDirectory(File localFolder, final IServerConsoleWriter consoleWriter) {
 		final MultiStatus status = new MultiStatus(OpenShiftCoreActivator.PLUGIN_ID, IStatus.OK,
 				NLS.bind("Could not sync all pods to folder {0}.", localFolder.getAbsolutePath()), null);
-		new OCBinaryOperation() {
-			@Override
-			protected void runOCBinary() {
-				List<IPod> pods = ResourceUtils.getPodsFor(resource,
-						connection.getResources(ResourceKind.POD, resource.getNamespaceName()));
-				for (IPod pod : pods) {
-					try {
-						syncPodToDirectory(pod, localFolder, podPath, consoleWriter);
-					} catch (OpenShiftException e) {
-						status.add(new Status(IStatus.ERROR, OpenShiftCoreActivator.PLUGIN_ID, e.getMessage()));
-					}
-				}
-			}
-		}.run(connection);
+		syncPods(getPods(), status, pod -> syncPodToDirectory(pod, localFolder, podPath, consoleWriter));
 		return status;
 	}
 
 	public MultiStatus syncDirectoryToPods(File localFolder, final IServerConsoleWriter consoleWriter) {
 		final MultiStatus status = new MultiStatus(OpenShiftCoreActivator.PLUGIN_ID, IStatus.OK,
 				NLS.bind("Could not sync folder {0} to all pods.", localFolder.getAbsolutePath()), null);
-		new OCBinaryOperation() {
+		syncPods(getPods(), status, pod -> syncDirectoryToPod(pod, localFolder, podPath, consoleWriter));
+		return status;
+	}
 
-			@Override
-			protected void runOCBinary() {
-				List<IPod> pods = ResourceUtils.getPodsFor(resource,
-						connection.getResources(ResourceKind.POD, resource.getNamespaceName()));
-				for (IPod pod : pods) {
+	/**
+	 * Syncs the pods that the given local folder was not synced to yet to the
+	 * local folder. The content of the other pods is known from the last sync.
+	 * Pods that were recreated under the same name or whose containers restarted
+	 * count as unknown.
+	 * 
+	 * @param localFolder
+	 *            the folder to sync the pods to
+	 * @param consoleWriter
+	 *            the writer to log to
+	 * @return the status of the sync
+	 * 
+	 * @see #syncChangesToPods(File, IServerConsoleWriter)
+	 */
+	public MultiStatus syncUnknownPodsToDirectory(File localFolder, final IServerConsoleWriter consoleWriter) {
+		final MultiStatus status = new MultiStatus(OpenShiftCoreActivator.PLUGIN_ID, IStatus.OK,
+				NLS.bind("Could not sync all pods to folder {0}.", localFolder.getAbsolutePath()), null);
+		List<IPod> pods = getPods().stream()
+				.filter(pod -> RSyncManifestCache.INSTANCE.get(server, getManifestKey(pod)) == null)
+				.collect(Collectors.toList());
+		syncPods(pods, status, pod -> syncPodToDirectory(pod, localFolder, podPath, consoleWriter));
+		return status;
+	}
+
+	/**
+	 * Syncs the files of the given local folder that changed since the last sync
+	 * to the pods. Pods that the folder was not synced to yet and pods that files
+	 * were removed from get the whole folder synced. These pods are synced to the
+	 * local folder right before so that the files that exist in the pod only are
+	 * not deleted. The number of files and bytes that were sent are reported to
+	 * the given console writer.
+	 * 
+	 * @param localFolder
+	 *            the folder to sync to the pods
+	 * @param consoleWriter
+	 *            the writer to log to
+	 * @return the status of the sync
+	 * 
+	 * @see RSyncManifest
+	 */
+	public MultiStatus syncChangesToPods(File localFolder, final IServerConsoleWriter consoleWriter) {
+		final MultiStatus status = new MultiStatus(OpenShiftCoreActivator.PLUGIN_ID, IStatus.OK,
+				NLS.bind("Could not sync folder {0} to all pods.", localFolder.getAbsolutePath()), null);
+		List<IPod> pods = getPods();
+		RSyncManifest manifest = createManifest(localFolder, pods);
+		syncPods(pods, status, pod -> {
+			try {
+				if (manifest == null) {
+					pullAndSyncDirectoryToPod(pod, localFolder, Collections.emptyList(), consoleWriter);
+				} else {
+					syncChangesToPod(pod, localFolder, manifest, consoleWriter);
+				}
+			} catch (OpenShiftException | IOException e) {
+				RSyncManifestCache.INSTANCE.remove(server, getManifestKey(pod));
+				throw e;
+			}
+		});
+		return status;
+	}
+
+	/**
+	 * Runs the given sync for each of the given pods concurrently, with at most
+	 * {@link #PARALLELISM_KEY} pods being synced at the same time, and waits for
+	 * all of them to finish. The failures are added to the given status, one per
+	 * pod.
+	 */
+	private void syncPods(List<IPod> pods, MultiStatus status, PodSync podSync) {
+		Map<IPod, Future<?>> syncs = new LinkedHashMap<>();
+		for (IPod pod : pods) {
+			syncs.put(pod, SYNC_EXECUTOR.submit(() -> new OCBinaryOperation() {
+
+				@Override
+				protected void runOCBinary() {
 					try {
-						syncDirectoryToPod(pod, localFolder, podPath, consoleWriter);
-					} catch (OpenShiftException e) {
-						status.add(new Status(IStatus.ERROR, OpenShiftCoreActivator.PLUGIN_ID, e.getMessage()));
+						podSync.sync(pod);
+					} catch (IOException e) {
+						throw new OpenShiftException(e, e.getMessage());
 					}
 				}
+			}.run(connection)));
+		}
+		for (Entry<IPod, Future<?>> sync : syncs.entrySet()) {
+			try {
+				sync.getValue().get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				syncs.values().forEach(future -> future.cancel(true));
+				status.add(new Status(IStatus.CANCEL, OpenShiftCoreActivator.PLUGIN_ID, "Sync was interrupted."));
+				return;
+			} catch (ExecutionException e) {
+				status.add(new Status(IStatus.ERROR, OpenShiftCoreActivator.PLUGIN_ID,
+						NLS.bind("Could not sync pod {0}: {1}", sync.getKey().getName(), e.getCause().getMessage()),
+						e.getCause()));
 			}
-		}.run(connection);
-		return status;
+		}
+	}
+
+	private List<IPod> getPods() {
+		List<IPod> pods = ResourceUtils.getPodsFor(resource,
+				connection.getResources(ResourceKind.POD, resource.getNamespaceName()));
+		RSyncManifestCache.INSTANCE.retain(server, pods.stream()
+				.map(RSync::getManifestKey)
+				.collect(Collectors.toList()));
+		return pods;
+	}
+
+	private RSyncManifest createManifest(File localFolder, List<IPod> pods) {
+		RSyncManifest previous = pods.stream()
+				.map(pod -> RSyncManifestCache.INSTANCE.get(server, getManifestKey(pod)))
+				.filter(Objects::nonNull)
+				.findFirst()
+				.orElse(null);
+		try {
+			return RSyncManifest.create(localFolder, previous);
+		} catch (IOException e) {
+			OpenShiftCoreActivator.logError(
+					NLS.bind("Could not determine the changed files in {0}", localFolder.getAbsolutePath()), e);
+			RSyncManifestCache.INSTANCE.invalidate(server);
+			return null;
+		}
+	}
+
+	private void syncChangesToPod(IPod pod, File localFolder, RSyncManifest manifest,
+			final IServerConsoleWriter consoleWriter) throws IOException {
+		if (!POD_STATUS_RUNNING.equals(pod.getStatus())) {
+			return;
+		}
+		String key = getManifestKey(pod);
+		RSyncManifest previous = RSyncManifestCache.INSTANCE.get(server, key);
+		if (previous == null) {
+			pullAndSyncDirectoryToPod(pod, localFolder, Collections.emptyList(), consoleWriter);
+			reportTransfer(pod, manifest.size(), manifest.getBytes(), consoleWriter);
+		} else {
+			Delta delta = previous.diff(manifest);
+			if (!delta.getRemoved().isEmpty()) {
+				// rsync can only delete files when syncing the whole folder
+				pullAndSyncDirectoryToPod(pod, localFolder, delta.getRemoved(), consoleWriter);
+				reportTransfer(pod, manifest.size(), manifest.getBytes(), consoleWriter);
+			} else if (!delta.isEmpty()) {
+				syncFilesToPod(pod, localFolder, delta.getChanged(), consoleWriter);
+				reportTransfer(pod, delta.getChanged().size(), delta.getBytes(), consoleWriter);
+			} else {
+				reportTransfer(pod, 0, 0, consoleWriter);
+			}
+		}
+		RSyncManifestCache.INSTANCE.put(server, key, manifest);
+	}
+
+	/**
+	 * Returns the key that the manifest of the given pod is cached with. The key
+	 * changes if the pod is recreated under the same name or if one of its
+	 * containers restarts since the files that were synced to it are lost then.
+	 * The name of the pod is used if its uid is unknown.
+	 */
+	private static String getManifestKey(IPod pod) {
+		String json = pod.toJson(true);
+		if (StringUtils.isEmpty(json)) {
+			return pod.getName();
+		}
+		ModelNode node = ModelNode.fromJSONString(json);
+		ModelNode uid = node.get("metadata", "uid");
+		if (!uid.isDefined()) {
+			return pod.getName();
+		}
+		int restarts = 0;
+		ModelNode statuses = node.get("status", "containerStatuses");
+		if (statuses.isDefined()) {
+			for (ModelNode status : statuses.asList()) {
+				ModelNode restartCount = status.get("restartCount");
+				if (restartCount.isDefined()) {
+					restarts += restartCount.asInt();
+				}
+			}
+		}
+		return uid.asString() + "#" + restarts;
+	}
+
+	/**
+	 * Syncs the given pod to the given local folder and then the whole local
+	 * folder back to the pod, deleting the files in the pod that do not exist
+	 * locally. The files that exist in the pod only, ex. deployment markers, are
+	 * thus kept while the given files, that were removed locally, are not synced
+	 * back from the pod and get deleted in it.
+	 */
+	private void pullAndSyncDirectoryToPod(IPod pod, File localFolder, Collection<String> removed,
+			final IServerConsoleWriter consoleWriter) {
+		List<String> excluded = new ArrayList<>(Arrays.asList(".git", ".npm"));
+		removed.forEach(file -> excluded.add("/" + file));
+		localFolder.mkdirs();
+		sync(new PodPeer(podPath, pod),
+				new LocalPeer(sanitizePath(localFolder.getAbsolutePath())),
+				pod,
+				consoleWriter,
+				IRSyncable.exclude(excluded.toArray(new String[excluded.size()])),
+				IRSyncable.NO_PERMS,
+				IBinaryCapability.SKIP_TLS_VERIFY);
+		syncDirectoryToPod(pod, localFolder, podPath, consoleWriter);
+	}
+
+	/**
+	 * Syncs the given files of the given local folder to the given pod. The files
+	 * are copied to a staging folder that is synced to the pod without deleting
+	 * the files that exist in the pod only.
+	 */
+	private void syncFilesToPod(IPod pod, File localFolder, List<String> files,
+			final IServerConsoleWriter consoleWriter) throws IOException {
+		Path staging = Files.createTempDirectory("openshift-rsync");
+		try {
+			for (String file : files) {
+				Path target = staging.resolve(file);
+				Files.createDirectories(target.getParent());
+				Files.copy(new File(localFolder, file).toPath(), target, StandardCopyOption.COPY_ATTRIBUTES);
+			}
+			sync(new LocalPeer(sanitizePath(staging.toFile().getAbsolutePath())),
+					new PodPeer(podPath, pod),
+					pod,
+					consoleWriter,
+					IRSyncable.NO_PERMS,
+					IBinaryCapability.SKIP_TLS_VERIFY);
+		} finally {
+			FileUtils.remove(staging.toFile());
+		}
+	}
+
+	private void reportTransfer(IPod pod, int files, long bytes, final IServerConsoleWriter consoleWriter) {
+		consoleWriter.writeToShell(server.getId(), new String[] {
+				NLS.bind("Published {0} file(s), {1} byte(s) to pod {2}", new Object[] { files, bytes, pod.getName() }) });
 	}
 
 	private void syncPodToDirectory(IPod pod, File localFolder, String podPath, final IServerConsoleWriter consoleWriter) {
@@ -129,7 +365,7 @@ public class RSync {
 			@Override
 			public IRSyncable visit(IRSyncable rsyncable) {
 				final InputStream syncStream = rsyncable.sync(source, destination, options);
-				asyncWriteLogs(syncStream, consoleWriter);
+				asyncWriteLogs(syncStream, pod, consoleWriter);
 				try {
 					rsyncable.await();
 				} catch (InterruptedException e) {
@@ -144,20 +380,25 @@ public class RSync {
 
 	/**
 	 * Asynchronously writes the logs from the 'rsync' command, provided by the
-	 * given {@code syncStream} into the given {@code outputStream}.
+	 * given {@code syncStream} into the given {@code outputStream}. The lines are
+	 * prefixed with the name of the given pod since several pods may be synced at
+	 * the same time.
 	 * 
 	 * @param syncStream
 	 *            the {@link InputStream} to read from
+	 * @param pod
+	 *            the pod that is synced
 	 * @param outputStream
 	 *            the {@link OutputStream} to write into
 	 */
-	private void asyncWriteLogs(final InputStream syncStream, final IServerConsoleWriter consoleWriter) {
-		Executors.newSingleThreadExecutor().execute(() -> {
+	private void asyncWriteLogs(final InputStream syncStream, final IPod pod, final IServerConsoleWriter consoleWriter) {
+		LOG_EXECUTOR.execute(() -> {
 			try {
 				try (final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(syncStream));) {
 					String line;
 					while ((line = bufferedReader.readLine()) != null) {
-						consoleWriter.writeToShell(RSync.this.server.getId(), new String[] { line });
+						consoleWriter.writeToShell(RSync.this.server.getId(),
+								new String[] { "[" + pod.getName() + "] " + line });
 					}
 				}
 			} catch (IOException e) {
@@ -166,6 +407,36 @@ public class RSync {
 		});
 	}
 
+	private static ExecutorService createExecutor(String name) {
+		AtomicInteger threads = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(PARALLELISM, PARALLELISM, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, name + " " + threads.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Creates an executor that has as many threads as the sync executor and never
+	 * queues a log pump. A log pump that no thread is available for is run by the
+	 * calling sync itself, which drains the output before it waits for rsync to
+	 * finish.
+	 */
+	private static ExecutorService createLogExecutor(String name) {
+		AtomicInteger threads = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(PARALLELISM, PARALLELISM, 60, TimeUnit.SECONDS,
+				new SynchronousQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, name + " " + threads.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
 	protected String sanitizePath(String path) {
 		return sanitizePath(path, File.separator);
 	}
@@ -184,4 +455,8 @@ public class RSync {
 		return path + slash; // $NON-NLS-1$
 	}
 
-}
\ No newline at end of file
+	private interface PodSync {
+		void sync(IPod pod) throws IOException;
+	}
+
+}
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.core.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A snapshot of the files in a local folder with their size, modification
+ * time and content hash. Comparing the snapshot that was taken when the folder
+ * was last synced to a pod with a current one tells which files have to be
+ * sent to the pod.
+ *
+ * @see RSync#syncChangesToPods(File, org.jboss.ide.eclipse.as.core.server.IServerConsoleWriter)
+ */
+public class RSyncManifest {
+
+	private static final List<String> EXCLUDED = Arrays.asList(".git", ".npm");
+	private static final char SEPARATOR = '/';
+
+	private final Map<String, Entry> entries;
+
+	private RSyncManifest(Map<String, Entry> entries) {
+		this.entries = entries;
+	}
+
+	/**
+	 * Creates a manifest of the files in the given folder. The hashes of the files
+	 * whose size and modification time did not change since the given previous
+	 * manifest are taken from it instead of being computed again.
+	 *
+	 * @param folder
+	 *            the folder to create the manifest of
+	 * @param previous
+	 *            the manifest to reuse hashes from, may be {@code null}
+	 * @return the manifest of the given folder
+	 * @throws IOException
+	 */
+	public static RSyncManifest create(File folder, RSyncManifest previous) throws IOException {
+		Map<String, Entry> entries = new HashMap<>();
+		if (folder.isDirectory()) {
+			addEntries(folder, "", previous, entries);
+		}
+		return new RSyncManifest(entries);
+	}
+
+	private static void addEntries(File folder, String prefix, RSyncManifest previous, Map<String, Entry> entries)
+			throws IOException {
+		File[] files = folder.listFiles();
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			if (EXCLUDED.contains(file.getName())) {
+				continue;
+			}
+			String path = prefix + file.getName();
+			if (file.isDirectory()) {
+				addEntries(file, path + SEPARATOR, previous, entries);
+			} else {
+				entries.put(path, createEntry(file, previous == null ? null : previous.entries.get(path)));
+			}
+		}
+	}
+
+	private static Entry createEntry(File file, Entry previous) throws IOException {
+		long size = file.length();
+		long lastModified = file.lastModified();
+		if (previous != null
+				&& previous.size == size
+				&& previous.lastModified == lastModified) {
+			return previous;
+		}
+		return new Entry(size, lastModified, hash(file));
+	}
+
+	private static String hash(File file) throws IOException {
+		try (InputStream in = Files.newInputStream(file.toPath())) {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+			StringBuilder builder = new StringBuilder();
+			for (byte b : digest.digest()) {
+				builder.append(String.format("%02x", b));
+			}
+			return builder.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Returns the changes that turn this manifest into the given newer one.
+	 *
+	 * @param newer
+	 *            the manifest to compare with
+	 * @return the files that were added, changed or removed
+	 */
+	public Delta diff(RSyncManifest newer) {
+		List<String> changed = new ArrayList<>();
+		List<String> removed = new ArrayList<>();
+		long bytes = 0;
+		for (Map.Entry<String, Entry> entry : newer.entries.entrySet()) {
+			Entry old = entries.get(entry.getKey());
+			if (old == null
+					|| !Objects.equals(old.hash, entry.getValue().hash)) {
+				changed.add(entry.getKey());
+				bytes += entry.getValue().size;
+			}
+		}
+		for (String path : entries.keySet()) {
+			if (!newer.entries.containsKey(path)) {
+				removed.add(path);
+			}
+		}
+		Collections.sort(changed);
+		Collections.sort(removed);
+		return new Delta(changed, removed, bytes);
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public long getBytes() {
+		return entries.values().stream().mapToLong(entry -> entry.size).sum();
+	}
+
+	private static class Entry {
+
+		private final long size;
+		private final long lastModified;
+		private final String hash;
+
+		private Entry(long size, long lastModified, String hash) {
+			this.size = size;
+			this.lastModified = lastModified;
+			this.hash = hash;
+		}
+	}
+
+	/**
+	 * The files that differ between two manifests. Paths are relative to the
+	 * folder of the manifests and use '/' as separator.
+	 */
+	public static class Delta {
+
+		private final List<String> changed;
+		private final List<String> removed;
+		private final long bytes;
+
+		private Delta(List<String> changed, List<String> removed, long bytes) {
+			this.changed = changed;
+			this.removed = removed;
+			this.bytes = bytes;
+		}
+
+		public List<String> getChanged() {
+			return changed;
+		}
+
+		public List<String> getRemoved() {
+			return removed;
+		}
+
+		/**
+		 * Returns the size of the changed files in bytes.
+		 */
+		public long getBytes() {
+			return bytes;
+		}
+
+		public boolean isEmpty() {
+			return changed.isEmpty() && removed.isEmpty();
+		}
+	}
+}
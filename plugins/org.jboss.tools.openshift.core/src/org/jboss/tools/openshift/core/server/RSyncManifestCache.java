@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.core.server;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.wst.server.core.IServer;
+import org.eclipse.wst.server.core.IServerLifecycleListener;
+import org.eclipse.wst.server.core.ServerCore;
+
+/**
+ * Holds the manifests of the local deployment folder as it was last synced to
+ * each pod of each server. The pods are identified by a key that changes once
+ * a pod is recreated or restarted and thus lost the files that were synced to
+ * it.
+ *
+ * @see RSyncManifest
+ */
+public class RSyncManifestCache {
+
+	public static final RSyncManifestCache INSTANCE = new RSyncManifestCache();
+
+	private final Map<String, Map<String, RSyncManifest>> manifests = new ConcurrentHashMap<>();
+	private volatile boolean listening = false;
+
+	/* for testing purposes */
+	protected RSyncManifestCache() {
+	}
+
+	/**
+	 * Returns the manifest of the files that were last synced to the given pod
+	 * of the given server or {@code null} if none is known.
+	 *
+	 * @param server
+	 * @param podKey
+	 * @return the manifest or {@code null}
+	 */
+	public RSyncManifest get(IServer server, String podKey) {
+		Map<String, RSyncManifest> podManifests = manifests.get(server.getId());
+		if (podManifests == null || podKey == null) {
+			return null;
+		}
+		return podManifests.get(podKey);
+	}
+
+	public void put(IServer server, String podKey, RSyncManifest manifest) {
+		if (podKey == null) {
+			return;
+		}
+		listenToServerRemoval();
+		manifests.computeIfAbsent(server.getId(), id -> new ConcurrentHashMap<>()).put(podKey, manifest);
+	}
+
+	public void remove(IServer server, String podKey) {
+		Map<String, RSyncManifest> podManifests = manifests.get(server.getId());
+		if (podManifests != null && podKey != null) {
+			podManifests.remove(podKey);
+		}
+	}
+
+	/**
+	 * Forgets the manifests of the pods of the given server that are not among
+	 * the given pods.
+	 *
+	 * @param server
+	 * @param podKeys
+	 *            the keys of the existing pods
+	 */
+	public void retain(IServer server, Collection<String> podKeys) {
+		Map<String, RSyncManifest> podManifests = manifests.get(server.getId());
+		if (podManifests != null) {
+			podManifests.keySet().retainAll(podKeys);
+		}
+	}
+
+	public void invalidate(IServer server) {
+		manifests.remove(server.getId());
+	}
+
+	private void listenToServerRemoval() {
+		if (listening) {
+			return;
+		}
+		synchronized (this) {
+			if (listening) {
+				return;
+			}
+			ServerCore.addServerLifecycleListener(new IServerLifecycleListener() {
+
+				@Override
+				public void serverAdded(IServer server) {
+					// NOP
+				}
+
+				@Override
+				public void serverChanged(IServer server) {
+					// NOP
+				}
+
+				@Override
+				public void serverRemoved(IServer server) {
+					invalidate(server);
+				}
+			});
+			this.listening = true;
+		}
+	}
+}
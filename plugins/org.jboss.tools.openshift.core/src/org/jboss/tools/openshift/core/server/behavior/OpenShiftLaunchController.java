@@ -65,8 +65,10 @@ import org.jboss.tools.openshift.internal.core.server.debug.DebugContext;
 import org.jboss.tools.openshift.internal.core.server.debug.DebugLaunchConfigs;
 import org.jboss.tools.openshift.internal.core.server.debug.IDebugListener;
 import org.jboss.tools.openshift.internal.core.server.debug.OpenShiftDebugMode;
+import org.jboss.tools.openshift.internal.core.util.ResourceCondition;
 import org.jboss.tools.openshift.internal.core.util.ResourceUtils;
 
+import com.openshift.restclient.ResourceKind;
 import com.openshift.restclient.capability.IBinaryCapability;
 import com.openshift.restclient.capability.resources.IPortForwardable.PortPair;
 import com.openshift.restclient.model.IDeploymentConfig;
@@ -88,6 +90,7 @@ public class OpenShiftLaunchController extends AbstractSubsystemController
 		private final DebugContext context;
 		private final IProgressMonitor monitor;
 		private Timer stopDebugTimer;
+		private IDeploymentConfig dc;
 
 		private NewPodListener(OpenShiftServerBehaviour beh, DebugContext context, IProgressMonitor monitor) {
 			this.context = context;
@@ -101,16 +104,26 @@ public class OpenShiftLaunchController extends AbstractSubsystemController
 					&& oldValue instanceof IPod
 					&& oldValue.equals(context.getPod())) {
 				onTimeoutStopDebugging(beh, context, monitor);
+			} else if (newValue instanceof IDeploymentConfig
+					&& newValue.equals(dc)) {
+				// keep the latest version of the deployment config
+				this.dc = (IDeploymentConfig) newValue;
 			} else if (newValue instanceof IPod) {
 				IPod newPod = (IPod) newValue;
-			    IResource resource = OpenShiftServerUtils.getResource(context.getServer(), monitor);
-			    IDeploymentConfig dc = ResourceUtils.getDeploymentConfigFor(resource, (Connection) connection);
-			    if (ResourceUtils.isNewRuntimePodFor(newPod, dc)) {
+				if (ResourceUtils.isNewRuntimePodFor(newPod, getDeploymentConfig())) {
 					toggleNewPodDebugging(context, monitor);
 				}
 			}
 		}
 
+		private IDeploymentConfig getDeploymentConfig() {
+			if (dc == null) {
+				IResource resource = OpenShiftServerUtils.getResource(context.getServer(), monitor);
+				this.dc = DockerImageLabels.getInstance(resource, beh).getDeploymentConfig();
+			}
+			return dc;
+		}
+
 		private void toggleNewPodDebugging(DebugContext context, IProgressMonitor monitor) {
 			try {
 				if (stopDebugTimer != null) {
@@ -145,7 +158,6 @@ public class OpenShiftLaunchController extends AbstractSubsystemController
 	}
 
 	private static final int PUBLISH_DELAY = 3000;
-	private static final int RECHECK_DELAY = 1000;
 	private static final long WAIT_FOR_DEPLOYMENTCONFIG_TIMEOUT = 3 * 60 * 1000;
 	private static final long WAIT_FOR_DOCKERIMAGELABELS_TIMEOUT = 3 * 60 * 1000;
 	private static final long WAIT_FOR_NEW_DEBUG_POD_TIMEOUT = 60_000; // 60 seconds
@@ -194,7 +206,7 @@ public class OpenShiftLaunchController extends AbstractSubsystemController
 
 	private IStatus toggleDebugging(String mode, OpenShiftServerBehaviour beh, IProgressMonitor monitor) {
 		try {
-			if (waitForDeploymentConfigReady(beh.getServer(), monitor)) {
+			if (waitForDeploymentConfigReady(beh, monitor)) {
 				DebugContext context = createDebugContext(beh, monitor);
 				toggleDebugging(mode, beh, context, monitor);
 				setOpenShiftMode(mode, context, monitor);
@@ -240,33 +252,31 @@ public class OpenShiftLaunchController extends AbstractSubsystemController
 		return label;
 	}
 
-	protected boolean waitForDeploymentConfigReady(IServer server, IProgressMonitor monitor) throws CoreException {
+	protected boolean waitForDeploymentConfigReady(OpenShiftServerBehaviour beh, IProgressMonitor monitor) throws CoreException {
 		monitor.subTask("Waiting for deployment configs to become available...");
 
+		IServer server = beh.getServer();
 		Connection connection = OpenShiftServerUtils.getConnectionChecked(server);
 		IResource resource = OpenShiftServerUtils.getResourceChecked(server, connection, monitor);
-		long timeout = System.currentTimeMillis() + WAIT_FOR_DEPLOYMENTCONFIG_TIMEOUT;
-		while ((ResourceUtils.getDeploymentConfigFor(resource, connection)) == null) {
-			if (!sleep(RECHECK_DELAY, timeout, monitor)) {
-				return false;
-			}
-		}
-		return true;
+		// resolved once, shared with the image labels and the new pod listener
+		DockerImageLabels labels = DockerImageLabels.getInstance(resource, beh);
+		return new ResourceCondition(connection, resource.getNamespaceName(),
+				() -> labels.getDeploymentConfig() != null,
+				ResourceKind.DEPLOYMENT_CONFIG, ResourceKind.REPLICATION_CONTROLLER, ResourceKind.POD)
+			.waitFor(WAIT_FOR_DEPLOYMENTCONFIG_TIMEOUT, monitor);
 	}
 
 	protected boolean waitForDockerImageLabelsReady(DockerImageLabels metadata, IProgressMonitor monitor) throws CoreException {
 		monitor.subTask("Waiting for docker image to become available...");
-		long timeout = System.currentTimeMillis() + WAIT_FOR_DOCKERIMAGELABELS_TIMEOUT;
-		while (!metadata.load(monitor)) {
-			if (!sleep(RECHECK_DELAY, timeout, monitor)) {
-				return false;
-			}
+		IResource resource = metadata.getResource();
+		if (resource == null) {
+			return metadata.load(monitor);
 		}
-		return true;
-	}
-
-	private boolean sleep(int sleep, long timeout, IProgressMonitor monitor) {
-		return sleep(sleep) && System.currentTimeMillis() < timeout && !monitor.isCanceled();
+		// the image stream tag is not watched, its image stream is
+		return new ResourceCondition(metadata.getConnection(), resource.getNamespaceName(),
+				() -> metadata.load(monitor),
+				ResourceKind.IMAGE_STREAM, ResourceKind.DEPLOYMENT_CONFIG)
+			.waitFor(WAIT_FOR_DOCKERIMAGELABELS_TIMEOUT, monitor);
 	}
 
 	private boolean sleep(int sleep) {
@@ -382,7 +392,8 @@ public class OpenShiftLaunchController extends AbstractSubsystemController
 
 	protected void createPodListener(OpenShiftServerBehaviour beh, DebugContext context, IProgressMonitor monitor) {
 	    IConnectionsRegistryListener podListener = new NewPodListener(beh, context, monitor);
-        ConnectionsRegistrySingleton.getInstance().addListener(podListener);
+        // the listener queries the cluster and restarts debugging, dont hold up the watch
+        ConnectionsRegistrySingleton.getInstance().addAsyncListener(podListener, ResourceUtils::getResourceKey);
         POD_LISTENERS.put(beh.getServer(), podListener);
 	}
 
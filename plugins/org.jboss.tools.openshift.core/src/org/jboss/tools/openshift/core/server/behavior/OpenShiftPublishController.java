@@ -44,6 +44,14 @@ import com.openshift.restclient.model.IResource;
 
 public class OpenShiftPublishController extends StandardFileSystemPublishController implements IPublishController {
 
+	/**
+	 * System property that enables incremental publishing: the pods are only
+	 * synced down if their content is not known from a previous publish and only
+	 * the files that changed are synced up. EAP servers then also publish their
+	 * modules incrementally instead of cleanly.
+	 */
+	public static final String INCREMENTAL_PUBLISH_KEY = "org.jboss.tools.openshift.publish.incremental";
+
 	@Override
 	public void publishStart(final IProgressMonitor monitor) throws CoreException {
 		IServer server = getServer();
@@ -55,7 +63,11 @@ public class OpenShiftPublishController extends StandardFileSystemPublishControl
 			publishRootModule(monitor, deployProject, localDirectory);
 		}
 
-		syncPodsToDirectory(monitor);
+		if (isIncrementalPublish()) {
+			syncUnknownPodsToDirectory(monitor);
+		} else {
+			syncPodsToDirectory(monitor);
+		}
 		deleteOldDeployments(getServer(), monitor);
 	}
 
@@ -112,7 +124,11 @@ public class OpenShiftPublishController extends StandardFileSystemPublishControl
 	public void publishFinish(IProgressMonitor monitor) throws CoreException {
 		super.publishFinish(monitor);
 
-		syncDirectoryToPods(monitor);
+		if (isIncrementalPublish()) {
+			syncChangesToPods(monitor);
+		} else {
+			syncDirectoryToPods(monitor);
+		}
 
 		final IResource resource = OpenShiftServerUtils.getResource(getServer(), monitor);
 		loadPodPathIfEmpty(resource, monitor);
@@ -142,6 +158,28 @@ public class OpenShiftPublishController extends StandardFileSystemPublishControl
 		}
 	}
 
+	protected void syncUnknownPodsToDirectory(IProgressMonitor monitor) throws CoreException {
+		RSync rsync = createRsync(getServer(), monitor);
+		MultiStatus status = rsync.syncUnknownPodsToDirectory(getDeploymentsRootFolder(),
+				ServerConsoleModel.getDefault().getConsoleWriter());
+		if (!status.isOK()) {
+			throw new CoreException(status);
+		}
+	}
+
+	protected void syncChangesToPods(IProgressMonitor monitor) throws CoreException {
+		RSync rsync = createRsync(getServer(), monitor);
+		MultiStatus status = rsync.syncChangesToPods(getDeploymentsRootFolder(),
+				ServerConsoleModel.getDefault().getConsoleWriter());
+		if (!status.isOK()) {
+			throw new CoreException(status);
+		}
+	}
+
+	protected boolean isIncrementalPublish() {
+		return Boolean.getBoolean(INCREMENTAL_PUBLISH_KEY);
+	}
+
 	protected void loadPodPathIfEmpty(final IResource resource, IProgressMonitor monitor) throws CoreException {
 		// If the pod path is not set on the project yet, we can do that now
 		// to make future fetches faster
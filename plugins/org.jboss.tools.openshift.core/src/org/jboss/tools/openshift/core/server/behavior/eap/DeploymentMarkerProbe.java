@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.core.server.behavior.eap;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.commons.lang.StringUtils;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.osgi.util.NLS;
+import org.jboss.dmr.ModelNode;
+import org.jboss.tools.openshift.core.connection.Connection;
+import org.jboss.tools.openshift.internal.core.portforwarding.PortForwardingEngine;
+
+import com.openshift.restclient.model.IPod;
+
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okio.ByteString;
+
+/**
+ * Waits for deployment markers to show up in a pod. A single shell is executed
+ * in the pod that looks for the markers every {@link #PROBE_INTERVAL}
+ * milliseconds and prints the first one that exists. Nothing but the marker
+ * paths is transferred, the deployments folder of the pod is not synced.
+ */
+public class DeploymentMarkerProbe {
+
+	private static final long PROBE_INTERVAL = 200;
+	private static final long CANCEL_CHECK_INTERVAL = 500;
+	// time the exec endpoint gets to start the shell and report its exit
+	private static final long EXEC_GRACE = 5000;
+	private static final byte STDOUT_CHANNEL = 1;
+	private static final byte ERROR_CHANNEL = 3;
+	private static final String STATUS_SUCCESS = "Success";
+	private static final String REASON_EXIT_CODE = "ExitCode";
+	private static final String EXIT_CODE_NOT_FOUND = "1";
+
+	private final Connection connection;
+	private final OkHttpClient client;
+
+	/**
+	 * Returns a probe for the pods of the given connection. Returns {@code null}
+	 * if the connection has no http client to execute commands in the pods with.
+	 */
+	public static DeploymentMarkerProbe create(Connection connection) {
+		if (connection == null) {
+			return null;
+		}
+		OkHttpClient client = connection.getHttpClient();
+		if (client == null) {
+			return null;
+		}
+		return new DeploymentMarkerProbe(connection, client);
+	}
+
+	private DeploymentMarkerProbe(Connection connection, OkHttpClient client) {
+		this.connection = connection;
+		this.client = client;
+	}
+
+	/**
+	 * Waits until one of the given markers exists in the given pod. Returns the
+	 * marker that showed up or {@code null} if none did within the given timeout
+	 * or if the given monitor was cancelled.
+	 *
+	 * @param pod
+	 *            the pod to look for the markers in
+	 * @param markers
+	 *            the absolute paths of the markers in the pod
+	 * @param timeout
+	 *            the timeout in milliseconds
+	 * @param monitor
+	 *            the monitor to check for cancellation
+	 * @return the marker that showed up or {@code null}
+	 * @throws IOException
+	 *             if the markers could not be looked for in the pod
+	 */
+	public String waitForAny(IPod pod, List<String> markers, long timeout, IProgressMonitor monitor)
+			throws IOException {
+		ExecListener listener = new ExecListener();
+		WebSocket webSocket = client.newWebSocket(createRequest(pod, createScript(markers, timeout)), listener);
+		try {
+			long deadline = System.currentTimeMillis() + timeout + EXEC_GRACE;
+			while (!monitor.isCanceled()
+					&& System.currentTimeMillis() < deadline) {
+				try {
+					return getMarker(listener.stdout.toString(),
+							listener.result.get(CANCEL_CHECK_INTERVAL, TimeUnit.MILLISECONDS));
+				} catch (TimeoutException e) {
+					// still looking, check for cancellation
+				} catch (ExecutionException e) {
+					throw new IOException(NLS.bind("Could not look for deployment markers in pod {0}", pod.getName()),
+							e.getCause());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return null;
+				}
+			}
+			return null;
+		} finally {
+			webSocket.cancel();
+		}
+	}
+
+	private Request createRequest(IPod pod, String script) {
+		HttpUrl url = HttpUrl.get(connection.getHost()).newBuilder()
+				.addPathSegments("api/v1/namespaces")
+				.addPathSegment(pod.getNamespaceName())
+				.addPathSegment("pods")
+				.addPathSegment(pod.getName())
+				.addPathSegment("exec")
+				.addQueryParameter("command", "sh")
+				.addQueryParameter("command", "-c")
+				.addQueryParameter("command", script)
+				.addQueryParameter("stdout", "true")
+				.addQueryParameter("stderr", "true")
+				.build();
+		Request.Builder request = new Request.Builder()
+				.url(url)
+				// the exec endpoint speaks the same channel protocol
+				.header("Sec-WebSocket-Protocol", PortForwardingEngine.PROTOCOL);
+		String token = connection.getToken();
+		if (!StringUtils.isEmpty(token)) {
+			request.header("Authorization", "Bearer " + token);
+		}
+		return request.build();
+	}
+
+	/**
+	 * Returns the shell script that looks for the given markers every
+	 * {@link #PROBE_INTERVAL} milliseconds until the given timeout elapsed. It
+	 * prints the first marker that exists and exits with 0, it exits with 1 if
+	 * none showed up.
+	 *
+	 * @param markers
+	 *            the paths of the markers
+	 * @param timeout
+	 *            the timeout in milliseconds
+	 */
+	public static String createScript(List<String> markers, long timeout) {
+		StringBuilder paths = new StringBuilder();
+		for (String marker : markers) {
+			paths.append(' ').append(quote(marker));
+		}
+		long probes = Math.max(1, timeout / PROBE_INTERVAL);
+		return new StringBuilder()
+				.append("n=0; while [ $n -lt ").append(probes).append(" ]; do")
+				.append(" for f in").append(paths).append("; do")
+				.append(" if [ -e \"$f\" ]; then echo \"$f\"; exit 0; fi;")
+				.append(" done;")
+				.append(" n=$((n+1)); sleep ").append(PROBE_INTERVAL / 1000d).append(";")
+				.append(" done; exit ").append(EXIT_CODE_NOT_FOUND)
+				.toString();
+	}
+
+	private static String quote(String path) {
+		return "'" + path.replace("'", "'\\''") + "'";
+	}
+
+	/**
+	 * Returns the marker that the script printed given its output and the exit
+	 * status that the exec endpoint reported. Returns {@code null} if the script
+	 * exited because no marker showed up.
+	 *
+	 * @param stdout
+	 *            the output of the script
+	 * @param status
+	 *            the status json that the endpoint reported on its error channel
+	 * @throws IOException
+	 *             if the script could not be run or failed otherwise
+	 */
+	public static String getMarker(String stdout, String status) throws IOException {
+		String marker = StringUtils.trimToNull(StringUtils.substringBefore(stdout, "\n"));
+		if (StringUtils.isBlank(status)) {
+			// endpoints that close without status
+			return marker;
+		}
+		ModelNode node = ModelNode.fromJSONString(status);
+		if (STATUS_SUCCESS.equals(getString(node, "status"))) {
+			return marker;
+		}
+		ModelNode causes = node.get("details", "causes");
+		if (causes.isDefined()) {
+			for (ModelNode cause : causes.asList()) {
+				if (REASON_EXIT_CODE.equals(getString(cause, "reason"))
+						&& EXIT_CODE_NOT_FOUND.equals(getString(cause, "message"))) {
+					return null;
+				}
+			}
+		}
+		throw new IOException(StringUtils.defaultIfEmpty(getString(node, "message"), status));
+	}
+
+	private static String getString(ModelNode node, String key) {
+		if (!node.has(key)) {
+			return null;
+		}
+		return node.get(key).asString();
+	}
+
+	/**
+	 * Collects the output and the exit status of a command that's executed in a
+	 * pod. The messages are delivered one after the other.
+	 */
+	private static class ExecListener extends WebSocketListener {
+
+		private final StringBuffer stdout = new StringBuffer();
+		private final CompletableFuture<String> result = new CompletableFuture<>();
+		private String status;
+
+		@Override
+		public void onMessage(WebSocket webSocket, ByteString bytes) {
+			if (bytes.size() == 0) {
+				return;
+			}
+			String payload = bytes.substring(1).utf8();
+			switch (bytes.getByte(0)) {
+			case STDOUT_CHANNEL:
+				stdout.append(payload);
+				break;
+			case ERROR_CHANNEL:
+				this.status = payload;
+				break;
+			default:
+				// stderr is ignored
+			}
+		}
+
+		@Override
+		public void onClosing(WebSocket webSocket, int code, String reason) {
+			result.complete(status);
+		}
+
+		@Override
+		public void onClosed(WebSocket webSocket, int code, String reason) {
+			result.complete(status);
+		}
+
+		@Override
+		public void onFailure(WebSocket webSocket, Throwable t, Response response) {
+			result.completeExceptionally(t);
+		}
+	}
+}
@@ -11,8 +11,12 @@
 package org.jboss.tools.openshift.core.server.behavior.eap;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import org.apache.commons.lang.StringUtils;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.wst.server.core.IModule;
@@ -20,15 +24,29 @@ import org.eclipse.wst.server.core.IServer;
 import org.jboss.ide.eclipse.as.core.server.internal.v7.DeploymentMarkerUtils;
 import org.jboss.ide.eclipse.as.wtp.core.server.behavior.ISubsystemController;
 import org.jboss.tools.common.util.FileUtils;
+import org.jboss.tools.openshift.core.connection.Connection;
+import org.jboss.tools.openshift.core.server.OpenShiftServerUtils;
 import org.jboss.tools.openshift.core.server.behavior.OpenShiftPublishController;
+import org.jboss.tools.openshift.internal.core.Trace;
+import org.jboss.tools.openshift.internal.core.util.ResourceUtils;
+
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.model.IPod;
+import com.openshift.restclient.model.IResource;
 
 public class OpenShiftEapPublishController extends OpenShiftPublishController implements ISubsystemController {
 
 	private static final long WAIT_FOR_UNDEPLOYED_TIMEOUT = 20l * 1000l; // 10s
 	private static final long UNDEPLOYED_CHECKS = 10;
 
+	private static final String POD_STATUS_RUNNING = "Running";
+
 	@Override
 	public int publishModule(int kind, int deltaKind, IModule[] module, IProgressMonitor monitor) throws CoreException {
+		if (isIncrementalPublish()) {
+			// only the changed archive or exploded content is redeployed
+			return super.publishModule(kind, deltaKind, module, monitor);
+		}
 		return super.publishModule(IServer.PUBLISH_CLEAN, deltaKind, module, monitor);
 	}
 
@@ -65,6 +83,9 @@ public class OpenShiftEapPublishController extends OpenShiftPublishController im
 	}
 
 	private void waitForUndeployed(File moduleDeployment, IProgressMonitor monitor) throws CoreException, InterruptedException {
+		if (probeUndeployed(moduleDeployment, monitor)) {
+			return;
+		}
 		long start = System.currentTimeMillis();
 		do {
 				Thread.sleep(WAIT_FOR_UNDEPLOYED_TIMEOUT/UNDEPLOYED_CHECKS);
@@ -75,6 +96,53 @@ public class OpenShiftEapPublishController extends OpenShiftPublishController im
 				&& !monitor.isCanceled());
 	}
 
+	/**
+	 * Waits for the undeployed or failed marker of the given deployment in each
+	 * running pod, without syncing the deployments folder of the pods. Returns
+	 * {@code false} if the pods could not be probed, the deployments folder then
+	 * has to be synced to look for the markers.
+	 */
+	private boolean probeUndeployed(File moduleDeployment, IProgressMonitor monitor) throws CoreException {
+		IServer server = getServer();
+		Connection connection = OpenShiftServerUtils.getConnection(server);
+		DeploymentMarkerProbe probe = DeploymentMarkerProbe.create(connection);
+		if (probe == null) {
+			return false;
+		}
+		IResource resource = OpenShiftServerUtils.getResourceChecked(server, connection, monitor);
+		List<String> markers = getPodMarkers(moduleDeployment,
+				OpenShiftServerUtils.getOrLoadPodPath(server, resource, monitor));
+		List<IPod> pods = ResourceUtils.getPodsFor(resource,
+				connection.getResources(ResourceKind.POD, resource.getNamespaceName()));
+		long deadline = System.currentTimeMillis() + WAIT_FOR_UNDEPLOYED_TIMEOUT;
+		try {
+			for (IPod pod : pods) {
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0
+						|| monitor.isCanceled()) {
+					break;
+				}
+				if (POD_STATUS_RUNNING.equals(pod.getStatus())) {
+					probe.waitForAny(pod, markers, remaining, monitor);
+				}
+			}
+			return true;
+		} catch (IOException e) {
+			Trace.debug("Could not probe the deployment markers of {0}, syncing the pods instead", e,
+					moduleDeployment.getName());
+			return false;
+		}
+	}
+
+	private List<String> getPodMarkers(File moduleDeployment, String podPath) throws CoreException {
+		String deployment = getDeploymentsRootFolder().toPath().relativize(moduleDeployment.toPath()).toString()
+				.replace(File.separatorChar, '/');
+		String podDeployment = StringUtils.removeEnd(podPath, "/") + '/' + deployment;
+		return Arrays.asList(DeploymentMarkerUtils.UNDEPLOYED, DeploymentMarkerUtils.FAILED_DEPLOY).stream()
+				.map(marker -> podDeployment + marker)
+				.collect(Collectors.toList());
+	}
+
 	private boolean isUndeployed(File moduleDeployment) {
 		return fileExists(new File(moduleDeployment + DeploymentMarkerUtils.UNDEPLOYED),
 				new File(moduleDeployment + DeploymentMarkerUtils.FAILED_DEPLOY));
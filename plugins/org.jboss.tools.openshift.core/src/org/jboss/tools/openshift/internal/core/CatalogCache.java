@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang.StringUtils;
+import org.jboss.tools.openshift.common.core.connection.ConnectionsRegistryAdapter;
+import org.jboss.tools.openshift.common.core.connection.ConnectionsRegistrySingleton;
+import org.jboss.tools.openshift.common.core.connection.IConnection;
+import org.jboss.tools.openshift.core.connection.IOpenShiftConnection;
+
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.model.IImageStream;
+import com.openshift.restclient.model.IResource;
+import com.openshift.restclient.model.template.ITemplate;
+
+/**
+ * Caches the templates and image streams of the cluster namespace (usually
+ * "openshift") of each connection. They are shared by all projects and are
+ * thus listed once only instead of for each project. The resources are taken
+ * from the watch of the cluster namespace if there's one, listed resources
+ * are kept until a watch reports a change in the cluster namespace or until
+ * they expire after {@link #TTL_KEY}.
+ */
+public class CatalogCache {
+
+	public static final String TTL_KEY = "org.jboss.tools.openshift.catalog.ttl";
+	private static final long DEFAULT_TTL = 5 * 60 * 1000;
+
+	private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+	private final long ttl = Long.getLong(TTL_KEY, DEFAULT_TTL);
+
+	private static class Holder {
+		static CatalogCache instance = new CatalogCache();
+	}
+
+	public static CatalogCache getInstance() {
+		return Holder.instance;
+	}
+
+	private CatalogCache() {
+		ConnectionsRegistrySingleton.getInstance().addListener(new CatalogListener());
+	}
+
+	/**
+	 * Returns the templates in the cluster namespace of the given connection.
+	 *
+	 * @param connection
+	 * @return the templates or an empty list if there's no cluster namespace
+	 */
+	public List<ITemplate> getTemplates(IOpenShiftConnection connection) {
+		return get(connection, ResourceKind.TEMPLATE);
+	}
+
+	/**
+	 * Returns the image streams in the cluster namespace of the given connection.
+	 *
+	 * @param connection
+	 * @return the image streams or an empty list if there's no cluster namespace
+	 */
+	public List<IImageStream> getImageStreams(IOpenShiftConnection connection) {
+		return get(connection, ResourceKind.IMAGE_STREAM);
+	}
+
+	public void invalidate(IOpenShiftConnection connection) {
+		entries.keySet().removeIf(key -> key.connection.equals(connection));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends IResource> List<T> get(IOpenShiftConnection connection, String kind) {
+		String namespace = connection.getClusterNamespace();
+		if (StringUtils.isBlank(namespace)) {
+			return Collections.emptyList();
+		}
+		List<IResource> watched = WatchManager.getInstance().getWatchedResources(connection, namespace, kind);
+		if (watched != null) {
+			return new ArrayList<>((List<T>) watched);
+		}
+		Key key = new Key(connection, namespace, kind);
+		long now = System.currentTimeMillis();
+		Entry entry = entries.get(key);
+		if (entry == null
+				|| now - entry.created > ttl) {
+			Trace.debug("Listing {0} in cluster namespace {1}", kind, namespace);
+			entry = new Entry(Collections.unmodifiableList(connection.getResources(kind, namespace)), now);
+			entries.put(key, entry);
+		}
+		return new ArrayList<>((List<T>) entry.resources);
+	}
+
+	private class CatalogListener extends ConnectionsRegistryAdapter {
+
+		@Override
+		public void connectionChanged(IConnection connection, String property, Object oldValue, Object newValue) {
+			IResource resource = (IResource) (newValue instanceof IResource ? newValue
+					: oldValue instanceof IResource ? oldValue : null);
+			if (resource == null
+					|| !(connection instanceof IOpenShiftConnection)) {
+				return;
+			}
+			entries.remove(new Key((IOpenShiftConnection) connection, resource.getNamespaceName(), resource.getKind()));
+		}
+
+		@Override
+		public void connectionRemoved(IConnection connection) {
+			if (connection instanceof IOpenShiftConnection) {
+				invalidate((IOpenShiftConnection) connection);
+			}
+		}
+	}
+
+	private static class Key {
+
+		private final IOpenShiftConnection connection;
+		private final String namespace;
+		private final String kind;
+
+		private Key(IOpenShiftConnection connection, String namespace, String kind) {
+			this.connection = connection;
+			this.namespace = namespace;
+			this.kind = kind;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(connection, namespace, kind);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return Objects.equals(connection, other.connection)
+					&& Objects.equals(namespace, other.namespace)
+					&& Objects.equals(kind, other.kind);
+		}
+	}
+
+	private static class Entry {
+
+		private final List<IResource> resources;
+		private final long created;
+
+		private Entry(List<IResource> resources, long created) {
+			this.resources = resources;
+			this.created = created;
+		}
+	}
+}
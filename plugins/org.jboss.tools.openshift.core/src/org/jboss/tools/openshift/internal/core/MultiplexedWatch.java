@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.core;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.tools.openshift.core.connection.Connection;
+
+import com.openshift.restclient.IClient;
+import com.openshift.restclient.IOpenShiftWatchListener;
+import com.openshift.restclient.IWatcher;
+import com.openshift.restclient.model.IResource;
+
+/**
+ * A watch for several kinds of a namespace that reports to a single listener.
+ * The client opens a web socket per kind, this watch lists and watches the
+ * kinds with streaming http requests instead. There's still one request and
+ * one thread reading it per kind, the cluster has no endpoint that watches
+ * several kinds at once. The requests all use the http client of the
+ * connection and are thus multiplexed over a single tcp connection to the
+ * cluster if it speaks HTTP/2. The listener is told once that all kinds were
+ * listed and once about the first failure of any kind, the remaining kinds are
+ * stopped then. Listeners that implement
+ * {@link ResumedWatch.IResourceVersionListener} are told about the version of
+ * the list of each kind and about bookmarks so that the kinds can be
+ * {@link #resume(Connection, IClient, String, IOpenShiftWatchListener, Map)
+ * resumed} without listing them.
+ *
+ * @see ResumedWatch
+ */
+public class MultiplexedWatch implements IWatcher {
+
+	private static final AtomicInteger THREADS = new AtomicInteger();
+
+	private final List<IWatcher> watches = new ArrayList<>();
+	private final AtomicBoolean failed = new AtomicBoolean();
+	private boolean stopped;
+
+	/**
+	 * Returns {@code true} if all given kinds on the given connection can be
+	 * watched by a multiplexed watch.
+	 */
+	public static boolean isSupported(Object connection, String... kinds) {
+		for (String kind : kinds) {
+			if (!ResumedWatch.isSupported(connection, kind)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Starts listing and watching the given kinds in the given namespace. The
+	 * resources and their changes are reported to the given listener in threads
+	 * of their own.
+	 *
+	 * @param connection
+	 *            the connection to watch
+	 * @param client
+	 *            the client that creates the resources
+	 * @param namespace
+	 *            the namespace to watch
+	 * @param listener
+	 *            the listener to report the resources and changes to
+	 * @param kinds
+	 *            the kinds to watch
+	 * @return the watch
+	 *
+	 * @see #isSupported(Object, String...)
+	 */
+	public static MultiplexedWatch start(Connection connection, IClient client, String namespace,
+			IOpenShiftWatchListener listener, String... kinds) {
+		MultiplexedWatch watch = new MultiplexedWatch();
+		Thread thread = new Thread(() -> watch.run(connection, client, namespace, listener, kinds),
+				"OpenShift multiplexed watch " + THREADS.incrementAndGet());
+		thread.setDaemon(true);
+		thread.start();
+		return watch;
+	}
+
+	/**
+	 * Resumes watching the given kinds in the given namespace from the given
+	 * resource versions without listing them. The changes are reported to the
+	 * given listener in threads of their own.
+	 *
+	 * @param connection
+	 *            the connection to watch
+	 * @param client
+	 *            the client that creates the resources
+	 * @param namespace
+	 *            the namespace to watch
+	 * @param listener
+	 *            the listener to report the changes to
+	 * @param versions
+	 *            the resource versions to resume from, by kind
+	 * @return the watch
+	 *
+	 * @see #isSupported(Object, String...)
+	 */
+	public static MultiplexedWatch resume(Connection connection, IClient client, String namespace,
+			IOpenShiftWatchListener listener, Map<String, String> versions) {
+		MultiplexedWatch watch = new MultiplexedWatch();
+		watch.watch(connection, client, namespace, versions, listener);
+		return watch;
+	}
+
+	private MultiplexedWatch() {
+	}
+
+	private void run(Connection connection, IClient client, String namespace, IOpenShiftWatchListener listener,
+			String... kinds) {
+		try {
+			List<IResource> resources = new ArrayList<>();
+			Map<String, String> versions = new LinkedHashMap<>();
+			for (String kind : kinds) {
+				if (isStopped()) {
+					return;
+				}
+				versions.put(kind, ResumedWatch.list(connection, client, namespace, kind, resources));
+			}
+			if (isStopped()) {
+				return;
+			}
+			listener.connected(resources);
+			if (listener instanceof ResumedWatch.IResourceVersionListener) {
+				versions.forEach(((ResumedWatch.IResourceVersionListener) listener)::resourceVersion);
+			}
+			// each kind resumes from its list so that no change is missed
+			watch(connection, client, namespace, versions, listener);
+		} catch (IOException | RuntimeException e) {
+			if (!isStopped()
+					&& failed.compareAndSet(false, true)) {
+				listener.error(e);
+			}
+		}
+	}
+
+	private void watch(Connection connection, IClient client, String namespace, Map<String, String> versions,
+			IOpenShiftWatchListener listener) {
+		IOpenShiftWatchListener kindListener = new KindListener(listener);
+		for (Map.Entry<String, String> version : versions.entrySet()) {
+			synchronized (this) {
+				if (stopped) {
+					return;
+				}
+				watches.add(ResumedWatch.start(connection, client, namespace, version.getKey(), version.getValue(),
+						kindListener));
+			}
+		}
+	}
+
+	private synchronized boolean isStopped() {
+		return stopped;
+	}
+
+	@Override
+	public void stop() {
+		List<IWatcher> toStop;
+		synchronized (this) {
+			this.stopped = true;
+			toStop = new ArrayList<>(watches);
+			watches.clear();
+		}
+		toStop.forEach(IWatcher::stop);
+	}
+
+	/**
+	 * Forwards the changes of a single kind and stops all kinds on the first
+	 * error.
+	 */
+	private class KindListener implements IOpenShiftWatchListener, ResumedWatch.IResourceVersionListener {
+
+		private final IOpenShiftWatchListener listener;
+
+		private KindListener(IOpenShiftWatchListener listener) {
+			this.listener = listener;
+		}
+
+		@Override
+		public void connected(List<IResource> resources) {
+			// the kinds were listed already
+		}
+
+		@Override
+		public void disconnected() {
+			// the kinds are stopped together
+		}
+
+		@Override
+		public void error(Throwable err) {
+			if (isStopped()
+					|| !failed.compareAndSet(false, true)) {
+				return;
+			}
+			stop();
+			listener.error(err);
+		}
+
+		@Override
+		public void received(IResource resource, ChangeType change) {
+			listener.received(resource, change);
+		}
+
+		@Override
+		public void resourceVersion(String kind, String resourceVersion) {
+			if (listener instanceof ResumedWatch.IResourceVersionListener) {
+				((ResumedWatch.IResourceVersionListener) listener).resourceVersion(kind, resourceVersion);
+			}
+		}
+	}
+}
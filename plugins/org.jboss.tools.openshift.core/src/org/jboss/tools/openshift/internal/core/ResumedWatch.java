@@ -0,0 +1,315 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.core;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang.StringUtils;
+import org.eclipse.osgi.util.NLS;
+import org.jboss.dmr.ModelNode;
+import org.jboss.tools.openshift.core.connection.Connection;
+
+import com.openshift.restclient.IClient;
+import com.openshift.restclient.IOpenShiftWatchListener;
+import com.openshift.restclient.IOpenShiftWatchListener.ChangeType;
+import com.openshift.restclient.IWatcher;
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.model.IResource;
+
+import okhttp3.Call;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.BufferedSource;
+
+/**
+ * A watch that resumes from a given resource version instead of listing the
+ * resources first. The client only offers watches that list before they
+ * watch, a reconnected watch thus uses the watch endpoint of the kind
+ * directly and only receives the changes that happened since the given
+ * version. The listener is told with a {@link GoneException} if the server no
+ * longer has this version (HTTP 410 Gone) and the watch then needs to relist.
+ * Any other failure or the end of the stream is reported as an error too so
+ * that the watch gets restarted. Listeners that implement
+ * {@link IResourceVersionListener} are told about the bookmarks that the
+ * server sends.
+ */
+public class ResumedWatch implements IWatcher {
+
+	private static final int STATUS_GONE = 410;
+	private static final String TYPE_ERROR = "ERROR";
+	private static final String TYPE_BOOKMARK = "BOOKMARK";
+	private static final Map<String, ChangeType> CHANGE_TYPES = new HashMap<>();
+	static {
+		CHANGE_TYPES.put("ADDED", ChangeType.ADDED);
+		CHANGE_TYPES.put("MODIFIED", ChangeType.MODIFIED);
+		CHANGE_TYPES.put("DELETED", ChangeType.DELETED);
+	}
+
+	// endpoints of the kinds that can be resumed
+	private static final Map<String, Endpoint> ENDPOINTS = new HashMap<>();
+	static {
+		ENDPOINTS.put(ResourceKind.BUILD, new Endpoint("apis/build.openshift.io/v1", "builds"));
+		ENDPOINTS.put(ResourceKind.BUILD_CONFIG, new Endpoint("apis/build.openshift.io/v1", "buildconfigs"));
+		ENDPOINTS.put(ResourceKind.DEPLOYMENT_CONFIG, new Endpoint("apis/apps.openshift.io/v1", "deploymentconfigs"));
+		ENDPOINTS.put(ResourceKind.IMAGE_STREAM, new Endpoint("apis/image.openshift.io/v1", "imagestreams"));
+		ENDPOINTS.put(ResourceKind.POD, new Endpoint("api/v1", "pods"));
+		ENDPOINTS.put(ResourceKind.REPLICATION_CONTROLLER, new Endpoint("api/v1", "replicationcontrollers"));
+		ENDPOINTS.put(ResourceKind.ROUTE, new Endpoint("apis/route.openshift.io/v1", "routes"));
+		ENDPOINTS.put(ResourceKind.SERVICE, new Endpoint("api/v1", "services"));
+		// projects are not namespaced, the project of the namespace is selected by name
+		ENDPOINTS.put(ResourceKind.PROJECT, new Endpoint("apis/project.openshift.io/v1", "projects", false));
+	}
+
+	private static final AtomicInteger THREADS = new AtomicInteger();
+
+	private final Call call;
+	private final String kind;
+	private volatile boolean stopped;
+
+	/**
+	 * Returns {@code true} if watches for the given kind on the given connection
+	 * can be resumed.
+	 */
+	public static boolean isSupported(Object connection, String kind) {
+		return connection instanceof Connection
+				&& ((Connection) connection).getHttpClient() != null
+				&& ENDPOINTS.containsKey(kind);
+	}
+
+	/**
+	 * Starts watching the given kind in the given namespace from the given
+	 * resource version. The changes are reported to the given listener in a
+	 * thread of its own.
+	 *
+	 * @param connection
+	 *            the connection to watch
+	 * @param client
+	 *            the client that creates the resources of the changes
+	 * @param namespace
+	 *            the namespace to watch
+	 * @param kind
+	 *            the kind to watch
+	 * @param resourceVersion
+	 *            the resource version to resume from
+	 * @param listener
+	 *            the listener to report the changes to
+	 * @return the watch
+	 *
+	 * @see #isSupported(Object, String)
+	 */
+	public static ResumedWatch start(Connection connection, IClient client, String namespace, String kind,
+			String resourceVersion, IOpenShiftWatchListener listener) {
+		HttpUrl url = getUrl(connection, namespace, kind).newBuilder()
+				.addQueryParameter("watch", "true")
+				.addQueryParameter("resourceVersion", resourceVersion)
+				.addQueryParameter("allowWatchBookmarks", "true")
+				.build();
+		// a watch may be idle for longer than requests are allowed to
+		OkHttpClient httpClient = connection.getHttpClient().newBuilder()
+				.readTimeout(0, TimeUnit.MILLISECONDS)
+				.build();
+		ResumedWatch watch = new ResumedWatch(httpClient.newCall(newRequest(connection, url)), kind);
+		Thread thread = new Thread(() -> watch.run(client, listener),
+				"OpenShift resumed watch " + THREADS.incrementAndGet());
+		thread.setDaemon(true);
+		thread.start();
+		return watch;
+	}
+
+	/**
+	 * Lists the resources of the given kind in the given namespace and adds them
+	 * to the given list. Returns the resource version of the list that a watch
+	 * can be started from so that it misses no change.
+	 *
+	 * @param connection
+	 *            the connection to list from
+	 * @param client
+	 *            the client that creates the resources
+	 * @param namespace
+	 *            the namespace to list
+	 * @param kind
+	 *            the kind to list
+	 * @param resources
+	 *            the list to add the listed resources to
+	 * @return the resource version of the list
+	 * @throws IOException
+	 *
+	 * @see #isSupported(Object, String)
+	 */
+	public static String list(Connection connection, IClient client, String namespace, String kind,
+			List<IResource> resources) throws IOException {
+		HttpUrl url = getUrl(connection, namespace, kind);
+		try (Response response = connection.getHttpClient().newCall(newRequest(connection, url)).execute()) {
+			if (!response.isSuccessful()
+					|| response.body() == null) {
+				throw new IOException(NLS.bind("Could not list {0}: {1} {2}", new Object[] { url, response.code(), response.message() }));
+			}
+			ModelNode list = ModelNode.fromJSONString(response.body().string());
+			ModelNode items = list.get("items");
+			if (items.isDefined()) {
+				for (ModelNode item : items.asList()) {
+					// the items of a list have neither kind nor version
+					item.get("kind").set(kind);
+					item.get("apiVersion").set(list.get("apiVersion").asString());
+					resources.add(client.getResourceFactory().create(item.toJSONString(true)));
+				}
+			}
+			return getResourceVersion(list);
+		}
+	}
+
+	private static String getResourceVersion(ModelNode node) {
+		ModelNode version = node.get("metadata", "resourceVersion");
+		if (!version.isDefined()) {
+			return null;
+		}
+		return version.asString();
+	}
+
+	private static HttpUrl getUrl(Connection connection, String namespace, String kind) {
+		Endpoint endpoint = ENDPOINTS.get(kind);
+		HttpUrl.Builder url = HttpUrl.get(connection.getHost()).newBuilder()
+				.addPathSegments(endpoint.apiPath);
+		if (endpoint.namespaced) {
+			url.addPathSegment("namespaces")
+				.addPathSegment(namespace)
+				.addPathSegment(endpoint.plural);
+		} else {
+			url.addPathSegment(endpoint.plural)
+				.addQueryParameter("fieldSelector", "metadata.name=" + namespace);
+		}
+		return url.build();
+	}
+
+	private static Request newRequest(Connection connection, HttpUrl url) {
+		Request.Builder request = new Request.Builder().url(url);
+		String token = connection.getToken();
+		if (!StringUtils.isEmpty(token)) {
+			request.header("Authorization", "Bearer " + token);
+		}
+		return request.build();
+	}
+
+	private ResumedWatch(Call call, String kind) {
+		this.call = call;
+		this.kind = kind;
+	}
+
+	private void run(IClient client, IOpenShiftWatchListener listener) {
+		try (Response response = call.execute()) {
+			if (response.code() == STATUS_GONE) {
+				throw new GoneException(response.message());
+			}
+			if (!response.isSuccessful()
+					|| response.body() == null) {
+				throw new IOException(NLS.bind("Could not resume watch: {0} {1}", response.code(), response.message()));
+			}
+			BufferedSource source = response.body().source();
+			String line;
+			while (!stopped
+					&& (line = source.readUtf8Line()) != null) {
+				if (!StringUtils.isBlank(line)) {
+					onEvent(ModelNode.fromJSONString(line), client, listener);
+				}
+			}
+			throw new IOException("Resumed watch was closed by the server");
+		} catch (IOException | RuntimeException e) {
+			if (!stopped) {
+				listener.error(e);
+			}
+		}
+	}
+
+	private void onEvent(ModelNode event, IClient client, IOpenShiftWatchListener listener) throws IOException {
+		String type = event.get("type").asString();
+		ModelNode object = event.get("object");
+		if (TYPE_ERROR.equals(type)) {
+			if (object.has("code")
+					&& object.get("code").asInt() == STATUS_GONE) {
+				throw new GoneException(object.has("message") ? object.get("message").asString() : null);
+			}
+			throw new IOException(object.toJSONString(true));
+		}
+		if (TYPE_BOOKMARK.equals(type)) {
+			if (listener instanceof IResourceVersionListener) {
+				((IResourceVersionListener) listener).resourceVersion(kind, getResourceVersion(object));
+			}
+			return;
+		}
+		ChangeType change = CHANGE_TYPES.get(type);
+		if (change == null) {
+			return;
+		}
+		IResource resource = client.getResourceFactory().create(object.toJSONString(true));
+		listener.received(resource, change);
+	}
+
+	@Override
+	public void stop() {
+		this.stopped = true;
+		call.cancel();
+	}
+
+	private static class Endpoint {
+
+		private final String apiPath;
+		private final String plural;
+		private final boolean namespaced;
+
+		private Endpoint(String apiPath, String plural) {
+			this(apiPath, plural, true);
+		}
+
+		private Endpoint(String apiPath, String plural, boolean namespaced) {
+			this.apiPath = apiPath;
+			this.plural = plural;
+			this.namespaced = namespaced;
+		}
+	}
+
+	/**
+	 * A watch listener that is told about the resource versions that a watch
+	 * can be resumed from and that are not carried by a change: the version of
+	 * the list that a watch started from and the versions of bookmarks.
+	 */
+	public interface IResourceVersionListener {
+
+		/**
+		 * Reports that the watch of the given kind can be resumed from the given
+		 * version.
+		 *
+		 * @param kind
+		 *            the kind that is watched
+		 * @param resourceVersion
+		 *            the opaque resource version
+		 */
+		void resourceVersion(String kind, String resourceVersion);
+	}
+
+	/**
+	 * Reports that the resource version that a watch was resumed from is gone.
+	 */
+	public static class GoneException extends IOException {
+
+		private static final long serialVersionUID = 1L;
+
+		public GoneException(String message) {
+			super(message);
+		}
+	}
+}
@@ -10,11 +10,21 @@
  ******************************************************************************/
 package org.jboss.tools.openshift.internal.core;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -22,6 +32,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.osgi.util.NLS;
 import org.jboss.tools.openshift.common.core.connection.ConnectionsRegistryAdapter;
 import org.jboss.tools.openshift.common.core.connection.ConnectionsRegistrySingleton;
 import org.jboss.tools.openshift.common.core.connection.IConnection;
@@ -32,7 +43,9 @@ import org.jboss.tools.openshift.internal.core.util.ResourceUtils;
 
 import com.openshift.restclient.IClient;
 import com.openshift.restclient.IOpenShiftWatchListener;
+import com.openshift.restclient.IOpenShiftWatchListener.ChangeType;
 import com.openshift.restclient.IWatcher;
+import com.openshift.restclient.OpenShiftException;
 import com.openshift.restclient.ResourceKind;
 import com.openshift.restclient.model.IProject;
 import com.openshift.restclient.model.IResource;
@@ -53,6 +66,30 @@ public class WatchManager {
 			//ResourceKind.TEMPLATE,
 			ResourceKind.PROJECT };
 
+	/**
+	 * System property that enables the multiplexed mode where the
+	 * {@link #KINDS} of a project are watched and reconnected together and
+	 * reconnects are coordinated per connection. The kinds are still watched with
+	 * one streaming http request and one reading thread per kind, 9 per project.
+	 * What's shared is the http client of the connection (a single tcp connection
+	 * to clusters that speak HTTP/2), the reconnect job and backoff of the
+	 * connection and the cap on connected projects.
+	 *
+	 * @see MultiplexedWatch
+	 */
+	public static final String MULTIPLEXED_WATCH_KEY = "org.jboss.tools.openshift.watch.multiplexed";
+
+	/**
+	 * System property for the maximum number of multiplexed watches (projects,
+	 * not http requests) that may be connected at the same time, across all
+	 * connections.
+	 */
+	public static final String MAX_WATCHES_KEY = "org.jboss.tools.openshift.watch.max";
+
+	private static final String ALL_KINDS = "*";
+
+	private static final int STATUS_GONE = 410;
+
 	private static final int[] FIBONACCI = new int[] { 0, 1, 1, 2, 3, 5, 8, 13, 21 };
 	private static final long BACKOFF_MILLIS = 5000;
 	private static final long BACKOFF_RESET = FIBONACCI[FIBONACCI.length - 1] * BACKOFF_MILLIS * 2;
@@ -65,6 +102,25 @@ public class WatchManager {
 	 */
 	private Map<WatchKey, AtomicReference<IWatcher>> watches = new ConcurrentHashMap<>();
 
+	/**
+	 * The reconnect schedulers for multiplexed watches, one per connection.
+	 */
+	private Map<IOpenShiftConnection, ConnectionWatchScheduler> schedulers = new ConcurrentHashMap<>();
+
+	/**
+	 * The resources of the connected watches, by connection, project and kind.
+	 */
+	private Map<WatchKey, WatchedResourceStore> stores = new ConcurrentHashMap<>();
+
+	private AtomicInteger connectedWatches = new AtomicInteger();
+
+	private volatile int maxWatches = Integer.getInteger(MAX_WATCHES_KEY, 100);
+
+	private AtomicLong resumes = new AtomicLong();
+	private AtomicLong relists = new AtomicLong();
+
+	private volatile boolean multiplexed = Boolean.getBoolean(MULTIPLEXED_WATCH_KEY);
+
 	private static class Holder {
 		static WatchManager instance = new WatchManager();
 	}
@@ -83,10 +139,79 @@ public class WatchManager {
 			if ((watcherRef != null) && (watcherRef.get() != null)) {
 				watcherRef.get().stop();
 			}
+			stores.remove(new WatchKey(connection, project, kind));
+		}
+		stopMultiplexedWatch(project, connection);
+	}
+
+	/**
+	 * Returns the resources of the given kind in the given namespace as they are
+	 * known to the connected watch. This allows to look up resources without
+	 * listing them.
+	 * 
+	 * @param connection
+	 * @param namespace
+	 * @param kind
+	 * @return the watched resources or {@code null} if there's no connected watch
+	 *         for the given namespace and kind
+	 */
+	public List<IResource> getWatchedResources(IOpenShiftConnection connection, String namespace, String kind) {
+		for (Map.Entry<WatchKey, WatchedResourceStore> entry : stores.entrySet()) {
+			WatchKey key = entry.getKey();
+			if (Objects.equals(connection, key.connection)
+					&& key.project != null
+					&& Objects.equals(namespace, key.project.getName())
+					&& Objects.equals(kind, key.kind)) {
+				return entry.getValue().getAll();
+			}
+		}
+		return null;
+	}
+
+	private void stopMultiplexedWatch(IProject project, IOpenShiftConnection connection) {
+		AtomicReference<IWatcher> watcherRef = watches.remove(new WatchKey(connection, project, ALL_KINDS));
+		if (watcherRef == null) {
+			return;
+		}
+		for (String kind : KINDS) {
+			stores.remove(new WatchKey(connection, project, kind));
+		}
+		IWatcher watcher;
+		// a connect that is in flight either sees the removal or has set its watcher
+		synchronized (watcherRef) {
+			watcher = watcherRef.getAndSet(null);
+		}
+		if (watcher != null) {
+			watcher.stop();
+			releaseWatchSlot();
+		}
+	}
+
+	/**
+	 * Reserves one of the {@link #MAX_WATCHES_KEY} slots for a multiplexed
+	 * watch.
+	 *
+	 * @return false if all slots are taken, true otherwise
+	 */
+	private boolean acquireWatchSlot() {
+		if (connectedWatches.incrementAndGet() > maxWatches) {
+			connectedWatches.decrementAndGet();
+			return false;
 		}
+		return true;
+	}
+
+	private void releaseWatchSlot() {
+		connectedWatches.decrementAndGet();
+		// a slot was freed, let the waiting watches connect
+		schedulers.values().forEach(ConnectionWatchScheduler::wakeUp);
 	}
 
 	public void startWatch(final IProject project, final IOpenShiftConnection connection) {
+		if (multiplexed) {
+			startMultiplexedWatch(project, connection);
+			return;
+		}
 		AtomicReference<IWatcher> watcherRef = new AtomicReference<>();
 		for (String kind : KINDS) {
 			if (watches.putIfAbsent(new WatchKey(connection, project, kind), watcherRef) == null) {
@@ -96,6 +221,55 @@ public class WatchManager {
 		}
 	}
 
+	private void startMultiplexedWatch(final IProject project, final IOpenShiftConnection connection) {
+		if (watches.putIfAbsent(new WatchKey(connection, project, ALL_KINDS), new AtomicReference<>()) == null) {
+			getScheduler(connection).connect(new MultiplexedWatchListener(project, connection));
+		}
+	}
+
+	private ConnectionWatchScheduler getScheduler(IOpenShiftConnection connection) {
+		return schedulers.computeIfAbsent(connection, ConnectionWatchScheduler::new);
+	}
+
+	/**
+	 * Switches between a watcher per kind and project (default) and a
+	 * multiplexed watcher per project that watches and reconnects all kinds
+	 * together. Only affects watches that are started afterwards.
+	 * 
+	 * @param multiplexed
+	 */
+	public void setMultiplexed(boolean multiplexed) {
+		this.multiplexed = multiplexed;
+	}
+
+	public boolean isMultiplexed() {
+		return multiplexed;
+	}
+
+	/**
+	 * Sets the maximum number of multiplexed watches that may be connected at
+	 * the same time. Watches that are waiting for a slot connect as soon as
+	 * slots are freed.
+	 * 
+	 * @param maxWatches
+	 * @see #MAX_WATCHES_KEY
+	 */
+	public void setMaxWatches(int maxWatches) {
+		this.maxWatches = maxWatches;
+		schedulers.values().forEach(ConnectionWatchScheduler::wakeUp);
+	}
+
+	public int getMaxWatches() {
+		return maxWatches;
+	}
+
+	/**
+	 * Returns the number of multiplexed watches that are connected.
+	 */
+	public int getConnectedWatchCount() {
+		return connectedWatches.get();
+	}
+
 	private void startWatch(int backoff, long lastConnect, WatchListener listener) {
 		if (listener == null)
 			return;
@@ -164,9 +338,7 @@ public class WatchManager {
 		}
 	}
 
-	public class WatchListener implements IOpenShiftWatchListener {
-
-		private static final int NOT_FOUND = -1;
+	public class WatchListener implements IOpenShiftWatchListener, ResumedWatch.IResourceVersionListener {
 
 		private final IOpenShiftConnection conn;
 		private final IProject project;
@@ -174,7 +346,8 @@ public class WatchManager {
 		private int backoff = 0;
 		private long lastConnect = 0;
 		private AtomicReference<State> state = new AtomicReference<>(State.DISCONNECTED);
-		private List<IResource> resources = Collections.synchronizedList(new ArrayList<>());
+		private final WatchedResourceStore resources = new WatchedResourceStore();
+		private volatile boolean connectedOnce = false;
 
 		/**
 		 * Used only for testing purposes
@@ -202,7 +375,14 @@ public class WatchManager {
 		@Override
 		public void connected(List<IResource> resources) {
 			Trace.debug("WatchManager Endpoint connected to {0} with {1} resources", conn.toString(), resources.size());
-			this.resources.addAll(resources);
+			relists.incrementAndGet();
+			if (connectedOnce) {
+				synchronize(this.resources, resources, conn);
+			} else {
+				this.resources.replaceAll(resources);
+				this.connectedOnce = true;
+				stores.put(new WatchKey(conn, project, kind), this.resources);
+			}
 		}
 
 		@Override
@@ -214,6 +394,9 @@ public class WatchManager {
 		@Override
 		public void error(Throwable err) {
 			Trace.warn("WatchManager Reconnecting. There was an error watching connection {0}: ", err, conn.toString());
+			if (isGone(err)) {
+				resources.resetLatestResourceVersion();
+			}
 			restart();
 		}
 
@@ -227,8 +410,10 @@ public class WatchManager {
 						project.getName(), kind);
 			}
 			try {
-				// TODO enhance fix to only check project once
-				conn.refresh(project);
+				if (!canResume()) {
+					// TODO enhance fix to only check project once
+					conn.refresh(project);
+				}
 				Trace.debug("WatchManager Rescheduling watch job for project {0} and kind {1}", 
 						project.getName(), kind);
 				startWatch(backoff, lastConnect, this);
@@ -239,6 +424,16 @@ public class WatchManager {
 			}
 		}
 
+		/**
+		 * Returns {@code true} if the watch can be reconnected from the latest
+		 * resource version that it has seen. It has to relist otherwise.
+		 */
+		private boolean canResume() {
+			return connectedOnce
+					&& resources.getLatestResourceVersion() != null
+					&& ResumedWatch.isSupported(conn, kind);
+		}
+
 		private class RestartWatchJob extends Job {
 			private IClient client;
 
@@ -274,13 +469,45 @@ public class WatchManager {
 				WatchKey key = new WatchKey(conn, project, kind);
 				if (watches.containsKey(key)) {
 					AtomicReference<IWatcher> watcherRef = watches.get(key);
-					watcherRef.set(client.watch(project.getName(), WatchListener.this, kind));
-					state.set(State.CONNECTED);
+					if (canResume()) {
+						String version = resources.getLatestResourceVersion();
+						Trace.debug("WatchManager Resuming watch on project {0} and kind {1} from resource version {2}",
+								project.getName(), kind, version);
+						// the resumed watch may report changes right away
+						state.set(State.CONNECTED);
+						watcherRef.set(ResumedWatch.start((Connection) conn, client, project.getName(), kind, version,
+								WatchListener.this));
+						resumes.incrementAndGet();
+					} else if (ResumedWatch.isSupported(conn, kind)) {
+						watcherRef.set(listAndWatch(client));
+					} else {
+						watcherRef.set(client.watch(project.getName(), WatchListener.this, kind));
+						state.set(State.CONNECTED);
+					}
 					lastConnect = System.currentTimeMillis();
 				}
 			}
 		}
 
+		/**
+		 * Lists the resources and watches them from the version of the list so
+		 * that the watch can later be resumed from it, even if there are no
+		 * resources or they never change.
+		 */
+		private IWatcher listAndWatch(IClient client) {
+			List<IResource> listed = new ArrayList<>();
+			String version;
+			try {
+				version = ResumedWatch.list((Connection) conn, client, project.getName(), kind, listed);
+			} catch (IOException e) {
+				throw new OpenShiftException(e, NLS.bind("Could not list {0} in project {1}", kind, project.getName()));
+			}
+			connected(listed);
+			resourceVersion(kind, version);
+			state.set(State.CONNECTED);
+			return ResumedWatch.start((Connection) conn, client, project.getName(), kind, version, this);
+		}
+
 		public void start(int backoff, long lastConnect) {
 			if (State.STARTING == state.getAndSet(State.STARTING)) {
 				Trace.debug("In the process of starting watch already. Returning early.");
@@ -310,25 +537,398 @@ public class WatchManager {
 			if (State.CONNECTED != state.get()) {
 				return;
 			}
-			IResource newItem = null;
-			IResource oldItem = null;
-			int index = resources.indexOf(resource);
-			if (ChangeType.ADDED.equals(change)) {
-				resources.add(resource);
-				newItem = resource;
-			} else if (ChangeType.DELETED.equals(change)) {
-				oldItem = index > NOT_FOUND ? resources.remove(index) : resource;
-			} else if (ChangeType.MODIFIED.equals(change)) {
-				if (index > NOT_FOUND) {
-					oldItem = resources.remove(index);
+			applyChange(resources, resource, change, conn);
+			resources.setLatestResourceVersion(resource.getResourceVersion());
+		}
+
+		@Override
+		public void resourceVersion(String kind, String resourceVersion) {
+			resources.setLatestResourceVersion(resourceVersion);
+		}
+
+	}
+
+	/**
+	 * Synchronizes the given store with the resources that a reconnected watch
+	 * listed and notifies the connection listeners of the differences. If the
+	 * store still knows a resource version to resume from, only resources that
+	 * are newer than the stored ones are propagated. If the server reported
+	 * that this version is gone (HTTP 410), all resources with a different
+	 * version are propagated.
+	 */
+	private void synchronize(WatchedResourceStore store, Collection<IResource> listed, IOpenShiftConnection conn) {
+		boolean newerOnly = store.getLatestResourceVersion() != null;
+		Trace.debug("WatchManager Relisted watch at resource version {0} with {1} resources",
+				store.getLatestResourceVersion(), listed.size());
+		Set<String> names = new HashSet<>();
+		for (IResource resource : listed) {
+			names.add(resource.getName());
+			if (newerOnly ? store.isNewer(resource) : store.isDifferent(resource)) {
+				IResource oldItem = store.put(resource);
+				ConnectionsRegistrySingleton.getInstance().fireConnectionChanged(conn,
+						ConnectionProperties.PROPERTY_RESOURCE, oldItem, resource);
+			}
+		}
+		for (IResource stored : store.getAll()) {
+			if (!names.contains(stored.getName())) {
+				store.remove(stored);
+				ConnectionsRegistrySingleton.getInstance().fireConnectionChanged(conn,
+						ConnectionProperties.PROPERTY_RESOURCE, stored, null);
+			}
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the given watch error reports that the resource
+	 * version that the watch was started from is too old (HTTP 410 Gone).
+	 */
+	private static boolean isGone(Throwable err) {
+		for (Throwable t = err; t != null; t = t.getCause()) {
+			if (t instanceof ResumedWatch.GoneException) {
+				return true;
+			}
+			if (t instanceof OpenShiftException) {
+				com.openshift.restclient.model.IStatus status = ((OpenShiftException) t).getStatus();
+				if (status != null && status.getCode() == STATUS_GONE) {
+					return true;
 				}
-				resources.add(resource);
-				newItem = resource;
 			}
-			ConnectionsRegistrySingleton.getInstance().fireConnectionChanged(conn,
-					ConnectionProperties.PROPERTY_RESOURCE, oldItem, newItem);
 		}
+		return false;
+	}
 
+	/**
+	 * Returns the number of reconnects that resumed from the latest resource
+	 * version that was seen, without listing the resources.
+	 */
+	public long getResumeCount() {
+		return resumes.get();
+	}
+
+	/**
+	 * Returns the number of (re-)connects that required a full list, either
+	 * because the watch was connected for the first time or because the server
+	 * no longer had the latest resource version that was seen.
+	 */
+	public long getRelistCount() {
+		return relists.get();
+	}
+
+	/**
+	 * Applies the given change to the given store and notifies the connection
+	 * listeners. Changes that are older than the stored resource are dropped.
+	 */
+	private static void applyChange(WatchedResourceStore resources, IResource resource, ChangeType change,
+			IOpenShiftConnection conn) {
+		if (resources.isStale(resource)) {
+			Trace.debug("Watch dropping stale {0} change for {1} in version {2}", change, resource.getName(),
+					resource.getResourceVersion());
+			return;
+		}
+		IResource newItem = null;
+		IResource oldItem = null;
+		if (ChangeType.ADDED.equals(change)) {
+			resources.put(resource);
+			newItem = resource;
+		} else if (ChangeType.DELETED.equals(change)) {
+			oldItem = resources.remove(resource);
+			if (oldItem == null) {
+				oldItem = resource;
+			}
+		} else if (ChangeType.MODIFIED.equals(change)) {
+			oldItem = resources.put(resource);
+			newItem = resource;
+		}
+		ConnectionsRegistrySingleton.getInstance().fireConnectionChanged(conn,
+				ConnectionProperties.PROPERTY_RESOURCE, oldItem, newItem);
+	}
+
+	/**
+	 * A listener for the watcher that watches all {@link WatchManager#KINDS} of
+	 * a project, with a request per kind. Reconnects are delegated to the
+	 * {@link ConnectionWatchScheduler} of the connection.
+	 */
+	private class MultiplexedWatchListener implements IOpenShiftWatchListener, ResumedWatch.IResourceVersionListener {
+
+		private final IOpenShiftConnection conn;
+		private final IProject project;
+		private final Map<String, WatchedResourceStore> kindStores = new ConcurrentHashMap<>();
+		private AtomicReference<State> state = new AtomicReference<>(State.DISCONNECTED);
+		private volatile boolean connectedOnce = false;
+
+		private MultiplexedWatchListener(IProject project, IOpenShiftConnection conn) {
+			Trace.debug("WatchManager Adding multiplexed WatchListener for {0}", project.getName());
+			this.project = project;
+			this.conn = conn;
+		}
+
+		private WatchKey getKey() {
+			return new WatchKey(conn, project, ALL_KINDS);
+		}
+
+		@Override
+		public void connected(List<IResource> resources) {
+			Trace.debug("WatchManager Multiplexed endpoint connected to {0} with {1} resources", conn.toString(),
+					resources.size());
+			relists.incrementAndGet();
+			Map<String, List<IResource>> byKind = resources.stream()
+					.collect(Collectors.groupingBy(IResource::getKind));
+			for (String kind : KINDS) {
+				List<IResource> kindResources = byKind.getOrDefault(kind, Collections.emptyList());
+				if (connectedOnce) {
+					synchronize(getStore(kind), kindResources, conn);
+				} else {
+					getStore(kind).replaceAll(kindResources);
+				}
+			}
+			if (!connectedOnce
+					&& watches.containsKey(getKey())) {
+				// the stores of a watch that was stopped meanwhile are not published
+				for (String kind : KINDS) {
+					stores.put(new WatchKey(conn, project, kind), getStore(kind));
+				}
+			}
+			this.connectedOnce = true;
+		}
+
+		@Override
+		public void disconnected() {
+			Trace.debug("WatchManager Multiplexed endpoint disconnected to {0}.", conn.toString());
+			state.set(State.DISCONNECTED);
+		}
+
+		@Override
+		public void error(Throwable err) {
+			Trace.warn("WatchManager Reconnecting. There was an error watching project {0} on connection {1}: ",
+					err, project.getName(), conn.toString());
+			if (State.DISCONNECTED.equals(state.get())) {
+				Trace.debug("Endpoint disconnected and skipping restart for project {0}", project.getName());
+				return;
+			}
+			if (isGone(err)) {
+				kindStores.values().forEach(WatchedResourceStore::resetLatestResourceVersion);
+			}
+			getScheduler(conn).reconnect(this);
+		}
+
+		@Override
+		public void received(IResource resource, ChangeType change) {
+			Trace.debug("Multiplexed watch received change in {0} state\n{1}", state, resource.toJson(false));
+			if (State.CONNECTED != state.get()) {
+				return;
+			}
+			WatchedResourceStore store = getStore(resource.getKind());
+			applyChange(store, resource, change, conn);
+			store.setLatestResourceVersion(resource.getResourceVersion());
+		}
+
+		@Override
+		public void resourceVersion(String kind, String resourceVersion) {
+			getStore(kind).setLatestResourceVersion(resourceVersion);
+		}
+
+		/**
+		 * Returns {@code true} if all kinds can be reconnected from the resource
+		 * versions that were seen. The watch has to relist otherwise.
+		 */
+		private boolean canResume() {
+			if (!connectedOnce
+					|| !MultiplexedWatch.isSupported(conn, KINDS)) {
+				return false;
+			}
+			for (String kind : KINDS) {
+				if (getStore(kind).getLatestResourceVersion() == null) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private WatchedResourceStore getStore(String kind) {
+			return kindStores.computeIfAbsent(kind, k -> new WatchedResourceStore());
+		}
+
+		/**
+		 * Connects this listener unless it was stopped before or while connecting.
+		 * A watch that is not connected yet needs one of the
+		 * {@link WatchManager#MAX_WATCHES_KEY} slots.
+		 * 
+		 * @return false if all slots are taken, true otherwise
+		 */
+		private boolean connect(IClient client) {
+			AtomicReference<IWatcher> watcherRef = watches.get(getKey());
+			if (watcherRef == null) {
+				return true;
+			}
+			boolean acquired = false;
+			if (watcherRef.get() == null) {
+				if (!acquireWatchSlot()) {
+					return false;
+				}
+				acquired = true;
+			}
+			IWatcher watcher;
+			try {
+				watcher = watch(client);
+			} catch (RuntimeException e) {
+				if (acquired) {
+					releaseWatchSlot();
+				}
+				throw e;
+			}
+			IWatcher previous;
+			synchronized (watcherRef) {
+				if (watches.get(getKey()) != watcherRef) {
+					// stopped while connecting
+					watcher.stop();
+					if (acquired) {
+						releaseWatchSlot();
+					}
+					return true;
+				}
+				previous = watcherRef.getAndSet(watcher);
+			}
+			if (previous != null) {
+				previous.stop();
+				if (acquired) {
+					// the previous watch held a slot already
+					releaseWatchSlot();
+				}
+			}
+			return true;
+		}
+
+		private IWatcher watch(IClient client) {
+			if (!MultiplexedWatch.isSupported(conn, KINDS)) {
+				IWatcher watcher = client.watch(project.getName(), this, KINDS);
+				state.set(State.CONNECTED);
+				return watcher;
+			}
+			// the multiplexed watch may report changes right away
+			state.set(State.CONNECTED);
+			if (canResume()) {
+				Map<String, String> versions = new LinkedHashMap<>();
+				for (String kind : KINDS) {
+					versions.put(kind, getStore(kind).getLatestResourceVersion());
+				}
+				Trace.debug("WatchManager Resuming multiplexed watch on project {0} from resource versions {1}",
+						project.getName(), versions);
+				resumes.incrementAndGet();
+				return MultiplexedWatch.resume((Connection) conn, client, project.getName(), this, versions);
+			}
+			return MultiplexedWatch.start((Connection) conn, client, project.getName(), this, KINDS);
+		}
+	}
+
+	/**
+	 * Connects and reconnects the multiplexed watches of a single connection. All
+	 * pending (re-)connects of a connection are processed by a single job so that
+	 * a network failure that affects all watches results in a single backoff
+	 * sequence rather than one per project. Projects whose watch can't be resumed
+	 * are refreshed at most once per attempt and an attempt is aborted as soon as
+	 * the first refresh fails.
+	 * The number of connected watches is capped at {@link WatchManager#MAX_WATCHES_KEY}.
+	 */
+	private class ConnectionWatchScheduler extends Job {
+
+		private final IOpenShiftConnection conn;
+		private final Set<MultiplexedWatchListener> connects = new LinkedHashSet<>();
+		private final Set<MultiplexedWatchListener> reconnects = new LinkedHashSet<>();
+		private int backoff = 0;
+		private long lastConnect = 0;
+
+		private ConnectionWatchScheduler(IOpenShiftConnection conn) {
+			super("OpenShift WatchManager Job");
+			this.conn = conn;
+			setSystem(true);
+		}
+
+		private void connect(MultiplexedWatchListener listener) {
+			synchronized (this) {
+				connects.add(listener);
+			}
+			schedule();
+		}
+
+		private void reconnect(MultiplexedWatchListener listener) {
+			listener.state.set(State.STARTING);
+			synchronized (this) {
+				reconnects.add(listener);
+			}
+			schedule(FIBONACCI[backoff] * BACKOFF_MILLIS);
+		}
+
+		private void wakeUp() {
+			synchronized (this) {
+				if (connects.isEmpty()) {
+					return;
+				}
+			}
+			schedule();
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			if (System.currentTimeMillis() - lastConnect > BACKOFF_RESET) {
+				backoff = 0;
+			}
+			List<MultiplexedWatchListener> toRefresh;
+			List<MultiplexedWatchListener> toConnect;
+			synchronized (this) {
+				toRefresh = new ArrayList<>(reconnects);
+				reconnects.clear();
+				toConnect = new ArrayList<>(connects);
+				connects.clear();
+			}
+			try {
+				for (Iterator<MultiplexedWatchListener> it = toRefresh.iterator(); it.hasNext();) {
+					MultiplexedWatchListener listener = it.next();
+					if (watches.containsKey(listener.getKey())) {
+						if (!listener.canResume()) {
+							conn.refresh(listener.project);
+						}
+						toConnect.add(listener);
+					}
+					it.remove();
+				}
+				for (Iterator<MultiplexedWatchListener> it = toConnect.iterator(); it.hasNext() && !monitor.isCanceled();) {
+					MultiplexedWatchListener listener = it.next();
+					IClient client = ResourceUtils.getClient(listener.project);
+					if (client != null
+							&& !listener.connect(client)) {
+						Trace.debug("WatchManager Reached maximum of {0} watches, {1} watch(es) waiting for {2}",
+								maxWatches, toConnect.size(), conn.toString());
+						break;
+					}
+					it.remove();
+				}
+				backoff = 0;
+				lastConnect = System.currentTimeMillis();
+			} catch (Exception e) {
+				Trace.debug("Exception (re-)starting watches on connection {0}", e, conn.toString());
+				backoff++;
+				if (backoff >= FIBONACCI.length) {
+					Trace.info("Exceeded backoff attempts trying to reconnect watches for connection {0}",
+							conn.toString());
+					toRefresh.forEach(l -> stopMultiplexedWatch(l.project, conn));
+					toConnect.forEach(l -> stopMultiplexedWatch(l.project, conn));
+					backoff = 0;
+					return Status.OK_STATUS;
+				}
+				synchronized (this) {
+					// the project that failed is still in toRefresh and is retried first
+					reconnects.addAll(toRefresh);
+				}
+				final long delay = FIBONACCI[backoff] * BACKOFF_MILLIS;
+				Trace.debug("Delaying watch restarts by {0}ms for connection {1}", delay, conn.toString());
+				schedule(delay);
+			}
+			synchronized (this) {
+				// watches that could not connect because of the cap wait for a free slot
+				connects.addAll(toConnect);
+			}
+			return Status.OK_STATUS;
+		}
 	}
 
 	private class DeletedConnectionListener extends ConnectionsRegistryAdapter {
@@ -345,6 +945,10 @@ public class WatchManager {
 				.collect(Collectors.toList())
 				.forEach(k -> stopWatch(k.project, k.connection));
 			}
+			ConnectionWatchScheduler scheduler = schedulers.remove(conn);
+			if (scheduler != null) {
+				scheduler.cancel();
+			}
 		}
 
 	}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.openshift.restclient.model.IResource;
+
+/**
+ * A store for the resources of a single watch (connection, namespace and
+ * kind). Resources are indexed by name so that watch events can be applied in
+ * constant time. Events that carry a resource version that is older than the
+ * one that is already stored are reported as stale. The store also keeps the
+ * resource version that a reconnected watch can resume from. It's the version
+ * of the list that the watch was connected with or of the latest event or
+ * bookmark that the watch received, an opaque value that is never compared.
+ *
+ * @see WatchManager.WatchListener
+ */
+public class WatchedResourceStore {
+
+	private static final long UNKNOWN_VERSION = -1;
+
+	private final Map<String, IResource> resources = new ConcurrentHashMap<>();
+	private volatile String latestVersion;
+
+	/**
+	 * Replaces the content of this store with the given resources. The resource
+	 * version to resume from is forgotten until the version of the list is set.
+	 *
+	 * @param resources
+	 *            the resources that the watch was (re-)connected with
+	 */
+	public synchronized void replaceAll(Collection<IResource> resources) {
+		this.resources.clear();
+		this.latestVersion = null;
+		if (resources == null) {
+			return;
+		}
+		for (IResource resource : resources) {
+			put(resource);
+		}
+	}
+
+	/**
+	 * Returns the stored resource with the same name as the given resource.
+	 *
+	 * @param resource
+	 * @return the stored resource or {@code null}
+	 */
+	public IResource get(IResource resource) {
+		if (resource == null || resource.getName() == null) {
+			return null;
+		}
+		return resources.get(resource.getName());
+	}
+
+	/**
+	 * Stores the given resource and returns the resource that it replaced.
+	 *
+	 * @param resource
+	 * @return the resource that was replaced or {@code null}
+	 */
+	public IResource put(IResource resource) {
+		if (resource == null || resource.getName() == null) {
+			return null;
+		}
+		return resources.put(resource.getName(), resource);
+	}
+
+	/**
+	 * Removes the resource with the same name as the given resource.
+	 *
+	 * @param resource
+	 * @return the resource that was removed or {@code null}
+	 */
+	public IResource remove(IResource resource) {
+		if (resource == null || resource.getName() == null) {
+			return null;
+		}
+		return resources.remove(resource.getName());
+	}
+
+	/**
+	 * Returns {@code true} if the given resource has a resource version that is
+	 * older than the version of the stored resource with the same name. Resources
+	 * that are not stored yet or that have no numeric resource version are never
+	 * stale.
+	 *
+	 * @param resource
+	 * @return true if the given resource is older than the stored one
+	 */
+	public boolean isStale(IResource resource) {
+		IResource stored = get(resource);
+		if (stored == null) {
+			return false;
+		}
+		long storedVersion = getVersion(stored);
+		long version = getVersion(resource);
+		return storedVersion != UNKNOWN_VERSION
+				&& version != UNKNOWN_VERSION
+				&& version < storedVersion;
+	}
+
+	/**
+	 * Returns {@code true} if the given resource has a resource version that is
+	 * newer than the version of the stored resource with the same name or if no
+	 * such resource is stored.
+	 *
+	 * @param resource
+	 * @return true if the given resource is newer than the stored one
+	 */
+	public boolean isNewer(IResource resource) {
+		IResource stored = get(resource);
+		if (stored == null) {
+			return true;
+		}
+		long storedVersion = getVersion(stored);
+		long version = getVersion(resource);
+		return storedVersion == UNKNOWN_VERSION
+				|| version == UNKNOWN_VERSION
+				|| version > storedVersion;
+	}
+
+	/**
+	 * Returns {@code true} if the given resource has a different resource version
+	 * than the stored resource with the same name or if no such resource is
+	 * stored.
+	 *
+	 * @param resource
+	 * @return true if the given resource differs from the stored one
+	 */
+	public boolean isDifferent(IResource resource) {
+		IResource stored = get(resource);
+		return stored == null
+				|| !StringUtils.equals(stored.getResourceVersion(), resource.getResourceVersion());
+	}
+
+	/**
+	 * Returns the resource version that a reconnected watch can resume from or
+	 * {@code null} if none is known.
+	 *
+	 * @return the latest resource version
+	 */
+	public String getLatestResourceVersion() {
+		return latestVersion;
+	}
+
+	/**
+	 * Sets the resource version that a reconnected watch can resume from. This
+	 * is the version of the list response that the watch was connected with or
+	 * the version of the latest event or bookmark that it received. Blank
+	 * versions are ignored.
+	 *
+	 * @param resourceVersion
+	 *            the opaque resource version
+	 */
+	public void setLatestResourceVersion(String resourceVersion) {
+		if (!StringUtils.isBlank(resourceVersion)) {
+			this.latestVersion = resourceVersion;
+		}
+	}
+
+	/**
+	 * Forgets the resource version to resume from. The stored resources are kept
+	 * so that they can be compared with a full relist.
+	 */
+	public void resetLatestResourceVersion() {
+		this.latestVersion = null;
+	}
+
+	public List<IResource> getAll() {
+		return new ArrayList<>(resources.values());
+	}
+
+	public int size() {
+		return resources.size();
+	}
+
+	public void clear() {
+		resources.clear();
+		this.latestVersion = null;
+	}
+
+	private static long getVersion(IResource resource) {
+		String version = resource.getResourceVersion();
+		if (StringUtils.isBlank(version)) {
+			return UNKNOWN_VERSION;
+		}
+		try {
+			return Long.parseLong(version);
+		} catch (NumberFormatException e) {
+			return UNKNOWN_VERSION;
+		}
+	}
+}
@@ -113,6 +113,7 @@ public class DockerImageUtils {
 
 	/**
 	 * Returns the docker image meta data for the given project and image uri.
+	 * The meta data is cached by the digest of the image.
 	 * 
 	 * @param project the OpenShift project that the image resides in
 	 * @param imageURI the image uri for the image to look up
@@ -131,7 +132,7 @@ public class DockerImageUtils {
 								null);
 						return null;
 					}
-					return new ImageStreamTagMetaData(json);
+					return ImageMetadataCache.getInstance().put(json);
 				}
 			} catch (OpenShiftException e) {
 				OpenShiftCoreActivator.logError(NLS.bind("Could not retrieve metadata for docker image {0}", imageURI),
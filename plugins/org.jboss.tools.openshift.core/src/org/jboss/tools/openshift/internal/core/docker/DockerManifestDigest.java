@@ -34,6 +34,7 @@ public class DockerManifestDigest {
 
 		this.prefix = matcher.group(1);
 		this.repository = matcher.group(2);
+		this.digest = new ContentDigest(matcher.group(3));
 
 	}
 
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.core.docker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang.StringUtils;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.dmr.Property;
+
+/**
+ * The metadata of a docker image in a compact form: the exposed ports, the
+ * environment, the labels, the volumes and the working dir. It is extracted
+ * once from the json of an image stream tag or an image stream import and is
+ * identified by the digest of the image.
+ *
+ * @see ImageMetadataCache
+ */
+public class ImageMetadata implements IDockerImageMetadata {
+
+	private static final String[] IMAGE_DIGEST = new String[] { "image", "metadata", "name" };
+	private static final String[] DOCKER_METADATA = new String[] { "image", "dockerImageMetadata" };
+	private static final String CONTAINER_CONFIG = "ContainerConfig";
+	private static final String CONFIG = "Config";
+	private static final String LABELS = "Labels";
+	private static final String WORKING_DIR = "WorkingDir";
+
+	// keys of the compact json
+	private static final String KEY_DIGEST = "digest";
+	private static final String KEY_PORTS = "exposedPorts";
+	private static final String KEY_ENV = "env";
+	private static final String KEY_LABELS = "labels";
+	private static final String KEY_VOLUMES = "volumes";
+	private static final String KEY_WORKING_DIR = "workingDir";
+
+	private final ContentDigest digest;
+	private final Set<String> exposedPorts;
+	private final List<String> env;
+	private final Map<String, String> labels;
+	private final Set<String> volumes;
+	private final String workingDir;
+
+	public ImageMetadata(ContentDigest digest, Set<String> exposedPorts, List<String> env, Map<String, String> labels,
+			Set<String> volumes, String workingDir) {
+		this.digest = digest;
+		this.exposedPorts = Collections.unmodifiableSet(new LinkedHashSet<>(exposedPorts));
+		this.env = Collections.unmodifiableList(new ArrayList<>(env));
+		this.labels = Collections.unmodifiableMap(new LinkedHashMap<>(labels));
+		this.volumes = Collections.unmodifiableSet(new LinkedHashSet<>(volumes));
+		this.workingDir = workingDir;
+	}
+
+	/**
+	 * Extracts the metadata from the json of an image stream tag or of an image
+	 * of an image stream import. The ports, the environment and the volumes are
+	 * the ones of {@link ImageStreamTagMetaData}. The labels and the working dir
+	 * of the container config take precedence over the ones of the config.
+	 *
+	 * @param json
+	 *            the json of the image stream tag or image
+	 * @return the metadata, its digest is {@code null} if the json has none
+	 */
+	public static ImageMetadata parse(String json) {
+		ModelNode node = ModelNode.fromJSONString(json);
+		ImageStreamTagMetaData tagMetaData = new ImageStreamTagMetaData(node);
+		ModelNode dockerMetadata = node.get(DOCKER_METADATA);
+		Map<String, String> labels = new LinkedHashMap<>();
+		labels.putAll(getLabels(dockerMetadata.get(CONFIG)));
+		labels.putAll(getLabels(dockerMetadata.get(CONTAINER_CONFIG)));
+		String workingDir = StringUtils.defaultIfEmpty(getString(dockerMetadata.get(CONTAINER_CONFIG), WORKING_DIR),
+				getString(dockerMetadata.get(CONFIG), WORKING_DIR));
+		return new ImageMetadata(toDigest(getString(node, IMAGE_DIGEST)), tagMetaData.exposedPorts(),
+				tagMetaData.env(), labels, tagMetaData.volumes(), workingDir);
+	}
+
+	private static Map<String, String> getLabels(ModelNode config) {
+		if (ModelType.OBJECT != config.getType()
+				|| !config.has(LABELS)
+				|| !config.get(LABELS).isDefined()) {
+			return Collections.emptyMap();
+		}
+		Map<String, String> labels = new LinkedHashMap<>();
+		for (Property label : config.get(LABELS).asPropertyList()) {
+			labels.put(label.getName(), label.getValue().asString());
+		}
+		return labels;
+	}
+
+	private static String getString(ModelNode node, String... path) {
+		ModelNode current = node;
+		for (String key : path) {
+			if (ModelType.OBJECT != current.getType()
+					|| !current.has(key)) {
+				return null;
+			}
+			current = current.get(key);
+		}
+		if (!current.isDefined()) {
+			return null;
+		}
+		return current.asString();
+	}
+
+	private static ContentDigest toDigest(String digest) {
+		if (StringUtils.isBlank(digest)
+				|| !digest.contains(":")) {
+			return null;
+		}
+		return new ContentDigest(digest);
+	}
+
+	/**
+	 * Reads metadata that was written with {@link #toJson()}.
+	 */
+	public static ImageMetadata fromJson(String json) {
+		ModelNode node = ModelNode.fromJSONString(json);
+		Map<String, String> labels = new LinkedHashMap<>();
+		if (node.get(KEY_LABELS).isDefined()) {
+			for (Property label : node.get(KEY_LABELS).asPropertyList()) {
+				labels.put(label.getName(), label.getValue().asString());
+			}
+		}
+		return new ImageMetadata(toDigest(getString(node, KEY_DIGEST)),
+				new LinkedHashSet<>(toStrings(node.get(KEY_PORTS))),
+				toStrings(node.get(KEY_ENV)),
+				labels,
+				new LinkedHashSet<>(toStrings(node.get(KEY_VOLUMES))),
+				getString(node, KEY_WORKING_DIR));
+	}
+
+	private static List<String> toStrings(ModelNode list) {
+		if (!list.isDefined()) {
+			return Collections.emptyList();
+		}
+		List<String> strings = new ArrayList<>();
+		for (ModelNode element : list.asList()) {
+			strings.add(element.asString());
+		}
+		return strings;
+	}
+
+	/**
+	 * Returns this metadata as compact json.
+	 *
+	 * @see #fromJson(String)
+	 */
+	public String toJson() {
+		ModelNode node = new ModelNode();
+		if (digest != null) {
+			node.get(KEY_DIGEST).set(digest.toString());
+		}
+		node.get(KEY_PORTS).setEmptyList();
+		exposedPorts.forEach(port -> node.get(KEY_PORTS).add(port));
+		node.get(KEY_ENV).setEmptyList();
+		env.forEach(variable -> node.get(KEY_ENV).add(variable));
+		node.get(KEY_LABELS).setEmptyObject();
+		labels.forEach((key, value) -> node.get(KEY_LABELS, key).set(value));
+		node.get(KEY_VOLUMES).setEmptyList();
+		volumes.forEach(volume -> node.get(KEY_VOLUMES).add(volume));
+		if (workingDir != null) {
+			node.get(KEY_WORKING_DIR).set(workingDir);
+		}
+		return node.toJSONString(true);
+	}
+
+	/**
+	 * Returns the digest of the image or {@code null} if it's unknown.
+	 */
+	public ContentDigest getDigest() {
+		return digest;
+	}
+
+	@Override
+	public Set<String> exposedPorts() {
+		return exposedPorts;
+	}
+
+	@Override
+	public List<String> env() {
+		return env;
+	}
+
+	@Override
+	public Map<String, String> labels() {
+		return labels;
+	}
+
+	@Override
+	public Set<String> volumes() {
+		return volumes;
+	}
+
+	public String workingDir() {
+		return workingDir;
+	}
+}
@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.core.docker;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.lang.StringUtils;
+import org.jboss.tools.openshift.internal.core.OpenShiftCoreActivator;
+import org.jboss.tools.openshift.internal.core.Trace;
+
+/**
+ * Caches the metadata of docker images by the digest of the image. An image
+ * with a given digest never changes, the metadata is thus kept in memory and
+ * in the state location of the plugin, for as long as it is among the
+ * {@link #MAX_ENTRIES_KEY} images that were used last. Debug launches, the
+ * deploy image wizard and the pod path inference then get the metadata of an
+ * image that they already saw without querying the cluster.
+ *
+ * @see ImageMetadata
+ */
+public class ImageMetadataCache {
+
+	/** The maximum number of images whose metadata is kept */
+	public static final String MAX_ENTRIES_KEY = "org.jboss.tools.openshift.imagemetadata.cache.size";
+
+	private static final int DEFAULT_MAX_ENTRIES = 200;
+	private static final String FOLDER = "image-metadata";
+	private static final String FILE_EXTENSION = ".json";
+	private static final String DIGEST_SEPARATOR = "@";
+
+	private final File folder;
+	private final int maxEntries = Math.max(1, Integer.getInteger(MAX_ENTRIES_KEY, DEFAULT_MAX_ENTRIES));
+	private final Map<ContentDigest, ImageMetadata> entries = new LinkedHashMap<ContentDigest, ImageMetadata>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ContentDigest, ImageMetadata> eldest) {
+			return size() > maxEntries;
+		}
+	};
+
+	private static class Holder {
+		static ImageMetadataCache instance = new ImageMetadataCache(getStateFolder());
+	}
+
+	public static ImageMetadataCache getInstance() {
+		return Holder.instance;
+	}
+
+	private static File getStateFolder() {
+		OpenShiftCoreActivator plugin = OpenShiftCoreActivator.getDefault();
+		if (plugin == null) {
+			return null;
+		}
+		try {
+			return plugin.getStateLocation().append(FOLDER).toFile();
+		} catch (IllegalStateException e) {
+			// no instance location, keep metadata in memory only
+			return null;
+		}
+	}
+
+	/**
+	 * Creates a cache that stores the metadata in the given folder. The metadata
+	 * is kept in memory only if the given folder is {@code null}.
+	 *
+	 * @param folder
+	 *            the folder to store the metadata in
+	 */
+	public ImageMetadataCache(File folder) {
+		this.folder = folder;
+	}
+
+	/**
+	 * Returns the metadata of the image with the given digest or {@code null} if
+	 * it's not cached.
+	 *
+	 * @param digest
+	 *            the digest of the image
+	 * @return the metadata or {@code null}
+	 */
+	public ImageMetadata get(ContentDigest digest) {
+		if (digest == null) {
+			return null;
+		}
+		synchronized (entries) {
+			ImageMetadata metadata = entries.get(digest);
+			if (metadata != null) {
+				return metadata;
+			}
+		}
+		ImageMetadata metadata = read(digest);
+		if (metadata != null) {
+			synchronized (entries) {
+				entries.put(digest, metadata);
+			}
+		}
+		return metadata;
+	}
+
+	/**
+	 * Returns the metadata of the image with the digest in the given image
+	 * reference or {@code null} if it's not cached or the reference has no
+	 * digest.
+	 *
+	 * @param imageReference
+	 *            a reference to an image, ex. {@code repository@sha256:<hex>}
+	 * @return the metadata or {@code null}
+	 *
+	 * @see #getDigest(String)
+	 */
+	public ImageMetadata get(String imageReference) {
+		return get(getDigest(imageReference));
+	}
+
+	/**
+	 * Extracts the metadata from the given json of an image stream tag or image
+	 * and caches it if the image has a digest.
+	 *
+	 * @param json
+	 *            the json of the image stream tag or image
+	 * @return the metadata
+	 *
+	 * @see ImageMetadata#parse(String)
+	 */
+	public ImageMetadata put(String json) {
+		ImageMetadata metadata = ImageMetadata.parse(json);
+		ContentDigest digest = metadata.getDigest();
+		if (digest != null) {
+			synchronized (entries) {
+				entries.put(digest, metadata);
+			}
+			write(digest, metadata);
+		}
+		return metadata;
+	}
+
+	private ImageMetadata read(ContentDigest digest) {
+		if (folder == null) {
+			return null;
+		}
+		File file = getFile(digest);
+		if (!file.isFile()) {
+			return null;
+		}
+		try {
+			ImageMetadata metadata = ImageMetadata.fromJson(
+					new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+			// most recently used files survive pruning
+			file.setLastModified(System.currentTimeMillis());
+			return metadata;
+		} catch (IOException | IllegalArgumentException e) {
+			Trace.debug("Could not read cached metadata for image {0}", e, digest);
+			file.delete();
+			return null;
+		}
+	}
+
+	private void write(ContentDigest digest, ImageMetadata metadata) {
+		if (folder == null) {
+			return;
+		}
+		File file = getFile(digest);
+		try {
+			Files.createDirectories(folder.toPath());
+			Path temp = Files.createTempFile(folder.toPath(), file.getName(), null);
+			Files.write(temp, metadata.toJson().getBytes(StandardCharsets.UTF_8));
+			Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			prune();
+		} catch (IOException e) {
+			Trace.debug("Could not cache metadata for image {0}", e, digest);
+		}
+	}
+
+	/**
+	 * Removes the files of the images that were used least recently so that
+	 * {@link #MAX_ENTRIES_KEY} remain.
+	 */
+	private void prune() {
+		File[] files = folder.listFiles((dir, name) -> name.endsWith(FILE_EXTENSION));
+		if (files == null
+				|| files.length <= maxEntries) {
+			return;
+		}
+		Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+		for (int i = 0; i < files.length - maxEntries; i++) {
+			files[i].delete();
+		}
+	}
+
+	private File getFile(ContentDigest digest) {
+		String name = StringUtils.isEmpty(digest.getAlgorithm()) ? digest.getHex()
+				: digest.getAlgorithm() + "-" + digest.getHex();
+		return new File(folder, name + FILE_EXTENSION);
+	}
+
+	/**
+	 * Returns the digest in the given image reference. Both image references
+	 * ({@code repository@sha256:<hex>}) and image ids of container statuses
+	 * ({@code docker-pullable://repository@sha256:<hex>}) are supported.
+	 * Returns {@code null} if the reference has no digest.
+	 *
+	 * @param imageReference
+	 *            the reference to the image
+	 * @return the digest or {@code null}
+	 */
+	public static ContentDigest getDigest(String imageReference) {
+		if (StringUtils.isBlank(imageReference)
+				|| !imageReference.contains(DIGEST_SEPARATOR)) {
+			return null;
+		}
+		try {
+			if (imageReference.contains("://")) {
+				return new DockerManifestDigest(imageReference).getDigest();
+			}
+			String digest = StringUtils.substringAfterLast(imageReference, DIGEST_SEPARATOR);
+			if (!digest.contains(":")) {
+				return null;
+			}
+			return new ContentDigest(digest);
+		} catch (IllegalArgumentException | IllegalStateException | ArrayIndexOutOfBoundsException e) {
+			return null;
+		}
+	}
+}
@@ -39,7 +39,11 @@ public class ImageStreamTagMetaData implements IDockerImageMetadata {
 	private final String[] LABELS_KEY;
 
 	public ImageStreamTagMetaData(final String json) {
-		this.node = ModelNode.fromJSONString(json);
+		this(ModelNode.fromJSONString(json));
+	}
+
+	public ImageStreamTagMetaData(final ModelNode node) {
+		this.node = node;
 		final ModelNode config = this.node.get(ROOT).get(CONTAINER_CONFIG);
 		if (ModelType.OBJECT == config.getType() && config.has(EXPOSED_PORT)) {
 			CONFIG_ROOT = (String[]) ArrayUtils.add(ROOT, CONTAINER_CONFIG);
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.core.podlogs;
+
+/**
+ * A bounded buffer of bytes between a writer that must not block and a reader
+ * that may fall behind. Once the buffer is full the oldest bytes are
+ * overwritten and counted as dropped.
+ */
+public class LogRingBuffer {
+
+	private final byte[] buffer;
+	private int head = 0;
+	private int size = 0;
+	private long dropped = 0;
+	private long totalDropped = 0;
+	private boolean closed = false;
+
+	public LogRingBuffer(int capacity) {
+		this.buffer = new byte[capacity];
+	}
+
+	/**
+	 * Appends the given bytes, overwriting the oldest ones if there's not enough
+	 * room left. Never blocks.
+	 */
+	public synchronized void write(byte[] data, int offset, int length) {
+		if (closed
+				|| length <= 0) {
+			return;
+		}
+		if (length > buffer.length) {
+			// only the newest bytes fit
+			drop(size + length - buffer.length);
+			offset += length - buffer.length;
+			length = buffer.length;
+			head = 0;
+			size = 0;
+		} else if (size + length > buffer.length) {
+			int overflow = size + length - buffer.length;
+			drop(overflow);
+			head = (head + overflow) % buffer.length;
+			size -= overflow;
+		}
+		int tail = (head + size) % buffer.length;
+		int first = Math.min(length, buffer.length - tail);
+		System.arraycopy(data, offset, buffer, tail, first);
+		System.arraycopy(data, offset + first, buffer, 0, length - first);
+		size += length;
+		notifyAll();
+	}
+
+	private void drop(int bytes) {
+		dropped += bytes;
+		totalDropped += bytes;
+	}
+
+	/**
+	 * Reads the oldest bytes into the given array. Blocks until there are bytes
+	 * or the buffer is closed.
+	 *
+	 * @return the number of bytes read or -1 if the buffer is closed and empty
+	 * @throws InterruptedException
+	 */
+	public synchronized int read(byte[] data) throws InterruptedException {
+		while (size == 0
+				&& !closed) {
+			wait();
+		}
+		if (size == 0) {
+			return -1;
+		}
+		int length = Math.min(data.length, size);
+		int first = Math.min(length, buffer.length - head);
+		System.arraycopy(buffer, head, data, 0, first);
+		System.arraycopy(buffer, 0, data, first, length - first);
+		head = (head + length) % buffer.length;
+		size -= length;
+		return length;
+	}
+
+	/**
+	 * Returns the bytes that were dropped since the last call.
+	 */
+	public synchronized long takeDropped() {
+		long bytes = dropped;
+		this.dropped = 0;
+		return bytes;
+	}
+
+	/**
+	 * Returns all bytes that were dropped.
+	 */
+	public synchronized long getTotalDropped() {
+		return totalDropped;
+	}
+
+	/**
+	 * Closes this buffer. Bytes that were written before can still be read.
+	 */
+	public synchronized void close() {
+		this.closed = true;
+		notifyAll();
+	}
+}
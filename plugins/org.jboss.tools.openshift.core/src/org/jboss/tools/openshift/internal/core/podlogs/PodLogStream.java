@@ -0,0 +1,327 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.core.podlogs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.osgi.util.NLS;
+import org.jboss.tools.openshift.common.core.utils.StringUtils;
+import org.jboss.tools.openshift.core.connection.Connection;
+import org.jboss.tools.openshift.internal.core.Trace;
+
+import com.openshift.restclient.model.IPod;
+
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Streams the log of a container of a pod to an output stream. The log is read
+ * from the kubernetes log endpoint into a {@link LogRingBuffer} and written to
+ * the output stream from there. If the output stream can't keep up, the oldest
+ * log is dropped and the dropped bytes are reported. When the connection is
+ * lost, the log is requested again from the time of the last line that was
+ * received.
+ */
+public class PodLogStream {
+
+	/** The capacity in bytes of the buffer between the log endpoint and the output stream */
+	public static final String BUFFER_SIZE_KEY = "org.jboss.tools.openshift.podlogs.buffer";
+	/** The number of lines of the existing log that are shown, all of them if not set */
+	public static final String TAIL_LINES_KEY = "org.jboss.tools.openshift.podlogs.tail";
+	/** Reads the log with the oc binary instead of the log endpoint if set to true */
+	public static final String USE_OC_BINARY_KEY = "org.jboss.tools.openshift.podlogs.binary";
+
+	private static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+	private static final int READ_SIZE = 64 * 1024;
+	// lines that are longer are written in parts
+	private static final int MAX_LINE_LENGTH = 64 * 1024;
+	private static final int MAX_RECONNECTS = 5;
+	private static final long RECONNECT_DELAY = 1000;
+	private static final ExecutorService EXECUTOR = createExecutor();
+
+	/**
+	 * Opens the log of a container. Each line must be prefixed with its
+	 * timestamp.
+	 */
+	public interface LogSource {
+		/**
+		 * @param sinceTime
+		 *            the time of the last line that was received or {@code null}
+		 *            when the log is opened the first time
+		 */
+		InputStream open(Instant sinceTime) throws IOException;
+	}
+
+	private final LogSource source;
+	private final OutputStream out;
+	private final LogRingBuffer buffer;
+	private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+	private volatile boolean running = true;
+	private volatile InputStream current;
+	// reader thread only
+	private Instant lastTimestamp;
+	private boolean reconnected;
+
+	public PodLogStream(LogSource source, OutputStream out) {
+		this(source, out, Integer.getInteger(BUFFER_SIZE_KEY, DEFAULT_BUFFER_SIZE));
+	}
+
+	public PodLogStream(LogSource source, OutputStream out, int bufferSize) {
+		this.source = source;
+		this.out = out;
+		this.buffer = new LogRingBuffer(bufferSize);
+	}
+
+	/**
+	 * Returns a log source that reads the log of the given container from the
+	 * given connection, or {@code null} if the connection has no http client or
+	 * the oc binary should be used.
+	 */
+	public static LogSource createSource(Connection connection, IPod pod, String container) {
+		if (connection == null
+				|| Boolean.getBoolean(USE_OC_BINARY_KEY)) {
+			return null;
+		}
+		OkHttpClient connectionClient = connection.getHttpClient();
+		if (connectionClient == null) {
+			return null;
+		}
+		// the log is followed, there may be no bytes for a long time
+		OkHttpClient client = connectionClient.newBuilder().readTimeout(0, TimeUnit.MILLISECONDS).build();
+		Integer tailLines = Integer.getInteger(TAIL_LINES_KEY);
+		return sinceTime -> {
+			HttpUrl.Builder url = HttpUrl.get(connection.getHost()).newBuilder()
+					.addPathSegments("api/v1/namespaces")
+					.addPathSegment(pod.getNamespaceName())
+					.addPathSegment("pods")
+					.addPathSegment(pod.getName())
+					.addPathSegment("log")
+					.addQueryParameter("follow", "true")
+					.addQueryParameter("timestamps", "true");
+			if (!StringUtils.isEmpty(container)) {
+				url.addQueryParameter("container", container);
+			}
+			if (sinceTime != null) {
+				url.addQueryParameter("sinceTime", sinceTime.toString());
+			} else if (tailLines != null) {
+				url.addQueryParameter("tailLines", String.valueOf(tailLines));
+			}
+			Request.Builder request = new Request.Builder().url(url.build());
+			String token = connection.getToken();
+			if (!StringUtils.isEmpty(token)) {
+				request.header("Authorization", "Bearer " + token);
+			}
+			Response response = client.newCall(request.build()).execute();
+			if (!response.isSuccessful()) {
+				response.close();
+				throw new IOException(NLS.bind("Could not get log of pod {0}: {1} {2}",
+						new Object[] { pod.getName(), response.code(), response.message() }));
+			}
+			return response.body().byteStream();
+		};
+	}
+
+	/**
+	 * Starts reading the log and writing it to the output stream.
+	 */
+	public void start() {
+		EXECUTOR.execute(this::read);
+		EXECUTOR.execute(this::write);
+	}
+
+	/**
+	 * Stops streaming. The output stream is closed once the buffered log is
+	 * written.
+	 */
+	public void stop() {
+		this.running = false;
+		closeCurrent();
+		buffer.close();
+	}
+
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Returns the bytes of the log that were dropped because the output stream
+	 * could not keep up.
+	 */
+	public long getDroppedBytes() {
+		return buffer.getTotalDropped();
+	}
+
+	private void read() {
+		int reconnects = 0;
+		try {
+			while (running) {
+				try {
+					this.current = source.open(lastTimestamp);
+					reconnects = 0;
+					byte[] data = new byte[READ_SIZE];
+					int read;
+					while (running
+							&& (read = current.read(data)) != -1) {
+						append(data, read);
+					}
+					// container terminated
+					return;
+				} catch (IOException e) {
+					if (!running) {
+						return;
+					}
+					if (++reconnects > MAX_RECONNECTS) {
+						writeMessage(NLS.bind("Could not read log: {0}\n", e.getMessage()));
+						return;
+					}
+					Trace.debug("Reconnecting to log since {0}", e, lastTimestamp);
+					this.reconnected = true;
+					Thread.sleep(RECONNECT_DELAY);
+				} finally {
+					closeCurrent();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			flushLine();
+			this.running = false;
+			buffer.close();
+		}
+	}
+
+	private void append(byte[] data, int length) {
+		int start = 0;
+		for (int i = 0; i < length; i++) {
+			if (data[i] == '\n') {
+				line.write(data, start, i + 1 - start);
+				flushLine();
+				start = i + 1;
+			}
+		}
+		line.write(data, start, length - start);
+		if (line.size() > MAX_LINE_LENGTH) {
+			flushLine();
+		}
+	}
+
+	/**
+	 * Writes the buffered line without its timestamp. Lines that were received
+	 * before the connection was lost are skipped.
+	 */
+	private void flushLine() {
+		if (line.size() == 0) {
+			return;
+		}
+		byte[] bytes = line.toByteArray();
+		line.reset();
+		int separator = indexOf(bytes, (byte) ' ');
+		if (separator < 0) {
+			buffer.write(bytes, 0, bytes.length);
+			return;
+		}
+		Instant timestamp = parseTimestamp(bytes, separator);
+		if (timestamp == null) {
+			buffer.write(bytes, 0, bytes.length);
+			return;
+		}
+		if (reconnected
+				&& lastTimestamp != null
+				&& !timestamp.isAfter(lastTimestamp)) {
+			// sinceTime is inclusive, the line was written before
+			return;
+		}
+		this.reconnected = false;
+		this.lastTimestamp = timestamp;
+		buffer.write(bytes, separator + 1, bytes.length - separator - 1);
+	}
+
+	private static Instant parseTimestamp(byte[] bytes, int length) {
+		try {
+			return Instant.parse(new String(bytes, 0, length, StandardCharsets.US_ASCII));
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	private static int indexOf(byte[] bytes, byte value) {
+		for (int i = 0; i < bytes.length; i++) {
+			if (bytes[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void writeMessage(String message) {
+		byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+		buffer.write(bytes, 0, bytes.length);
+	}
+
+	private void write() {
+		byte[] data = new byte[READ_SIZE];
+		try {
+			int read;
+			while ((read = buffer.read(data)) != -1) {
+				long dropped = buffer.takeDropped();
+				if (dropped > 0) {
+					out.write(NLS.bind("\n[{0} bytes of log dropped, the console could not keep up]\n", dropped)
+							.getBytes(StandardCharsets.UTF_8));
+				}
+				out.write(data, 0, read);
+			}
+		} catch (IOException e) {
+			// output closed
+			stop();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			stop();
+		} finally {
+			try {
+				out.close();
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+	}
+
+	private void closeCurrent() {
+		InputStream stream = this.current;
+		if (stream != null) {
+			try {
+				stream.close();
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+	}
+
+	private static ExecutorService createExecutor() {
+		AtomicInteger threads = new AtomicInteger();
+		return Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "OpenShift Pod Log " + threads.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.core.portforwarding;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.osgi.util.NLS;
+import org.jboss.tools.openshift.internal.core.portforwarding.PortForwardingEngine.Connector;
+import org.jboss.tools.openshift.internal.core.portforwarding.PortForwardingEngine.Forwarding;
+
+import com.openshift.restclient.OpenShiftException;
+import com.openshift.restclient.capability.resources.IPortForwardable;
+
+/**
+ * Port forwarding that is done by the {@link PortForwardingEngine} instead of
+ * an oc binary.
+ */
+public class InProcessPortForwarding implements IPortForwardable {
+
+	private final Connector connector;
+	private Collection<PortPair> ports = Collections.emptyList();
+	private volatile Forwarding forwarding;
+
+	public InProcessPortForwarding(Connector connector) {
+		this.connector = connector;
+	}
+
+	/**
+	 * Binds the given local ports and forwards them. The given options only apply
+	 * to the oc binary and are ignored.
+	 */
+	@Override
+	public synchronized void forwardPorts(Collection<PortPair> ports, OpenShiftBinaryOption... options) {
+		if (isForwarding()) {
+			return;
+		}
+		try {
+			this.forwarding = PortForwardingEngine.getInstance().forward(ports, connector);
+			this.ports = new ArrayList<>(ports);
+		} catch (IOException e) {
+			throw new OpenShiftException(e, NLS.bind("Could not forward ports {0}", ports));
+		}
+	}
+
+	@Override
+	public void stop() {
+		Forwarding current = this.forwarding;
+		if (current != null) {
+			current.stop();
+		}
+	}
+
+	@Override
+	public boolean isForwarding() {
+		Forwarding current = this.forwarding;
+		return current != null
+				&& current.isForwarding();
+	}
+
+	@Override
+	public Collection<PortPair> getPortPairs() {
+		return ports;
+	}
+
+	/**
+	 * Returns the counters for each forwarded port.
+	 */
+	public Map<PortPair, PortForwardingCounters> getCounters() {
+		Forwarding current = this.forwarding;
+		if (current == null) {
+			return Collections.emptyMap();
+		}
+		return current.getCounters();
+	}
+
+	@Override
+	public boolean isSupported() {
+		return true;
+	}
+
+	@Override
+	public String getName() {
+		return InProcessPortForwarding.class.getSimpleName();
+	}
+}
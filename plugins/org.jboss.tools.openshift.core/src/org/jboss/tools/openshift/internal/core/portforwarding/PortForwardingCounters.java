@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.core.portforwarding;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the bytes and connections of a forwarded port.
+ */
+public class PortForwardingCounters {
+
+	private final AtomicLong bytesSent = new AtomicLong();
+	private final AtomicLong bytesReceived = new AtomicLong();
+	private final AtomicLong connections = new AtomicLong();
+	private final AtomicInteger activeConnections = new AtomicInteger();
+
+	/**
+	 * Returns the bytes that were sent from the local port to the pod.
+	 */
+	public long getBytesSent() {
+		return bytesSent.get();
+	}
+
+	/**
+	 * Returns the bytes that were received from the pod.
+	 */
+	public long getBytesReceived() {
+		return bytesReceived.get();
+	}
+
+	/**
+	 * Returns the number of connections that were accepted on the local port.
+	 */
+	public long getConnections() {
+		return connections.get();
+	}
+
+	/**
+	 * Returns the number of connections that are currently open.
+	 */
+	public int getActiveConnections() {
+		return activeConnections.get();
+	}
+
+	void sent(int bytes) {
+		bytesSent.addAndGet(bytes);
+	}
+
+	void received(int bytes) {
+		bytesReceived.addAndGet(bytes);
+	}
+
+	void connectionOpened() {
+		connections.incrementAndGet();
+		activeConnections.incrementAndGet();
+	}
+
+	void connectionClosed() {
+		activeConnections.decrementAndGet();
+	}
+
+	@Override
+	public String toString() {
+		return "sent: " + getBytesSent() + " bytes, received: " + getBytesReceived() + " bytes, connections: "
+				+ getActiveConnections() + "/" + getConnections();
+	}
+}
@@ -0,0 +1,548 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.core.portforwarding;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.osgi.util.NLS;
+import org.jboss.tools.openshift.internal.core.OpenShiftCoreActivator;
+import org.jboss.tools.openshift.internal.core.Trace;
+
+import com.openshift.restclient.capability.resources.IPortForwardable.PortPair;
+
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okio.ByteString;
+
+/**
+ * Forwards local ports to ports of pods within this process, no oc binary is
+ * launched. Each connection that is accepted on a local port is tunneled
+ * through a websocket that speaks the kubernetes port-forward protocol
+ * ({@link #PROTOCOL}). All local ports and connections are served by a single
+ * selector thread, which ends once nothing is forwarded any more.
+ */
+public class PortForwardingEngine {
+
+	/** The websocket sub-protocol of the kubernetes port-forward endpoint */
+	public static final String PROTOCOL = "v4.channel.k8s.io";
+
+	private static final int BUFFER_SIZE = 16 * 1024;
+	// stop reading from a connection while the other side has more bytes queued
+	private static final long MAX_QUEUED_BYTES = 1024 * 1024;
+	private static final long SELECT_TIMEOUT = 100;
+	private static final long STOP_TIMEOUT = 2000;
+	private static final int NORMAL_CLOSURE = 1000;
+	private static final byte DATA_CHANNEL = 0;
+	private static final byte ERROR_CHANNEL = 1;
+	// the 1st frame on each channel holds the (2 bytes) port number
+	private static final int PORT_HEADER_LENGTH = 2;
+
+	/**
+	 * Opens the websocket that forwards a local connection to a port of a pod.
+	 */
+	public interface Connector {
+		WebSocket connect(int remotePort, WebSocketListener listener);
+	}
+
+	private static class Holder {
+		static PortForwardingEngine instance = new PortForwardingEngine();
+	}
+
+	public static PortForwardingEngine getInstance() {
+		return Holder.instance;
+	}
+
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+	// selector thread only
+	private final Set<Tunnel> paused = new HashSet<>();
+	private final ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+	private volatile Selector selector;
+	private volatile Thread thread;
+
+	/**
+	 * Starts forwarding the given ports. The local ports are bound before this
+	 * method returns, connections to the pod are opened once a local connection
+	 * is accepted.
+	 *
+	 * @param ports
+	 *            the ports to forward
+	 * @param connector
+	 *            opens the websockets to the pod
+	 * @return the forwarding that allows to stop it
+	 * @throws IOException
+	 *             if a local port could not be bound
+	 */
+	public Forwarding forward(Collection<PortPair> ports, Connector connector) throws IOException {
+		Forwarding forwarding = new Forwarding();
+		try {
+			for (PortPair port : ports) {
+				ServerSocketChannel server = ServerSocketChannel.open();
+				forwarding.acceptors.add(new Acceptor(server, port, connector, forwarding));
+				server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port.getLocalPort()));
+				server.configureBlocking(false);
+			}
+		} catch (IOException e) {
+			forwarding.acceptors.forEach(Acceptor::close);
+			throw e;
+		}
+		try {
+			start(() -> forwarding.acceptors.forEach(acceptor -> acceptor.register(selector)));
+		} catch (IOException e) {
+			forwarding.acceptors.forEach(Acceptor::close);
+			throw e;
+		}
+		return forwarding;
+	}
+
+	/**
+	 * Runs the given task on the selector thread, starts the thread if it's not
+	 * running.
+	 */
+	private synchronized void start(Runnable task) throws IOException {
+		if (selector == null) {
+			Selector selector = Selector.open();
+			this.selector = selector;
+			this.thread = new Thread(() -> run(selector), "OpenShift Port Forwarding");
+			thread.setDaemon(true);
+			thread.start();
+		}
+		execute(task);
+	}
+
+	/**
+	 * Runs the given task on the selector thread. The task is run right away if
+	 * the thread ended, all channels are closed then.
+	 */
+	private synchronized void execute(Runnable task) {
+		if (selector == null) {
+			task.run();
+			return;
+		}
+		tasks.add(task);
+		selector.wakeup();
+	}
+
+	/**
+	 * Ends the selector thread if there are no channels and no tasks left.
+	 * Returns {@code true} if it ended.
+	 */
+	private synchronized boolean end(Selector selector) {
+		if (!tasks.isEmpty()
+				|| selector.keys().stream().anyMatch(SelectionKey::isValid)) {
+			return false;
+		}
+		closeQuietly(selector);
+		this.selector = null;
+		this.thread = null;
+		return true;
+	}
+
+	private void run(Selector selector) {
+		while (!end(selector)) {
+			try {
+				if (paused.isEmpty()) {
+					// woken up by new tasks
+					selector.select();
+				} else {
+					// polls whether the paused tunnels can resume
+					selector.select(SELECT_TIMEOUT);
+				}
+				Runnable task;
+				while ((task = tasks.poll()) != null) {
+					task.run();
+				}
+				Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+				while (keys.hasNext()) {
+					SelectionKey key = keys.next();
+					keys.remove();
+					if (key.isValid()) {
+						((Handler) key.attachment()).handle(key);
+					}
+				}
+				paused.removeIf(Tunnel::resume);
+			} catch (IOException | RuntimeException e) {
+				OpenShiftCoreActivator.logError("Error while forwarding ports", e);
+			}
+		}
+	}
+
+	private static void closeQuietly(Closeable closeable) {
+		try {
+			closeable.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+
+	/**
+	 * Forwarded ports that were started together.
+	 */
+	public class Forwarding {
+
+		private final List<Acceptor> acceptors = new ArrayList<>();
+		private final Set<Tunnel> tunnels = ConcurrentHashMap.newKeySet();
+		private volatile boolean stopped;
+
+		public boolean isForwarding() {
+			return !stopped;
+		}
+
+		/**
+		 * Returns the counters for each forwarded port.
+		 */
+		public Map<PortPair, PortForwardingCounters> getCounters() {
+			Map<PortPair, PortForwardingCounters> counters = new LinkedHashMap<>();
+			acceptors.forEach(acceptor -> counters.put(acceptor.port, acceptor.counters));
+			return Collections.unmodifiableMap(counters);
+		}
+
+		/**
+		 * Stops forwarding. Closes the local ports and all connections. Returns once
+		 * the local ports are released.
+		 */
+		public void stop() {
+			if (stopped) {
+				return;
+			}
+			this.stopped = true;
+			CompletableFuture<Void> done = new CompletableFuture<>();
+			Runnable stop = () -> {
+				acceptors.forEach(Acceptor::close);
+				new ArrayList<>(tunnels).forEach(Tunnel::close);
+				Selector selector = PortForwardingEngine.this.selector;
+				if (selector != null) {
+					try {
+						// deregisters the closed channels, which releases the ports
+						selector.selectNow();
+					} catch (IOException e) {
+						// ignore
+					}
+				}
+				done.complete(null);
+			};
+			if (Thread.currentThread() == thread) {
+				stop.run();
+				return;
+			}
+			execute(stop);
+			try {
+				done.get(STOP_TIMEOUT, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException | TimeoutException e) {
+				Trace.warn("Ports were not released within {0}ms", e, STOP_TIMEOUT);
+			}
+		}
+	}
+
+	private interface Handler {
+		void handle(SelectionKey key);
+	}
+
+	/**
+	 * Accepts the connections on a local port and opens a tunnel for each.
+	 */
+	private class Acceptor implements Handler {
+
+		private final ServerSocketChannel server;
+		private final PortPair port;
+		private final Connector connector;
+		private final Forwarding forwarding;
+		private final PortForwardingCounters counters = new PortForwardingCounters();
+
+		private Acceptor(ServerSocketChannel server, PortPair port, Connector connector, Forwarding forwarding) {
+			this.server = server;
+			this.port = port;
+			this.connector = connector;
+			this.forwarding = forwarding;
+		}
+
+		private void register(Selector selector) {
+			try {
+				server.register(selector, SelectionKey.OP_ACCEPT, this);
+			} catch (ClosedChannelException e) {
+				// stopped in the meantime
+			}
+		}
+
+		@Override
+		public void handle(SelectionKey key) {
+			Tunnel tunnel = null;
+			try {
+				SocketChannel channel = server.accept();
+				if (channel == null) {
+					return;
+				}
+				channel.configureBlocking(false);
+				tunnel = new Tunnel(channel, counters, forwarding);
+				tunnel.key = channel.register(selector, SelectionKey.OP_READ, tunnel);
+				forwarding.tunnels.add(tunnel);
+				counters.connectionOpened();
+				tunnel.webSocket = connector.connect(port.getRemotePort(), tunnel);
+			} catch (IOException | RuntimeException e) {
+				OpenShiftCoreActivator.logWarning(
+						NLS.bind("Could not forward a connection on local port {0}", port.getLocalPort()), e);
+				if (tunnel != null) {
+					tunnel.close();
+				}
+			}
+		}
+
+		private void close() {
+			closeQuietly(server);
+		}
+	}
+
+	/**
+	 * Tunnels a local connection through a websocket to the pod.
+	 */
+	private class Tunnel extends WebSocketListener implements Handler {
+
+		private final SocketChannel channel;
+		private final PortForwardingCounters counters;
+		private final Forwarding forwarding;
+		private final Queue<ByteBuffer> received = new ConcurrentLinkedQueue<>();
+		// bytes in received, guarded by received
+		private long receivedBytes;
+		private volatile WebSocket webSocket;
+		private SelectionKey key;
+		// websocket threads only, messages are delivered one after the other
+		private int dataHeader = PORT_HEADER_LENGTH;
+		private int errorHeader = PORT_HEADER_LENGTH;
+		// written by the selector thread only
+		private boolean remoteClosed;
+		private volatile boolean closed;
+
+		private Tunnel(SocketChannel channel, PortForwardingCounters counters, Forwarding forwarding) {
+			this.channel = channel;
+			this.counters = counters;
+			this.forwarding = forwarding;
+		}
+
+		@Override
+		public void handle(SelectionKey key) {
+			try {
+				if (key.isReadable()) {
+					read();
+				}
+				if (key.isValid()
+						&& key.isWritable()) {
+					write();
+				}
+			} catch (IOException | CancelledKeyException e) {
+				close();
+			}
+		}
+
+		private void read() throws IOException {
+			readBuffer.clear();
+			int read = channel.read(readBuffer);
+			if (read < 0) {
+				close();
+				return;
+			} else if (read == 0) {
+				return;
+			}
+			readBuffer.flip();
+			byte[] frame = new byte[read + 1];
+			frame[0] = DATA_CHANNEL;
+			readBuffer.get(frame, 1, read);
+			if (!webSocket.send(ByteString.of(frame))) {
+				close();
+				return;
+			}
+			counters.sent(read);
+			if (webSocket.queueSize() > MAX_QUEUED_BYTES) {
+				setInterest(SelectionKey.OP_READ, false);
+				paused.add(this);
+			}
+		}
+
+		private void write() throws IOException {
+			ByteBuffer buffer;
+			while ((buffer = received.peek()) != null) {
+				channel.write(buffer);
+				if (buffer.hasRemaining()) {
+					return;
+				}
+				written(received.poll());
+			}
+			setInterest(SelectionKey.OP_WRITE, false);
+			if (remoteClosed) {
+				close();
+			}
+		}
+
+		/**
+		 * Blocks the websocket thread that delivered the given bytes while more
+		 * than {@link #MAX_QUEUED_BYTES} are waiting to be written to the local
+		 * connection. The websocket is not read meanwhile.
+		 */
+		private void await(int length) {
+			synchronized (received) {
+				this.receivedBytes += length;
+				if (Thread.currentThread() == thread) {
+					// never block the thread that writes to the local connection
+					return;
+				}
+				while (receivedBytes > MAX_QUEUED_BYTES
+						&& !closed) {
+					try {
+						received.wait();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						return;
+					}
+				}
+			}
+		}
+
+		private void written(ByteBuffer buffer) {
+			synchronized (received) {
+				this.receivedBytes -= buffer.limit();
+				if (receivedBytes <= MAX_QUEUED_BYTES / 2) {
+					received.notifyAll();
+				}
+			}
+		}
+
+		/**
+		 * Reads from the local connection again once the websocket caught up.
+		 * Returns {@code true} if it's not paused any more.
+		 */
+		private boolean resume() {
+			if (closed) {
+				return true;
+			}
+			if (webSocket.queueSize() > MAX_QUEUED_BYTES / 2) {
+				return false;
+			}
+			setInterest(SelectionKey.OP_READ, true);
+			return true;
+		}
+
+		private void setInterest(int operation, boolean enabled) {
+			if (key == null
+					|| !key.isValid()) {
+				return;
+			}
+			int operations = key.interestOps();
+			key.interestOps(enabled ? operations | operation : operations & ~operation);
+		}
+
+		@Override
+		public void onMessage(WebSocket webSocket, ByteString bytes) {
+			if (bytes.size() == 0) {
+				return;
+			}
+			int offset = 1;
+			byte channel = bytes.getByte(0);
+			if (channel == DATA_CHANNEL) {
+				int header = Math.min(dataHeader, bytes.size() - offset);
+				dataHeader -= header;
+				offset += header;
+				if (offset < bytes.size()) {
+					int length = bytes.size() - offset;
+					received.add(ByteBuffer.wrap(bytes.substring(offset).toByteArray()));
+					counters.received(length);
+					execute(() -> setInterest(SelectionKey.OP_WRITE, true));
+					await(length);
+				}
+			} else if (channel == ERROR_CHANNEL) {
+				int header = Math.min(errorHeader, bytes.size() - offset);
+				errorHeader -= header;
+				offset += header;
+				if (offset < bytes.size()) {
+					OpenShiftCoreActivator.logWarning(
+							NLS.bind("Port forwarding failed: {0}", bytes.substring(offset).utf8()), null);
+					execute(this::close);
+				}
+			}
+		}
+
+		@Override
+		public void onClosing(WebSocket webSocket, int code, String reason) {
+			webSocket.close(NORMAL_CLOSURE, null);
+			execute(this::closeRemote);
+		}
+
+		@Override
+		public void onClosed(WebSocket webSocket, int code, String reason) {
+			execute(this::closeRemote);
+		}
+
+		@Override
+		public void onFailure(WebSocket webSocket, Throwable t, Response response) {
+			if (!closed) {
+				Trace.warn("Port forwarding connection failed", t);
+			}
+			execute(this::close);
+		}
+
+		/**
+		 * The pod closed the connection, close the local one once all received bytes
+		 * are written.
+		 */
+		private void closeRemote() {
+			this.remoteClosed = true;
+			if (received.isEmpty()) {
+				close();
+			} else {
+				setInterest(SelectionKey.OP_WRITE, true);
+			}
+		}
+
+		private void close() {
+			if (closed) {
+				return;
+			}
+			this.closed = true;
+			synchronized (received) {
+				// releases the websocket thread
+				received.notifyAll();
+			}
+			closeQuietly(channel);
+			paused.remove(this);
+			forwarding.tunnels.remove(this);
+			counters.connectionClosed();
+			if (webSocket != null) {
+				webSocket.close(NORMAL_CLOSURE, null);
+			}
+		}
+	}
+}
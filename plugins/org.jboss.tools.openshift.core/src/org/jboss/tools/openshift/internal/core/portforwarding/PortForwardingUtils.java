@@ -17,10 +17,10 @@ import java.net.ServerSocket;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.launching.SocketUtil;
@@ -28,9 +28,12 @@ import org.jboss.tools.openshift.common.core.connection.ConnectionsRegistryAdapt
 import org.jboss.tools.openshift.common.core.connection.ConnectionsRegistrySingleton;
 import org.jboss.tools.openshift.common.core.connection.IConnection;
 import org.jboss.tools.openshift.common.core.connection.IConnectionsRegistryListener;
+import org.jboss.tools.openshift.common.core.utils.StringUtils;
+import org.jboss.tools.openshift.core.connection.Connection;
 import org.jboss.tools.openshift.core.connection.ConnectionsRegistryUtil;
 import org.jboss.tools.openshift.internal.core.OpenShiftCoreActivator;
 import org.jboss.tools.openshift.internal.core.ocbinary.OCBinaryOperation;
+import org.jboss.tools.openshift.internal.core.util.ResourceUtils;
 
 import com.openshift.restclient.capability.CapabilityVisitor;
 import com.openshift.restclient.capability.IBinaryCapability.OpenShiftBinaryOption;
@@ -38,14 +41,24 @@ import com.openshift.restclient.capability.resources.IPortForwardable;
 import com.openshift.restclient.capability.resources.IPortForwardable.PortPair;
 import com.openshift.restclient.model.IPod;
 
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
 /**
  * Utility class about port forwarding.
  */
 public class PortForwardingUtils {
 
+	/**
+	 * Forwards ports with the oc binary instead of the in-process
+	 * {@link PortForwardingEngine} if set to {@code true}.
+	 */
+	public static final String USE_OC_BINARY_KEY = "org.jboss.tools.openshift.portforwarding.binary";
+
 	/** Internal registry of {@link IPod}'s port-forwarding. */
-	private static final Map<IPod, IPortForwardable> REGISTRY = new HashMap<>();
-	private static final Map<IPod, IConnectionsRegistryListener> POD_LISTENERS = new HashMap<>();
+	private static final Map<IPod, IPortForwardable> REGISTRY = new ConcurrentHashMap<>();
+	private static final Map<IPod, IConnectionsRegistryListener> POD_LISTENERS = new ConcurrentHashMap<>();
 
 	private PortForwardingUtils() {
 	}
@@ -129,12 +142,33 @@ public class PortForwardingUtils {
 	}
 	
 	/**
-	 * Starts port-forwarding for the given {@code pod}
+	 * Returns the byte and connection counters for each port that is forwarded
+	 * for the given pod.
+	 * 
+	 * @param pod
+	 *            the pod whose port-forwarding is queried
+	 * @return the counters by port or an empty map if the ports of the given pod
+	 *         are not forwarded or are forwarded by the oc binary.
+	 */
+	public static Map<PortPair, PortForwardingCounters> getCounters(final IPod pod) {
+		final IPortForwardable portForwarding = REGISTRY.get(pod);
+		if (!(portForwarding instanceof InProcessPortForwarding)) {
+			return Collections.emptyMap();
+		}
+		return ((InProcessPortForwarding) portForwarding).getCounters();
+	}
+
+	/**
+	 * Starts port-forwarding for the given {@code pod}. Ports are forwarded
+	 * in-process unless {@link #USE_OC_BINARY_KEY} is set or the connection of
+	 * the pod can't be found. The oc binary is used otherwise.
 	 * 
 	 * @param pod
 	 *            the pod on which port-forwarding is to be started
 	 * @param ports
 	 *            the ports to forward
+	 * @param options
+	 *            the options for the oc binary
 	 * @return the {@link IPortForwardable} referencing all ports that were
 	 *         forwarded, or <code>null</code> if port-forwarding was already
 	 *         started on the given pod.
@@ -148,12 +182,19 @@ public class PortForwardingUtils {
 		final IPortForwardable portForwarding = pod.accept(new CapabilityVisitor<IPortForwardable, IPortForwardable>() {
 			@Override
 			public IPortForwardable visit(final IPortForwardable portForwarding) {
+				final Connection connection = ConnectionsRegistryUtil.safeGetConnectionFor(pod);
+				if (!Boolean.getBoolean(USE_OC_BINARY_KEY)) {
+					IPortForwardable inProcess = startInProcessPortForwarding(connection, pod, ports);
+					if (inProcess != null) {
+						return inProcess;
+					}
+				}
 				new OCBinaryOperation() {
 					@Override
 					protected void runOCBinary() {
 						portForwarding.forwardPorts(ports, options);
 					}
-				}.run(ConnectionsRegistryUtil.safeGetConnectionFor(pod));
+				}.run(connection);
 				return portForwarding;
 			}
 		}, null);
@@ -171,12 +212,48 @@ public class PortForwardingUtils {
                     }
                 }
             };
-            ConnectionsRegistrySingleton.getInstance().addListener(podListener);
+            // stopping waits for the ports to get free, dont hold up the watch
+            ConnectionsRegistrySingleton.getInstance().addAsyncListener(podListener, ResourceUtils::getResourceKey);
             POD_LISTENERS.put(pod, podListener);
         }
 		return portForwarding;
 	}
 
+	private static IPortForwardable startInProcessPortForwarding(final Connection connection, final IPod pod,
+			final Collection<IPortForwardable.PortPair> ports) {
+		if (connection == null) {
+			return null;
+		}
+		final OkHttpClient client = connection.getHttpClient();
+		if (client == null) {
+			return null;
+		}
+		// the token may have to be read from the secure storage, dont do it on the selector thread
+		final String token = connection.getToken();
+		final InProcessPortForwarding portForwarding = new InProcessPortForwarding((remotePort, listener) -> {
+			Request.Builder request = new Request.Builder()
+					.url(getPortForwardUrl(connection, pod, remotePort))
+					.header("Sec-WebSocket-Protocol", PortForwardingEngine.PROTOCOL);
+			if (!StringUtils.isEmpty(token)) {
+				request.header("Authorization", "Bearer " + token);
+			}
+			return client.newWebSocket(request.build(), listener);
+		});
+		portForwarding.forwardPorts(ports);
+		return portForwarding;
+	}
+
+	private static HttpUrl getPortForwardUrl(Connection connection, IPod pod, int remotePort) {
+		return HttpUrl.get(connection.getHost()).newBuilder()
+				.addPathSegments("api/v1/namespaces")
+				.addPathSegment(pod.getNamespaceName())
+				.addPathSegment("pods")
+				.addPathSegment(pod.getName())
+				.addPathSegment("portforward")
+				.addQueryParameter("ports", String.valueOf(remotePort))
+				.build();
+	}
+
 	/**
 	 * Starts port-forwarding for the given {@code pod} for a <strong>single</strong> port.
 	 * 
@@ -209,11 +286,18 @@ public class PortForwardingUtils {
 			return null;
 		}
 		final IPortForwardable portForwarding = REGISTRY.remove(pod);
-		if (portForwarding != null) {
-			portForwarding.stop();
+		if (portForwarding == null) {
+			return null;
+		}
+		portForwarding.stop();
+		if (!(portForwarding instanceof InProcessPortForwarding)) {
+			// the in-process forwarding released its ports when it stopped
+			waitForPortsToGetFree(portForwarding.getPortPairs(), 5, stream);
+		}
+		IConnectionsRegistryListener podListener = POD_LISTENERS.remove(pod);
+		if (podListener != null) {
+			ConnectionsRegistrySingleton.getInstance().removeListener(podListener);
 		}
-		waitForPortsToGetFree(portForwarding.getPortPairs(), 5, stream);
-		ConnectionsRegistrySingleton.getInstance().removeListener(POD_LISTENERS.remove(pod));
 		return portForwarding;
 	}
 
@@ -428,21 +428,28 @@ public class OpenShiftDebugMode {
 
 	protected IPod waitFor(NewPodDetectorJob podDetector, IDeploymentConfig dc, IProgressMonitor monitor) throws CoreException {
 		try {
+			// the job blocks until a pod event completes the detection
 			podDetector.join(NewPodDetectorJob.TIMEOUT, monitor);
-			IStatus result = podDetector.getResult();
-			if (result == null) {// timed out!
-				throw new CoreException(podDetector.getTimeOutStatus());
-			} else if (!result.isOK()) {
-				if (IStatus.CANCEL == result.getSeverity()) {
-					throw new CoreException(StatusFactory.cancelStatus(OpenShiftCoreActivator.PLUGIN_ID, 
-							NLS.bind("Cancelled wait for new pod created from deployment config {0}...", dc.getName())));
-				} else {					
-					throw new CoreException(result);
-				}
-			}
-			return podDetector.getPod();
-		} catch (OperationCanceledException | InterruptedException e) {
+		} catch (OperationCanceledException e) {
+			podDetector.cancel();
+			throw new CoreException(StatusFactory.cancelStatus(OpenShiftCoreActivator.PLUGIN_ID,
+					NLS.bind("Cancelled wait for new pod created from deployment config {0}...", dc.getName())));
+		} catch (InterruptedException e) {
+			podDetector.cancel();
+			Thread.currentThread().interrupt();
 			throw new OpenShiftCoreException(e);
 		}
+		IStatus result = podDetector.getResult();
+		if (result == null) {// timed out!
+			podDetector.cancel();
+			throw new CoreException(podDetector.getTimeOutStatus());
+		} else if (!result.isOK()) {
+			if (IStatus.CANCEL == result.getSeverity()) {
+				throw new CoreException(StatusFactory.cancelStatus(OpenShiftCoreActivator.PLUGIN_ID,
+						NLS.bind("Cancelled wait for new pod created from deployment config {0}...", dc.getName())));
+			}
+			throw new CoreException(result);
+		}
+		return podDetector.getPod();
 	}
 }
@@ -11,7 +11,11 @@
 package org.jboss.tools.openshift.internal.core.server.resources;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
@@ -28,7 +32,9 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobManager;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.jobs.MultiRule;
@@ -53,6 +59,16 @@ import org.jboss.tools.openshift.internal.core.Trace;
  */
 public class ResourceChangePublisher implements IResourceChangeListener {
 
+	/** System property for the time in ms without changes that a publish waits for */
+	public static final String QUIET_PERIOD_KEY = "org.jboss.tools.openshift.publish.quietPeriod";
+	/** System property for the max time in ms that a publish is delayed by subsequent changes */
+	public static final String MAX_LATENCY_KEY = "org.jboss.tools.openshift.publish.maxLatency";
+
+	private static final long DEFAULT_QUIET_PERIOD = 1000;
+	private static final long DEFAULT_MAX_LATENCY = 10 * 1000;
+
+	private final Map<String, MagicProjectChangeJob> pendingJobs = new HashMap<>();
+
 	@Override
 	public void resourceChanged(IResourceChangeEvent event) {
 		final IResourceDelta delta = event.getDelta();
@@ -156,51 +172,112 @@ public class ResourceChangePublisher implements IResourceChangeListener {
 
 	protected void handleSpecialProjectChange(OpenShiftServer server, IResourceDelta delta, List<IResource> changes,
 			IResourceChangeEvent event) {
-		// check for duplicate jobs already waiting and don't create a new one
-		Job[] jobs = Job.getJobManager().find(ServerUtil.SERVER_JOB_FAMILY);
-		if (jobs != null) {
-			int size = jobs.length;
-			for (int i = 0; i < size; i++) {
-				if (jobs[i] instanceof MagicProjectChangeJob) {
-					MagicProjectChangeJob rcj = (MagicProjectChangeJob) jobs[i];
-					if (rcj.getServer().equals(server.getServer()) && rcj.getState() == Job.WAITING)
-						return;
-				}
+		synchronized (pendingJobs) {
+			// coalesce with the job that is waiting for the quiet period to end
+			MagicProjectChangeJob job = pendingJobs.get(server.getServer().getId());
+			if (job != null
+					&& job.coalesce(changes, event)) {
+				job.reschedule();
+				return;
 			}
+			job = new MagicProjectChangeJob(server, changes, event);
+			job.setSystem(true);
+			job.setPriority(Job.BUILD);
+			pendingJobs.put(server.getServer().getId(), job);
+			job.reschedule();
 		}
+	}
 
-		MagicProjectChangeJob job = new MagicProjectChangeJob(server, delta, changes, event);
-		job.setSystem(true);
-		job.setPriority(Job.BUILD);
-		job.schedule();
+	private void removePending(MagicProjectChangeJob job) {
+		synchronized (pendingJobs) {
+			pendingJobs.remove(job.getServer().getId(), job);
+		}
 	}
 
 	/**
-	 * Give the server an indication that its magic project has been changed somehow
+	 * Give the server an indication that its magic project has been changed somehow.
+	 * The job waits for a quiet period of {@link ResourceChangePublisher#QUIET_PERIOD_KEY}
+	 * without changes before it runs, but at most {@link ResourceChangePublisher#MAX_LATENCY_KEY}
+	 * after the first change. Changes that happen while the job waits are coalesced into it.
+	 * The job runs with a rule for the server and the projects of all the coalesced changes.
 	 */
 	public class MagicProjectChangeJob extends Job {
-		private IResourceDelta delta;
 		private OpenShiftServer openshiftServer;
-		private IResourceChangeEvent event;
-		private List<IResource> changes;
+		private Set<IResource> changes = new LinkedHashSet<>();
+		private int coalescedDeltas;
+		private boolean buildOccurred;
+		private boolean projectClosedOrDeleted;
+		private final long firstChange;
+		private boolean started;
 
-		public MagicProjectChangeJob(OpenShiftServer openshiftServer, IResourceDelta delta, List<IResource> change,
+		public MagicProjectChangeJob(OpenShiftServer openshiftServer, List<IResource> change,
 				IResourceChangeEvent event) {
 			super(NLS.bind(Messages.jobUpdateServer, openshiftServer.getServer().getName()));
 			this.openshiftServer = openshiftServer;
-			this.delta = delta;
-			this.changes = change;
-			this.event = event;
+			this.changes.addAll(change);
+			this.coalescedDeltas = 1;
+			this.buildOccurred = event != null && didBuildOccur(event);
+			this.projectClosedOrDeleted = event != null && isProjectCloseOrDeleteEvent(event);
+			this.firstChange = System.currentTimeMillis();
+			// the rule is acquired when the job runs since coalesced changes may add projects
+		}
+
+		/**
+		 * Adds the given changes to this job if it did not start yet.
+		 * 
+		 * @return true if the changes were added, false if this job already started
+		 */
+		synchronized boolean coalesce(List<IResource> changes, IResourceChangeEvent event) {
+			if (started) {
+				return false;
+			}
+			this.changes.addAll(changes);
+			this.coalescedDeltas++;
+			this.buildOccurred |= event != null && didBuildOccur(event);
+			this.projectClosedOrDeleted |= event != null && isProjectCloseOrDeleteEvent(event);
+			return true;
+		}
 
-			setRule(createResourcesRule(openshiftServer, delta));
+		/**
+		 * Schedules this job to run once the quiet period passed, but not later than
+		 * the max latency after the first change.
+		 */
+		void reschedule() {
+			long delay = Math.max(0, Math.min(Long.getLong(QUIET_PERIOD_KEY, DEFAULT_QUIET_PERIOD),
+					firstChange + Long.getLong(MAX_LATENCY_KEY, DEFAULT_MAX_LATENCY) - System.currentTimeMillis()));
+			if (getState() == Job.NONE) {
+				schedule(delay);
+			} else if (sleep()) {
+				wakeUp(delay);
+			}
 		}
 
-		private ISchedulingRule createResourcesRule(OpenShiftServer openshiftServer, IResourceDelta delta) {
-			ISchedulingRule[] rules = new ISchedulingRule[2];
+		/**
+		 * Returns the rule that this job runs with. It combines the rules for the
+		 * server and for the projects of all the changes that were coalesced into
+		 * this job.
+		 */
+		public synchronized ISchedulingRule getResourcesRule() {
 			IResourceRuleFactory ruleFactory = ResourcesPlugin.getWorkspace().getRuleFactory();
-			rules[0] = ruleFactory.createRule(delta.getResource());
-			rules[1] = openshiftServer.getServer();
-			return MultiRule.combine(rules);
+			Set<IProject> projects = new LinkedHashSet<>();
+			changes.forEach(change -> projects.add(change.getProject()));
+			List<ISchedulingRule> rules = new ArrayList<>();
+			for (IProject project : projects) {
+				rules.add(ruleFactory.createRule(project));
+			}
+			rules.add(openshiftServer.getServer());
+			return MultiRule.combine(rules.toArray(new ISchedulingRule[rules.size()]));
+		}
+
+		public synchronized List<IResource> getChanges() {
+			return new ArrayList<>(changes);
+		}
+
+		/**
+		 * Returns the number of resource deltas that were coalesced into this job.
+		 */
+		public synchronized int getCoalescedDeltas() {
+			return coalescedDeltas;
 		}
 
 		@Override
@@ -214,6 +291,28 @@ public class ResourceChangePublisher implements IResourceChangeListener {
 
 		@Override
 		protected IStatus run(IProgressMonitor monitor) {
+			synchronized (this) {
+				this.started = true;
+			}
+			removePending(this);
+			Trace.debug("Publishing server {0} for {1} changed resource(s) from {2} coalesced delta(s)",
+					openshiftServer.getServer().getName(), getChanges().size(), getCoalescedDeltas());
+
+			// no more changes are coalesced, the rule covers the projects of all of them
+			ISchedulingRule rule = getResourcesRule();
+			IJobManager jobManager = Job.getJobManager();
+			try {
+				jobManager.beginRule(rule, monitor);
+				publish();
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} finally {
+				jobManager.endRule(rule);
+			}
+			return Status.OK_STATUS;
+		}
+
+		private void publish() {
 			IServer server = openshiftServer.getServer();
 			OpenShiftServerBehaviour behaviourDelegate = (OpenShiftServerBehaviour) server
 					.loadAdapter(OpenShiftServerBehaviour.class, new NullProgressMonitor());
@@ -227,15 +326,10 @@ public class ResourceChangePublisher implements IResourceChangeListener {
 				behaviourDelegate.handleResourceChange();
 
 			if (server.getServerState() == IServer.STATE_STARTED)
-				autoPublish(event);
-
-			return Status.OK_STATUS;
+				autoPublish();
 		}
 
-		private void autoPublish(IResourceChangeEvent event) {
-			boolean buildOccurred = event != null && didBuildOccur(event);
-			boolean projectClosedOrDeleted = event != null && isProjectCloseOrDeleteEvent(event);
-
+		private void autoPublish() {
 			int auto = ((Server) openshiftServer.getServer()).getAutoPublishSetting();
 			if (auto == Server.AUTO_PUBLISH_DISABLE)
 				return;
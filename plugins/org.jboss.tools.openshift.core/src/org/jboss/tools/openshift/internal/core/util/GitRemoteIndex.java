@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.core.util;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.apache.commons.lang.StringUtils;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jgit.events.ConfigChangedEvent;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.transport.URIish;
+import org.jboss.tools.openshift.egit.core.EGitUtils;
+import org.jboss.tools.openshift.internal.core.Trace;
+
+/**
+ * An index of the git remotes of the workspace projects. A project is indexed
+ * the first time it's looked up and is kept until the project is added,
+ * removed, opened, closed, touched or its description or .git folder changes,
+ * or until the config of its repository changes. Config changes are reported
+ * by JGit and by the workspace if the config file is within a workspace
+ * project. Looking up the project for a remote then no longer checks the
+ * sharing nor reads the repository config of each project. Remotes match if
+ * they are equal {@link URIish}s.
+ */
+public class GitRemoteIndex {
+
+	private static final Path DOT_GIT = new Path(Constants.DOT_GIT);
+	private static final String CONFIG = "config";
+
+	private final Map<IProject, Entry> entries = new HashMap<>();
+	private final Map<URIish, Set<IProject>> projectsByRemote = new HashMap<>();
+
+	private static class Holder {
+		static GitRemoteIndex instance = new GitRemoteIndex();
+	}
+
+	public static GitRemoteIndex getInstance() {
+		return Holder.instance;
+	}
+
+	private GitRemoteIndex() {
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(new ProjectsListener(),
+				IResourceChangeEvent.POST_CHANGE);
+		Repository.getGlobalListenerList().addConfigChangedListener(this::configChanged);
+	}
+
+	/**
+	 * Returns the first of the given projects that is shared with git and has a
+	 * remote that is equal to the given uri.
+	 *
+	 * @param uri
+	 *            the uri of the remote
+	 * @param projects
+	 *            the projects to look in
+	 * @return the matching project or {@code null}
+	 */
+	public IProject getProjectFor(String uri, List<IProject> projects) {
+		if (StringUtils.isEmpty(uri)
+				|| projects == null) {
+			return null;
+		}
+		URIish remote;
+		try {
+			remote = new URIish(uri);
+		} catch (URISyntaxException e) {
+			return null;
+		}
+		Set<IProject> candidates = getProjectsFor(remote, projects);
+		if (candidates.isEmpty()) {
+			return null;
+		}
+		return projects.stream()
+				.filter(candidates::contains)
+				.findFirst().orElse(null);
+	}
+
+	private synchronized Set<IProject> getProjectsFor(URIish remote, List<IProject> projects) {
+		for (IProject project : projects) {
+			if (!entries.containsKey(project)) {
+				index(project);
+			}
+		}
+		Set<IProject> candidates = projectsByRemote.get(remote);
+		if (candidates == null) {
+			return Collections.emptySet();
+		}
+		return new HashSet<>(candidates);
+	}
+
+	private void index(IProject project) {
+		Entry entry = new Entry();
+		if (EGitUtils.isSharedWithGit(project)) {
+			Repository repository = EGitUtils.getRepository(project);
+			if (repository != null) {
+				entry.directory = repository.getDirectory();
+				entry.config = getWorkspacePath(entry.directory);
+			}
+			try {
+				for (URIish remote : EGitUtils.getAllRemoteURIs(project)) {
+					entry.remotes.add(remote);
+					projectsByRemote.computeIfAbsent(remote, key -> new LinkedHashSet<>()).add(project);
+				}
+			} catch (CoreException e) {
+				Trace.debug("Could not read the git remotes of project {0}", e, project.getName());
+			}
+		}
+		entries.put(project, entry);
+	}
+
+	/**
+	 * Returns the workspace path of the config file in the given repository
+	 * directory or {@code null} if it's not within a workspace project.
+	 */
+	private static IPath getWorkspacePath(File directory) {
+		if (directory == null) {
+			return null;
+		}
+		IFile config = ResourcesPlugin.getWorkspace().getRoot()
+				.getFileForLocation(Path.fromOSString(new File(directory, CONFIG).getAbsolutePath()));
+		if (config == null) {
+			return null;
+		}
+		return config.getFullPath();
+	}
+
+	/**
+	 * Removes the given project from the index. It's indexed again when it's
+	 * looked up the next time.
+	 */
+	public synchronized void remove(IProject project) {
+		Entry entry = entries.remove(project);
+		if (entry == null) {
+			return;
+		}
+		for (URIish remote : entry.remotes) {
+			Set<IProject> projects = projectsByRemote.get(remote);
+			if (projects != null) {
+				projects.remove(project);
+				if (projects.isEmpty()) {
+					projectsByRemote.remove(remote);
+				}
+			}
+		}
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+		projectsByRemote.clear();
+	}
+
+	private void configChanged(ConfigChangedEvent event) {
+		Repository repository = event.getRepository();
+		if (repository == null
+				|| repository.getDirectory() == null) {
+			clear();
+			return;
+		}
+		removeIf(entry -> repository.getDirectory().equals(entry.directory));
+	}
+
+	private synchronized void removeIf(Predicate<Entry> predicate) {
+		List<IProject> projects = new ArrayList<>();
+		entries.forEach((project, entry) -> {
+			if (predicate.test(entry)) {
+				projects.add(project);
+			}
+		});
+		projects.forEach(this::remove);
+	}
+
+	private static class Entry {
+
+		private final Set<URIish> remotes = new HashSet<>();
+		// the git directory of the repository
+		private File directory;
+		// the workspace path of the repository config
+		private IPath config;
+	}
+
+	private class ProjectsListener implements IResourceChangeListener {
+
+		@Override
+		public void resourceChanged(IResourceChangeEvent event) {
+			IResourceDelta delta = event.getDelta();
+			if (delta == null) {
+				return;
+			}
+			for (IResourceDelta projectDelta : delta.getAffectedChildren()) {
+				if (isSharingChange(projectDelta)) {
+					remove(projectDelta.getResource().getProject());
+				}
+			}
+			removeIf(entry -> entry.config != null
+					&& delta.findMember(entry.config) != null);
+		}
+
+		private boolean isSharingChange(IResourceDelta projectDelta) {
+			if (projectDelta.getKind() != IResourceDelta.CHANGED
+					|| (projectDelta.getFlags()
+							& (IResourceDelta.OPEN | IResourceDelta.DESCRIPTION | IResourceDelta.CONTENT)) != 0) {
+				return true;
+			}
+			IResourceDelta git = projectDelta.findMember(DOT_GIT);
+			return git != null
+					&& git.getKind() != IResourceDelta.CHANGED;
+		}
+	}
+}
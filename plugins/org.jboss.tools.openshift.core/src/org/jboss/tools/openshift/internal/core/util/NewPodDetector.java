@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.core.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.jboss.tools.openshift.common.core.connection.ConnectionsRegistryAdapter;
+import org.jboss.tools.openshift.common.core.connection.ConnectionsRegistrySingleton;
+import org.jboss.tools.openshift.common.core.connection.IConnection;
+import org.jboss.tools.openshift.core.connection.Connection;
+import org.jboss.tools.openshift.core.connection.ConnectionsRegistryUtil;
+import org.jboss.tools.openshift.internal.core.WatchManager;
+
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.model.IDeploymentConfig;
+import com.openshift.restclient.model.IPod;
+import com.openshift.restclient.model.IResource;
+
+/**
+ * Detects the new running runtime pod of a deployment config that is being
+ * rolled out. The detection is driven by the resource changes that the watches
+ * fire to the connections registry, no thread polls or waits for it.
+ *
+ * @see NewPodDetectorJob
+ * @see WatchManager
+ */
+public class NewPodDetector {
+
+	private static final String POD_STATE_RUNNING = "Running";
+
+	private NewPodDetector() {
+	}
+
+	/**
+	 * Returns a future that is completed with the first new running runtime pod
+	 * of the given deployment config. The pods that exist when this method is
+	 * called are not new. The future completes exceptionally with a
+	 * {@link java.util.concurrent.TimeoutException} if no new pod showed up within
+	 * the given timeout. Cancelling the future stops the detection.
+	 *
+	 * @param dc
+	 *            the deployment config whose new pod shall be detected
+	 * @param timeout
+	 *            the timeout in milliseconds
+	 * @return the future new pod
+	 */
+	public static CompletableFuture<IPod> detect(IDeploymentConfig dc, long timeout) {
+		CompletableFuture<IPod> future = new CompletableFuture<>();
+		PodListener listener = new PodListener(dc, future);
+		ConnectionsRegistrySingleton.getInstance().addAsyncListener(listener, ResourceUtils::getResourceKey);
+		future.whenComplete((pod, e) -> ConnectionsRegistrySingleton.getInstance().removeListener(listener));
+		try {
+			listener.setOldPods(getOldPods(dc));
+		} catch (RuntimeException e) {
+			future.completeExceptionally(e);
+		}
+		return future.orTimeout(timeout, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Waits for the given future pod. The calling thread blocks until a pod event
+	 * completes the future, the detection times out or the future is cancelled.
+	 * Cancel the future to stop waiting.
+	 *
+	 * @param future
+	 *            the future pod as returned by
+	 *            {@link #detect(IDeploymentConfig, long)}
+	 * @return the new pod
+	 * @throws OperationCanceledException
+	 *             if the future was cancelled
+	 * @throws ExecutionException
+	 *             if the detection failed or timed out, the cause is a
+	 *             {@link java.util.concurrent.TimeoutException} then
+	 * @throws InterruptedException
+	 */
+	public static IPod waitFor(CompletableFuture<IPod> future) throws ExecutionException, InterruptedException {
+		try {
+			return future.get();
+		} catch (CancellationException e) {
+			throw new OperationCanceledException();
+		}
+	}
+
+	/**
+	 * Returns the names of the existing runtime pods of the given deployment
+	 * config. They are taken from the watch of the namespace if there's one, the
+	 * pods are only listed if the namespace is not watched.
+	 */
+	private static Collection<String> getOldPods(IDeploymentConfig dc) {
+		Connection connection = ConnectionsRegistryUtil.getConnectionFor(dc);
+		List<IPod> pods = new ArrayList<>();
+		List<IResource> watched = WatchManager.getInstance().getWatchedResources(connection, dc.getNamespaceName(),
+				ResourceKind.POD);
+		if (watched != null) {
+			watched.stream()
+				.filter(IPod.class::isInstance)
+				.forEach(pod -> pods.add((IPod) pod));
+		} else {
+			pods.addAll(connection.getResources(ResourceKind.POD, dc.getNamespaceName()));
+		}
+		return ResourceUtils.getPodsFor(dc, pods).stream()
+				.filter(ResourceUtils::isRuntimePod)
+				.map(IPod::getName)
+				.collect(Collectors.toList());
+	}
+
+	private static class PodListener extends ConnectionsRegistryAdapter {
+
+		private IDeploymentConfig dc;
+		private final CompletableFuture<IPod> future;
+		private Collection<String> oldPods;
+		// pods that were notified before the old pods were known
+		private final List<IPod> candidates = new ArrayList<>();
+
+		private PodListener(IDeploymentConfig dc, CompletableFuture<IPod> future) {
+			this.dc = dc;
+			this.future = future;
+		}
+
+		synchronized void setOldPods(Collection<String> oldPods) {
+			this.oldPods = oldPods;
+			candidates.stream()
+				.filter(this::isNewRunningRuntimePod)
+				.findFirst()
+				.ifPresent(future::complete);
+			candidates.clear();
+		}
+
+		@Override
+		public synchronized void connectionChanged(IConnection connection, String property, Object oldValue,
+				Object newValue) {
+			if (future.isDone()) {
+				return;
+			}
+			if (newValue instanceof IDeploymentConfig
+					&& dc.equals(newValue)) {
+				// keep the latest version of the deployment config
+				dc = (IDeploymentConfig) newValue;
+			} else if (newValue instanceof IPod) {
+				IPod pod = (IPod) newValue;
+				if (oldPods == null) {
+					candidates.add(pod);
+				} else if (isNewRunningRuntimePod(pod)) {
+					future.complete(pod);
+				}
+			}
+		}
+
+		private boolean isNewRunningRuntimePod(IPod pod) {
+			return ResourceUtils.isRuntimePod(pod)
+					&& !oldPods.contains(pod.getName())
+					&& POD_STATE_RUNNING.equals(pod.getStatus())
+					&& ResourceUtils.areRelated(pod, dc);
+		}
+	}
+}
@@ -10,30 +10,23 @@
  ******************************************************************************/
 package org.jboss.tools.openshift.internal.core.util;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
-import org.jboss.tools.openshift.common.core.connection.ConnectionsRegistryAdapter;
-import org.jboss.tools.openshift.common.core.connection.ConnectionsRegistrySingleton;
-import org.jboss.tools.openshift.common.core.connection.IConnection;
-import org.jboss.tools.openshift.common.core.connection.IConnectionsRegistryListener;
-import org.jboss.tools.openshift.core.connection.Connection;
-import org.jboss.tools.openshift.core.connection.ConnectionsRegistryUtil;
 import org.jboss.tools.openshift.internal.core.OpenShiftCoreActivator;
 
-import com.openshift.restclient.ResourceKind;
 import com.openshift.restclient.model.IDeploymentConfig;
 import com.openshift.restclient.model.IPod;
-import com.openshift.restclient.model.IReplicationController;
 
 /**
  * A job that waits for new pods for a given, updated replication controller to reappear.
+ * Clients that do not need a job should rather use {@link NewPodDetector}.
  *  
  * @author Fred Bricon
  * @author Andre Dietisheim
@@ -46,40 +39,10 @@ public class NewPodDetectorJob extends Job {
 	public static final String DEPLOYMENT_CONFIG_LISTENER_JOB_TIMEOUT_KEY = "deployment.config.listener.job.timeout";
 	//TODO get timeout value from some settings
 	public static final int TIMEOUT = Integer.getInteger(DEPLOYMENT_CONFIG_LISTENER_JOB_TIMEOUT_KEY, 600_000);
-	private static final int SLEEP_DELAY = 100;
-	private static final String POD_STATE_RUNNING = "Running";
 
 	private IDeploymentConfig dc;
 	private IPod pod;
-	private Collection<String> oldPods = Collections.emptySet();
-
-	private IConnectionsRegistryListener connectionsRegistryListener = new ConnectionsRegistryAdapter() {
-		@Override
-		public void connectionChanged(IConnection connection, String property, Object oldValue, Object newValue) {
-			if (pod != null) {
-				// we're done already
-				return;
-			}
-
-			if (newValue instanceof IDeploymentConfig && !dc.equals(oldValue)) {
-				dc = (IDeploymentConfig) newValue;
-				return;
-			}
-
-			if (newValue instanceof IPod) {
-				IPod notifiedPod = (IPod) newValue;
-				if (isNewRunningRuntimePod(notifiedPod)) {
-					// store new & running runtime pod for job to stop waiting
-					pod = notifiedPod;
-				}
-			}
-		}
-
-		private boolean isNewRunningRuntimePod(IPod pod) {
-			return ResourceUtils.isRuntimePod(pod) && !oldPods.contains(pod.getName())
-					&& POD_STATE_RUNNING.equals(pod.getStatus()) && ResourceUtils.areRelated(pod, dc);
-		}
-	};
+	private volatile CompletableFuture<IPod> newPod;
 
 	public NewPodDetectorJob(IDeploymentConfig dc) {
 		super("Waiting for OpenShift Pod redeployment");
@@ -88,33 +51,33 @@ public class NewPodDetectorJob extends Job {
 
 	@Override
 	protected IStatus run(IProgressMonitor monitor) {
-		this.oldPods = getOldPods(dc);
+		this.newPod = NewPodDetector.detect(dc, TIMEOUT);
+		if (monitor.isCanceled()) {
+			newPod.cancel(false);
+		}
 		try {
-			ConnectionsRegistrySingleton.getInstance().addListener(connectionsRegistryListener);
-			waitForNewPod(monitor);
-			return pod == null ? getTimeOutStatus() : Status.OK_STATUS;
-		} finally {
-			ConnectionsRegistrySingleton.getInstance().removeListener(connectionsRegistryListener);
+			this.pod = NewPodDetector.waitFor(newPod);
+			return Status.OK_STATUS;
+		} catch (OperationCanceledException e) {
+			return Status.CANCEL_STATUS;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return Status.CANCEL_STATUS;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof TimeoutException) {
+				return getTimeOutStatus();
+			}
+			return new Status(IStatus.ERROR, OpenShiftCoreActivator.PLUGIN_ID,
+					"Failed to detect new deployed Pod for " + dc.getName(), e.getCause());
 		}
 	}
 
-	private Collection<String> getOldPods(IReplicationController rc) {
-		Connection connection = ConnectionsRegistryUtil.getConnectionFor(rc);
-		List<IPod> allPods = connection.getResources(ResourceKind.POD, rc.getNamespaceName());
-		return ResourceUtils.getPodsFor(rc, allPods).stream().filter(pod -> ResourceUtils.isRuntimePod(pod))
-				.map(p -> p.getName()).collect(Collectors.toList());
-	}
-
-	private void waitForNewPod(IProgressMonitor monitor) {
-		long elapsed = 0;
-		while (pod == null && !monitor.isCanceled() && elapsed < TIMEOUT) {
-			try {
-				Thread.sleep(SLEEP_DELAY);
-				monitor.worked(1);
-				elapsed += SLEEP_DELAY;
-			} catch (InterruptedException e) {
-				// swallow intentionally
-			}
+	@Override
+	protected void canceling() {
+		// wakes up the waiting job
+		CompletableFuture<IPod> newPod = this.newPod;
+		if (newPod != null) {
+			newPod.cancel(false);
 		}
 	}
 
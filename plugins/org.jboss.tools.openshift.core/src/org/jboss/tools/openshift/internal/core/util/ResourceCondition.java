@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.core.util;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.jboss.tools.openshift.common.core.connection.ConnectionsRegistryAdapter;
+import org.jboss.tools.openshift.common.core.connection.ConnectionsRegistrySingleton;
+import org.jboss.tools.openshift.common.core.connection.IConnection;
+import org.jboss.tools.openshift.core.connection.Connection;
+import org.jboss.tools.openshift.internal.core.WatchManager;
+
+import com.openshift.restclient.model.IResource;
+
+/**
+ * A condition on the resources of a namespace that is waited for. The
+ * condition is checked when it's waited for and then again each time the
+ * watches report a change to a resource of the given kinds in the given
+ * namespace. It is also checked every {@link #RECHECK_INTERVAL_KEY}
+ * milliseconds in case a change was missed, or every
+ * {@link #UNWATCHED_RECHECK_INTERVAL_KEY} milliseconds while the namespace is
+ * not watched and no changes are reported.
+ *
+ * @see WatchManager
+ */
+public class ResourceCondition {
+
+	/**
+	 * The interval in milliseconds after which the condition is checked even if
+	 * no change was reported
+	 */
+	public static final String RECHECK_INTERVAL_KEY = "org.jboss.tools.openshift.condition.recheck";
+
+	/**
+	 * The interval in milliseconds after which the condition is checked while
+	 * the kinds are not watched in the namespace
+	 */
+	public static final String UNWATCHED_RECHECK_INTERVAL_KEY = "org.jboss.tools.openshift.condition.recheck.unwatched";
+
+	private static final long DEFAULT_RECHECK_INTERVAL = 15_000;
+	private static final long DEFAULT_UNWATCHED_RECHECK_INTERVAL = 1_000;
+	private static final long CANCEL_CHECK_INTERVAL = 500;
+
+	@FunctionalInterface
+	public interface Check {
+		boolean isMet() throws CoreException;
+	}
+
+	private final Connection connection;
+	private final String namespace;
+	private final Set<String> kinds;
+	private final Check check;
+	private boolean changed;
+
+	/**
+	 * @param connection
+	 *            the connection whose changes are listened to
+	 * @param namespace
+	 *            the namespace whose changes are listened to
+	 * @param check
+	 *            the check that tells if the condition is met
+	 * @param kinds
+	 *            the kinds of resources whose changes are listened to
+	 */
+	public ResourceCondition(Connection connection, String namespace, Check check, String... kinds) {
+		this.connection = connection;
+		this.namespace = namespace;
+		this.check = check;
+		this.kinds = new HashSet<>(Arrays.asList(kinds));
+	}
+
+	/**
+	 * Waits until the condition is met. Returns {@code false} if it wasn't met
+	 * within the given timeout or if the given monitor was cancelled.
+	 *
+	 * @param timeout
+	 *            the timeout in milliseconds
+	 * @param monitor
+	 *            the monitor to check for cancellation
+	 * @return {@code true} if the condition is met
+	 * @throws CoreException
+	 *             if the check failed
+	 */
+	public boolean waitFor(long timeout, IProgressMonitor monitor) throws CoreException {
+		ChangeListener listener = new ChangeListener();
+		// listen before checking, a change while checking then causes a recheck
+		ConnectionsRegistrySingleton.getInstance().addAsyncListener(listener, ResourceUtils::getResourceKey);
+		try {
+			long deadline = System.currentTimeMillis() + timeout;
+			while (!check.isMet()) {
+				if (!awaitChange(deadline, getRecheckInterval(), monitor)) {
+					return false;
+				}
+			}
+			return true;
+		} finally {
+			ConnectionsRegistrySingleton.getInstance().removeListener(listener);
+		}
+	}
+
+	/**
+	 * Returns the interval after which the condition is checked again. It is
+	 * short while a kind is not watched in the namespace since no changes are
+	 * reported then.
+	 */
+	private long getRecheckInterval() {
+		for (String kind : kinds) {
+			if (WatchManager.getInstance().getWatchedResources(connection, namespace, kind) == null) {
+				return Long.getLong(UNWATCHED_RECHECK_INTERVAL_KEY, DEFAULT_UNWATCHED_RECHECK_INTERVAL);
+			}
+		}
+		return Long.getLong(RECHECK_INTERVAL_KEY, DEFAULT_RECHECK_INTERVAL);
+	}
+
+	/**
+	 * Waits for a change or for the recheck interval to elapse. Returns
+	 * {@code false} if the deadline was reached, the monitor was cancelled or
+	 * the thread was interrupted.
+	 */
+	private synchronized boolean awaitChange(long deadline, long recheckInterval, IProgressMonitor monitor) {
+		long recheck = Math.min(deadline, System.currentTimeMillis() + recheckInterval);
+		while (!changed) {
+			long now = System.currentTimeMillis();
+			if (monitor.isCanceled()
+					|| now >= deadline) {
+				return false;
+			}
+			if (now >= recheck) {
+				return true;
+			}
+			try {
+				wait(Math.min(CANCEL_CHECK_INTERVAL, recheck - now));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+		this.changed = false;
+		return true;
+	}
+
+	private synchronized void onChange() {
+		this.changed = true;
+		notifyAll();
+	}
+
+	private boolean isRelevant(IConnection connection, Object resource) {
+		return resource instanceof IResource
+				&& Objects.equals(this.connection, connection)
+				&& kinds.contains(((IResource) resource).getKind())
+				&& Objects.equals(namespace, ((IResource) resource).getNamespaceName());
+	}
+
+	private class ChangeListener extends ConnectionsRegistryAdapter {
+
+		@Override
+		public void connectionChanged(IConnection connection, String property, Object oldValue, Object newValue) {
+			if (isRelevant(connection, newValue)
+					|| isRelevant(connection, oldValue)) {
+				onChange();
+			}
+		}
+	}
+}
@@ -10,7 +10,6 @@
  ******************************************************************************/
 package org.jboss.tools.openshift.internal.core.util;
 
-import java.net.URISyntaxException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -29,7 +28,6 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.jgit.transport.URIish;
 import org.eclipse.osgi.util.NLS;
 import org.jboss.dmr.ModelNode;
 import org.jboss.tools.foundation.core.plugin.log.StatusFactory;
@@ -40,6 +38,7 @@ import org.jboss.tools.openshift.egit.core.EGitUtils;
 import org.jboss.tools.openshift.internal.common.core.util.KeyValueFilterFactory;
 import org.jboss.tools.openshift.internal.common.core.util.KeyValueFilterFactory.KeyValueFilter;
 import org.jboss.tools.openshift.internal.core.OpenShiftCoreActivator;
+import org.jboss.tools.openshift.internal.core.WatchManager;
 
 import com.openshift.restclient.IClient;
 import com.openshift.restclient.ResourceKind;
@@ -74,6 +73,18 @@ public class ResourceUtils {
 	private ResourceUtils() {
 	}
 
+	/**
+	 * Returns a key that identifies the given resource across its versions, or
+	 * {@code null} if the given value is not a resource.
+	 */
+	public static Object getResourceKey(Object value) {
+		if (!(value instanceof IResource)) {
+			return null;
+		}
+		IResource resource = (IResource) value;
+		return resource.getKind() + "/" + resource.getNamespaceName() + "/" + resource.getName();
+	}
+
 	public static IClient getClient(IResource resource) {
 		return resource.accept(new CapabilityVisitor<IClientCapability, IClient>() {
 			@Override
@@ -980,7 +991,8 @@ public class ResourceUtils {
 
 	/**
 	 * Returns git controlled workspace projects that match the uri of the given
-	 * build config.
+	 * build config. The remotes of the workspace projects are looked up in the
+	 * {@link GitRemoteIndex}.
 	 * 
 	 * @param buildConfig
 	 *            the build config whose source git shall be matched
@@ -994,21 +1006,12 @@ public class ResourceUtils {
 	 */
 	public static org.eclipse.core.resources.IProject getWorkspaceProjectFor(IBuildConfig buildConfig,
 			List<org.eclipse.core.resources.IProject> workspaceProjects) {
-		if (workspaceProjects == null || workspaceProjects.isEmpty()) {
+		if (workspaceProjects == null || workspaceProjects.isEmpty()
+				|| buildConfig == null) {
 			return null;
 		}
 
-		return workspaceProjects.stream()
-				// only git shared projects
-				.filter(EGitUtils::isSharedWithGit).filter(project -> {
-					try {
-						if (buildConfig != null && !StringUtils.isEmpty(buildConfig.getSourceURI())) {
-							return EGitUtils.getAllRemoteURIs(project).contains(new URIish(buildConfig.getSourceURI()));
-						}
-					} catch (CoreException | URISyntaxException e) {
-					}
-					return false;
-				}).findFirst().orElseGet(() -> null);
+		return GitRemoteIndex.getInstance().getProjectFor(buildConfig.getSourceURI(), workspaceProjects);
 	}
 
 	public static boolean isSuccessful(IImageStreamImport imageStreamImport) {
@@ -1114,11 +1117,11 @@ public class ResourceUtils {
 		} else {
 			String namespace = service.getNamespaceName();
 			IReplicationController rc = getReplicationControllerFor(service,
-					connection.getResources(ResourceKind.REPLICATION_CONTROLLER, namespace));
+					getWatchedOrListed(ResourceKind.REPLICATION_CONTROLLER, namespace, connection));
 			if (rc == null) {
 				return null;
 			}
-			List<IPod> allPods = connection.getResources(ResourceKind.POD, namespace);
+			List<IPod> allPods = getWatchedOrListed(ResourceKind.POD, namespace, connection);
 			List<IPod> pods = allPods.stream().filter(pod -> areRelated((IPod) pod, rc)).collect(Collectors.toList());
 			if (CollectionUtils.isEmpty(pods)) {
 				return null;
@@ -1141,6 +1144,21 @@ public class ResourceUtils {
 		}
 	}
 
+	/**
+	 * Returns the resources of the given kind in the given namespace. They are
+	 * taken from the watch of the namespace if there's one, they are only listed
+	 * if the namespace is not watched.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <R extends IResource> List<R> getWatchedOrListed(String kind, String namespace,
+			Connection connection) {
+		List<IResource> watched = WatchManager.getInstance().getWatchedResources(connection, namespace, kind);
+		if (watched != null) {
+			return (List<R>) (List<?>) watched;
+		}
+		return connection.getResources(kind, namespace);
+	}
+
 	private static IDeploymentConfig getDeploymentConfigByName(String dcName, IResource resource,
 			Connection connection) {
 		if (StringUtils.isBlank(dcName) || resource == null) {
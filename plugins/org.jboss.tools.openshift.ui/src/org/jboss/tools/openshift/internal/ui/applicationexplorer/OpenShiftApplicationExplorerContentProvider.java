@@ -13,6 +13,9 @@ package org.jboss.tools.openshift.internal.ui.applicationexplorer;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.runtime.IStatus;
@@ -20,6 +23,7 @@ import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.StructuredViewer;
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.jface.viewers.ViewerComparator;
+import org.jboss.tools.openshift.internal.common.ui.explorer.BaseExplorerContentProvider.LoadingStub;
 import org.jboss.tools.openshift.internal.ui.OpenShiftUIActivator;
 import org.jboss.tools.openshift.internal.ui.models.IElementListener;
 import org.jboss.tools.openshift.internal.ui.models.IOpenshiftUIElement;
@@ -45,15 +49,35 @@ import io.fabric8.kubernetes.client.KubernetesClientException;
 public class OpenShiftApplicationExplorerContentProvider extends ViewerComparator
 		implements ITreeContentProvider, IElementListener {
 
+	/**
+	 * Children are loaded synchronously in the UI thread if set to {@code true}
+	 */
+	public static final String SYNCHRONOUS_KEY = "org.jboss.tools.openshift.applicationexplorer.synchronous";
+	public static final String LOAD_THREADS_KEY = "org.jboss.tools.openshift.applicationexplorer.load.threads";
+	private static final int DEFAULT_LOAD_THREADS = 4;
+	private static final ExecutorService LOAD_EXECUTOR = createLoadExecutor();
+
 	private ApplicationExplorerUIModel model;
 	private StructuredViewer viewer;
+	private final boolean deferred;
 
 	public OpenShiftApplicationExplorerContentProvider() {
-		this(ApplicationExplorerUIModel.getInstance());
+		this(ApplicationExplorerUIModel.getInstance(), !Boolean.getBoolean(SYNCHRONOUS_KEY));
 	}
 
 	protected OpenShiftApplicationExplorerContentProvider(ApplicationExplorerUIModel model) {
+		this(model, false);
+	}
+
+	/**
+	 * @param model
+	 * @param deferred
+	 *            if {@code true} a pending node is returned for children that
+	 *            are not cached while they are loaded in the background.
+	 */
+	protected OpenShiftApplicationExplorerContentProvider(ApplicationExplorerUIModel model, boolean deferred) {
 		this.model = model;
+		this.deferred = deferred;
 		model.addListener(this);
 	}
 
@@ -68,6 +92,18 @@ public class OpenShiftApplicationExplorerContentProvider extends ViewerComparato
 		}
 	}
 
+	private void refreshViewerAsync(Object element) {
+		if (viewer == null
+				|| viewer.getControl().isDisposed()) {
+			return;
+		}
+		viewer.getControl().getDisplay().asyncExec(() -> {
+			if (!viewer.getControl().isDisposed()) {
+				viewer.refresh(element);
+			}
+		});
+	}
+
 	@Override
 	public void elementChanged(IOpenshiftUIElement<?, ?, ?> element) {
 		refreshViewer(element);
@@ -88,6 +124,29 @@ public class OpenShiftApplicationExplorerContentProvider extends ViewerComparato
 
 	@Override
 	public Object[] getChildren(Object parentElement) {
+		if (!deferred
+				|| !hasChildren(parentElement)) {
+			return loadChildren(parentElement);
+		}
+		Object[] children = model.getCache().getIfPresent(parentElement);
+		if (children != null) {
+			return children;
+		}
+		model.getCache().get(parentElement, () -> safeLoadChildren(parentElement), LOAD_EXECUTOR)
+				.thenRun(() -> refreshViewerAsync(parentElement));
+		return new Object[] { new LoadingStub() };
+	}
+
+	private Object[] safeLoadChildren(Object parentElement) {
+		try {
+			return loadChildren(parentElement);
+		} catch (RuntimeException e) {
+			OpenShiftUIActivator.log(IStatus.ERROR, e.getLocalizedMessage(), e);
+			return new Object[] { "Can't list children" };
+		}
+	}
+
+	private Object[] loadChildren(Object parentElement) {
 		if (parentElement instanceof ApplicationExplorerUIModel) {
 			return getNamespaces((ApplicationExplorerUIModel) parentElement);
 		} else if (parentElement instanceof NamespaceElement) {
@@ -211,4 +270,13 @@ public class OpenShiftApplicationExplorerContentProvider extends ViewerComparato
 		return 0;
 	}
 
+	private static ExecutorService createLoadExecutor() {
+		AtomicInteger threads = new AtomicInteger();
+		return Executors.newFixedThreadPool(Integer.getInteger(LOAD_THREADS_KEY, DEFAULT_LOAD_THREADS), runnable -> {
+			Thread thread = new Thread(runnable, "OpenShift Application Explorer Loader " + threads.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
 }
@@ -31,6 +31,7 @@ import org.jboss.tools.openshift.core.ICommonAttributes;
 import org.jboss.tools.openshift.core.OpenShiftAPIAnnotations;
 import org.jboss.tools.openshift.core.connection.Connection;
 import org.jboss.tools.openshift.internal.common.core.job.AbstractDelegatingMonitorJob;
+import org.jboss.tools.openshift.internal.core.CatalogCache;
 import org.jboss.tools.openshift.internal.core.Trace;
 import org.jboss.tools.openshift.internal.core.docker.DockerImageUtils;
 import org.jboss.tools.openshift.internal.ui.OpenShiftUIActivator;
@@ -264,9 +265,7 @@ public class DeployImageJob extends AbstractDelegatingMonitorJob implements IRes
 		IImageStream is = findImageStreamFor(project.getName(), imageUri);
 		if (is == null) {
 			//get openshift is - check
-			if (StringUtils.isNotBlank(getParameters().getConnection().getClusterNamespace())) {
-				is = findImageStreamFor((String) getParameters().getConnection().getClusterNamespace(), imageUri);
-			}
+			is = findCatalogImageStreamFor(imageUri);
 
 			//check if cluster will be able to pull image
 			if (is == null && isImageVisibleByOpenShift(project, imageUri)) {
@@ -285,15 +284,28 @@ public class DeployImageJob extends AbstractDelegatingMonitorJob implements IRes
 		Connection connection = parameters.getConnection();
 		try {
 			List<IImageStream> streams = connection.getResources(ResourceKind.IMAGE_STREAM, namespace);
-			return streams.stream().filter(is -> is.getDockerImageRepository() != null
-					&& is.getDockerImageRepository().getUriUserNameAndName().equals(uri.getUriUserNameAndName()))
-					.findFirst().orElse(null);
+			return findImageStreamFor(streams, uri);
+		} catch (OpenShiftException e) {
+			OpenShiftUIActivator.log(IStatus.ERROR, e.getLocalizedMessage(), e);
+			return null;
+		}
+	}
+
+	private IImageStream findCatalogImageStreamFor(DockerImageURI uri) {
+		try {
+			return findImageStreamFor(CatalogCache.getInstance().getImageStreams(parameters.getConnection()), uri);
 		} catch (OpenShiftException e) {
 			OpenShiftUIActivator.log(IStatus.ERROR, e.getLocalizedMessage(), e);
 			return null;
 		}
 	}
 
+	private IImageStream findImageStreamFor(List<IImageStream> streams, DockerImageURI uri) {
+		return streams.stream().filter(is -> is.getDockerImageRepository() != null
+				&& is.getDockerImageRepository().getUriUserNameAndName().equals(uri.getUriUserNameAndName()))
+				.findFirst().orElse(null);
+	}
+
 	/**
 	 * Determine if the image is visible by the cluser.  Will use
 	 * to create an imagestream ref it.
@@ -12,8 +12,8 @@ package org.jboss.tools.openshift.internal.ui.job;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -28,6 +28,8 @@ import org.jboss.tools.openshift.core.connection.ConnectionsRegistryUtil;
 import org.jboss.tools.openshift.internal.common.core.job.AbstractDelegatingMonitorJob;
 import org.jboss.tools.openshift.internal.common.ui.console.ConsoleUtils;
 import org.jboss.tools.openshift.internal.core.ocbinary.OCBinaryOperation;
+import org.jboss.tools.openshift.internal.core.podlogs.PodLogStream;
+import org.jboss.tools.openshift.internal.core.podlogs.PodLogStream.LogSource;
 import org.jboss.tools.openshift.internal.ui.OpenShiftUIActivator;
 
 import com.openshift.restclient.OpenShiftException;
@@ -45,7 +47,7 @@ public class PodLogsJob extends AbstractDelegatingMonitorJob {
 
 	private static final String DOCUMENT_IS_CLOSED = "Document is closed";
 
-	private static final Map<Key, ConsoleStreamPipe> REGISTRY = new HashMap<>();
+	private static final Map<Key, LogPipe> REGISTRY = new ConcurrentHashMap<>();
 
 	private final Key key;
 
@@ -61,11 +63,15 @@ public class PodLogsJob extends AbstractDelegatingMonitorJob {
 			if (REGISTRY.containsKey(key)) {
 				showConsole();
 			} else {
-				ConsoleStreamPipe pipe = key.pod.accept(new CapabilityVisitor<IPodLogRetrieval, ConsoleStreamPipe>() {
+				LogPipe pipe = key.pod.accept(new CapabilityVisitor<IPodLogRetrieval, LogPipe>() {
 
 					@Override
-					public ConsoleStreamPipe visit(final IPodLogRetrieval capability) {
+					public LogPipe visit(final IPodLogRetrieval capability) {
 						Connection connection = ConnectionsRegistryUtil.getConnectionFor(key.pod);
+						LogSource source = PodLogStream.createSource(connection, key.pod, key.container);
+						if (source != null) {
+							return new StreamPipe(source);
+						}
 						ConsoleStreamPipe consoleStream = new ConsoleStreamPipe(capability, connection);
 						new Thread(consoleStream).start();
 						return consoleStream;
@@ -135,7 +141,35 @@ public class PodLogsJob extends AbstractDelegatingMonitorJob {
 
 	}
 
-	private class ConsoleStreamPipe extends OCBinaryOperation implements Runnable {
+	private interface LogPipe {
+		void stop();
+	}
+
+	/**
+	 * Streams the log from the log endpoint of the cluster to the console.
+	 */
+	private class StreamPipe implements LogPipe {
+
+		private final PodLogStream stream;
+
+		StreamPipe(LogSource source) {
+			ConsoleUtils.registerConsoleListener(new ConsoleListener(this));
+			final MessageConsoleStream os = showConsole().newMessageStream();
+			os.setEncoding("UTF-8");
+			this.stream = new PodLogStream(source, os);
+			stream.start();
+		}
+
+		@Override
+		public void stop() {
+			stream.stop();
+		}
+	}
+
+	/**
+	 * Streams the log that the oc binary prints to the console.
+	 */
+	private class ConsoleStreamPipe extends OCBinaryOperation implements Runnable, LogPipe {
 
 		private IPodLogRetrieval capability;
 		private boolean running = true;
@@ -146,6 +180,7 @@ public class PodLogsJob extends AbstractDelegatingMonitorJob {
 			this.connection = connection;
 		}
 
+		@Override
 		public void stop() {
 			this.running = false;
 			capability.stop();
@@ -225,9 +260,9 @@ public class PodLogsJob extends AbstractDelegatingMonitorJob {
 
 	private class ConsoleListener implements IConsoleListener {
 
-		private ConsoleStreamPipe pipe;
+		private LogPipe pipe;
 
-		protected ConsoleListener(ConsoleStreamPipe pipe) {
+		protected ConsoleListener(LogPipe pipe) {
 			this.pipe = pipe;
 		}
 
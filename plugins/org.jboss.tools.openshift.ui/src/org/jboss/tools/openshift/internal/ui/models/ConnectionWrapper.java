@@ -14,13 +14,21 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
@@ -31,6 +39,7 @@ import org.jboss.tools.openshift.internal.core.WatchManager;
 import org.jboss.tools.openshift.internal.core.util.ResourceUtils;
 import org.jboss.tools.openshift.internal.ui.OpenShiftUIActivator;
 
+import com.openshift.restclient.OpenShiftException;
 import com.openshift.restclient.ResourceKind;
 import com.openshift.restclient.model.IProject;
 import com.openshift.restclient.model.IResource;
@@ -54,6 +63,11 @@ public class ConnectionWrapper extends AbstractOpenshiftUIElement<IOpenShiftConn
 			ResourceKind.PROJECT 
 			};
 
+	public static final String LOAD_THREADS_KEY = "org.jboss.tools.openshift.explorer.load.threads";
+	private static final int DEFAULT_LOAD_THREADS = 6;
+	private static final long LOAD_POLL_INTERVAL = 200;
+	private static final ExecutorService LOAD_EXECUTOR = createLoadExecutor();
+
 	private AtomicReference<LoadingState> state = new AtomicReference<>(LoadingState.INIT);
 	private Map<String, ProjectWrapper> projects = new HashMap<>();
 	private ResourceCache resourceCache = new ResourceCache();
@@ -117,14 +131,9 @@ public class ConnectionWrapper extends AbstractOpenshiftUIElement<IOpenShiftConn
 				try {
 					IProject project = projectWrapper.getWrapped();
 					IOpenShiftConnection connection = projectWrapper.getParent().getWrapped();
+					resourceCache.setVisible(project.getNamespaceName(), true);
 					WatchManager.getInstance().startWatch(project, connection);
-					Collection<IResource> resources = new HashSet<>();
-					for (String kind : RESOURCE_KINDS) {
-						resources.addAll(getWrapped().getResources(kind, project.getNamespaceName()));
-					}
-					resources.forEach(r -> resourceCache.add(r));
-					projectWrapper.initWithResources(resources);
-					projectWrapper.fireChanged();
+					loadResources(projectWrapper, false, monitor);
 				} catch (OperationCanceledException e) {
 					projectWrapper.setLoadingState(LoadingState.LOAD_STOPPED);
 				} catch (Throwable e) {
@@ -222,6 +231,7 @@ public class ConnectionWrapper extends AbstractOpenshiftUIElement<IOpenShiftConn
 				}
 			}
 			if (!oldWrappers.isEmpty()) {
+				oldWrappers.keySet().forEach(name -> resourceCache.setVisible(name, false));
 				changed = true;
 			}
 		}
@@ -237,9 +247,8 @@ public class ConnectionWrapper extends AbstractOpenshiftUIElement<IOpenShiftConn
 
 	protected void handleAdd(ProjectWrapper projectWrapper, IResource newResource) {
 		resourceCache.add(newResource);
-		Collection<IResource> resources = resourceCache.getResources(newResource.getProject().getNamespaceName());
 		// relying in IResource#equals() definition
-		projectWrapper.updateWithResources(resources);
+		projectWrapper.updateWithResource(newResource);
 	}
 
 	protected void handleRemove(ProjectWrapper projectWrapper, IResource oldResource) {
@@ -248,20 +257,19 @@ public class ConnectionWrapper extends AbstractOpenshiftUIElement<IOpenShiftConn
 			synchronized (projects) {
 				projects.remove(oldResource.getName());
 				resourceCache.flush(oldResource.getName());
+				resourceCache.setVisible(oldResource.getName(), false);
 				fireChanged();
 			}
 		} else if (projectWrapper != null) {
-			Collection<IResource> resources = resourceCache.getResources(oldResource.getNamespaceName());
-			projectWrapper.updateWithResources(resources);
+			projectWrapper.removeResource(oldResource);
 		}
 	}
 
 	protected void handleUpdate(ProjectWrapper projectWrapper, IResource newResource) {
 		resourceCache.remove(newResource);
 		resourceCache.add(newResource);
-		Collection<IResource> resources = resourceCache.getResources(newResource.getNamespaceName());
 		// relying in IResource#equals() definition
-		projectWrapper.updateWithResources(resources);
+		projectWrapper.updateWithResource(newResource);
 	}
 
 	@Override
@@ -284,12 +292,82 @@ public class ConnectionWrapper extends AbstractOpenshiftUIElement<IOpenShiftConn
 		IOpenShiftConnection connection = projectWrapper.getParent().getWrapped();
 		WatchManager.getInstance().stopWatch(project, connection);
 		WatchManager.getInstance().startWatch(project, connection);
-		Collection<IResource> resources = new HashSet<>();
+		loadResources(projectWrapper, true, new NullProgressMonitor());
+	}
+
+	/**
+	 * Lists the resources of all {@link #RESOURCE_KINDS} in the given project
+	 * concurrently and merges the resources of each kind into the project as soon
+	 * as they arrive. Only the wrappers of the arrived kind are touched, the
+	 * resources of the kinds that did not arrive yet are kept as they are.
+	 * 
+	 * @param projectWrapper
+	 *            the project to load the resources of
+	 * @param removeStale
+	 *            whether the resources of the arrived kinds that were not listed
+	 *            should be removed from the project
+	 * @param monitor
+	 *            the monitor that the loading is cancelled with
+	 * @throws OperationCanceledException
+	 *             if the monitor was cancelled
+	 */
+	private void loadResources(ProjectWrapper projectWrapper, boolean removeStale, IProgressMonitor monitor) {
+		String namespace = projectWrapper.getWrapped().getNamespaceName();
+		CompletionService<Collection<IResource>> completion = new ExecutorCompletionService<>(LOAD_EXECUTOR);
+		List<Future<Collection<IResource>>> pending = new ArrayList<>();
+		Map<Future<Collection<IResource>>, String> kinds = new HashMap<>();
 		for (String kind : RESOURCE_KINDS) {
-			resources.addAll(getWrapped().getResources(kind, project.getNamespaceName()));
+			Future<Collection<IResource>> future = completion.submit(() -> getWrapped().getResources(kind, namespace));
+			pending.add(future);
+			kinds.put(future, kind);
 		}
-		resources.forEach(r -> resourceCache.add(r));
-		projectWrapper.updateWithResources(resources);
+		try {
+			while (!pending.isEmpty()) {
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				Future<Collection<IResource>> done = completion.poll(LOAD_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+				if (done == null) {
+					continue;
+				}
+				pending.remove(done);
+				Collection<IResource> resources = done.get();
+				resources.forEach(r -> resourceCache.add(r));
+				publishResources(projectWrapper, kinds.get(done), resources, removeStale);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new OpenShiftException(cause, "Could not load the resources of project {0}", namespace);
+		} finally {
+			pending.forEach(future -> future.cancel(true));
+		}
+	}
+
+	private void publishResources(ProjectWrapper projectWrapper, String kind, Collection<IResource> resources,
+			boolean removeStale) {
+		if (projectWrapper.getState() != LoadingState.LOADED) {
+			projectWrapper.initWithResources(new ArrayList<>(resources));
+			projectWrapper.fireChanged();
+		} else {
+			projectWrapper.updateWithResourcesOfKind(kind, new ArrayList<>(resources), removeStale);
+		}
+	}
+
+	private static ExecutorService createLoadExecutor() {
+		AtomicInteger threads = new AtomicInteger();
+		return Executors.newFixedThreadPool(Integer.getInteger(LOAD_THREADS_KEY, DEFAULT_LOAD_THREADS), runnable -> {
+			Thread thread = new Thread(runnable, "OpenShift Explorer Loader " + threads.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
 	}
 
 }
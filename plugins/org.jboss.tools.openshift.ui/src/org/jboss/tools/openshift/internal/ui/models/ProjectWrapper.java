@@ -11,7 +11,9 @@
 package org.jboss.tools.openshift.internal.ui.models;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.jboss.tools.openshift.core.OpenShiftAPIAnnotations;
@@ -25,6 +27,7 @@ import com.openshift.restclient.model.IService;
 
 public class ProjectWrapper extends ResourceContainer<IProject, ConnectionWrapper> implements IProjectWrapper {
 	private AtomicReference<LoadingState> state = new AtomicReference<LoadingState>(LoadingState.INIT);
+	private volatile ResourceRelationIndex relationIndex = new ResourceRelationIndex();
 
 	public ProjectWrapper(ConnectionWrapper parent, IProject resource) {
 		super(parent, resource);
@@ -56,40 +59,182 @@ public class ProjectWrapper extends ResourceContainer<IProject, ConnectionWrappe
 				if (wrapper instanceof ServiceWrapper) {
 					ServiceWrapper service = (ServiceWrapper) wrapper;
 					Collection<IResource> relatedResources = ServiceResourceMapper
-							.computeRelatedResources(service.getWrapped(), resources);
+							.computeRelatedResources(service.getWrapped(), relationIndex);
 					service.updateWithResources(relatedResources);
 				} else if (wrapper instanceof ReplicationControllerWrapper) {
 					ReplicationControllerWrapper dcWrapper = (ReplicationControllerWrapper) wrapper;
-					Collection<IResource> relatedresources = getRelatedResources(resources, wrapper);
+					Collection<IResource> relatedresources = getRelatedResources(wrapper);
 					dcWrapper.updateWithResources(relatedresources);
 				}
 			});
 		}
 	}
 
-	private Collection<IResource> getRelatedResources(Collection<IResource> resources, IResourceWrapper<?, ?> wrapper) {
+	@Override
+	void updateWithResources(Collection<IResource> resources) {
+		this.relationIndex = new ResourceRelationIndex(resources);
+		super.updateWithResources(resources);
+		recreateMisplacedWrappers();
+	}
+
+	/**
+	 * Applies the listed resources of a single kind to this project. The relation
+	 * index is updated with the resources of this kind only instead of being
+	 * rebuilt for all the resources of the project.
+	 */
+	@Override
+	void updateWithResourcesOfKind(String kind, Collection<IResource> resources, boolean removeStale) {
+		if (removeStale) {
+			Set<IResource> listed = new HashSet<>(resources);
+			getWrappedResources().stream()
+					.filter(r -> kind.equals(r.getKind())
+							&& !listed.contains(r))
+					.forEach(relationIndex::remove);
+		}
+		resources.forEach(relationIndex::add);
+		super.updateWithResourcesOfKind(kind, resources, removeStale);
+		if (mayChangeTopLevel(kind)) {
+			recreateMisplacedWrappers();
+		}
+	}
+
+	/**
+	 * Applies a single added or updated resource to this project. Only the
+	 * services, deployment configs and replication controllers that the resource
+	 * may relate to get their related resources recomputed.
+	 * 
+	 * @param resource
+	 *            the resource that was added or updated
+	 */
+	@Override
+	void updateWithResource(IResource resource) {
+		relationIndex.add(resource);
+		super.updateWithResource(resource);
+		updateRelatedResources(resource);
+		if (mayChangeTopLevel(resource.getKind())) {
+			recreateMisplacedWrappers();
+		}
+	}
+
+	/**
+	 * Removes a single resource from this project. Only the services, deployment
+	 * configs and replication controllers that the resource was or may be
+	 * related to get their related resources recomputed.
+	 * 
+	 * @param resource
+	 *            the resource that was removed
+	 */
+	@Override
+	void removeResource(IResource resource) {
+		relationIndex.remove(resource);
+		super.removeResource(resource);
+		updateRelatedResources(resource);
+		if (mayChangeTopLevel(resource.getKind())) {
+			recreateMisplacedWrappers();
+		}
+	}
+
+	/**
+	 * Returns {@code true} if resources of the given kind may decide whether a
+	 * deployment config or replication controller is shown at the top level of
+	 * the project or below its services.
+	 */
+	private static boolean mayChangeTopLevel(String kind) {
+		return ResourceKind.SERVICE.equals(kind)
+				|| ResourceKind.DEPLOYMENT_CONFIG.equals(kind)
+				|| ResourceKind.REPLICATION_CONTROLLER.equals(kind);
+	}
+
+	/**
+	 * Recreates the wrappers of the deployment configs and replication
+	 * controllers that are shown at the top level although they now have a
+	 * service or vice versa. The kinds of a project are loaded in any order, the
+	 * services may thus be loaded after the deployment configs and replication
+	 * controllers that they relate to.
+	 */
+	private void recreateMisplacedWrappers() {
+		recreateWrappers(wrapper -> {
+			IResource r = wrapper.getWrapped();
+			return isReplicationController(r)
+					&& (wrapper instanceof ReplicationControllerWrapper) != isTopLevel(r);
+		});
+	}
+
+	private static boolean isReplicationController(IResource r) {
+		return ResourceKind.DEPLOYMENT_CONFIG.equals(r.getKind())
+				|| ResourceKind.REPLICATION_CONTROLLER.equals(r.getKind());
+	}
+
+	/**
+	 * Returns {@code true} if the given resource is a deployment config or a
+	 * replication controller that was not deployed by a deployment config and has
+	 * no service.
+	 */
+	private boolean isTopLevel(IResource r) {
+		return (ResourceKind.DEPLOYMENT_CONFIG.equals(r.getKind())
+				|| (ResourceKind.REPLICATION_CONTROLLER.equals(r.getKind())
+						&& !r.isAnnotatedWith(OpenShiftAPIAnnotations.DEPLOYMENT_CONFIG_NAME)))
+				&& ServiceResourceMapper.getServices((IReplicationController) r, relationIndex).isEmpty();
+	}
+
+	private void updateRelatedResources(IResource resource) {
+		for (IResourceWrapper<?, ?> wrapper : super.getResources()) {
+			if (!(wrapper instanceof ResourceContainer)
+					|| !isAffectedBy((ResourceContainer<?, ?>) wrapper, resource)) {
+				continue;
+			}
+			if (wrapper instanceof ServiceWrapper) {
+				ServiceWrapper service = (ServiceWrapper) wrapper;
+				service.updateWithResources(
+						ServiceResourceMapper.computeRelatedResources(service.getWrapped(), relationIndex));
+			} else if (wrapper instanceof ReplicationControllerWrapper) {
+				((ReplicationControllerWrapper) wrapper).updateWithResources(getRelatedResources(wrapper));
+			}
+		}
+	}
+
+	private boolean isAffectedBy(ResourceContainer<?, ?> container, IResource resource) {
+		if (container.contains(resource)) {
+			return true;
+		}
+		IResource wrapped = container.getWrapped();
+		if (wrapped instanceof IService) {
+			return ServiceResourceMapper.mayAffectRelatedResources((IService) wrapped,
+					container.getWrappedResources(), resource);
+		} else if (wrapped instanceof IDeploymentConfig) {
+			return ServiceResourceMapper.mayAffectRelatedResources((IDeploymentConfig) wrapped,
+					container.getWrappedResources(), resource);
+		} else if (wrapped instanceof IReplicationController) {
+			return ServiceResourceMapper.mayAffectRelatedResources((IReplicationController) wrapped, resource);
+		}
+		return false;
+	}
+
+	private Collection<IResource> getRelatedResources(IResourceWrapper<?, ?> wrapper) {
 		Collection<IResource> relatedresources = (ResourceKind.DEPLOYMENT_CONFIG.equals(wrapper.getWrapped().getKind()))
-				? ServiceResourceMapper.computeRelatedResources((IDeploymentConfig) wrapper.getWrapped(), resources)
+				? ServiceResourceMapper.computeRelatedResources((IDeploymentConfig) wrapper.getWrapped(), relationIndex)
 				: ServiceResourceMapper.computeRelatedResources((IReplicationController) wrapper.getWrapped(),
-						resources);
+						relationIndex);
 		return relatedresources;
 	}
 
+	/**
+	 * Creates the wrapper for the given resource. The related resources are
+	 * looked up in the relation index of this project, which contains the given
+	 * resources.
+	 */
 	@Override
 	protected AbstractResourceWrapper<?, ?> createNewWrapper(Collection<IResource> resources, IResource r) {
 		AbstractResourceWrapper<?, ?> newWrapper;
 		if (r instanceof IService) {
 			ServiceWrapper newService = new ServiceWrapper(ProjectWrapper.this, (IService) r);
 			Collection<IResource> relatedResources = ServiceResourceMapper.computeRelatedResources((IService) r,
-					resources);
+					relationIndex);
 			newService.initWithResources(relatedResources);
 			newWrapper = newService;
-		} else if ((ResourceKind.DEPLOYMENT_CONFIG.equals(r.getKind())
-				|| (ResourceKind.REPLICATION_CONTROLLER.equals(r.getKind())
-						&& !r.isAnnotatedWith(OpenShiftAPIAnnotations.DEPLOYMENT_CONFIG_NAME)))
-				&& ServiceResourceMapper.getServices((IReplicationController) r, resources).isEmpty()) {
+		} else if (isTopLevel(r)) {
 			ReplicationControllerWrapper dcWrapper = new ReplicationControllerWrapper(this, (IReplicationController) r);
-			Collection<IResource> relatedResource = getRelatedResources(resources, dcWrapper);
+			Collection<IResource> relatedResource = getRelatedResources(dcWrapper);
 			dcWrapper.initWithResources(relatedResource);
 			newWrapper = dcWrapper;
 		} else {
@@ -100,6 +245,7 @@ public class ProjectWrapper extends ResourceContainer<IProject, ConnectionWrappe
 
 	@Override
 	void initWithResources(Collection<IResource> resources) {
+		this.relationIndex = new ResourceRelationIndex(resources);
 		super.initWithResources(resources);
 		state.set(LoadingState.LOADED);
 	}
@@ -13,117 +13,139 @@ package org.jboss.tools.openshift.internal.ui.models;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jboss.tools.openshift.internal.core.Trace;
 
 import com.openshift.restclient.model.IResource;
 
-class ResourceCache {
-	private Map<String, Map<String, IResource>> cache = new HashMap<String, Map<String, IResource>>();
+/**
+ * A cache of resources keyed by namespace, kind and name. Reads do not lock,
+ * writes only lock the namespace that they modify. Namespaces that are not
+ * visible (whose project was not loaded in the explorer) are evicted in least
+ * recently used order once there are more than
+ * {@link #MAX_INACTIVE_NAMESPACES_KEY} of them.
+ */
+public class ResourceCache {
+
+	public static final String MAX_INACTIVE_NAMESPACES_KEY = "org.jboss.tools.openshift.explorer.cache.maxInactiveNamespaces";
+	private static final int DEFAULT_MAX_INACTIVE_NAMESPACES = 10;
+
+	private final Map<String, NamespaceCache> cache = new ConcurrentHashMap<>();
+	private final Set<String> visibleNamespaces = ConcurrentHashMap.newKeySet();
+	private final AtomicLong clock = new AtomicLong();
+	private final int maxInactiveNamespaces;
+
+	public ResourceCache() {
+		this(Integer.getInteger(MAX_INACTIVE_NAMESPACES_KEY, DEFAULT_MAX_INACTIVE_NAMESPACES));
+	}
+
+	public ResourceCache(int maxInactiveNamespaces) {
+		this.maxInactiveNamespaces = maxInactiveNamespaces;
+	}
 
 	public void dispose() {
 		flush();
+		visibleNamespaces.clear();
 	}
 
 	public void flush() {
-		synchronized (cache) {
-			cache.clear();
-		}
+		cache.clear();
 	}
 
 	public void flush(String namespace) {
-		synchronized (cache) {
-			cache.remove(namespace);
-		}
+		cache.remove(keyOf(namespace));
 	}
 
 	/**
-	 * Key for caching an object
-	 * 
-	 * @param resource
-	 * @return
+	 * Marks the given namespace as visible or not. Visible namespaces are never
+	 * evicted, namespaces that are not visible anymore may be evicted.
+	 *
+	 * @param namespace
+	 * @param visible
 	 */
-	private String getCacheKey(IResource resource) {
-		return getCacheKey(resource.getKind(), resource.getName());
+	public void setVisible(String namespace, boolean visible) {
+		if (visible) {
+			visibleNamespaces.add(keyOf(namespace));
+		} else {
+			visibleNamespaces.remove(keyOf(namespace));
+			evictInactive();
+		}
 	}
 
-	private String getCacheKey(String kind, String name) {
-		return kind + "/" + name;
+	public boolean isVisible(String namespace) {
+		return visibleNamespaces.contains(keyOf(namespace));
 	}
 
 	@SuppressWarnings("unchecked")
 	public <T extends IResource> T getResource(String namespace, String kind, String name) {
-		synchronized (cache) {
-			Map<String, IResource> projectResources = cache.get(namespace);
-			if (projectResources != null) {
-				return (T) projectResources.get(getCacheKey(kind, name));
-			}
+		NamespaceCache namespaceCache = getNamespaceCache(namespace);
+		if (namespaceCache == null) {
 			return null;
 		}
+		Map<String, IResource> resources = namespaceCache.byKind.get(keyOf(kind));
+		if (resources == null) {
+			return null;
+		}
+		return (T) resources.get(keyOf(name));
 	}
 
 	@SuppressWarnings("unchecked")
 	public <T extends IResource> Collection<T> getResources(String namespace, String kind) {
-		synchronized (cache) {
-
-			Map<String, IResource> projectResources = cache.get(namespace);
-			if (projectResources != null) {
-				return projectResources.values().stream().filter(r -> kind.equals(r.getKind())).map(r -> (T) r)
-						.collect(Collectors.toList());
-			}
+		NamespaceCache namespaceCache = getNamespaceCache(namespace);
+		if (namespaceCache == null) {
+			return Collections.emptyList();
+		}
+		Map<String, IResource> resources = namespaceCache.byKind.get(keyOf(kind));
+		if (resources == null) {
 			return Collections.emptyList();
 		}
+		return new ArrayList<>((Collection<T>) resources.values());
 	}
 
 	@SuppressWarnings("unchecked")
 	public <T extends IResource> Collection<T> getResources(String namespace) {
-		synchronized (cache) {
-			Map<String, IResource> projectResources = cache.get(namespace);
-			if (projectResources != null) {
-				return new ArrayList<T>((Collection<T>) projectResources.values());
-			}
+		NamespaceCache namespaceCache = getNamespaceCache(namespace);
+		if (namespaceCache == null) {
 			return Collections.emptyList();
 		}
+		List<T> result = new ArrayList<>();
+		for (Map<String, IResource> resources : namespaceCache.byKind.values()) {
+			result.addAll((Collection<T>) resources.values());
+		}
+		return result;
 	}
 
 	/**
-	 * 
+	 *
 	 * @param resource
 	 * @return true if cached; false otherwise
 	 */
 	public boolean add(IResource resource) {
 		if (resource == null)
 			return false;
-		synchronized (cache) {
-			if (getCachedVersion(resource) != null) {
-				Trace.debug("-->Returning early since already processed {0}", resource);
-				return false;
-			}
-			putIntoCache(resource);
-		}
-		return true;
-	}
-
-	private void removeFromCache(IResource resource) {
-		Map<String, IResource> projectResources = cache.get(getNamespace(resource));
-		if (projectResources != null) {
-			projectResources.remove(getCacheKey(resource));
-			if (projectResources.isEmpty()) {
-				cache.remove(getNamespace(resource));
+		boolean[] added = { false };
+		cache.compute(keyOf(getNamespace(resource)), (namespace, namespaceCache) -> {
+			if (namespaceCache == null) {
+				namespaceCache = new NamespaceCache();
 			}
+			added[0] = namespaceCache.putIfAbsent(resource) == null;
+			namespaceCache.touch(clock.incrementAndGet());
+			return namespaceCache;
+		});
+		if (!added[0]) {
+			Trace.debug("-->Returning early since already processed {0}", resource);
+			return false;
 		}
-	}
-
-	private void putIntoCache(IResource resource) {
-		Map<String, IResource> projectResources = cache.get(getNamespace(resource));
-		if (projectResources == null) {
-			projectResources = new HashMap<String, IResource>();
-			cache.put(getNamespace(resource), projectResources);
+		if (!isVisible(getNamespace(resource))) {
+			evictInactive();
 		}
-		projectResources.put(getCacheKey(resource), resource);
+		return true;
 	}
 
 	public String getNamespace(IResource resource) {
@@ -135,41 +157,151 @@ class ResourceCache {
 	}
 
 	/**
-	 * 
+	 *
 	 * @param resource
 	 * @return true if removed; false otherwise
 	 */
 	public boolean remove(IResource resource) {
 		if (resource == null)
 			return false;
-		synchronized (cache) {
-			removeFromCache(resource);
-		}
+		cache.computeIfPresent(keyOf(getNamespace(resource)), (namespace, namespaceCache) -> {
+			namespaceCache.remove(resource);
+			if (namespaceCache.isEmpty()) {
+				return null;
+			}
+			return namespaceCache;
+		});
 		return true;
-
 	}
 
 	/**
-	 * 
+	 *
 	 * @param resource
 	 * @return true if updated; false otherwise
 	 */
 	public boolean update(IResource resource) {
 		if (resource == null)
 			return false;
-		synchronized (cache) {
-			if (isUpToDate(resource)) {
-				Trace.debug("-->Returning early since already have this change: {0}", resource);
-				return false;
+		boolean[] updated = { false };
+		cache.compute(keyOf(getNamespace(resource)), (namespace, namespaceCache) -> {
+			if (namespaceCache == null) {
+				namespaceCache = new NamespaceCache();
 			}
-			putIntoCache(resource);
+			if (!isUpToDate(namespaceCache.get(resource), resource)) {
+				namespaceCache.put(resource);
+				updated[0] = true;
+			}
+			namespaceCache.touch(clock.incrementAndGet());
+			return namespaceCache;
+		});
+		if (!updated[0]) {
+			Trace.debug("-->Returning early since already have this change: {0}", resource);
+			return false;
 		}
 		return true;
 	}
 
 	public boolean isUpToDate(IResource resource) {
-		IResource cachedVersion = getCachedVersion(resource);
+		return isUpToDate(getCachedVersion(resource), resource);
+	}
+
+	private boolean isUpToDate(IResource cachedVersion, IResource resource) {
 		return cachedVersion != null && Integer.parseInt(cachedVersion.getResourceVersion()) >= Integer
 				.parseInt(resource.getResourceVersion());
 	}
+
+	/**
+	 * Concurrent maps do not allow {@code null} keys, resources without
+	 * namespace, kind or name are cached with an empty key instead.
+	 */
+	private static String keyOf(String value) {
+		if (value == null) {
+			return "";
+		}
+		return value;
+	}
+
+	private NamespaceCache getNamespaceCache(String namespace) {
+		NamespaceCache namespaceCache = cache.get(keyOf(namespace));
+		if (namespaceCache != null) {
+			namespaceCache.touch(clock.incrementAndGet());
+		}
+		return namespaceCache;
+	}
+
+	/**
+	 * Evicts the least recently used namespaces that are not visible until there
+	 * are no more than the allowed number of them.
+	 */
+	private void evictInactive() {
+		while (true) {
+			int inactive = 0;
+			String leastRecentlyUsed = null;
+			long leastRecentAccess = Long.MAX_VALUE;
+			for (Entry<String, NamespaceCache> entry : cache.entrySet()) {
+				if (isVisible(entry.getKey())) {
+					continue;
+				}
+				inactive++;
+				long lastAccess = entry.getValue().lastAccess;
+				if (lastAccess < leastRecentAccess) {
+					leastRecentAccess = lastAccess;
+					leastRecentlyUsed = entry.getKey();
+				}
+			}
+			if (inactive <= maxInactiveNamespaces
+					|| leastRecentlyUsed == null) {
+				return;
+			}
+			Trace.debug("-->Evicting cached resources of inactive namespace {0}", leastRecentlyUsed);
+			cache.remove(leastRecentlyUsed);
+		}
+	}
+
+	/**
+	 * The resources of a single namespace keyed by kind and name. Modified within
+	 * {@link ConcurrentHashMap#compute} of the namespace only, read without
+	 * locking.
+	 */
+	private static class NamespaceCache {
+
+		private final Map<String, Map<String, IResource>> byKind = new ConcurrentHashMap<>();
+		private volatile long lastAccess;
+
+		IResource get(IResource resource) {
+			Map<String, IResource> resources = byKind.get(keyOf(resource.getKind()));
+			if (resources == null) {
+				return null;
+			}
+			return resources.get(keyOf(resource.getName()));
+		}
+
+		IResource put(IResource resource) {
+			return byKind.computeIfAbsent(keyOf(resource.getKind()), kind -> new ConcurrentHashMap<>())
+					.put(keyOf(resource.getName()), resource);
+		}
+
+		IResource putIfAbsent(IResource resource) {
+			return byKind.computeIfAbsent(keyOf(resource.getKind()), kind -> new ConcurrentHashMap<>())
+					.putIfAbsent(keyOf(resource.getName()), resource);
+		}
+
+		void remove(IResource resource) {
+			Map<String, IResource> resources = byKind.get(keyOf(resource.getKind()));
+			if (resources != null) {
+				resources.remove(keyOf(resource.getName()));
+				if (resources.isEmpty()) {
+					byKind.remove(keyOf(resource.getKind()));
+				}
+			}
+		}
+
+		boolean isEmpty() {
+			return byKind.isEmpty();
+		}
+
+		void touch(long time) {
+			this.lastAccess = time;
+		}
+	}
 }
@@ -12,8 +12,13 @@ package org.jboss.tools.openshift.internal.ui.models;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import com.openshift.restclient.model.IResource;
@@ -82,6 +87,134 @@ abstract class ResourceContainer<R extends IResource, P extends AbstractOpenshif
 		postUpdate(resources, updated, changed);
 	}
 
+	/**
+	 * Adds or updates the wrappers of the given resources of the given kind and
+	 * removes the children of this kind that are not among the given resources
+	 * if requested. The children of the other kinds are not touched.
+	 *
+	 * @param kind
+	 *            the kind of the given resources
+	 * @param resources
+	 *            the resources of the given kind
+	 * @param removeStale
+	 *            whether the children of the given kind that are not among the
+	 *            given resources should be removed
+	 */
+	void updateWithResourcesOfKind(String kind, Collection<IResource> resources, boolean removeStale) {
+		Map<IResource, AbstractResourceWrapper<?, ?>> updated = new HashMap<>();
+		boolean changed = false;
+		synchronized (childrenLock) {
+			if (removeStale) {
+				Set<IResource> listed = new HashSet<>(resources);
+				for (Iterator<IResource> it = containedResources.keySet().iterator(); it.hasNext();) {
+					IResource r = it.next();
+					if (kind.equals(r.getKind())
+							&& !listed.contains(r)) {
+						it.remove();
+						changed = true;
+					}
+				}
+			}
+			for (IResource r : resources) {
+				AbstractResourceWrapper<?, ?> existingWrapper = containedResources.remove(r);
+				if (existingWrapper == null) {
+					containedResources.put(r, createNewWrapper(resources, r));
+					changed = true;
+				} else {
+					containedResources.put(r, existingWrapper);
+					updated.put(r, existingWrapper);
+				}
+			}
+		}
+
+		if (changed) {
+			fireChanged();
+		}
+		updated.forEach((r, wrapper) -> wrapper.updateWith(r));
+		postUpdate(resources, updated, changed);
+	}
+
+	/**
+	 * Adds the given resource or updates the wrapper of the given resource if it
+	 * already is a child of this container. The other children are not touched.
+	 * 
+	 * @param r
+	 *            the resource that was added or updated
+	 */
+	void updateWithResource(IResource r) {
+		AbstractResourceWrapper<?, ?> existingWrapper;
+		synchronized (childrenLock) {
+			existingWrapper = containedResources.remove(r);
+			if (existingWrapper == null) {
+				containedResources.put(r, createNewWrapper(Collections.singleton(r), r));
+			} else {
+				containedResources.put(r, existingWrapper);
+			}
+		}
+		if (existingWrapper == null) {
+			fireChanged();
+		} else {
+			existingWrapper.updateWith(r);
+		}
+	}
+
+	/**
+	 * Removes the wrapper of the given resource if it is a child of this
+	 * container. The other children are not touched.
+	 * 
+	 * @param r
+	 *            the resource that was removed
+	 */
+	void removeResource(IResource r) {
+		boolean changed;
+		synchronized (childrenLock) {
+			changed = containedResources.remove(r) != null;
+		}
+		if (changed) {
+			fireChanged();
+		}
+	}
+
+	/**
+	 * Replaces the wrappers of the children that the given predicate selects by
+	 * new wrappers. This allows a child to get another kind of wrapper once the
+	 * resources it relates to changed.
+	 * 
+	 * @param outdated
+	 *            selects the wrappers that need to be recreated
+	 * @return true if a wrapper was recreated, false otherwise
+	 */
+	boolean recreateWrappers(Predicate<AbstractResourceWrapper<?, ?>> outdated) {
+		boolean changed = false;
+		synchronized (childrenLock) {
+			for (Map.Entry<IResource, AbstractResourceWrapper<?, ?>> entry : containedResources.entrySet()) {
+				if (outdated.test(entry.getValue())) {
+					IResource r = entry.getValue().getWrapped();
+					entry.setValue(createNewWrapper(Collections.singleton(r), r));
+					changed = true;
+				}
+			}
+		}
+		if (changed) {
+			fireChanged();
+		}
+		return changed;
+	}
+
+	boolean contains(IResource r) {
+		synchronized (childrenLock) {
+			return containedResources.containsKey(r);
+		}
+	}
+
+	Collection<IResource> getWrappedResources() {
+		synchronized (childrenLock) {
+			return containedResources.values().stream()
+					.map(wrapper -> (IResource) wrapper.getWrapped())
+					.collect(Collectors.toList());
+		}
+	}
+
 	void initWithResources(Collection<IResource> resources) {
 		synchronized (childrenLock) {
 			resources.forEach(r -> {
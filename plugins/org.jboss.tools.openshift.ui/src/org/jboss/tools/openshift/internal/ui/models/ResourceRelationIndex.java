@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.ui.models;
+
+import static org.jboss.tools.openshift.internal.core.util.ResourceUtils.imageRef;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.jboss.tools.openshift.core.OpenShiftAPIAnnotations;
+import org.jboss.tools.openshift.internal.core.util.ResourceUtils;
+
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.model.IBuild;
+import com.openshift.restclient.model.IBuildConfig;
+import com.openshift.restclient.model.IPod;
+import com.openshift.restclient.model.IReplicationController;
+import com.openshift.restclient.model.IResource;
+import com.openshift.restclient.model.route.IRoute;
+
+/**
+ * An index over the resources of a project that allows to look up the
+ * resources that {@link ServiceResourceMapper} relates to each other without
+ * scanning all the resources of the project. The index is maintained
+ * incrementally with {@link #add(IResource)} and {@link #remove(IResource)}.
+ * <p>
+ * Indexed are
+ * <ul>
+ * <li>the resources by kind and name</li>
+ * <li>the labels of pods and the replica selectors of replication controllers
+ * and deployment configs as inverted {@code key=value} index</li>
+ * <li>the {@link OpenShiftAPIAnnotations#DEPLOYMENT_CONFIG_NAME},
+ * {@link OpenShiftAPIAnnotations#DEPLOYMENT_NAME} and
+ * {@link OpenShiftAPIAnnotations#BUILD_NAME} annotations</li>
+ * <li>the {@link OpenShiftAPIAnnotations#BUILD_CONFIG_NAME} label of
+ * builds</li>
+ * <li>the output image references of builds and build configs and the
+ * service names of routes</li>
+ * </ul>
+ *
+ * @see ServiceResourceMapper
+ */
+public class ResourceRelationIndex {
+
+	private static final String[] INDEXED_ANNOTATIONS = { OpenShiftAPIAnnotations.DEPLOYMENT_CONFIG_NAME,
+			OpenShiftAPIAnnotations.DEPLOYMENT_NAME, OpenShiftAPIAnnotations.BUILD_NAME };
+
+	private final Map<String, Map<String, IResource>> byKind = new HashMap<>();
+	private final Map<String, Map<String, Set<IResource>>> byLabel = new HashMap<>();
+	private final Map<String, Map<String, Set<IResource>>> byAnnotation = new HashMap<>();
+	private final Map<String, Set<IResource>> buildsByBuildConfig = new HashMap<>();
+	private final Map<String, Set<IResource>> byImageRef = new HashMap<>();
+	private final Map<String, Set<IResource>> routesByService = new HashMap<>();
+
+	public ResourceRelationIndex() {
+	}
+
+	public ResourceRelationIndex(Collection<IResource> resources) {
+		resources.forEach(this::add);
+	}
+
+	/**
+	 * Adds the given resource to this index. A resource of the same kind and name
+	 * that is already indexed is replaced.
+	 *
+	 * @param resource
+	 */
+	public synchronized void add(IResource resource) {
+		if (resource == null || resource.getKind() == null || resource.getName() == null) {
+			return;
+		}
+		IResource previous = byKind.computeIfAbsent(resource.getKind(), k -> new HashMap<>())
+				.put(resource.getName(), resource);
+		if (previous != null) {
+			unindex(previous);
+		}
+		index(resource);
+	}
+
+	/**
+	 * Removes the resource with the kind and name of the given resource from this
+	 * index.
+	 *
+	 * @param resource
+	 */
+	public synchronized void remove(IResource resource) {
+		if (resource == null || resource.getKind() == null || resource.getName() == null) {
+			return;
+		}
+		Map<String, IResource> resources = byKind.get(resource.getKind());
+		if (resources == null) {
+			return;
+		}
+		IResource previous = resources.remove(resource.getName());
+		if (previous != null) {
+			unindex(previous);
+		}
+	}
+
+	public synchronized IResource get(String kind, String name) {
+		Map<String, IResource> resources = byKind.get(kind);
+		if (resources == null || name == null) {
+			return null;
+		}
+		return resources.get(name);
+	}
+
+	public synchronized Collection<IResource> getResources(String kind) {
+		Map<String, IResource> resources = byKind.get(kind);
+		if (resources == null) {
+			return Collections.emptyList();
+		}
+		return new ArrayList<>(resources.values());
+	}
+
+	/**
+	 * Returns the resources of the given kind whose labels (pods) or replica
+	 * selector (replication controllers, deployment configs) contain all the
+	 * entries of the given selector. Matches
+	 * {@link ResourceUtils#containsAll(Map, Map)} with the given selector as
+	 * source.
+	 *
+	 * @param kind
+	 * @param selector
+	 * @return the matching resources
+	 */
+	public synchronized Collection<IResource> getMatching(String kind, Map<String, String> selector) {
+		if (selector == null) {
+			return Collections.emptyList();
+		}
+		if (selector.isEmpty()) {
+			// only resources with empty (but not null) labels match an empty selector
+			List<IResource> result = new ArrayList<>();
+			for (IResource resource : getResources(kind)) {
+				if (ResourceUtils.containsAll(selector, getLabels(resource))) {
+					result.add(resource);
+				}
+			}
+			return result;
+		}
+		Map<String, Set<IResource>> labels = byLabel.get(kind);
+		if (labels == null) {
+			return Collections.emptyList();
+		}
+		Set<IResource> smallest = null;
+		for (Entry<String, String> entry : selector.entrySet()) {
+			Set<IResource> candidates = labels.get(toLabelKey(entry.getKey(), entry.getValue()));
+			if (candidates == null) {
+				return Collections.emptyList();
+			}
+			if (smallest == null || candidates.size() < smallest.size()) {
+				smallest = candidates;
+			}
+		}
+		List<IResource> result = new ArrayList<>(smallest.size());
+		for (IResource resource : smallest) {
+			if (ResourceUtils.containsAll(selector, getLabels(resource))) {
+				result.add(resource);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the resources (of any kind) that have the given value for the given
+	 * annotation. Only {@link OpenShiftAPIAnnotations#DEPLOYMENT_CONFIG_NAME},
+	 * {@link OpenShiftAPIAnnotations#DEPLOYMENT_NAME} and
+	 * {@link OpenShiftAPIAnnotations#BUILD_NAME} are indexed.
+	 *
+	 * @param annotation
+	 * @param value
+	 * @return the annotated resources
+	 */
+	public synchronized Collection<IResource> getAnnotatedWith(String annotation, String value) {
+		return copy(byAnnotation.getOrDefault(annotation, Collections.emptyMap()).get(value));
+	}
+
+	/**
+	 * Returns the builds that are labeled with the given build config name.
+	 *
+	 * @param buildConfigName
+	 * @return the builds of the given build config
+	 */
+	public synchronized Collection<IResource> getBuildsFor(String buildConfigName) {
+		return copy(buildsByBuildConfig.get(buildConfigName));
+	}
+
+	/**
+	 * Returns the builds and build configs whose output is the given image
+	 * reference.
+	 *
+	 * @param imageRef
+	 * @return the builds and build configs for the given image
+	 */
+	public synchronized Collection<IResource> getBuildResourcesFor(String imageRef) {
+		return copy(byImageRef.get(imageRef));
+	}
+
+	public synchronized Collection<IResource> getRoutesFor(String serviceName) {
+		return copy(routesByService.get(serviceName));
+	}
+
+	public synchronized int size() {
+		return byKind.values().stream().mapToInt(Map::size).sum();
+	}
+
+	private void index(IResource resource) {
+		String kind = resource.getKind();
+		for (Entry<String, String> label : getIndexedLabels(resource).entrySet()) {
+			addTo(byLabel.computeIfAbsent(kind, k -> new HashMap<>()), toLabelKey(label.getKey(), label.getValue()),
+					resource);
+		}
+		for (String annotation : INDEXED_ANNOTATIONS) {
+			String value = resource.getAnnotation(annotation);
+			if (value != null) {
+				addTo(byAnnotation.computeIfAbsent(annotation, k -> new HashMap<>()), value, resource);
+			}
+		}
+		if (resource instanceof IBuild) {
+			addTo(buildsByBuildConfig, getBuildConfigName(resource), resource);
+			addTo(byImageRef, imageRef((IBuild) resource), resource);
+		} else if (resource instanceof IBuildConfig) {
+			addTo(byImageRef, imageRef((IBuildConfig) resource), resource);
+		} else if (resource instanceof IRoute) {
+			addTo(routesByService, ((IRoute) resource).getServiceName(), resource);
+		}
+	}
+
+	private void unindex(IResource resource) {
+		String kind = resource.getKind();
+		Map<String, Set<IResource>> labels = byLabel.get(kind);
+		if (labels != null) {
+			for (Entry<String, String> label : getIndexedLabels(resource).entrySet()) {
+				removeFrom(labels, toLabelKey(label.getKey(), label.getValue()), resource);
+			}
+		}
+		for (String annotation : INDEXED_ANNOTATIONS) {
+			Map<String, Set<IResource>> annotated = byAnnotation.get(annotation);
+			String value = resource.getAnnotation(annotation);
+			if (annotated != null && value != null) {
+				removeFrom(annotated, value, resource);
+			}
+		}
+		if (resource instanceof IBuild) {
+			removeFrom(buildsByBuildConfig, getBuildConfigName(resource), resource);
+			removeFrom(byImageRef, imageRef((IBuild) resource), resource);
+		} else if (resource instanceof IBuildConfig) {
+			removeFrom(byImageRef, imageRef((IBuildConfig) resource), resource);
+		} else if (resource instanceof IRoute) {
+			removeFrom(routesByService, ((IRoute) resource).getServiceName(), resource);
+		}
+	}
+
+	private static Map<String, String> getIndexedLabels(IResource resource) {
+		Map<String, String> labels = getLabels(resource);
+		if (labels == null) {
+			return Collections.emptyMap();
+		}
+		return labels;
+	}
+
+	/**
+	 * Returns the labels (pods) or the replica selector (replication controllers,
+	 * deployment configs) of the given resource as is, {@code null} included, so
+	 * that they're matched exactly like {@link ServiceResourceMapper} does.
+	 */
+	private static Map<String, String> getLabels(IResource resource) {
+		if (resource instanceof IPod) {
+			return resource.getLabels();
+		} else if (ResourceKind.REPLICATION_CONTROLLER.equals(resource.getKind())
+				|| ResourceKind.DEPLOYMENT_CONFIG.equals(resource.getKind())) {
+			return ((IReplicationController) resource).getReplicaSelector();
+		}
+		return null;
+	}
+
+	private static String getBuildConfigName(IResource build) {
+		Map<String, String> labels = build.getLabels();
+		if (labels == null) {
+			return null;
+		}
+		return labels.get(OpenShiftAPIAnnotations.BUILD_CONFIG_NAME);
+	}
+
+	private static String toLabelKey(String key, String value) {
+		return key + "=" + value;
+	}
+
+	private static void addTo(Map<String, Set<IResource>> index, String key, IResource resource) {
+		if (key == null) {
+			return;
+		}
+		index.computeIfAbsent(key, k -> new HashSet<>()).add(resource);
+	}
+
+	private static void removeFrom(Map<String, Set<IResource>> index, String key, IResource resource) {
+		if (key == null) {
+			return;
+		}
+		Set<IResource> resources = index.get(key);
+		if (resources != null) {
+			resources.remove(resource);
+			if (resources.isEmpty()) {
+				index.remove(key);
+			}
+		}
+	}
+
+	private static Collection<IResource> copy(Set<IResource> resources) {
+		if (resources == null) {
+			return Collections.emptyList();
+		}
+		return new ArrayList<>(resources);
+	}
+}
@@ -16,8 +16,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.apache.commons.lang.StringUtils;
 import org.jboss.tools.openshift.core.OpenShiftAPIAnnotations;
 import org.jboss.tools.openshift.internal.core.util.ResourceUtils;
 
@@ -78,6 +80,102 @@ public class ServiceResourceMapper {
 		return pods;
 	}
 
+	/**
+	 * Returns the resources that are related to the given service. Same as
+	 * {@link #computeRelatedResources(IService, Collection)} but looks the
+	 * resources up in the given index instead of scanning all resources.
+	 */
+	public static final Collection<IResource> computeRelatedResources(IService s, ResourceRelationIndex index) {
+		Collection<IResource> result = new HashSet<>();
+		index.getMatching(ResourceKind.POD, s.getSelector()).forEach(pod -> {
+			result.add(pod);
+			result.addAll(getRelatedReplicationControllers(index, Collections.singleton(pod)));
+		});
+		index.getMatching(ResourceKind.DEPLOYMENT_CONFIG, s.getSelector()).forEach(dc -> {
+			result.add(dc);
+			result.addAll(getRelated(index, (IDeploymentConfig) dc));
+		});
+		if (!StringUtils.isEmpty(s.getName())) {
+			result.addAll(index.getRoutesFor(s.getName()));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the resources that are related to the given deployment config. Same
+	 * as {@link #computeRelatedResources(IDeploymentConfig, Collection)} but looks
+	 * the resources up in the given index instead of scanning all resources.
+	 */
+	public static final Collection<IResource> computeRelatedResources(IDeploymentConfig dc,
+			ResourceRelationIndex index) {
+		return getRelated(index, dc);
+	}
+
+	/**
+	 * Returns the pods that are related to the given replication controller. Same
+	 * as {@link #computeRelatedResources(IReplicationController, Collection)} but
+	 * looks the pods up in the given index instead of scanning all resources.
+	 */
+	public static final Collection<IResource> computeRelatedResources(IReplicationController rc,
+			ResourceRelationIndex index) {
+		return new ArrayList<>(index.getMatching(ResourceKind.POD, rc.getReplicaSelector()));
+	}
+
+	private static Collection<IResource> getRelated(ResourceRelationIndex index, IDeploymentConfig dc) {
+		Collection<IResource> result = new HashSet<>();
+
+		Collection<String> dcImageRefs = computeImageRefs(dc);
+
+		Collection<String> bcNames = new HashSet<>();
+		Collection<IResource> builds = new HashSet<>();
+		for (String imageRef : dcImageRefs) {
+			IResource imageTag = index.get(ResourceKind.IMAGE_STREAM_TAG, imageRef);
+			if (imageTag != null) {
+				result.add(imageTag);
+			}
+			for (IResource buildResource : index.getBuildResourcesFor(imageRef)) {
+				if (buildResource instanceof IBuildConfig) {
+					result.add(buildResource);
+					bcNames.add(buildResource.getName());
+				} else if (buildResource instanceof IBuild) {
+					builds.add(buildResource);
+				}
+			}
+		}
+		bcNames.forEach(name -> builds.addAll(index.getBuildsFor(name)));
+		result.addAll(builds);
+
+		Collection<IPod> pods = new HashSet<>();
+		builds.forEach(build -> addPods(index.getAnnotatedWith(OpenShiftAPIAnnotations.BUILD_NAME, build.getName()),
+				pods));
+		Collection<IResource> dcAnnotated = index.getAnnotatedWith(OpenShiftAPIAnnotations.DEPLOYMENT_CONFIG_NAME,
+				dc.getName());
+		addPods(dcAnnotated, pods);
+		result.addAll(pods);
+		result.addAll(getRelatedReplicationControllers(index, pods));
+		result.addAll(dcAnnotated);
+		return result;
+	}
+
+	private static void addPods(Collection<IResource> resources, Collection<IPod> pods) {
+		resources.stream()
+				.filter(IPod.class::isInstance)
+				.forEach(r -> pods.add((IPod) r));
+	}
+
+	private static Collection<IResource> getRelatedReplicationControllers(ResourceRelationIndex index,
+			Collection<? extends IResource> pods) {
+		Collection<IResource> result = new HashSet<>();
+		pods.forEach(pod -> {
+			IResource rc = index.get(ResourceKind.REPLICATION_CONTROLLER,
+					pod.getAnnotation(OpenShiftAPIAnnotations.DEPLOYMENT_NAME));
+			if (rc != null) {
+				result.add(rc);
+			}
+		});
+		return result;
+	}
+
 	private static Collection<IResource> getRelated(Collection<IResource> resources, IPod resource) {
 		return getRelatedReplicationControllers(resources, Collections.singleton(resource));
 	}
@@ -191,9 +289,121 @@ public class ServiceResourceMapper {
 		return imageRefs;
 	}
 
+	/**
+	 * Returns {@code true} if the given (added, updated or removed) resource may
+	 * change the resources that are related to the given service. The check only
+	 * looks at the given service, the resources that are currently related to it
+	 * and the given resource, it does not scan the project.
+	 * 
+	 * @param s
+	 *            the service
+	 * @param related
+	 *            the resources that are currently related to the service
+	 * @param resource
+	 *            the resource that changed
+	 * @return true if the related resources of the service need to be recomputed
+	 */
+	public static boolean mayAffectRelatedResources(IService s, Collection<IResource> related, IResource resource) {
+		if (isSameResource(s, resource)) {
+			return true;
+		} else if (resource instanceof IPod && ResourceUtils.areRelated((IPod) resource, s)) {
+			return true;
+		} else if (resource instanceof IDeploymentConfig && ResourceUtils.areRelated((IDeploymentConfig) resource, s)) {
+			return true;
+		} else if (resource instanceof IRoute && ResourceUtils.areRelated((IRoute) resource, s)) {
+			return true;
+		} else if (ResourceKind.REPLICATION_CONTROLLER.equals(resource.getKind())
+				&& getDeploymentNames(related).contains(resource.getName())) {
+			return true;
+		}
+		return related.stream()
+				.filter(IDeploymentConfig.class::isInstance)
+				.anyMatch(dc -> mayAffectRelatedResources((IDeploymentConfig) dc, related, resource));
+	}
+
+	/**
+	 * Returns {@code true} if the given (added, updated or removed) resource may
+	 * change the resources that are related to the given deployment config.
+	 * 
+	 * @param dc
+	 *            the deployment config
+	 * @param related
+	 *            the resources that are currently related to the deployment
+	 *            config
+	 * @param resource
+	 *            the resource that changed
+	 * @return true if the related resources of the deployment config need to be
+	 *         recomputed
+	 */
+	public static boolean mayAffectRelatedResources(IDeploymentConfig dc, Collection<IResource> related,
+			IResource resource) {
+		if (isSameResource(dc, resource)) {
+			return true;
+		}
+		Collection<String> dcImageRefs = computeImageRefs(dc);
+		if (resource instanceof IPod) {
+			return dc.getName().equals(resource.getAnnotation(OpenShiftAPIAnnotations.DEPLOYMENT_CONFIG_NAME))
+					|| getNamesOfKind(related, ResourceKind.BUILD)
+							.contains(resource.getAnnotation(OpenShiftAPIAnnotations.BUILD_NAME));
+		} else if (ResourceKind.REPLICATION_CONTROLLER.equals(resource.getKind())) {
+			return dc.getName().equals(resource.getAnnotation(OpenShiftAPIAnnotations.DEPLOYMENT_CONFIG_NAME))
+					|| getDeploymentNames(related).contains(resource.getName());
+		} else if (resource instanceof IBuild) {
+			return getNamesOfKind(related, ResourceKind.BUILD_CONFIG)
+					.contains(resource.getLabels().get(OpenShiftAPIAnnotations.BUILD_CONFIG_NAME))
+					|| dcImageRefs.contains(imageRef((IBuild) resource));
+		} else if (resource instanceof IBuildConfig) {
+			return dcImageRefs.contains(imageRef((IBuildConfig) resource));
+		} else if (ResourceKind.IMAGE_STREAM_TAG.equals(resource.getKind())) {
+			return dcImageRefs.contains(resource.getName());
+		}
+		return false;
+	}
+
+	/**
+	 * Returns {@code true} if the given (added, updated or removed) resource may
+	 * change the pods that are related to the given replication controller.
+	 * 
+	 * @param rc
+	 *            the replication controller
+	 * @param resource
+	 *            the resource that changed
+	 * @return true if the related pods of the replication controller need to be
+	 *         recomputed
+	 */
+	public static boolean mayAffectRelatedResources(IReplicationController rc, IResource resource) {
+		return isSameResource(rc, resource)
+				|| (resource instanceof IPod && ResourceUtils.areRelated((IPod) resource, rc));
+	}
+
+	private static boolean isSameResource(IResource resource, IResource other) {
+		return Objects.equals(resource.getKind(), other.getKind())
+				&& resource.getName() != null
+				&& resource.getName().equals(other.getName());
+	}
+
+	private static Collection<String> getNamesOfKind(Collection<IResource> resources, String kind) {
+		return resources.stream()
+				.filter(r -> kind.equals(r.getKind()))
+				.map(IResource::getName)
+				.collect(Collectors.toSet());
+	}
+
+	private static Collection<String> getDeploymentNames(Collection<IResource> resources) {
+		return resources.stream()
+				.filter(IPod.class::isInstance)
+				.map(r -> r.getAnnotation(OpenShiftAPIAnnotations.DEPLOYMENT_NAME))
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+	}
+
 	public static Collection<IResource> getServices(IReplicationController rc, Collection<IResource> resources) {
 		return resources.stream().filter(r -> ResourceKind.SERVICE.equals(r.getKind()))
 				.filter(s -> ResourceUtils.areRelated(rc, (IService) s)).collect(Collectors.toList());
 	}
 
+	public static Collection<IResource> getServices(IReplicationController rc, ResourceRelationIndex index) {
+		return getServices(rc, index.getResources(ResourceKind.SERVICE));
+	}
+
 }
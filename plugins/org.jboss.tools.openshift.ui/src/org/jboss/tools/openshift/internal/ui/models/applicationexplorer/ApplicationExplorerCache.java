@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.ui.models.applicationexplorer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.jboss.tools.openshift.core.odo.Component;
+import org.jboss.tools.openshift.core.odo.ComponentType;
+import org.jboss.tools.openshift.core.odo.DevfileRegistry;
+import org.jboss.tools.openshift.internal.ui.models.AbstractOpenshiftUIElement;
+
+/**
+ * Caches the children of the elements in the application explorer. Elements
+ * are bound to their namespace or devfile registry, so are their cached
+ * children. Children are loaded once and then kept until they expire or are
+ * invalidated, which happens when the model is refreshed. The children are
+ * cached by the kinds and names of the element and its parents since the
+ * elements are recreated whenever the children of their parent are loaded.
+ * Expired children are dropped whenever children are loaded.
+ *
+ * @see ApplicationExplorerUIModel#refresh()
+ */
+public class ApplicationExplorerCache {
+
+	public static final String TTL_KEY = "org.jboss.tools.openshift.applicationexplorer.cache.ttl";
+	private static final long DEFAULT_TTL = 60_000;
+
+	private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+	private final long ttl;
+
+	public ApplicationExplorerCache() {
+		this(Long.getLong(TTL_KEY, DEFAULT_TTL));
+	}
+
+	/* for testing purposes */
+	protected ApplicationExplorerCache(long ttl) {
+		this.ttl = ttl;
+	}
+
+	/**
+	 * Returns the children of the given element if they are loaded and did not
+	 * expire yet, {@code null} otherwise.
+	 *
+	 * @param element
+	 * @return the cached children or {@code null}
+	 */
+	public Object[] getIfPresent(Object element) {
+		Entry entry = entries.get(keyOf(element));
+		if (entry == null
+				|| entry.isExpired(now())
+				|| !entry.children.isDone()
+				|| entry.children.isCompletedExceptionally()) {
+			return null;
+		}
+		return entry.children.join();
+	}
+
+	/**
+	 * Returns the children of the given element. They are loaded with the given
+	 * loader in the given executor unless they are cached or being loaded
+	 * already.
+	 *
+	 * @param element
+	 *            the element whose children shall be returned
+	 * @param loader
+	 *            the loader for the children
+	 * @param executor
+	 *            the executor to load the children in
+	 * @return the future children
+	 */
+	public CompletableFuture<Object[]> get(Object element, Supplier<Object[]> loader, Executor executor) {
+		long now = now();
+		entries.values().removeIf(existing -> existing.isExpired(now)
+				&& existing.children.isDone());
+		Object key = keyOf(element);
+		Entry entry = entries.compute(key, (k, existing) -> {
+			if (existing != null
+					&& !existing.isExpired(now)) {
+				return existing;
+			}
+			return new Entry(CompletableFuture.supplyAsync(loader, executor), now);
+		});
+		entry.children.whenComplete((children, e) -> {
+			if (e != null) {
+				// dont cache failures
+				entries.remove(key, entry);
+			}
+		});
+		return entry.children;
+	}
+
+	public void invalidate(Object element) {
+		entries.remove(keyOf(element));
+	}
+
+	public void invalidate() {
+		entries.clear();
+	}
+
+	/**
+	 * Returns the key that the children of the given element are cached with.
+	 * It is made of the kinds and names of the element and its parents, other
+	 * objects are their own key.
+	 */
+	private static Object keyOf(Object element) {
+		if (!(element instanceof AbstractOpenshiftUIElement)) {
+			return element;
+		}
+		List<Object> key = new ArrayList<>();
+		AbstractOpenshiftUIElement<?, ?, ?> current = (AbstractOpenshiftUIElement<?, ?, ?>) element;
+		while (current != null) {
+			key.add(current.getClass());
+			key.add(nameOf(current.getWrapped()));
+			current = current.getParent();
+		}
+		return key;
+	}
+
+	private static Object nameOf(Object wrapped) {
+		if (wrapped instanceof Component) {
+			return ((Component) wrapped).getName();
+		} else if (wrapped instanceof DevfileRegistry) {
+			return ((DevfileRegistry) wrapped).getName();
+		} else if (wrapped instanceof ComponentType) {
+			return ((ComponentType) wrapped).getName();
+		}
+		return wrapped;
+	}
+
+	protected long now() {
+		return System.currentTimeMillis();
+	}
+
+	private class Entry {
+
+		private final CompletableFuture<Object[]> children;
+		private final long created;
+
+		private Entry(CompletableFuture<Object[]> children, long created) {
+			this.children = children;
+			this.created = created;
+		}
+
+		private boolean isExpired(long now) {
+			return ttl < now - created;
+		}
+	}
+}
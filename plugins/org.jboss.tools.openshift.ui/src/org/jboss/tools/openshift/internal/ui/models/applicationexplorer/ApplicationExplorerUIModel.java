@@ -82,6 +82,8 @@ public class ApplicationExplorerUIModel
 
 	private DevfileRegistriesElement registries;
 
+	private final ApplicationExplorerCache cache = new ApplicationExplorerCache();
+
 	protected ApplicationExplorerUIModel(ClusterClient clusterClient) {
 		super(null, clusterClient);
 		watcherJob = Job.createSystem("Watching kubeconfig", this::startWatcher);
@@ -108,9 +110,12 @@ public class ApplicationExplorerUIModel
 
 	@Override
 	public void refresh() {
+		cache.invalidate();
 		initializeOdo().thenAccept(odo -> {
 			getWrapped().odo = odo;
 			ApplicationExplorerUIModel.this.odo = null;
+			// drop what was loaded while odo was being initialized
+			cache.invalidate();
 			fireChanged(this);
 		});
 	}
@@ -122,6 +127,13 @@ public class ApplicationExplorerUIModel
 		return odo;
 	}
 
+	/**
+	 * @return the cache for the children of the elements of this model
+	 */
+	public ApplicationExplorerCache getCache() {
+		return cache;
+	}
+
 	protected Config loadConfig() {
 		return ConfigHelper.safeLoadKubeConfig();
 	}
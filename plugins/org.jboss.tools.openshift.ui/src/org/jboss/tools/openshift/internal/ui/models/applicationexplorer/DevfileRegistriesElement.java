@@ -27,6 +27,7 @@ public class DevfileRegistriesElement extends AbstractOpenshiftUIElement<Object,
 
   @Override
   public void refresh() {
+    getRoot().getCache().invalidate(this);
     fireChanged(this);
   }
 }
@@ -16,20 +16,29 @@ import java.io.File;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.io.Reader;
 import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.apache.commons.exec.CommandLine;
 import org.apache.commons.exec.DefaultExecutor;
 import org.apache.commons.exec.PumpStreamHandler;
 import org.apache.commons.exec.environment.EnvironmentUtils;
+import org.apache.commons.io.input.CloseShieldInputStream;
 import org.apache.commons.io.output.WriterOutputStream;
 import org.eclipse.cdt.utils.pty.PTY;
 import org.eclipse.cdt.utils.spawner.ProcessFactory;
@@ -184,6 +193,74 @@ public class ExecHelper {
 		return execute(executable, checkExitCode, new File(HOME_FOLDER), Collections.emptyMap(), arguments);
 	}
 
+	/**
+	 * Executes the given executable and hands its standard output to the given
+	 * parser while it is being produced. Unlike
+	 * {@link #execute(String, File, Map, String...)} the output is not buffered
+	 * into a String. Output that follows what the parser consumed (ex.
+	 * notifications) is discarded.
+	 *
+	 * @param executable       the executable
+	 * @param workingDirectory the working directory for the process
+	 * @param envs             the map for the environment variables
+	 * @param parser           the parser for the output stream
+	 * @param arguments        the arguments
+	 * @return the parsed output
+	 * @throws IOException if error during process execution or parsing
+	 */
+	public static <T> T executeAndParse(String executable, File workingDirectory, Map<String, String> envs,
+			OutputParser<T> parser, String... arguments) throws IOException {
+		List<String> command = new ArrayList<>();
+		command.add(executable);
+		command.addAll(Arrays.asList(arguments));
+		ProcessBuilder builder = new ProcessBuilder(command).directory(workingDirectory);
+		builder.environment().putAll(envs);
+		Process process = builder.start();
+		StringWriter errWriter = new StringWriter();
+		Future<?> errPump = SERVICE.submit(() -> {
+			try (Reader err = new InputStreamReader(process.getErrorStream(), Charset.defaultCharset())) {
+				err.transferTo(errWriter);
+			} catch (IOException e) {
+				// process is gone
+			}
+		});
+		try (InputStream out = process.getInputStream()) {
+			T result = null;
+			IOException parseError = null;
+			try {
+				// parsers may close the stream (ex. jackson), its remainder is still consumed
+				result = parser.parse(new CloseShieldInputStream(out));
+			} catch (IOException e) {
+				parseError = e;
+			}
+			// consume the remaining output so that the process can exit
+			out.transferTo(OutputStream.nullOutputStream());
+			int exitCode = process.waitFor();
+			errPump.get();
+			if (exitCode != 0) {
+				throw new IOException("Process exited with an error: " + exitCode + " " + errWriter.toString());
+			}
+			if (parseError != null) {
+				throw parseError;
+			}
+			return result;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			process.destroy();
+			throw new InterruptedIOException(e.getLocalizedMessage());
+		} catch (ExecutionException e) {
+			throw new IOException(e.getCause());
+		}
+	}
+
+	/**
+	 * Parses the output of a process while it is being produced. Closing the
+	 * given stream has no effect.
+	 */
+	public interface OutputParser<T> {
+		T parse(InputStream out) throws IOException;
+	}
+
 	public static class ExecResult {
 		private final String stdOut;
 		private final String stdErr;
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.ui.odo;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts the durations of a command in fixed, millisecond buckets.
+ */
+public class LatencyHistogram {
+
+	private static final long[] BOUNDS = { 50, 100, 250, 500, 1000, 2500, 5000, 10000 };
+
+	// one bucket per bound plus one for what exceeds the highest bound
+	private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS.length + 1);
+
+	public void record(long millis) {
+		int bucket = 0;
+		while (bucket < BOUNDS.length
+				&& millis > BOUNDS[bucket]) {
+			bucket++;
+		}
+		buckets.incrementAndGet(bucket);
+	}
+
+	public long getCount() {
+		long count = 0;
+		for (int i = 0; i < buckets.length(); i++) {
+			count += buckets.get(i);
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the count of durations that were at most the given bound and above
+	 * the next lower bound.
+	 *
+	 * @param bound
+	 *            one of the bucket bounds or {@link Long#MAX_VALUE} for what exceeds
+	 *            the highest bound
+	 * @return the count
+	 */
+	public long getCount(long bound) {
+		for (int i = 0; i < BOUNDS.length; i++) {
+			if (BOUNDS[i] == bound) {
+				return buckets.get(i);
+			}
+		}
+		if (bound == Long.MAX_VALUE) {
+			return buckets.get(BOUNDS.length);
+		}
+		return 0;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < BOUNDS.length; i++) {
+			builder.append("<=").append(BOUNDS[i]).append("ms:").append(buckets.get(i)).append(' ');
+		}
+		builder.append('>').append(BOUNDS[BOUNDS.length - 1]).append("ms:").append(buckets.get(BOUNDS.length));
+		return builder.toString();
+	}
+}
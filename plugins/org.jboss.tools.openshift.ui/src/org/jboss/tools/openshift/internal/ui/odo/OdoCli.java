@@ -21,6 +21,7 @@ import static org.jboss.tools.openshift.core.OpenShiftCoreConstants.OCP4_CONSOLE
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -36,6 +37,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
@@ -119,6 +121,8 @@ public class OdoCli implements Odo {
 
 	private final AtomicBoolean swaggerLoaded = new AtomicBoolean();
 
+	private final OdoQueryCache queryCache = new OdoQueryCache();
+
 	private JSonParser swagger;
 
 	/*
@@ -126,7 +130,7 @@ public class OdoCli implements Odo {
 	 * component name value is map index by the feature and value is the process
 	 * handler
 	 */
-	private Map<String, Map<ComponentFeature, Process>> componentFeatureProcesses = new HashMap<>();
+	private Map<String, Map<ComponentFeature, Process>> componentFeatureProcesses = new ConcurrentHashMap<>();
 
 	/*
 	 * Map of process launched for log activity. Key is component name value is list
@@ -225,7 +229,7 @@ public class OdoCli implements Odo {
 		}
 	}
 
-	private ObjectMapper configureObjectMapper(final StdNodeBasedDeserializer<? extends List<?>> deserializer) {
+	private static ObjectMapper configureObjectMapper(final StdNodeBasedDeserializer<? extends List<?>> deserializer) {
 		final SimpleModule module = new SimpleModule();
 		module.addDeserializer(List.class, deserializer);
 		return JSON_MAPPER.copy().registerModule(module);
@@ -238,7 +242,11 @@ public class OdoCli implements Odo {
 
 	@Override
 	public void migrateComponent(String context, String name) throws IOException {
-		client.apps().deployments().withLabel(KubernetesLabels.COMPONENT_NAME_LABEL, name).delete();
+		try {
+			client.apps().deployments().withLabel(KubernetesLabels.COMPONENT_NAME_LABEL, name).delete();
+		} finally {
+			queryCache.invalidate();
+		}
 	}
 
 	@Override
@@ -290,7 +298,7 @@ public class OdoCli implements Odo {
 		return "".equals(namespace) ? null : namespace;
 	}
 
-	private static String execute(File workingDirectory, String command, Map<String, String> envs, String... args)
+	private static String exec(File workingDirectory, String command, Map<String, String> envs, String... args)
 			throws IOException {
 		ExecResult result = ExecHelper.execute(command, workingDirectory, envs, args);
 		try (BufferedReader reader = new BufferedReader(new StringReader(result.getStdOut()))) {
@@ -309,18 +317,37 @@ public class OdoCli implements Odo {
 		}
 	}
 
-	private static String execute(String command, Map<String, String> envs, String... args) throws IOException {
+	private String execute(File workingDirectory, String command, Map<String, String> envs, String... args)
+			throws IOException {
+		return queryCache.execute(args, () -> exec(workingDirectory, command, envs, args));
+	}
+
+	private String execute(String command, Map<String, String> envs, String... args) throws IOException {
 		return execute(new File(HOME_FOLDER), command, envs, args);
 	}
 
+	/**
+	 * Runs the given read-only command, its output is memoized.
+	 * 
+	 * @see OdoQueryCache
+	 */
+	private String query(File workingDirectory, String... args) throws IOException {
+		return queryCache.query(workingDirectory, args, () -> exec(workingDirectory, command, envVars, args));
+	}
+
+	private String query(String... args) throws IOException {
+		return query(new File(HOME_FOLDER), args);
+	}
+
 	@Override
 	public void start(String project, String context, String component, ComponentFeature feature,
 			Consumer<Boolean> callback) throws IOException {
+		queryCache.invalidate();
 		if (feature.getPeer() != null) {
 			stop(project, context, component, feature.getPeer(), callback);
 		}
 		Map<ComponentFeature, Process> componentMap = componentFeatureProcesses.computeIfAbsent(component,
-				name -> new HashMap<>());
+				name -> new ConcurrentHashMap<>());
 		Process handler = componentMap.get(feature);
 		if (handler == null) {
 			List<String> args = new ArrayList<>();
@@ -332,7 +359,11 @@ public class OdoCli implements Odo {
 			Process p = ExecHelper.executeWithTerminal(createWorkingDirectory(context), envVars, listener,
 					args.toArray(new String[args.size()]));
 			componentMap.put(feature, p);
-			p.onExit().thenAccept(p1 -> componentMap.remove(feature));
+			p.onExit().thenAccept(p1 -> {
+				componentMap.remove(feature);
+				// the process may have exited on its own
+				queryCache.invalidate();
+			});
 		}
 	}
 
@@ -347,8 +378,9 @@ public class OdoCli implements Odo {
 	@Override
 	public void stop(String project, String context, String component, ComponentFeature feature,
 			Consumer<Boolean> callback) throws IOException {
+		queryCache.invalidate();
 		Map<ComponentFeature, Process> componentMap = componentFeatureProcesses.computeIfAbsent(component,
-				name -> new HashMap<>());
+				name -> new ConcurrentHashMap<>());
 		Process handler = componentMap.remove(feature);
 		if (handler != null) {
 			stopHandler(handler);
@@ -366,9 +398,8 @@ public class OdoCli implements Odo {
 	@Override
 	public boolean isStarted(String project, String context, String component, ComponentFeature feature)
 			throws IOException {
-		Map<ComponentFeature, Process> componentMap = componentFeatureProcesses.computeIfAbsent(component,
-				name -> new HashMap<>());
-		return componentMap.containsKey(feature);
+		Map<ComponentFeature, Process> componentMap = componentFeatureProcesses.get(component);
+		return componentMap != null && componentMap.containsKey(feature);
 	}
 
 	private File createWorkingDirectory(String context) {
@@ -393,7 +424,7 @@ public class OdoCli implements Odo {
 	@Override
 	public List<ComponentMetadata> analyze(String path) throws IOException {
 		return configureObjectMapper(new ComponentMetadatasDeserializer()).readValue(
-				execute(new File(path), command, envVars, "analyze", "-o", "json"),
+				query(new File(path), "analyze", "-o", "json"),
 				new TypeReference<List<ComponentMetadata>>() {
 				});
 	}
@@ -491,6 +522,8 @@ public class OdoCli implements Odo {
 			UsageStats.getInstance().odoCommand("service create", false);
 			UsageStats.getInstance().createService(serviceTemplate.getName(), false);
 			throw e;
+		} finally {
+			queryCache.invalidate();
 		}
 	}
 
@@ -508,6 +541,8 @@ public class OdoCli implements Odo {
 		} catch (KubernetesClientException e) {
 			UsageStats.getInstance().odoCommand("service delete", false);
 			throw e;
+		} finally {
+			queryCache.invalidate();
 		}
 	}
 
@@ -515,7 +550,7 @@ public class OdoCli implements Odo {
 	public List<DevfileComponentType> getComponentTypes() throws IOException {
 		try {
 			List<DevfileComponentType> componentTypes = configureObjectMapper(new ComponentTypesDeserializer())
-					.readValue(execute(command, envVars, "registry", "list", "-o", "json"),
+					.readValue(query("registry", "list", "-o", "json"),
 							new TypeReference<List<DevfileComponentType>>() {
 							});
 			UsageStats.getInstance().odoCommand("catalog list components", true);
@@ -534,8 +569,8 @@ public class OdoCli implements Odo {
 
 	@Override
 	public ComponentTypeInfo getComponentTypeInfo(String componentType, String registryName) throws IOException {
-		String json = execute(command, envVars, "registry", "list", "--devfile-registry", registryName, "--devfile",
-				componentType, "-o", "json");
+		String json = query("registry", "list", "--devfile-registry", registryName, "--devfile", componentType, "-o",
+				"json");
 		JSonParser parser = new JSonParser(JSON_MAPPER.readTree(json));
 		return parser.parseComponentTypeInfo();
 	}
@@ -571,7 +606,7 @@ public class OdoCli implements Odo {
 		try {
 			List<ServiceTemplate> serviceTemplates = configureObjectMapper(
 					new ServiceTemplatesDeserializer(this::findSchema))
-					.readValue(execute(command, envVars, "catalog", "list", "services", "-o", "json"),
+					.readValue(query("catalog", "list", "services", "-o", "json"),
 							new TypeReference<List<ServiceTemplate>>() {
 							});
 			UsageStats.getInstance().odoCommand("catalog list services", true);
@@ -598,8 +633,8 @@ public class OdoCli implements Odo {
 	public List<URL> listURLs(String project, String context, String component) throws IOException {
 		try {
 			if (context != null) {
-				List<URL> urls = parseURLs(execute(createWorkingDirectory(context), command, envVars, "describe",
-						"component", "-o", "json"));
+				List<URL> urls = parseURLs(query(createWorkingDirectory(context), "describe", "component", "-o",
+						"json"));
 				UsageStats.getInstance().odoCommand("url list", true);
 				return urls;
 			} else {
@@ -626,11 +661,11 @@ public class OdoCli implements Odo {
 			throws IOException {
 		if (path != null) {
 			return parseComponentInfo(
-					execute(createWorkingDirectory(path), command, envVars, "describe", "component", "-o", "json"),
+					query(createWorkingDirectory(path), "describe", "component", "-o", "json"),
 					kind);
 		} else {
-			return parseComponentInfo(execute(command, envVars, "describe", "component", "--namespace", project,
-					"--name", component, "-o", "json"), kind);
+			return parseComponentInfo(query("describe", "component", "--namespace", project, "--name",
+					component, "-o", "json"), kind);
 		}
 	}
 
@@ -671,6 +706,8 @@ public class OdoCli implements Odo {
 			}
 		} catch (KubernetesClientException e) {
 			throw new IOException(e.getLocalizedMessage(), e);
+		} finally {
+			queryCache.invalidate();
 		}
 	}
 
@@ -822,23 +859,50 @@ public class OdoCli implements Odo {
 
 	@Override
 	public List<Component> getComponents(String project) throws IOException {
-		var components = configureObjectMapper(new ComponentDeserializer()).readValue(
-				execute(command, envVars, "list", "--namespace", project, "-o", "json"),
-				new TypeReference<List<Component>>() {
-				});
+		String[] args = { "list", "--namespace", project, "-o", "json" };
+		List<Component> components = queryCache.measure(args,
+				() -> ExecHelper.executeAndParse(command, new File(HOME_FOLDER), envVars, OdoCli::parseComponents,
+						args));
+		Map<String, Set<ComponentFeature>> startedFeatures = getStartedFeatures();
 		components.forEach(c -> {
-			try {
-				if (c.getLiveFeatures().isDev() && !isStarted(project, c.getPath(), c.getName(), ComponentFeature.DEV)) {
-					c.getLiveFeatures().removeFeature(ComponentFeature.DEV);
-				}
-				if (!c.getLiveFeatures().isDebug() && isStarted(project, c.getPath(), c.getName(), ComponentFeature.DEBUG)) {
-					c.getLiveFeatures().addFeature(ComponentFeature.DEBUG);
-				}
-			} catch (IOException e) {}
+			Set<ComponentFeature> started = startedFeatures.getOrDefault(c.getName(), Collections.emptySet());
+			if (c.getLiveFeatures().isDev() && !started.contains(ComponentFeature.DEV)) {
+				c.getLiveFeatures().removeFeature(ComponentFeature.DEV);
+			}
+			if (!c.getLiveFeatures().isDebug() && started.contains(ComponentFeature.DEBUG)) {
+				c.getLiveFeatures().addFeature(ComponentFeature.DEBUG);
+			}
 		});
 		return components;
 	}
 
+	/**
+	 * Parses the components that {@code odo list -o json} prints.
+	 *
+	 * @param out the output of odo
+	 * @return the components
+	 * @throws IOException if the output could not be parsed
+	 */
+	public static List<Component> parseComponents(InputStream out) throws IOException {
+		return configureObjectMapper(new ComponentDeserializer()).readValue(out, new TypeReference<List<Component>>() {
+		});
+	}
+
+	/**
+	 * Returns the features that were started for each component, in one pass
+	 * over the running feature processes.
+	 */
+	private Map<String, Set<ComponentFeature>> getStartedFeatures() {
+		Map<String, Set<ComponentFeature>> startedFeatures = new HashMap<>();
+		componentFeatureProcesses.forEach((component, processes) -> {
+			Set<ComponentFeature> started = new HashSet<>(processes.keySet());
+			if (!started.isEmpty()) {
+				startedFeatures.put(component, started);
+			}
+		});
+		return startedFeatures;
+	}
+
 	@Override
 	public List<org.jboss.tools.openshift.core.odo.Service> getServices(String project) throws IOException {
 //		try {
@@ -947,7 +1011,7 @@ public class OdoCli implements Odo {
 	@Override
 	public List<ComponentDescriptor> discover(String path) throws IOException {
 		return configureObjectMapper(new ComponentDescriptorsDeserializer(new File(path).getAbsolutePath())).readValue(
-				execute(createWorkingDirectory(path), command, envVars, "list", "-o", "json"),
+				query(createWorkingDirectory(path), "list", "-o", "json"),
 				new TypeReference<List<ComponentDescriptor>>() {
 				});
 	}
@@ -955,7 +1019,7 @@ public class OdoCli implements Odo {
 	@Override
 	public List<DevfileRegistry> listDevfileRegistries() throws IOException {
 		return configureObjectMapper(new DevfileRegistriesDeserializer()).readValue(
-				execute(command, envVars, "preference", "view", "-o", "json"),
+				query("preference", "view", "-o", "json"),
 				new TypeReference<List<DevfileRegistry>>() {
 				});
 	}
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.ui.odo;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.tools.openshift.core.odo.utils.ConfigHelper;
+import org.jboss.tools.openshift.internal.core.Trace;
+
+/**
+ * Memoizes the output of read-only odo commands and records the latencies of
+ * all odo commands. Outputs are keyed by working directory, arguments and the
+ * modification times of the kubeconfig and of the devfile in the working
+ * directory, they expire after {@link #TTL_KEY} and are all invalidated
+ * whenever a command that is not read-only is run.
+ */
+public class OdoQueryCache {
+
+	public static final String TTL_KEY = "org.jboss.tools.openshift.odo.cache.ttl";
+	private static final long DEFAULT_TTL = 30_000;
+	private static final int COMMAND_WORDS = 2;
+	private static final String[] DEVFILES = { "devfile.yaml", ".devfile.yaml", "devfile.yml", ".devfile.yml" };
+
+	/**
+	 * Runs an odo command and returns its (parsed) output.
+	 */
+	public interface Command<T> {
+		T run() throws IOException;
+	}
+
+	private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+	private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
+	private final long ttl;
+
+	public OdoQueryCache() {
+		this(Long.getLong(TTL_KEY, DEFAULT_TTL));
+	}
+
+	public OdoQueryCache(long ttl) {
+		this.ttl = ttl;
+	}
+
+	/**
+	 * Returns the memoized output of the given read-only command or runs it if
+	 * there's none or if it expired.
+	 *
+	 * @param workingDirectory
+	 *            the working directory of the command
+	 * @param args
+	 *            the arguments of the command
+	 * @param command
+	 *            runs the command
+	 * @return the output
+	 * @throws IOException
+	 */
+	public String query(File workingDirectory, String[] args, Command<String> command) throws IOException {
+		Key key = new Key(workingDirectory, args, getKubeConfigModified(), getDevfileModified(workingDirectory));
+		long now = System.currentTimeMillis();
+		Entry entry = entries.get(key);
+		if (entry != null
+				&& now - entry.created <= ttl) {
+			return entry.output;
+		}
+		long generation = this.generation.get();
+		String output = measure(args, command);
+		if (generation == this.generation.get()) {
+			// nothing was invalidated while the command was running
+			entries.put(key, new Entry(output, now));
+		}
+		return output;
+	}
+
+	/**
+	 * Runs the given command that is not read-only. All memoized outputs are
+	 * invalidated.
+	 *
+	 * @param args
+	 *            the arguments of the command
+	 * @param command
+	 *            runs the command
+	 * @return the output
+	 * @throws IOException
+	 */
+	public String execute(String[] args, Command<String> command) throws IOException {
+		try {
+			return measure(args, command);
+		} finally {
+			invalidate();
+		}
+	}
+
+	/**
+	 * Runs the given command and records how long it took.
+	 */
+	public <T> T measure(String[] args, Command<T> command) throws IOException {
+		long start = System.currentTimeMillis();
+		try {
+			return command.run();
+		} finally {
+			String name = getCommandName(args);
+			LatencyHistogram histogram = latencies.computeIfAbsent(name, key -> new LatencyHistogram());
+			long duration = System.currentTimeMillis() - start;
+			histogram.record(duration);
+			Trace.debug("odo {0} took {1}ms, latencies: {2}", name, duration, histogram);
+		}
+	}
+
+	public void invalidate() {
+		generation.incrementAndGet();
+		entries.clear();
+	}
+
+	/**
+	 * Returns the latencies of the commands that were run, keyed by command name
+	 * (ex. "describe component").
+	 */
+	public Map<String, LatencyHistogram> getLatencies() {
+		return Collections.unmodifiableMap(latencies);
+	}
+
+	/**
+	 * Returns the leading words of the given arguments that are not flags.
+	 */
+	public static String getCommandName(String[] args) {
+		List<String> words = new ArrayList<>();
+		for (String arg : args) {
+			if (arg.startsWith("-")
+					|| words.size() == COMMAND_WORDS) {
+				break;
+			}
+			words.add(arg);
+		}
+		return String.join(" ", words);
+	}
+
+	private static long getKubeConfigModified() {
+		return new File(ConfigHelper.getKubeConfigPath()).lastModified();
+	}
+
+	/**
+	 * Returns the latest modification time of the devfiles in the given working
+	 * directory or 0 if there's none.
+	 */
+	private static long getDevfileModified(File workingDirectory) {
+		if (workingDirectory == null) {
+			return 0;
+		}
+		long modified = 0;
+		for (String devfile : DEVFILES) {
+			modified = Math.max(modified, new File(workingDirectory, devfile).lastModified());
+		}
+		return modified;
+	}
+
+	private static class Key {
+
+		private final File workingDirectory;
+		private final List<String> args;
+		private final long kubeConfigModified;
+		private final long devfileModified;
+
+		private Key(File workingDirectory, String[] args, long kubeConfigModified, long devfileModified) {
+			this.workingDirectory = workingDirectory;
+			this.args = Arrays.asList(args);
+			this.kubeConfigModified = kubeConfigModified;
+			this.devfileModified = devfileModified;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(workingDirectory, args, kubeConfigModified, devfileModified);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return Objects.equals(workingDirectory, other.workingDirectory)
+					&& args.equals(other.args)
+					&& kubeConfigModified == other.kubeConfigModified
+					&& devfileModified == other.devfileModified;
+		}
+	}
+
+	private static class Entry {
+
+		private final String output;
+		private final long created;
+
+		private Entry(String output, long created) {
+			this.output = output;
+			this.created = created;
+		}
+	}
+}
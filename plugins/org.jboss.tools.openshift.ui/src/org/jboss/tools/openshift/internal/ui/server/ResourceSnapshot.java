@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.ui.server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.tools.openshift.core.connection.Connection;
+import org.jboss.tools.openshift.internal.ui.models.ConnectionWrapper;
+
+import com.openshift.restclient.OpenShiftException;
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.model.IProject;
+import com.openshift.restclient.model.IResource;
+
+/**
+ * The projects of a connection and the resources of the given kinds in these
+ * projects. All resources are loaded at once and in parallel so that the
+ * resource tree, the routes and the build configs of the server adapter wizard
+ * don't list them project by project. If there are at least
+ * {@link #CLUSTER_WIDE_THRESHOLD_KEY} projects, each kind is listed across all
+ * namespaces in a single request. The resources are listed per project if the
+ * user is not allowed to.
+ */
+public class ResourceSnapshot {
+
+	/**
+	 * The number of projects from which on a kind is listed across all
+	 * namespaces rather than for each project
+	 */
+	public static final String CLUSTER_WIDE_THRESHOLD_KEY = "org.jboss.tools.openshift.snapshot.clusterwide";
+
+	private static final int DEFAULT_CLUSTER_WIDE_THRESHOLD = 10;
+	private static final int DEFAULT_LOAD_THREADS = 6;
+	private static final ExecutorService EXECUTOR = createExecutor();
+
+	private final List<IProject> projects;
+	// kind -> namespace -> resources
+	private final Map<String, Map<String, List<IResource>>> resources;
+
+	private ResourceSnapshot(List<IProject> projects, Map<String, Map<String, List<IResource>>> resources) {
+		this.projects = projects;
+		this.resources = resources;
+	}
+
+	/**
+	 * Loads the projects of the given connection and the resources of the given
+	 * kinds in these projects.
+	 *
+	 * @throws OpenShiftException
+	 *             if any of the resources could not be listed
+	 */
+	public static ResourceSnapshot load(Connection connection, String... kinds) {
+		List<IProject> projects = connection.getResources(ResourceKind.PROJECT);
+		Map<String, Map<String, List<IResource>>> resources = new HashMap<>();
+		List<String> remaining = new ArrayList<>(Arrays.asList(kinds));
+		if (projects.size() >= Integer.getInteger(CLUSTER_WIDE_THRESHOLD_KEY, DEFAULT_CLUSTER_WIDE_THRESHOLD)) {
+			Map<String, CompletableFuture<List<IResource>>> futures = new HashMap<>();
+			for (String kind : kinds) {
+				futures.put(kind, CompletableFuture.supplyAsync(() -> connection.<IResource>getResources(kind), EXECUTOR));
+			}
+			futures.forEach((kind, future) -> {
+				try {
+					resources.put(kind, groupByNamespace(projects, join(future)));
+					remaining.remove(kind);
+				} catch (OpenShiftException e) {
+					// not allowed to list across namespaces, list each project instead
+				}
+			});
+		}
+		// kind -> namespace -> resources
+		Map<String, Map<String, CompletableFuture<List<IResource>>>> futures = new HashMap<>();
+		for (String kind : remaining) {
+			Map<String, CompletableFuture<List<IResource>>> byNamespace = new HashMap<>();
+			for (IProject project : projects) {
+				byNamespace.put(project.getName(),
+						CompletableFuture.supplyAsync(() -> project.<IResource>getResources(kind), EXECUTOR));
+			}
+			futures.put(kind, byNamespace);
+		}
+		futures.forEach((kind, byNamespace) -> {
+			Map<String, List<IResource>> loaded = new HashMap<>();
+			byNamespace.forEach((namespace, future) -> loaded.put(namespace, join(future)));
+			resources.put(kind, loaded);
+		});
+		return new ResourceSnapshot(projects, resources);
+	}
+
+	private static Map<String, List<IResource>> groupByNamespace(List<IProject> projects, List<IResource> all) {
+		Map<String, List<IResource>> byNamespace = new HashMap<>();
+		for (IProject project : projects) {
+			byNamespace.put(project.getName(), new ArrayList<>());
+		}
+		for (IResource resource : all) {
+			List<IResource> namespaced = byNamespace.get(resource.getNamespaceName());
+			if (namespaced != null) {
+				namespaced.add(resource);
+			}
+		}
+		return byNamespace;
+	}
+
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	public List<IProject> getProjects() {
+		return projects;
+	}
+
+	/**
+	 * Returns the resources of the given kind in the given project. Returns an
+	 * empty list if the kind was not loaded.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends IResource> List<T> getResources(IProject project, String kind) {
+		Map<String, List<IResource>> byNamespace = resources.get(kind);
+		if (byNamespace == null) {
+			return Collections.emptyList();
+		}
+		List<IResource> namespaced = byNamespace.get(project.getName());
+		if (namespaced == null) {
+			return Collections.emptyList();
+		}
+		return new ArrayList<>((List<T>) namespaced);
+	}
+
+	private static ExecutorService createExecutor() {
+		AtomicInteger threads = new AtomicInteger();
+		return Executors.newFixedThreadPool(Integer.getInteger(ConnectionWrapper.LOAD_THREADS_KEY, DEFAULT_LOAD_THREADS), runnable -> {
+			Thread thread = new Thread(runnable, "OpenShift Server Adapter Loader " + threads.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+}
@@ -46,6 +46,7 @@ public class ServerResourceViewModel extends ObservablePojo {
 	private Connection connection;
 	private List<Connection> connections = new ArrayList<>();
 	private List<ObservableTreeItem> resourceItems = new ArrayList<>();
+	private ResourceSnapshot snapshot;
 	protected IResource resource;
 
 	public ServerResourceViewModel(Connection connection) {
@@ -207,14 +208,45 @@ public class ServerResourceViewModel extends ObservablePojo {
 		if (connection == null) {
 			return null;
 		}
-		ObservableTreeItem connectionItem = ResourceTreeItemsFactory.INSTANCE.create(connection);
+		this.snapshot = ResourceSnapshot.load(connection, getSnapshotKinds());
+		ObservableTreeItem connectionItem = new ResourceTreeItemsFactory(snapshot).create(connection);
 		connectionItem.load();
 		return connectionItem.getChildren();
 	}
 
+	/**
+	 * Returns the kinds of resources that are loaded for all projects at once
+	 * when the resources are loaded.
+	 */
+	protected String[] getSnapshotKinds() {
+		return new String[] { ResourceKind.SERVICE, ResourceKind.DEPLOYMENT_CONFIG, ResourceKind.POD,
+				ResourceKind.REPLICATION_CONTROLLER };
+	}
+
+	/**
+	 * Returns the projects and resources that were loaded last, {@code null} if
+	 * none were loaded yet.
+	 */
+	protected ResourceSnapshot getSnapshot() {
+		return snapshot;
+	}
+
 	static class ResourceTreeItemsFactory implements IModelFactory {
 
-		private static final ResourceTreeItemsFactory INSTANCE = new ResourceTreeItemsFactory();
+		private final ResourceSnapshot snapshot;
+
+		ResourceTreeItemsFactory() {
+			this(null);
+		}
+
+		/**
+		 * @param snapshot
+		 *            the resources to create the children from, they are listed
+		 *            from the connection if {@code null}
+		 */
+		ResourceTreeItemsFactory(ResourceSnapshot snapshot) {
+			this.snapshot = snapshot;
+		}
 
 		/**
 		 * Creates a resource items tree with the following structure:
@@ -229,6 +261,9 @@ public class ServerResourceViewModel extends ObservablePojo {
 		@SuppressWarnings("unchecked")
 		public <T> List<T> createChildren(Object parent) {
 			if (parent instanceof Connection) {
+				if (snapshot != null) {
+					return (List<T>) snapshot.getProjects();
+				}
 				return (List<T>) ((Connection) parent).getResources(ResourceKind.PROJECT);
 			} else if (parent instanceof IProject) {
 				return (List<T>) getProjectResources((IProject) parent);
@@ -237,8 +272,8 @@ public class ServerResourceViewModel extends ObservablePojo {
 		}
 
 		private List<IResource> getProjectResources(IProject project) {
-			List<IService> services = project.getResources(ResourceKind.SERVICE);
-			List<IDeploymentConfig> dcConfigs = project.getResources(ResourceKind.DEPLOYMENT_CONFIG);
+			List<IService> services = getResources(project, ResourceKind.SERVICE);
+			List<IDeploymentConfig> dcConfigs = getResources(project, ResourceKind.DEPLOYMENT_CONFIG);
 			List<IResource> resources = new ArrayList<>(services);
 			resources.addAll(getNonLinkedDcs(services, dcConfigs, project));
 			resources.addAll(getNonLinkeRcs(dcConfigs, project));
@@ -251,7 +286,7 @@ public class ServerResourceViewModel extends ObservablePojo {
 		private List<IDeploymentConfig> getNonLinkedDcs(List<? extends IResource> services,
 				List<IDeploymentConfig> dcConfigs, IProject project) {
 			List<IDeploymentConfig> nonLinkedDcConfigs = new ArrayList<>();
-			List<IPod> allPods = project.getResources(ResourceKind.POD);
+			List<IPod> allPods = getResources(project, ResourceKind.POD);
 			dcConfigs.stream()
 					.filter(dc -> !services.stream()
 							.anyMatch(service -> ResourceUtils.areRelated((IService) service, dc, allPods)))
@@ -263,13 +298,20 @@ public class ServerResourceViewModel extends ObservablePojo {
 		 * Returns the ReplicationController resources not linked to DeploymentConfig
 		 */
 		private List<IReplicationController> getNonLinkeRcs(List<IDeploymentConfig> dcConfigs, IProject project) {
-			List<IReplicationController> allRcs = project.getResources(ResourceKind.REPLICATION_CONTROLLER);
+			List<IReplicationController> allRcs = getResources(project, ResourceKind.REPLICATION_CONTROLLER);
 			List<IReplicationController> nonLinkedReplicationControllers = allRcs.stream()
 					.filter(rc -> !dcConfigs.stream().anyMatch(dc -> ResourceUtils.areRelated(rc, dc)))
 					.collect(Collectors.toList());
 			return nonLinkedReplicationControllers;
 		}
 
+		private <R extends IResource> List<R> getResources(IProject project, String kind) {
+			if (snapshot != null) {
+				return snapshot.getResources(project, kind);
+			}
+			return project.getResources(kind);
+		}
+
 		@Override
 		public ObservableTreeItem create(Object object) {
 			return new ObservableTreeItem(object, this);
@@ -361,7 +361,7 @@ public class ServerSettingsWizardPageModel extends ServerResourceViewModel imple
 		setProjects(loadProjects());
 		super.loadResources(newConnection);
 		List<IProject> openshiftProjects = ObservableTreeItemUtils.getAllModels(IProject.class, getResourceItems());
-		setBuildConfigs(loadBuildConfigs(openshiftProjects, newConnection));
+		setBuildConfigs(loadBuildConfigs(openshiftProjects));
 		setProjects(loadProjects());
 		setRoutes(loadRoutes(getResourceItems()));
 		setOCBinaryStatus(validateOCBinary(newConnection, new NullProgressMonitor()));
@@ -401,28 +401,40 @@ public class ServerSettingsWizardPageModel extends ServerResourceViewModel imple
 				.findFirst().orElse(null);
 	}
 
-	private Map<IProject, List<IBuildConfig>> loadBuildConfigs(List<IProject> projects, Connection connection) {
-		if (projects == null || projects.isEmpty()) {
+	private Map<IProject, List<IBuildConfig>> loadBuildConfigs(List<IProject> projects) {
+		ResourceSnapshot snapshot = getSnapshot();
+		if (projects == null || projects.isEmpty()
+				|| snapshot == null) {
 			return Collections.emptyMap();
 		}
 
-		return projects.stream().collect(Collectors.toMap(project -> project, project -> {
-			return connection.getResources(ResourceKind.BUILD_CONFIG, project.getName());
-		}));
+		return projects.stream().collect(Collectors.toMap(project -> project,
+				project -> snapshot.getResources(project, ResourceKind.BUILD_CONFIG)));
 	}
 
 	private void setBuildConfigs(Map<IProject, List<IBuildConfig>> buildConfigsByProject) {
 		this.buildConfigsByProject = buildConfigsByProject;
 	}
 
+	@Override
+	protected String[] getSnapshotKinds() {
+		// routes and build configs are loaded along with the resources of the tree
+		return new String[] { ResourceKind.SERVICE, ResourceKind.DEPLOYMENT_CONFIG, ResourceKind.POD,
+				ResourceKind.REPLICATION_CONTROLLER, ResourceKind.ROUTE, ResourceKind.BUILD_CONFIG };
+	}
+
 	protected List<org.eclipse.core.resources.IProject> loadProjects() {
 		return ProjectUtils.getAllAccessibleProjects();
 	}
 
 	protected Map<IProject, List<IRoute>> loadRoutes(List<ObservableTreeItem> serviceItems) {
 		List<IProject> projects = ObservableTreeItemUtils.getAllModels(IProject.class, serviceItems);
-		return projects.stream()
-				.collect(Collectors.toMap(project -> project, project -> project.getResources(ResourceKind.ROUTE)));
+		ResourceSnapshot snapshot = getSnapshot();
+		if (snapshot == null) {
+			return Collections.emptyMap();
+		}
+		return projects.stream().collect(
+				Collectors.toMap(project -> project, project -> snapshot.getResources(project, ResourceKind.ROUTE)));
 	}
 
 	public void updateServer() throws OpenShiftException {
@@ -37,6 +37,8 @@ import org.jboss.tools.openshift.core.connection.Connection;
 import org.jboss.tools.openshift.internal.core.docker.DockerConfigMetaData;
 import org.jboss.tools.openshift.internal.core.docker.DockerImageUtils;
 import org.jboss.tools.openshift.internal.core.docker.IDockerImageMetadata;
+import org.jboss.tools.openshift.internal.core.docker.ImageMetadata;
+import org.jboss.tools.openshift.internal.core.docker.ImageMetadataCache;
 import org.jboss.tools.openshift.internal.core.models.PortSpecAdapter;
 import org.jboss.tools.openshift.internal.ui.wizard.common.EnvironmentVariable;
 import org.jboss.tools.openshift.internal.ui.wizard.common.EnvironmentVariablesPageModel;
@@ -606,6 +608,11 @@ public class DeployImageWizardModel extends ResourceLabelsPageModel
 			}
 			return new DockerConfigMetaData(info);
 		} else if (this.project != null) {
+			// images that are referenced by digest never change
+			ImageMetadata cached = ImageMetadataCache.getInstance().get(this.imageName);
+			if (cached != null) {
+				return cached;
+			}
 			return DockerImageUtils.lookupImageMetadata(project, imageURI);
 		}
 		return null;
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.ui.wizard.newapp;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang.StringUtils;
+import org.jboss.tools.openshift.internal.core.util.ResourceUtils;
+
+/**
+ * A search index over the names and tags of application sources. Names and
+ * tags are lower-cased once when a source is indexed, the filter text is
+ * tokenized once when it changes. The results of the previous filter text are
+ * kept so that a filter text that extends it (the user keeps typing) only
+ * needs to check the sources that matched before.
+ *
+ * Matches the same sources as
+ * {@link ResourceUtils#isMatchingNameOrTag(String, String, Collection)}: the
+ * name contains all the words of the filter text or each word is contained in
+ * at least one tag.
+ */
+public class ApplicationSourceIndex {
+
+	private final Map<IApplicationSource, Entry> entries = new IdentityHashMap<>();
+	private Query query = new Query("", null);
+
+	/**
+	 * Returns {@code true} if the given source matches the given filter text.
+	 * Sources that were not indexed yet are indexed.
+	 *
+	 * @param filterText
+	 * @param source
+	 * @return true if the source matches
+	 */
+	public synchronized boolean matches(String filterText, IApplicationSource source) {
+		if (StringUtils.isBlank(filterText)) {
+			return true;
+		}
+		return getQuery(filterText).matches(getEntry(source));
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+		this.query = new Query("", null);
+	}
+
+	private Entry getEntry(IApplicationSource source) {
+		return entries.computeIfAbsent(source, Entry::new);
+	}
+
+	private Query getQuery(String filterText) {
+		if (!filterText.equals(query.text)) {
+			this.query = new Query(filterText,
+					filterText.startsWith(query.text) ? query : null);
+		}
+		return query;
+	}
+
+	private static class Entry {
+
+		private final String name;
+		private final String[] tags;
+
+		private Entry(IApplicationSource source) {
+			this.name = toLowerCase(source.getName());
+			Collection<String> sourceTags = source.getTags();
+			this.tags = sourceTags == null ? new String[0]
+					: sourceTags.stream().map(Entry::toLowerCase).toArray(String[]::new);
+		}
+
+		private boolean nameContainsAll(String[] words) {
+			for (String word : words) {
+				if (!name.contains(word)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean tagsContainEach(String[] words) {
+			for (String word : words) {
+				if (!tagsContain(word)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean tagsContain(String word) {
+			for (String tag : tags) {
+				if (tag.contains(word)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private static String toLowerCase(String text) {
+			if (text == null) {
+				return "";
+			}
+			return text.toLowerCase(Locale.ENGLISH);
+		}
+	}
+
+	/**
+	 * A tokenized filter text with the results that it had for the sources that
+	 * were checked so far.
+	 */
+	private static class Query {
+
+		private final String text;
+		private final String[] words;
+		/*
+		 * The query that this one extends. A source that does not match it cannot
+		 * match this one since each of its words is contained in a word of this
+		 * one.
+		 */
+		private Query narrowed;
+		private final Map<Entry, Boolean> results = new IdentityHashMap<>();
+
+		private Query(String text, Query narrowed) {
+			this.text = text;
+			this.narrowed = narrowed;
+			if (narrowed != null) {
+				// only the direct predecessor is needed, don't keep the whole typing history
+				narrowed.narrowed = null;
+			}
+			Set<String> tokens = new LinkedHashSet<>();
+			for (String token : text.replace(',', ' ').toLowerCase(Locale.ENGLISH).split(" ")) {
+				tokens.add(token);
+			}
+			this.words = tokens.toArray(new String[tokens.size()]);
+		}
+
+		private boolean matches(Entry entry) {
+			Boolean result = results.get(entry);
+			if (result == null) {
+				if (narrowed != null
+						&& Boolean.FALSE.equals(narrowed.results.get(entry))) {
+					result = false;
+				} else {
+					result = entry.nameContainsAll(words) || entry.tagsContainEach(words);
+				}
+				results.put(entry, result);
+			}
+			return result;
+		}
+	}
+}
@@ -93,8 +93,8 @@ import org.jboss.tools.openshift.internal.common.ui.SelectExistingProjectDialog;
 import org.jboss.tools.openshift.internal.common.ui.SelectProjectComponentBuilder;
 import org.jboss.tools.openshift.internal.common.ui.databinding.RequiredControlDecorationUpdater;
 import org.jboss.tools.openshift.internal.common.ui.databinding.TabFolderSelectionProperty;
+import org.jboss.tools.openshift.internal.common.ui.utils.DisposeUtils;
 import org.jboss.tools.openshift.internal.common.ui.utils.UIUtils;
-import org.jboss.tools.openshift.internal.core.util.ResourceUtils;
 import org.jboss.tools.openshift.internal.ui.OpenShiftUIActivator;
 import org.jboss.tools.openshift.internal.ui.OpenshiftUIConstants;
 import org.jboss.tools.openshift.internal.ui.dialog.ResourceSummaryDialog;
@@ -121,6 +121,8 @@ import com.openshift.restclient.model.template.ITemplate;
 public class ApplicationSourceListPage extends AbstractProjectPage<IApplicationSourceListPageModel> {
 
 	private static final int LOCAL_TEMPLATE_TAB_INDEX = 1;
+	// delay after the last keystroke before the templates are filtered
+	private static final int FILTER_DELAY = 200;
 	public static final String PAGE_NAME = "appSourceList";
 
 	private TreeViewer templatesViewer;
@@ -490,16 +492,27 @@ public class ApplicationSourceListPage extends AbstractProjectPage<IApplicationS
 		viewer.setLabelProvider(new ObservableTreeItemStyledCellLabelProvider());
 		viewer.setAutoExpandLevel(TreeViewer.ALL_LEVELS);
 		viewer.setComparator(new ApplicationSourceComparator());
-		viewer.addFilter(new AppSourceViewerFilter(templateFilterText));
+		AppSourceViewerFilter filter = new AppSourceViewerFilter(templateFilterText);
+		viewer.addFilter(filter);
 		templateFilterText.addKeyListener(onFilterKeyPressed(viewer));
 		viewer.setInput(model);
 
+		// the index holds the sources of the catalog, drop them once the catalog is replaced
+		IObservableValue appSources = BeanProperties.value(IApplicationSourceListPageModel.PROPERTY_APP_SOURCES)
+				.observe(model);
+		appSources.addValueChangeListener(event -> filter.clearIndex());
+		viewer.getControl().addDisposeListener(event -> {
+			appSources.dispose();
+			filter.clearIndex();
+		});
+
 		return viewer;
 	}
 
 	private static class AppSourceViewerFilter extends ViewerFilter {
 
 		private Text filterText;
+		private final ApplicationSourceIndex index = new ApplicationSourceIndex();
 
 		public AppSourceViewerFilter(Text filterText) {
 			this.filterText = filterText;
@@ -512,7 +525,11 @@ public class ApplicationSourceListPage extends AbstractProjectPage<IApplicationS
 				return true;
 			}
 			IApplicationSource appSource = (IApplicationSource) ((ObservableTreeItem) element).getModel();
-			return ResourceUtils.isMatchingNameOrTag(filterText.getText(), appSource.getName(), appSource.getTags());
+			return index.matches(filterText.getText(), appSource);
+		}
+
+		public void clearIndex() {
+			index.clear();
 		}
 	}
 
@@ -554,9 +571,16 @@ public class ApplicationSourceListPage extends AbstractProjectPage<IApplicationS
 	}
 
 	private ModifyListener onFilterTextTyped(final TreeViewer viewer) {
+		final Runnable filter = () -> {
+			if (DisposeUtils.isDisposed(viewer)) {
+				return;
+			}
+			viewer.refresh();
+			viewer.expandAll();
+		};
 		return (ModifyEvent e) -> {
-				viewer.refresh();
-				viewer.expandAll();
+			// filter once the user stops typing, rescheduling replaces the pending run
+			viewer.getControl().getDisplay().timerExec(FILTER_DELAY, filter);
 		};
 	}
 
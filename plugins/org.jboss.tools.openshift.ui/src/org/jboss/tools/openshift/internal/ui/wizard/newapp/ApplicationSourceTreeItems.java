@@ -13,16 +13,17 @@ package org.jboss.tools.openshift.internal.ui.wizard.newapp;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang.ArrayUtils;
-import org.apache.commons.lang.StringUtils;
 import org.eclipse.core.runtime.IStatus;
 import org.jboss.tools.openshift.core.ICommonAttributes;
 import org.jboss.tools.openshift.core.OpenShiftAPIAnnotations;
 import org.jboss.tools.openshift.core.connection.Connection;
 import org.jboss.tools.openshift.core.connection.ConnectionsRegistryUtil;
+import org.jboss.tools.openshift.internal.core.CatalogCache;
 import org.jboss.tools.openshift.internal.ui.OpenShiftUIActivator;
 import org.jboss.tools.openshift.internal.ui.treeitem.IModelFactory;
 import org.jboss.tools.openshift.internal.ui.treeitem.ObservableTreeItem;
@@ -66,13 +67,10 @@ public class ApplicationSourceTreeItems implements IModelFactory, ICommonAttribu
 	}
 
 	private Collection<IApplicationSource> loadImageStreams(IProject project, Connection conn) {
-		final Collection<IImageStream> streams = conn.getResources(ResourceKind.IMAGE_STREAM, project.getNamespaceName());
+		final Collection<IImageStream> streams = new LinkedHashSet<>(
+				conn.getResources(ResourceKind.IMAGE_STREAM, project.getNamespaceName()));
 		try {
-			if (StringUtils.isNotBlank(conn.getClusterNamespace())) {
-				Collection<IImageStream> commonStreams = conn.getResources(ResourceKind.IMAGE_STREAM,
-						(String) conn.getClusterNamespace());
-				commonStreams.stream().filter(s -> !streams.contains(s)).forEach(streams::add);
-			}
+			streams.addAll(CatalogCache.getInstance().getImageStreams(conn));
 		} catch (OpenShiftException e) {
 			OpenShiftUIActivator.log(IStatus.ERROR, e.getLocalizedMessage(), e);
 		}
@@ -114,15 +112,11 @@ public class ApplicationSourceTreeItems implements IModelFactory, ICommonAttribu
 
 			@Override
 			public Collection<IApplicationSource> visit(IProjectTemplateList capability) {
-				final Collection<ITemplate> templates = capability.getTemplates();
-				if (StringUtils.isNotBlank(conn.getClusterNamespace())) {
-					try {
-						Collection<ITemplate> commonTemplates = capability
-								.getCommonTemplates(conn.getClusterNamespace());
-						commonTemplates.stream().filter(t -> !templates.contains(t)).forEach(templates::add);
-					} catch (OpenShiftException e) {
-						OpenShiftUIActivator.log(IStatus.ERROR, e.getLocalizedMessage(), e);
-					}
+				final Collection<ITemplate> templates = new LinkedHashSet<>(capability.getTemplates());
+				try {
+					templates.addAll(CatalogCache.getInstance().getTemplates(conn));
+				} catch (OpenShiftException e) {
+					OpenShiftUIActivator.log(IStatus.ERROR, e.getLocalizedMessage(), e);
 				}
 				return templates.stream().map(TemplateApplicationSource::new).collect(Collectors.toList());
 			}
@@ -29,7 +29,7 @@ import org.jboss.tools.openshift.core.connection.Connection;
 import org.jboss.tools.openshift.core.connection.ConnectionsRegistryUtil;
 import org.jboss.tools.openshift.egit.core.EGitUtils;
 import org.jboss.tools.openshift.internal.core.docker.IDockerImageMetadata;
-import org.jboss.tools.openshift.internal.core.docker.ImageStreamTagMetaData;
+import org.jboss.tools.openshift.internal.core.docker.ImageMetadataCache;
 import org.jboss.tools.openshift.internal.ui.OpenShiftUIActivator;
 import org.jboss.tools.openshift.internal.ui.job.CreateApplicationFromImageJob;
 import org.jboss.tools.openshift.internal.ui.job.IResourcesModelJob;
@@ -181,7 +181,7 @@ public class ApplicationSourceFromImageModel extends DeployImageWizardModel
 		try {
 			Connection conn = ConnectionsRegistryUtil.getConnectionFor(getProject());
 			IResource istag = conn.getResource(ResourceKind.IMAGE_STREAM_TAG, source.getNamespace(), source.getName());
-			return new ImageStreamTagMetaData(istag.toJson(true));
+			return ImageMetadataCache.getInstance().put(istag.toJson(true));
 		} catch (Exception e) {
 			OpenShiftUIActivator.getDefault().getLogger()
 					.logError(NLS.bind("Unable to retrieve imagestream tag for {0}", getImageName()), e);
@@ -14,6 +14,7 @@ import org.jboss.tools.openshift.internal.cdk.server.test.CDK32LaunchControllerT
 import org.jboss.tools.openshift.internal.cdk.server.test.CDKDockerUtilityTest;
 import org.jboss.tools.openshift.internal.cdk.server.test.CDKLaunchControllerTest;
 import org.jboss.tools.openshift.internal.cdk.server.test.CDKOpenshiftUtilityTest;
+import org.jboss.tools.openshift.internal.cdk.server.test.CDKPollerIntervalTest;
 import org.jboss.tools.openshift.internal.cdk.server.test.CDKRegistryTest;
 import org.jboss.tools.openshift.internal.cdk.server.test.CDKRuntimeDetectorTest;
 import org.jboss.tools.openshift.internal.cdk.server.test.ServiceManagerParsingTest;
@@ -25,7 +26,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({ ServiceManagerParsingTest.class, CDKDockerUtilityTest.class, CDKOpenshiftUtilityTest.class,
 		CDKLaunchControllerTest.class, CDK32LaunchControllerTest.class, VagrantPollerTest.class, CDKRegistryTest.class,
-		CDKRuntimeDetectorTest.class })
+		CDKRuntimeDetectorTest.class, CDKPollerIntervalTest.class })
 /**
  * @author Andre Dietisheim
  */
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.cdk.server.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jboss.tools.openshift.internal.cdk.server.core.CDKCoreActivator;
+import org.jboss.tools.openshift.internal.cdk.server.core.adapter.MinishiftPoller;
+import org.junit.Test;
+
+public class CDKPollerIntervalTest {
+
+	private static final IStatus STARTING = new Status(IStatus.INFO, CDKCoreActivator.PLUGIN_ID, "starting");
+	private static final IStatus STOPPED = new Status(IStatus.ERROR, CDKCoreActivator.PLUGIN_ID, "stopped");
+
+	@Test
+	public void testIntervalGrowsWhileStatusIsUnchanged() {
+		long interval = PollerSub.nextInterval(PollerSub.MIN, 10000, null, STARTING);
+		assertEquals(PollerSub.MIN, interval);
+
+		interval = PollerSub.nextInterval(interval, 10000, STARTING, STARTING);
+		assertEquals(2 * PollerSub.MIN, interval);
+
+		interval = PollerSub.nextInterval(interval, 10000, STARTING, STARTING);
+		assertEquals(4 * PollerSub.MIN, interval);
+	}
+
+	@Test
+	public void testIntervalIsCapped() {
+		long interval = PollerSub.nextInterval(4000, 5000, STARTING, STARTING);
+		assertEquals(5000, interval);
+	}
+
+	@Test
+	public void testIntervalIsResetIfStatusChanged() {
+		long interval = PollerSub.nextInterval(4000, 5000, STARTING, STOPPED);
+		assertEquals(PollerSub.MIN, interval);
+	}
+
+	@Test
+	public void testWaitEndsIfProbeChanged() {
+		PollerSub poller = new PollerSub();
+		long start = System.currentTimeMillis();
+
+		poller.waitFor(60000);
+
+		assertTrue(System.currentTimeMillis() - start < 60000);
+		assertTrue(poller.probes >= 2);
+	}
+
+	private static class PollerSub extends MinishiftPoller {
+		private static final long MIN = MIN_POLL_INTERVAL;
+
+		private int probes = 0;
+
+		private static long nextInterval(long interval, long maxInterval, IStatus previous, IStatus current) {
+			return getNextInterval(interval, maxInterval, previous, current);
+		}
+
+		private void waitFor(long interval) {
+			waitForNextPing(interval);
+		}
+
+		@Override
+		protected Object probe() {
+			return probes++;
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc. Distributed under license by Red Hat, Inc.
+ * All rights reserved. This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution, and is
+ * available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors: Red Hat, Inc.
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.test.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.tools.openshift.common.core.connection.ConnectionsRegistrySingleton;
+import org.jboss.tools.openshift.core.ICommonAttributes;
+import org.jboss.tools.openshift.core.connection.Connection;
+import org.jboss.tools.openshift.core.connection.ConnectionProperties;
+import org.jboss.tools.openshift.internal.core.CatalogCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.model.IImageStream;
+import com.openshift.restclient.model.IResource;
+
+public class CatalogCacheTest {
+
+	private Connection connection;
+	private IImageStream imageStream;
+
+	@Before
+	public void setUp() {
+		this.connection = mock(Connection.class);
+		doReturn(ICommonAttributes.COMMON_NAMESPACE).when(connection).getClusterNamespace();
+		this.imageStream = mock(IImageStream.class);
+		doReturn(ResourceKind.IMAGE_STREAM).when(imageStream).getKind();
+		doReturn(ICommonAttributes.COMMON_NAMESPACE).when(imageStream).getNamespaceName();
+		List<IResource> streams = Arrays.asList(imageStream);
+		doReturn(streams).when(connection).getResources(ResourceKind.IMAGE_STREAM,
+				ICommonAttributes.COMMON_NAMESPACE);
+	}
+
+	@After
+	public void tearDown() {
+		CatalogCache.getInstance().invalidate(connection);
+	}
+
+	@Test
+	public void shouldListImageStreamsOnce() {
+		// given
+		CatalogCache.getInstance().getImageStreams(connection);
+		// when
+		List<IImageStream> streams = CatalogCache.getInstance().getImageStreams(connection);
+		// then
+		assertThat(streams).containsExactly(imageStream);
+		verify(connection, times(1)).getResources(ResourceKind.IMAGE_STREAM, ICommonAttributes.COMMON_NAMESPACE);
+	}
+
+	@Test
+	public void shouldListAgainIfCatalogChanged() {
+		// given
+		CatalogCache.getInstance().getImageStreams(connection);
+		// when
+		ConnectionsRegistrySingleton.getInstance().fireConnectionChanged(connection,
+				ConnectionProperties.PROPERTY_RESOURCE, null, imageStream);
+		CatalogCache.getInstance().getImageStreams(connection);
+		// then
+		verify(connection, times(2)).getResources(ResourceKind.IMAGE_STREAM, ICommonAttributes.COMMON_NAMESPACE);
+	}
+
+	@Test
+	public void shouldNotListIfThereIsNoClusterNamespace() {
+		// given
+		doReturn(null).when(connection).getClusterNamespace();
+		// when
+		List<IImageStream> streams = CatalogCache.getInstance().getImageStreams(connection);
+		// then
+		assertThat(streams).isEmpty();
+		verify(connection, never()).getResources(ResourceKind.IMAGE_STREAM, ICommonAttributes.COMMON_NAMESPACE);
+	}
+}
@@ -8,24 +8,58 @@
  ******************************************************************************/
 package org.jboss.tools.openshift.internal.test.core;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.jboss.tools.openshift.core.connection.Connection;
 import org.jboss.tools.openshift.core.connection.IOpenShiftConnection;
 import org.jboss.tools.openshift.internal.core.WatchManager;
+import org.jboss.tools.openshift.test.util.ResourceMocks;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import com.openshift.restclient.IClient;
+import com.openshift.restclient.IOpenShiftWatchListener;
 import com.openshift.restclient.IWatcher;
+import com.openshift.restclient.ResourceKind;
 import com.openshift.restclient.capability.CapabilityVisitor;
 import com.openshift.restclient.model.IProject;
+import com.openshift.restclient.model.IResource;
+
+import okhttp3.OkHttpClient;
 
 @RunWith(MockitoJUnitRunner.Silent.class)
 public class WatchManagerTest {
@@ -51,4 +85,336 @@ public class WatchManagerTest {
 		WatchManager.getInstance().stopWatch(project, connection);
 		verify(watchClient, timeout(200).times(WatchManager.KINDS.length)).stop();
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testStartStopMultiplexedWatch() {
+		// given
+		when(project.accept(any(CapabilityVisitor.class), isNull())).thenReturn(client);
+		IWatcher watchClient = mock(IWatcher.class);
+		when(client.watch(any(), any(), any())).thenReturn(watchClient);
+		WatchManager.getInstance().setMultiplexed(true);
+		try {
+			// when - then
+			WatchManager.getInstance().startWatch(project, connection);
+			verify(client, timeout(200).times(1)).watch(any(), any(), any());
+
+			WatchManager.getInstance().stopWatch(project, connection);
+			verify(watchClient, timeout(200).times(1)).stop();
+		} finally {
+			WatchManager.getInstance().setMultiplexed(false);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testMultiplexedWatchPublishesStoresUntilStopped() {
+		// given
+		when(project.getName()).thenReturn("multiplexed");
+		when(project.accept(any(CapabilityVisitor.class), isNull())).thenReturn(client);
+		Map<String, IOpenShiftWatchListener> listeners = new ConcurrentHashMap<>();
+		doAnswer(invocation -> {
+			listeners.put("*", invocation.getArgument(1));
+			return mock(IWatcher.class);
+		}).when(client).watch(anyString(), any(IOpenShiftWatchListener.class), any());
+		WatchManager manager = WatchManager.getInstance();
+		manager.setMultiplexed(true);
+		try {
+			manager.startWatch(project, connection);
+			verify(client, timeout(1000).times(1)).watch(any(), any(), any());
+			IResource pod = mockPod("5");
+			// when
+			listeners.get("*").connected(Collections.singletonList(pod));
+			// then
+			assertThat(manager.getWatchedResources(connection, "multiplexed", ResourceKind.POD)).containsExactly(pod);
+			assertThat(manager.getWatchedResources(connection, "multiplexed", ResourceKind.SERVICE)).isEmpty();
+
+			// when
+			manager.stopWatch(project, connection);
+			// then
+			assertThat(manager.getWatchedResources(connection, "multiplexed", ResourceKind.POD)).isNull();
+		} finally {
+			manager.stopWatch(project, connection);
+			manager.setMultiplexed(false);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testMultiplexedWatchesAreCapped() {
+		// given
+		IProject otherProject = mock(IProject.class);
+		when(project.accept(any(CapabilityVisitor.class), isNull())).thenReturn(client);
+		when(otherProject.accept(any(CapabilityVisitor.class), isNull())).thenReturn(client);
+		when(client.watch(any(), any(), any())).thenAnswer(invocation -> mock(IWatcher.class));
+		WatchManager manager = WatchManager.getInstance();
+		int maxWatches = manager.getMaxWatches();
+		manager.setMultiplexed(true);
+		manager.setMaxWatches(manager.getConnectedWatchCount() + 1);
+		try {
+			// when
+			manager.startWatch(project, connection);
+			manager.startWatch(otherProject, connection);
+			// then
+			verify(client, after(500).times(1)).watch(any(), any(), any());
+
+			// when
+			manager.stopWatch(project, connection);
+			// then
+			verify(client, timeout(1000).times(2)).watch(any(), any(), any());
+		} finally {
+			manager.stopWatch(project, connection);
+			manager.stopWatch(otherProject, connection);
+			manager.setMaxWatches(maxWatches);
+			manager.setMultiplexed(false);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testMultiplexedWatchStoppedWhileConnectingIsStopped() throws Exception {
+		// given
+		when(project.accept(any(CapabilityVisitor.class), isNull())).thenReturn(client);
+		IWatcher watchClient = mock(IWatcher.class);
+		CountDownLatch connecting = new CountDownLatch(1);
+		CountDownLatch stopped = new CountDownLatch(1);
+		when(client.watch(any(), any(), any())).thenAnswer(invocation -> {
+			connecting.countDown();
+			stopped.await(10, TimeUnit.SECONDS);
+			return watchClient;
+		});
+		WatchManager manager = WatchManager.getInstance();
+		int connectedWatches = manager.getConnectedWatchCount();
+		manager.setMultiplexed(true);
+		try {
+			manager.startWatch(project, connection);
+			assertThat(connecting.await(10, TimeUnit.SECONDS)).isTrue();
+			// when
+			manager.stopWatch(project, connection);
+			stopped.countDown();
+			// then
+			verify(watchClient, timeout(1000)).stop();
+			long deadline = System.currentTimeMillis() + 1000;
+			while (manager.getConnectedWatchCount() != connectedWatches
+					&& System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			assertThat(manager.getConnectedWatchCount()).isEqualTo(connectedWatches);
+		} finally {
+			manager.stopWatch(project, connection);
+			manager.setMultiplexed(false);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testRestartedWatchResumesFromVersionOfListAndBookmarks() throws Exception {
+		try (WatchServer server = new WatchServer()) {
+			// given
+			Connection connection = ResourceMocks.createConnection("http://localhost:" + server.getPort(), "aUser");
+			doReturn(new OkHttpClient()).when(connection).getHttpClient();
+			IProject project = ResourceMocks.createProject("resumed");
+			when(project.accept(any(CapabilityVisitor.class), isNull())).thenReturn(client);
+			// the namespace is empty, the watch resumes from the version of the list
+			server.onPodWatch("pods-1", WatchServer.BOOKMARK + "pods-bookmark");
+			long relists = WatchManager.getInstance().getRelistCount();
+			long resumes = WatchManager.getInstance().getResumeCount();
+			try {
+				// when
+				WatchManager.getInstance().startWatch(project, connection);
+				// then
+				server.awaitRequest("/api/v1/namespaces/resumed/pods?watch=true&resourceVersion=pods-bookmark");
+				assertThat(server.getRequests("/api/v1/namespaces/resumed/pods?")).hasSize(3);
+				verify(client, never()).watch(any(), any(), any());
+				verify(connection, never()).refresh(project);
+				long deadline = System.currentTimeMillis() + 10_000;
+				while (WatchManager.getInstance().getRelistCount() < relists + WatchManager.KINDS.length
+						&& System.currentTimeMillis() < deadline) {
+					Thread.sleep(10);
+				}
+				assertThat(WatchManager.getInstance().getRelistCount()).isEqualTo(relists + WatchManager.KINDS.length);
+				assertThat(WatchManager.getInstance().getResumeCount()).isEqualTo(resumes + 1);
+			} finally {
+				WatchManager.getInstance().stopWatch(project, connection);
+			}
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testRelistedWatchResumesFromVersionOfRelist() throws Exception {
+		try (WatchServer server = new WatchServer()) {
+			// given
+			Connection connection = ResourceMocks.createConnection("http://localhost:" + server.getPort(), "aUser");
+			doReturn(new OkHttpClient()).when(connection).getHttpClient();
+			IProject project = ResourceMocks.createProject("resumed");
+			when(project.accept(any(CapabilityVisitor.class), isNull())).thenReturn(client);
+			server.onPodWatch("pods-1", WatchServer.CLOSE);
+			server.onPodWatch("pods-2", WatchServer.CLOSE);
+			// the version that the watch resumes from is gone
+			server.onPodWatch("pods-1", WatchServer.GONE);
+			try {
+				// when
+				WatchManager.getInstance().startWatch(project, connection);
+				// then
+				server.awaitRequest("/api/v1/namespaces/resumed/pods?watch=true&resourceVersion=pods-2");
+				verify(connection, timeout(1000).times(1)).refresh(project);
+				// list, watch, resume (gone), relist, watch, resume
+				long deadline = System.currentTimeMillis() + 10_000;
+				while (server.getRequests("/api/v1/namespaces/resumed/pods?").size() < 6
+						&& System.currentTimeMillis() < deadline) {
+					Thread.sleep(10);
+				}
+				assertThat(server.getRequests("/api/v1/namespaces/resumed/pods?")).containsExactly(
+						"/api/v1/namespaces/resumed/pods?",
+						"/api/v1/namespaces/resumed/pods?watch=true&resourceVersion=pods-1&allowWatchBookmarks=true",
+						"/api/v1/namespaces/resumed/pods?watch=true&resourceVersion=pods-1&allowWatchBookmarks=true",
+						"/api/v1/namespaces/resumed/pods?",
+						"/api/v1/namespaces/resumed/pods?watch=true&resourceVersion=pods-2&allowWatchBookmarks=true",
+						"/api/v1/namespaces/resumed/pods?watch=true&resourceVersion=pods-2&allowWatchBookmarks=true");
+			} finally {
+				WatchManager.getInstance().stopWatch(project, connection);
+			}
+		}
+	}
+
+	private IResource mockPod(String resourceVersion) {
+		IResource pod = mock(IResource.class);
+		when(pod.getKind()).thenReturn(ResourceKind.POD);
+		when(pod.getName()).thenReturn("pod");
+		when(pod.getNamespaceName()).thenReturn("resumed");
+		when(pod.getResourceVersion()).thenReturn(resourceVersion);
+		when(pod.toJson(false)).thenReturn("{}");
+		return pod;
+	}
+
+	/**
+	 * A server that answers list requests with an empty list whose resource
+	 * version is the plural of the kind and the number of the list (ex.
+	 * {@code pods-1}). Pod watches are answered with the responses that were
+	 * registered for their resource version, in the order of registration,
+	 * all other watches are kept open without events.
+	 */
+	private static class WatchServer implements AutoCloseable {
+
+		private static final String CLOSE = "close";
+		private static final String GONE = "gone";
+		private static final String BOOKMARK = "bookmark:";
+
+		private final ServerSocket server;
+		private final List<String> requests = new CopyOnWriteArrayList<>();
+		private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+		private final Map<String, AtomicInteger> lists = new ConcurrentHashMap<>();
+		private final Map<String, Queue<String>> podWatches = new ConcurrentHashMap<>();
+
+		private WatchServer() throws IOException {
+			this.server = new ServerSocket(0);
+			Thread thread = new Thread(this::accept, "WatchServer");
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		private int getPort() {
+			return server.getLocalPort();
+		}
+
+		private void onPodWatch(String resourceVersion, String response) {
+			podWatches.computeIfAbsent(resourceVersion, k -> new ConcurrentLinkedQueue<>()).add(response);
+		}
+
+		private List<String> getRequests(String prefix) {
+			return requests.stream()
+					.filter(request -> request.startsWith(prefix))
+					.collect(Collectors.toList());
+		}
+
+		private void awaitRequest(String prefix) throws InterruptedException {
+			long deadline = System.currentTimeMillis() + 10_000;
+			while (getRequests(prefix).isEmpty()
+					&& System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			assertThat(getRequests(prefix)).isNotEmpty();
+		}
+
+		private void accept() {
+			try {
+				while (!server.isClosed()) {
+					Socket socket = server.accept();
+					sockets.add(socket);
+					Thread thread = new Thread(() -> serve(socket), "WatchServer request");
+					thread.setDaemon(true);
+					thread.start();
+				}
+			} catch (IOException e) {
+				// closed
+			}
+		}
+
+		private void serve(Socket socket) {
+			try {
+				BufferedReader in = new BufferedReader(
+						new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+				String path = in.readLine().split(" ")[1];
+				String header;
+				while ((header = in.readLine()) != null
+						&& !header.isEmpty()) {
+					// skip headers
+				}
+				requests.add(path);
+				OutputStream out = socket.getOutputStream();
+				int query = path.indexOf('?');
+				String resource = path.substring(path.lastIndexOf('/', query < 0 ? path.length() : query) + 1,
+						query < 0 ? path.length() : query);
+				if (!path.contains("watch=true")) {
+					String version = resource + "-"
+							+ lists.computeIfAbsent(resource, k -> new AtomicInteger()).incrementAndGet();
+					write(out, "200 OK", "{\"kind\":\"List\",\"apiVersion\":\"v1\","
+							+ "\"metadata\":{\"resourceVersion\":\"" + version + "\"},\"items\":[]}");
+					socket.close();
+					return;
+				}
+				String response = null;
+				if ("pods".equals(resource)) {
+					Matcher version = Pattern.compile("resourceVersion=([^&]*)").matcher(path);
+					Queue<String> responses = version.find() ? podWatches.get(version.group(1)) : null;
+					response = responses == null ? null : responses.poll();
+				}
+				if (GONE.equals(response)) {
+					write(out, "410 Gone", "");
+					socket.close();
+				} else if (CLOSE.equals(response)) {
+					write(out, "200 OK", "");
+					socket.close();
+				} else if (response != null
+						&& response.startsWith(BOOKMARK)) {
+					write(out, "200 OK", "{\"type\":\"BOOKMARK\",\"object\":{\"kind\":\"Pod\","
+							+ "\"metadata\":{\"resourceVersion\":\"" + response.substring(BOOKMARK.length())
+							+ "\"}}}\n");
+					socket.close();
+				} else {
+					// watch without events, kept open until the server is closed
+					write(out, "200 OK", "");
+				}
+			} catch (IOException e) {
+				// closed
+			}
+		}
+
+		private static void write(OutputStream out, String status, String body) throws IOException {
+			out.write(("HTTP/1.1 " + status + "\r\n"
+					+ "Content-Type: application/json\r\n"
+					+ "Connection: close\r\n\r\n"
+					+ body).getBytes(StandardCharsets.UTF_8));
+			out.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			server.close();
+			for (Socket socket : sockets) {
+				socket.close();
+			}
+		}
+	}
 }
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc. Distributed under license by Red Hat, Inc.
+ * All rights reserved. This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution, and is
+ * available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors: Red Hat, Inc.
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.test.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+
+import org.jboss.tools.openshift.internal.core.WatchedResourceStore;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.openshift.restclient.model.IPod;
+import com.openshift.restclient.model.IResource;
+
+public class WatchedResourceStoreTest {
+
+	private WatchedResourceStore store;
+
+	@Before
+	public void setUp() {
+		this.store = new WatchedResourceStore();
+	}
+
+	@Test
+	public void shouldReplaceStoredResourceWithSameName() {
+		// given
+		IResource v1 = createPod("pod1", "1");
+		IResource v2 = createPod("pod1", "2");
+		store.put(v1);
+		// when
+		IResource replaced = store.put(v2);
+		// then
+		assertThat(replaced).isSameAs(v1);
+		assertThat(store.get(v1)).isSameAs(v2);
+		assertThat(store.size()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldReportOlderResourceVersionAsStale() {
+		// given
+		store.put(createPod("pod1", "10"));
+		// when - then
+		assertThat(store.isStale(createPod("pod1", "9"))).isTrue();
+		assertThat(store.isStale(createPod("pod1", "10"))).isFalse();
+		assertThat(store.isStale(createPod("pod1", "11"))).isFalse();
+		assertThat(store.isStale(createPod("pod2", "1"))).isFalse();
+	}
+
+	@Test
+	public void shouldNotReportNonNumericResourceVersionAsStale() {
+		// given
+		store.put(createPod("pod1", "10"));
+		// when - then
+		assertThat(store.isStale(createPod("pod1", "abc"))).isFalse();
+		assertThat(store.isStale(createPod("pod1", null))).isFalse();
+	}
+
+	@Test
+	public void shouldReplaceAllResources() {
+		// given
+		store.put(createPod("pod1", "1"));
+		store.setLatestResourceVersion("3");
+		// when
+		store.replaceAll(Arrays.asList(createPod("pod2", "5"), createPod("pod3", "7")));
+		// then
+		assertThat(store.size()).isEqualTo(2);
+		assertThat(store.get(createPod("pod1", "1"))).isNull();
+		// the version of the new list is not known yet
+		assertThat(store.getLatestResourceVersion()).isNull();
+	}
+
+	@Test
+	public void shouldRemoveResourceByName() {
+		// given
+		IResource pod = createPod("pod1", "1");
+		store.put(pod);
+		// when
+		IResource removed = store.remove(createPod("pod1", "2"));
+		// then
+		assertThat(removed).isSameAs(pod);
+		assertThat(store.size()).isZero();
+	}
+
+	@Test
+	public void shouldKeepResourceVersionThatWasSet() {
+		// given
+		store.setLatestResourceVersion("12");
+		// when
+		store.put(createPod("pod1", "30"));
+		store.remove(createPod("pod1", "31"));
+		// then
+		assertThat(store.getLatestResourceVersion()).isEqualTo("12");
+	}
+
+	@Test
+	public void shouldNotCompareResourceVersions() {
+		// given
+		store.setLatestResourceVersion("12");
+		// when
+		store.setLatestResourceVersion("9");
+		store.setLatestResourceVersion("");
+		store.setLatestResourceVersion(null);
+		// then
+		assertThat(store.getLatestResourceVersion()).isEqualTo("9");
+		store.setLatestResourceVersion("opaque");
+		assertThat(store.getLatestResourceVersion()).isEqualTo("opaque");
+	}
+
+	@Test
+	public void shouldResetResourceVersionButKeepResources() {
+		// given
+		store.put(createPod("pod1", "3"));
+		store.setLatestResourceVersion("8");
+		// when
+		store.resetLatestResourceVersion();
+		// then
+		assertThat(store.getLatestResourceVersion()).isNull();
+		assertThat(store.size()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldDistinguishNewerAndDifferentResources() {
+		// given
+		store.put(createPod("pod1", "10"));
+		// when - then
+		assertThat(store.isNewer(createPod("pod1", "11"))).isTrue();
+		assertThat(store.isNewer(createPod("pod1", "10"))).isFalse();
+		assertThat(store.isNewer(createPod("pod1", "2"))).isFalse();
+		assertThat(store.isDifferent(createPod("pod1", "2"))).isTrue();
+		assertThat(store.isDifferent(createPod("pod1", "10"))).isFalse();
+		assertThat(store.isNewer(createPod("pod2", "1"))).isTrue();
+	}
+
+	private IResource createPod(String name, String resourceVersion) {
+		IPod pod = mock(IPod.class);
+		doReturn(name).when(pod).getName();
+		doReturn(resourceVersion).when(pod).getResourceVersion();
+		return pod;
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.test.core.podlogs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.tools.openshift.internal.core.podlogs.LogRingBuffer;
+import org.jboss.tools.openshift.internal.core.podlogs.PodLogStream;
+import org.junit.Test;
+
+/**
+ * Testing the {@link PodLogStream} and {@link LogRingBuffer} classes.
+ */
+public class PodLogStreamTest {
+
+	private static final String LINE1 = "2026-01-01T10:00:00.000000001Z first\n";
+	private static final String LINE2 = "2026-01-01T10:00:00.000000002Z second\n";
+	private static final String LINE3 = "2026-01-01T10:00:00.000000003Z third\n";
+
+	@Test
+	public void shouldWriteLogWithoutTimestamps() throws InterruptedException {
+		// given
+		ClosingOutputStream out = new ClosingOutputStream();
+		PodLogStream stream = new PodLogStream(sinceTime -> toStream(LINE1 + LINE2), out);
+		// when
+		stream.start();
+		// then
+		assertThat(out.awaitClose()).isTrue();
+		assertThat(out.toString()).isEqualTo("first\nsecond\n");
+		assertThat(stream.isRunning()).isFalse();
+	}
+
+	@Test
+	public void shouldResumeLogAfterLastLineWhenReconnecting() throws InterruptedException {
+		// given
+		List<Instant> sinceTimes = new ArrayList<>();
+		ClosingOutputStream out = new ClosingOutputStream();
+		PodLogStream stream = new PodLogStream(sinceTime -> {
+			sinceTimes.add(sinceTime);
+			if (sinceTime == null) {
+				return new SequenceInputStream(toStream(LINE1 + LINE2), new FailingInputStream());
+			}
+			// sinceTime is inclusive
+			return toStream(LINE2 + LINE3);
+		}, out);
+		// when
+		stream.start();
+		// then
+		assertThat(out.awaitClose()).isTrue();
+		assertThat(out.toString()).isEqualTo("first\nsecond\nthird\n");
+		assertThat(sinceTimes).containsExactly(null, Instant.parse("2026-01-01T10:00:00.000000002Z"));
+	}
+
+	@Test
+	public void shouldDropOldestBytesWhenBufferIsFull() throws InterruptedException {
+		// given
+		LogRingBuffer buffer = new LogRingBuffer(4);
+		byte[] data = new byte[4];
+		// when
+		buffer.write("abc".getBytes(StandardCharsets.US_ASCII), 0, 3);
+		buffer.write("def".getBytes(StandardCharsets.US_ASCII), 0, 3);
+		// then
+		assertThat(buffer.read(data)).isEqualTo(4);
+		assertThat(new String(data, StandardCharsets.US_ASCII)).isEqualTo("cdef");
+		assertThat(buffer.takeDropped()).isEqualTo(2);
+		assertThat(buffer.takeDropped()).isZero();
+		assertThat(buffer.getTotalDropped()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldReturnEndOfStreamWhenClosedAndEmpty() throws InterruptedException {
+		// given
+		LogRingBuffer buffer = new LogRingBuffer(4);
+		buffer.write("ab".getBytes(StandardCharsets.US_ASCII), 0, 2);
+		byte[] data = new byte[4];
+		// when
+		buffer.close();
+		// then
+		assertThat(buffer.read(data)).isEqualTo(2);
+		assertThat(buffer.read(data)).isEqualTo(-1);
+	}
+
+	private static InputStream toStream(String log) {
+		return new ByteArrayInputStream(log.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static class FailingInputStream extends InputStream {
+
+		@Override
+		public int read() throws IOException {
+			throw new IOException("connection reset");
+		}
+	}
+
+	private static class ClosingOutputStream extends ByteArrayOutputStream {
+
+		private final CountDownLatch closed = new CountDownLatch(1);
+
+		@Override
+		public void close() throws IOException {
+			closed.countDown();
+		}
+
+		boolean awaitClose() throws InterruptedException {
+			return closed.await(10, TimeUnit.SECONDS);
+		}
+	}
+}
@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.internal.test.core.portforwarding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.launching.SocketUtil;
+import org.jboss.tools.openshift.internal.core.portforwarding.PortForwardingCounters;
+import org.jboss.tools.openshift.internal.core.portforwarding.PortForwardingEngine;
+import org.jboss.tools.openshift.internal.core.portforwarding.PortForwardingEngine.Forwarding;
+import org.jboss.tools.openshift.internal.core.portforwarding.PortForwardingUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.openshift.restclient.capability.resources.IPortForwardable.PortPair;
+
+import okhttp3.Request;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okio.ByteString;
+
+/**
+ * Testing the {@link PortForwardingEngine} class against a websocket that
+ * echoes what it's sent.
+ */
+public class PortForwardingEngineTest {
+
+	private static final int REMOTE_PORT = 8080;
+
+	private PortPair port;
+
+	@Before
+	public void setUp() {
+		this.port = Mockito.mock(PortPair.class);
+		Mockito.when(port.getLocalPort()).thenReturn(SocketUtil.findFreePort());
+		Mockito.when(port.getRemotePort()).thenReturn(REMOTE_PORT);
+	}
+
+	@Test
+	public void shouldForwardLocalConnection() throws IOException {
+		// given
+		Forwarding forwarding = PortForwardingEngine.getInstance().forward(Arrays.asList(port), EchoWebSocket::new);
+		byte[] echoed = new byte[5];
+		// when
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port.getLocalPort())) {
+			socket.getOutputStream().write("hello".getBytes(StandardCharsets.UTF_8));
+			new DataInputStream(socket.getInputStream()).readFully(echoed);
+		} finally {
+			forwarding.stop();
+		}
+		// then
+		assertThat(new String(echoed, StandardCharsets.UTF_8)).isEqualTo("hello");
+		PortForwardingCounters counters = forwarding.getCounters().get(port);
+		assertThat(counters.getBytesSent()).isEqualTo(5);
+		assertThat(counters.getBytesReceived()).isEqualTo(5);
+		assertThat(counters.getConnections()).isEqualTo(1);
+		assertThat(counters.getActiveConnections()).isZero();
+	}
+
+	@Test
+	public void shouldReleaseLocalPortWhenStopped() throws IOException {
+		// given
+		Forwarding forwarding = PortForwardingEngine.getInstance().forward(Arrays.asList(port), EchoWebSocket::new);
+		assertThat(PortForwardingUtils.isPortInUse(port.getLocalPort())).isTrue();
+		// when
+		forwarding.stop();
+		// then
+		assertThat(forwarding.isForwarding()).isFalse();
+		assertThat(PortForwardingUtils.isPortInUse(port.getLocalPort())).isFalse();
+	}
+
+	@Test
+	public void shouldStopReadingFromWebSocketWhileLocalConnectionIsNotReading() throws Exception {
+		// given
+		Forwarding forwarding = PortForwardingEngine.getInstance().forward(Arrays.asList(port), FloodingWebSocket::new);
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port.getLocalPort())) {
+			// when
+			Thread.sleep(1000);
+			// then
+			FloodingWebSocket webSocket = FloodingWebSocket.last;
+			assertThat(webSocket).isNotNull();
+			assertThat(webSocket.delivered.get()).isLessThan(FloodingWebSocket.TOTAL);
+
+			// when
+			byte[] all = new byte[FloodingWebSocket.TOTAL];
+			new DataInputStream(socket.getInputStream()).readFully(all);
+			// then
+			webSocket.flooding.join(10_000);
+			assertThat(webSocket.delivered.get()).isEqualTo(FloodingWebSocket.TOTAL);
+		} finally {
+			forwarding.stop();
+		}
+	}
+
+	@Test
+	public void shouldEndSelectorThreadWhenNothingIsForwarded() throws Exception {
+		// given
+		Forwarding forwarding = PortForwardingEngine.getInstance().forward(Arrays.asList(port), EchoWebSocket::new);
+		assertThat(isSelectorThreadAlive()).isTrue();
+		// when
+		forwarding.stop();
+		// then
+		long deadline = System.currentTimeMillis() + 2000;
+		while (isSelectorThreadAlive()
+				&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(isSelectorThreadAlive()).isFalse();
+	}
+
+	private static boolean isSelectorThreadAlive() {
+		return Thread.getAllStackTraces().keySet().stream()
+				.anyMatch(thread -> thread.isAlive() && "OpenShift Port Forwarding".equals(thread.getName()));
+	}
+
+	/**
+	 * A websocket that announces the forwarded port on the data channel and then
+	 * sends {@link #TOTAL} bytes as fast as they are consumed.
+	 */
+	private static class FloodingWebSocket extends EchoWebSocket {
+
+		private static final int FRAME_SIZE = 64 * 1024;
+		private static final int TOTAL = 512 * FRAME_SIZE;
+		private static volatile FloodingWebSocket last;
+
+		private final AtomicInteger delivered = new AtomicInteger();
+		private final Thread flooding;
+
+		private FloodingWebSocket(int remotePort, WebSocketListener listener) {
+			super(remotePort, listener);
+			this.flooding = new Thread(() -> {
+				byte[] frame = new byte[FRAME_SIZE + 1];
+				while (delivered.get() < TOTAL) {
+					// the listener blocks while the local connection is not reading
+					listener.onMessage(this, ByteString.of(frame));
+					delivered.addAndGet(FRAME_SIZE);
+				}
+			});
+			flooding.setDaemon(true);
+			flooding.start();
+			last = this;
+		}
+	}
+
+	/**
+	 * A websocket that announces the forwarded port on the data and error
+	 * channel and then echoes all data that it's sent.
+	 */
+	private static class EchoWebSocket implements WebSocket {
+
+		private final WebSocketListener listener;
+
+		private EchoWebSocket(int remotePort, WebSocketListener listener) {
+			this.listener = listener;
+			byte low = (byte) (remotePort & 0xff);
+			byte high = (byte) (remotePort >> 8);
+			listener.onMessage(this, ByteString.of((byte) 0, low, high));
+			listener.onMessage(this, ByteString.of((byte) 1, low, high));
+		}
+
+		@Override
+		public Request request() {
+			return null;
+		}
+
+		@Override
+		public long queueSize() {
+			return 0;
+		}
+
+		@Override
+		public boolean send(String text) {
+			return false;
+		}
+
+		@Override
+		public boolean send(ByteString bytes) {
+			listener.onMessage(this, bytes);
+			return true;
+		}
+
+		@Override
+		public boolean close(int code, String reason) {
+			return true;
+		}
+
+		@Override
+		public void cancel() {
+		}
+	}
+}
@@ -1,27 +1,46 @@
 package org.jboss.tools.openshift.internal.test.ui.models;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jboss.tools.openshift.common.core.connection.ConnectionsRegistrySingleton;
 import org.jboss.tools.openshift.core.connection.IOpenShiftConnection;
 import org.jboss.tools.openshift.internal.core.WatchManager;
 import org.jboss.tools.openshift.internal.core.WatchManager.WatchListener;
 import org.jboss.tools.openshift.internal.ui.models.ConnectionWrapper;
+import org.jboss.tools.openshift.internal.ui.models.IReplicationControllerWrapper;
+import org.jboss.tools.openshift.internal.ui.models.IResourceWrapper;
+import org.jboss.tools.openshift.internal.ui.models.IServiceWrapper;
 import org.jboss.tools.openshift.internal.ui.models.OpenshiftUIModel;
 import org.jboss.tools.openshift.internal.ui.models.ProjectWrapper;
 import org.junit.Before;
 import org.junit.Test;
 
 import com.openshift.restclient.IOpenShiftWatchListener.ChangeType;
+import com.openshift.restclient.OpenShiftException;
 import com.openshift.restclient.ResourceKind;
 import com.openshift.restclient.model.IBuildConfig;
+import com.openshift.restclient.model.IDeploymentConfig;
+import com.openshift.restclient.model.IImageStream;
 import com.openshift.restclient.model.IProject;
 import com.openshift.restclient.model.IResource;
+import com.openshift.restclient.model.IService;
 
 public class ConnectionWrapperTest {
 
@@ -29,6 +48,7 @@ public class ConnectionWrapperTest {
 
 	private IResource resource;
 	private IProject project;
+	private IOpenShiftConnection connection;
 	private ProjectWrapper projectWrapper;
 	private WatchListenerTestable watchListener;
 
@@ -38,7 +58,7 @@ public class ConnectionWrapperTest {
         when(project.getName()).thenReturn(NAMESPACE);
         when(project.getNamespaceName()).thenReturn(NAMESPACE);
         
-		IOpenShiftConnection connection = mock(IOpenShiftConnection.class);
+		this.connection = mock(IOpenShiftConnection.class);
 		when(connection.isDefaultHost()).thenReturn(true);
 		when(connection.getUsername()).thenReturn("bdshadow");
 		when(connection.getResources(eq(ResourceKind.PROJECT))).thenReturn(Arrays.asList(new IResource[] { project }));
@@ -76,6 +96,150 @@ public class ConnectionWrapperTest {
 		assertEquals(0, projectWrapper.getResources().size());
 	}
 
+	@Test
+	public void shouldListKindsConcurrently() throws Exception {
+		// given
+		IResource imageStream = mockResource(IImageStream.class, ResourceKind.IMAGE_STREAM);
+		Map<String, List<IResource>> resources = new HashMap<>();
+		resources.put(ResourceKind.BUILD_CONFIG, Collections.singletonList(resource));
+		resources.put(ResourceKind.IMAGE_STREAM, Collections.singletonList(imageStream));
+		CountDownLatch listing = new CountDownLatch(2);
+		AtomicBoolean concurrent = new AtomicBoolean(true);
+		when(connection.getResources(anyString(), eq(NAMESPACE))).thenAnswer(invocation -> {
+			// the latch is only released if 2 kinds are listed at the same time
+			listing.countDown();
+			if (!listing.await(5, TimeUnit.SECONDS)) {
+				concurrent.set(false);
+			}
+			return resources.getOrDefault(invocation.getArgument(0), Collections.emptyList());
+		});
+		// when
+		projectWrapper.refresh();
+		// then
+		assertTrue(concurrent.get());
+		assertEquals(1, projectWrapper.getResourcesOfKind(ResourceKind.BUILD_CONFIG).size());
+		assertEquals(1, projectWrapper.getResourcesOfKind(ResourceKind.IMAGE_STREAM).size());
+	}
+
+	@Test
+	public void shouldOnlyReplaceResourcesOfListedKindOnRefresh() throws Exception {
+		// given
+		IResource imageStream = mockResource(IImageStream.class, ResourceKind.IMAGE_STREAM);
+		Map<String, List<IResource>> resources = new HashMap<>();
+		resources.put(ResourceKind.BUILD_CONFIG, Collections.singletonList(resource));
+		resources.put(ResourceKind.IMAGE_STREAM, Collections.singletonList(imageStream));
+		when(connection.getResources(anyString(), eq(NAMESPACE)))
+				.thenAnswer(invocation -> resources.getOrDefault(invocation.getArgument(0), Collections.emptyList()));
+		projectWrapper.refresh();
+		IResourceWrapper<?, ?> buildConfig = projectWrapper.getResourcesOfKind(ResourceKind.BUILD_CONFIG).iterator()
+				.next();
+		resources.remove(ResourceKind.IMAGE_STREAM);
+		// when
+		projectWrapper.refresh();
+		// then
+		assertEquals(0, projectWrapper.getResourcesOfKind(ResourceKind.IMAGE_STREAM).size());
+		assertSame(buildConfig, projectWrapper.getResourcesOfKind(ResourceKind.BUILD_CONFIG).iterator().next());
+	}
+
+	@Test
+	public void shouldKeepListedKindsIfOtherKindFails() throws Exception {
+		// given
+		when(connection.getResources(anyString(), eq(NAMESPACE))).thenAnswer(invocation -> {
+			String kind = invocation.getArgument(0);
+			if (ResourceKind.BUILD_CONFIG.equals(kind)) {
+				return Collections.singletonList(resource);
+			} else if (ResourceKind.ROUTE.equals(kind)) {
+				// fail once the build configs were published
+				long timeout = System.currentTimeMillis() + 5_000;
+				while (projectWrapper.getResourcesOfKind(ResourceKind.BUILD_CONFIG).isEmpty()
+						&& System.currentTimeMillis() < timeout) {
+					Thread.sleep(10);
+				}
+				throw new OpenShiftException("Could not list %s", kind);
+			}
+			return Collections.emptyList();
+		});
+		// when
+		try {
+			projectWrapper.refresh();
+			fail("OpenShiftException expected");
+		} catch (OpenShiftException e) {
+			// expected
+		}
+		// then
+		assertEquals(1, projectWrapper.getResourcesOfKind(ResourceKind.BUILD_CONFIG).size());
+	}
+
+	@Test
+	public void shouldShowDeploymentConfigBelowServiceThatIsListedAfterIt() throws Exception {
+		// given
+		Map<String, String> selector = Collections.singletonMap("name", "hello");
+		IDeploymentConfig dc = mockResource(IDeploymentConfig.class, ResourceKind.DEPLOYMENT_CONFIG);
+		when(dc.getName()).thenReturn("hello");
+		when(dc.getReplicaSelector()).thenReturn(selector);
+		IService service = mockResource(IService.class, ResourceKind.SERVICE);
+		when(service.getName()).thenReturn("hello");
+		when(service.getSelector()).thenReturn(selector);
+		when(connection.getResources(anyString(), eq(NAMESPACE))).thenAnswer(invocation -> {
+			String kind = invocation.getArgument(0);
+			if (ResourceKind.DEPLOYMENT_CONFIG.equals(kind)) {
+				return Collections.singletonList(dc);
+			} else if (ResourceKind.SERVICE.equals(kind)) {
+				// list the service once the deployment config was published
+				long timeout = System.currentTimeMillis() + 5_000;
+				while (projectWrapper.getResourcesOfKind(ResourceKind.DEPLOYMENT_CONFIG).isEmpty()
+						&& System.currentTimeMillis() < timeout) {
+					Thread.sleep(10);
+				}
+				return Collections.singletonList(service);
+			}
+			return Collections.emptyList();
+		});
+		// when
+		projectWrapper.refresh();
+		// then
+		assertEquals(0, projectWrapper.getResourcesOfKind(ResourceKind.DEPLOYMENT_CONFIG).stream()
+				.filter(IReplicationControllerWrapper.class::isInstance).count());
+		IResourceWrapper<?, ?> serviceWrapper = projectWrapper.getResourcesOfKind(ResourceKind.SERVICE).iterator()
+				.next();
+		assertTrue(serviceWrapper instanceof IServiceWrapper);
+		assertEquals(1, ((IServiceWrapper) serviceWrapper).getResourcesOfKind(ResourceKind.DEPLOYMENT_CONFIG).size());
+	}
+
+	@Test
+	public void shouldShowDeploymentConfigAtTopLevelOnceItsServiceIsDeleted() throws Exception {
+		// given
+		Map<String, String> selector = Collections.singletonMap("name", "hello");
+		IDeploymentConfig dc = mockResource(IDeploymentConfig.class, ResourceKind.DEPLOYMENT_CONFIG);
+		when(dc.getName()).thenReturn("hello");
+		when(dc.getReplicaSelector()).thenReturn(selector);
+		IService service = mockResource(IService.class, ResourceKind.SERVICE);
+		when(service.getName()).thenReturn("hello");
+		when(service.getSelector()).thenReturn(selector);
+		Map<String, List<IResource>> resources = new HashMap<>();
+		resources.put(ResourceKind.DEPLOYMENT_CONFIG, Collections.singletonList(dc));
+		resources.put(ResourceKind.SERVICE, Collections.singletonList(service));
+		when(connection.getResources(anyString(), eq(NAMESPACE)))
+				.thenAnswer(invocation -> resources.getOrDefault(invocation.getArgument(0), Collections.emptyList()));
+		projectWrapper.refresh();
+		assertFalse(projectWrapper.getResourcesOfKind(ResourceKind.DEPLOYMENT_CONFIG).iterator()
+				.next() instanceof IReplicationControllerWrapper);
+		resources.remove(ResourceKind.SERVICE);
+		// when
+		projectWrapper.refresh();
+		// then
+		assertTrue(projectWrapper.getResourcesOfKind(ResourceKind.DEPLOYMENT_CONFIG).iterator()
+				.next() instanceof IReplicationControllerWrapper);
+	}
+
+	private <T extends IResource> T mockResource(Class<T> clazz, String kind) {
+		T wrapped = mock(clazz);
+		when(wrapped.getKind()).thenReturn(kind);
+		when(wrapped.getNamespaceName()).thenReturn(NAMESPACE);
+		when(wrapped.getProject()).thenReturn(project);
+		return wrapped;
+	}
+
 	private static class WatchListenerTestable extends WatchListener {
 
 		@Override
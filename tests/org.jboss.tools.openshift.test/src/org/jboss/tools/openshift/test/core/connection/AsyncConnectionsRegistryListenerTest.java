@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.test.core.connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.tools.openshift.common.core.connection.AsyncConnectionsRegistryListener;
+import org.jboss.tools.openshift.common.core.connection.ConnectionsRegistry;
+import org.jboss.tools.openshift.common.core.connection.IConnection;
+import org.jboss.tools.openshift.common.core.connection.IConnectionsRegistryListener;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testing listeners that are added with
+ * {@link ConnectionsRegistry#addAsyncListener(IConnectionsRegistryListener, java.util.function.Function)}
+ */
+public class AsyncConnectionsRegistryListenerTest {
+
+	private static final String PROPERTY = "resource";
+
+	private ConnectionsRegistry registry;
+	private IConnection connection;
+	private RecordingListener listener;
+
+	@Before
+	public void setUp() {
+		this.registry = new ConnectionsRegistry();
+		this.connection = new ConnectionFake("http://localhost:8080");
+		this.listener = new RecordingListener();
+	}
+
+	@Test
+	public void shouldNotifyInOtherThread() throws InterruptedException {
+		// given
+		registry.addAsyncListener(listener, Resource::getKey);
+		listener.release.countDown();
+		// when
+		registry.add(connection);
+		// then
+		assertThat(listener.awaitEvents(1)).isTrue();
+		assertThat(listener.threads).doesNotContain(Thread.currentThread());
+	}
+
+	@Test
+	public void shouldCoalesceQueuedChangesOfSameResource() throws InterruptedException {
+		// given
+		AsyncConnectionsRegistryListener asyncListener = registry.addAsyncListener(listener, Resource::getKey);
+		// blocks the listener until released
+		registry.add(connection);
+		listener.awaitEvents(1);
+		Resource a1 = new Resource("a", 1);
+		Resource a2 = new Resource("a", 2);
+		Resource a3 = new Resource("a", 3);
+		Resource b1 = new Resource("b", 1);
+		// when
+		registry.fireConnectionChanged(connection, PROPERTY, a1, a2);
+		registry.fireConnectionChanged(connection, PROPERTY, null, b1);
+		registry.fireConnectionChanged(connection, PROPERTY, a2, a3);
+		listener.release.countDown();
+		// then
+		assertThat(listener.awaitEvents(3)).isTrue();
+		assertThat(listener.events).containsExactly("added", "a 1 -> a 3", "null -> b 1");
+		assertThat(asyncListener.getCoalescedCount()).isEqualTo(1);
+		assertThat(asyncListener.getMaxQueueDepth()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldDropResourceThatWasAddedAndRemovedWhileQueued() throws InterruptedException {
+		// given
+		registry.addAsyncListener(listener, Resource::getKey);
+		registry.add(connection);
+		listener.awaitEvents(1);
+		Resource a1 = new Resource("a", 1);
+		Resource b1 = new Resource("b", 1);
+		// when
+		registry.fireConnectionChanged(connection, PROPERTY, null, a1);
+		registry.fireConnectionChanged(connection, PROPERTY, a1, null);
+		registry.fireConnectionChanged(connection, PROPERTY, null, b1);
+		listener.release.countDown();
+		// then
+		assertThat(listener.awaitEvents(2)).isTrue();
+		assertThat(listener.events).containsExactly("added", "null -> b 1");
+	}
+
+	@Test
+	public void shouldNotNotifyListenerThatWasRemoved() throws InterruptedException {
+		// given
+		AsyncConnectionsRegistryListener asyncListener = registry.addAsyncListener(listener, Resource::getKey);
+		registry.add(connection);
+		listener.awaitEvents(1);
+		registry.fireConnectionChanged(connection, PROPERTY, null, new Resource("a", 1));
+		// when
+		registry.removeListener(listener);
+		listener.release.countDown();
+		// then
+		assertThat(listener.awaitEvents(1)).isTrue();
+		assertThat(asyncListener.getQueueDepth()).isZero();
+		assertThat(listener.events).containsExactly("added");
+	}
+
+	private static class Resource {
+
+		private final String name;
+		private final int version;
+
+		private Resource(String name, int version) {
+			this.name = name;
+			this.version = version;
+		}
+
+		private static Object getKey(Object value) {
+			if (!(value instanceof Resource)) {
+				return null;
+			}
+			return ((Resource) value).name;
+		}
+
+		@Override
+		public String toString() {
+			return name + " " + version;
+		}
+	}
+
+	/**
+	 * Records the events it's notified of. Blocks when notified of an added
+	 * connection until it's released.
+	 */
+	private static class RecordingListener implements IConnectionsRegistryListener {
+
+		private final List<String> events = new CopyOnWriteArrayList<>();
+		private final List<Thread> threads = new CopyOnWriteArrayList<>();
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		@Override
+		public void connectionAdded(IConnection connection) {
+			record("added");
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override
+		public void connectionRemoved(IConnection connection) {
+			record("removed");
+		}
+
+		@Override
+		public void connectionChanged(IConnection connection, String property, Object oldValue, Object newValue) {
+			record(oldValue + " -> " + newValue);
+		}
+
+		private synchronized void record(String event) {
+			events.add(event);
+			threads.add(Thread.currentThread());
+			notifyAll();
+		}
+
+		private synchronized boolean awaitEvents(int count) throws InterruptedException {
+			long end = System.currentTimeMillis() + 10 * 1000;
+			while (events.size() < count) {
+				long remaining = end - System.currentTimeMillis();
+				if (remaining <= 0) {
+					return false;
+				}
+				wait(remaining);
+			}
+			return true;
+		}
+	}
+}
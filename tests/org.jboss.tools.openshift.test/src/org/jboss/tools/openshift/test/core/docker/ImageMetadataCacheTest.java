@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.test.core.docker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.commons.io.IOUtils;
+import org.jboss.tools.common.util.FileUtils;
+import org.jboss.tools.openshift.core.server.DevmodeMetadata;
+import org.jboss.tools.openshift.core.server.PodDeploymentPathMetadata;
+import org.jboss.tools.openshift.internal.core.docker.ContentDigest;
+import org.jboss.tools.openshift.internal.core.docker.ImageMetadata;
+import org.jboss.tools.openshift.internal.core.docker.ImageMetadataCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testing the {@link ImageMetadataCache} class.
+ */
+public class ImageMetadataCacheTest {
+
+	private static final String NODEJS_IMAGESTREAM_TAG_URI = "/resources/imageStreamTag_nodejs_latest.json";
+	private static final ContentDigest NODEJS_DIGEST = new ContentDigest(
+			"sha256:4bc2b9f8ab9d75b9cfb8feb287f5c29633c2ccf9c39303635161df7ab04c9688");
+
+	private File folder;
+	private String imageStreamTag;
+
+	@Before
+	public void setUp() throws IOException {
+		this.folder = Files.createTempDirectory("image-metadata").toFile();
+		this.imageStreamTag = IOUtils.toString(ImageMetadataCacheTest.class.getResourceAsStream(NODEJS_IMAGESTREAM_TAG_URI),
+				StandardCharsets.UTF_8);
+	}
+
+	@After
+	public void tearDown() {
+		System.clearProperty(ImageMetadataCache.MAX_ENTRIES_KEY);
+		FileUtils.remove(folder);
+	}
+
+	@Test
+	public void shouldParseImageStreamTag() {
+		// given
+		// when
+		ImageMetadata metadata = ImageMetadata.parse(imageStreamTag);
+		// then
+		assertThat(metadata.getDigest()).isEqualTo(NODEJS_DIGEST);
+		assertThat(metadata.exposedPorts()).containsExactly("8080/tcp");
+		assertThat(metadata.env()).contains("NPM_RUN=start");
+		assertThat(metadata.labels()).containsEntry("com.redhat.dev-mode", "DEV_MODE:false");
+		assertThat(metadata.workingDir()).isEqualTo("/opt/app-root/src");
+	}
+
+	@Test
+	public void shouldInferDevmodeAndPodPathFromLabels() {
+		// given
+		ImageMetadata metadata = ImageMetadata.parse(imageStreamTag);
+		// when
+		DevmodeMetadata devmode = new DevmodeMetadata(metadata.labels());
+		PodDeploymentPathMetadata podPath = new PodDeploymentPathMetadata(metadata.labels(), metadata.workingDir());
+		// then
+		DevmodeMetadata expectedDevmode = new DevmodeMetadata(imageStreamTag);
+		assertThat(devmode.getEnablementKey()).isEqualTo(expectedDevmode.getEnablementKey());
+		assertThat(devmode.getEnablementValue()).isEqualTo(expectedDevmode.getEnablementValue());
+		assertThat(devmode.getPortKey()).isEqualTo(expectedDevmode.getPortKey());
+		assertThat(devmode.getPortValue()).isEqualTo(expectedDevmode.getPortValue());
+		assertThat(podPath.get()).isEqualTo(new PodDeploymentPathMetadata(imageStreamTag).get());
+	}
+
+	@Test
+	public void shouldReturnMetadataByDigestOfImageReference() {
+		// given
+		ImageMetadataCache cache = new ImageMetadataCache(folder);
+		cache.put(imageStreamTag);
+		// when
+		ImageMetadata metadata = cache.get("172.30.1.1:5000/node/nodejs@" + NODEJS_DIGEST);
+		// then
+		assertThat(metadata).isNotNull();
+		assertThat(metadata.getDigest()).isEqualTo(NODEJS_DIGEST);
+	}
+
+	@Test
+	public void shouldNotReturnMetadataForReferenceWithoutDigest() {
+		// given
+		ImageMetadataCache cache = new ImageMetadataCache(folder);
+		cache.put(imageStreamTag);
+		// when
+		ImageMetadata metadata = cache.get("172.30.1.1:5000/node/nodejs:latest");
+		// then
+		assertThat(metadata).isNull();
+	}
+
+	@Test
+	public void shouldReadMetadataThatAnotherCacheStored() {
+		// given
+		ImageMetadata stored = new ImageMetadataCache(folder).put(imageStreamTag);
+		// when
+		ImageMetadata metadata = new ImageMetadataCache(folder).get(NODEJS_DIGEST);
+		// then
+		assertThat(metadata).isNotNull();
+		assertThat(metadata.exposedPorts()).isEqualTo(stored.exposedPorts());
+		assertThat(metadata.env()).isEqualTo(stored.env());
+		assertThat(metadata.labels()).isEqualTo(stored.labels());
+		assertThat(metadata.volumes()).isEqualTo(stored.volumes());
+		assertThat(metadata.workingDir()).isEqualTo(stored.workingDir());
+	}
+
+	@Test
+	public void shouldKeepMetadataInMemoryIfThereIsNoFolder() {
+		// given
+		ImageMetadataCache cache = new ImageMetadataCache(null);
+		cache.put(imageStreamTag);
+		// when
+		ImageMetadata metadata = cache.get(NODEJS_DIGEST);
+		// then
+		assertThat(metadata).isNotNull();
+	}
+
+	@Test
+	public void shouldRemoveLeastRecentlyUsedFiles() {
+		// given
+		System.setProperty(ImageMetadataCache.MAX_ENTRIES_KEY, "1");
+		ImageMetadataCache cache = new ImageMetadataCache(folder);
+		cache.put(imageStreamTag);
+		// when
+		cache.put(imageStreamTag.replace(NODEJS_DIGEST.getHex(), "0123456789abcdef"));
+		// then
+		assertThat(folder.list()).hasSize(1);
+	}
+
+	@Test
+	public void shouldGetDigestOfImageReferences() {
+		// given
+		// when
+		// then
+		assertThat(ImageMetadataCache.getDigest("172.30.1.1:5000/node/nodejs@" + NODEJS_DIGEST))
+				.isEqualTo(NODEJS_DIGEST);
+		assertThat(ImageMetadataCache.getDigest("docker-pullable://172.30.1.1:5000/node/nodejs@" + NODEJS_DIGEST))
+				.isEqualTo(NODEJS_DIGEST);
+		assertThat(ImageMetadataCache.getDigest("172.30.1.1:5000/node/nodejs:latest")).isNull();
+		assertThat(ImageMetadataCache.getDigest(null)).isNull();
+	}
+}
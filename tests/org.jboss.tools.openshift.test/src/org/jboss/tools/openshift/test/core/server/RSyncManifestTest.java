@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.test.core.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.jboss.tools.common.util.FileUtils;
+import org.jboss.tools.openshift.core.server.RSyncManifest;
+import org.jboss.tools.openshift.core.server.RSyncManifest.Delta;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RSyncManifestTest {
+
+	private File folder;
+
+	@Before
+	public void setUp() throws IOException {
+		this.folder = Files.createTempDirectory("RSyncManifestTest").toFile();
+		write("index.html", "<html/>");
+		write("WEB-INF/web.xml", "<web-app/>");
+		write(".git/config", "[core]");
+	}
+
+	@After
+	public void tearDown() {
+		FileUtils.remove(folder);
+	}
+
+	@Test
+	public void shouldNotReportChangesForUnchangedFolder() throws IOException {
+		// given
+		RSyncManifest synced = RSyncManifest.create(folder, null);
+		// when
+		Delta delta = synced.diff(RSyncManifest.create(folder, synced));
+		// then
+		assertThat(delta.isEmpty()).isTrue();
+		assertThat(synced.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldReportAddedAndModifiedFiles() throws IOException {
+		// given
+		RSyncManifest synced = RSyncManifest.create(folder, null);
+		write("WEB-INF/web.xml", "<web-app version=\"3.1\"/>");
+		write("css/style.css", "body {}");
+		// when
+		Delta delta = synced.diff(RSyncManifest.create(folder, synced));
+		// then
+		assertThat(delta.getChanged()).containsExactly("WEB-INF/web.xml", "css/style.css");
+		assertThat(delta.getRemoved()).isEmpty();
+		assertThat(delta.getBytes()).isEqualTo("<web-app version=\"3.1\"/>".length() + "body {}".length());
+	}
+
+	@Test
+	public void shouldNotReportTouchedFileWithSameContent() throws IOException {
+		// given
+		RSyncManifest synced = RSyncManifest.create(folder, null);
+		File index = new File(folder, "index.html");
+		index.setLastModified(index.lastModified() + 10_000);
+		// when
+		Delta delta = synced.diff(RSyncManifest.create(folder, synced));
+		// then
+		assertThat(delta.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void shouldReportRemovedFiles() throws IOException {
+		// given
+		RSyncManifest synced = RSyncManifest.create(folder, null);
+		new File(folder, "index.html").delete();
+		// when
+		Delta delta = synced.diff(RSyncManifest.create(folder, synced));
+		// then
+		assertThat(delta.getChanged()).isEmpty();
+		assertThat(delta.getRemoved()).containsExactly("index.html");
+	}
+
+	private void write(String path, String content) throws IOException {
+		File file = new File(folder, path);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,295 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.test.core.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.wst.server.core.IServer;
+import org.jboss.ide.eclipse.as.core.server.IServerConsoleWriter;
+import org.jboss.tools.common.util.FileUtils;
+import org.jboss.tools.openshift.common.core.connection.ConnectionsRegistrySingleton;
+import org.jboss.tools.openshift.core.connection.Connection;
+import org.jboss.tools.openshift.core.server.RSync;
+import org.jboss.tools.openshift.core.server.RSyncManifestCache;
+import org.jboss.tools.openshift.test.core.server.util.OpenShiftServerTestUtils;
+import org.jboss.tools.openshift.test.util.ResourceMocks;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.capability.CapabilityVisitor;
+import com.openshift.restclient.capability.resources.IRSyncable;
+import com.openshift.restclient.capability.resources.IRSyncable.PodPeer;
+import com.openshift.restclient.model.IPod;
+import com.openshift.restclient.model.IProject;
+import com.openshift.restclient.model.IService;
+
+/**
+ * Testing the concurrent pod syncs of {@link RSync}.
+ */
+public class RSyncTest {
+
+	private static final long TIMEOUT = 10;
+	private static final Map<String, String> SELECTOR = Collections.singletonMap("app", "rsync");
+
+	private File folder;
+	private Connection connection;
+	private IProject project;
+	private IService service;
+	private IServer server;
+	private IServerConsoleWriter consoleWriter;
+	private List<String> lines;
+
+	@Before
+	public void setUp() throws Exception {
+		this.folder = Files.createTempDirectory("RSyncTest").toFile();
+		this.connection = ResourceMocks.createConnection("https://localhost:8443", "developer");
+		ConnectionsRegistrySingleton.getInstance().add(connection);
+		this.project = ResourceMocks.createProject("rsync");
+		this.service = ResourceMocks.createService("rsync", project, SELECTOR);
+		this.server = OpenShiftServerTestUtils.mockServer(service, connection);
+		doReturn("rsync-server").when(server).getId();
+		this.lines = new CopyOnWriteArrayList<>();
+		this.consoleWriter = mock(IServerConsoleWriter.class);
+		doAnswer(invocation -> {
+			lines.addAll(Arrays.asList((String[]) invocation.getArgument(1)));
+			return null;
+		}).when(consoleWriter).writeToShell(anyString(), any(String[].class));
+	}
+
+	@After
+	public void tearDown() {
+		RSyncManifestCache.INSTANCE.invalidate(server);
+		ConnectionsRegistrySingleton.getInstance().remove(connection);
+		FileUtils.remove(folder);
+	}
+
+	@Test
+	public void shouldSyncPodsConcurrently() {
+		// given
+		CountDownLatch syncing = new CountDownLatch(3);
+		AtomicBoolean concurrent = new AtomicBoolean(true);
+		mockPods(syncing, concurrent, "pod1", "pod2", "pod3");
+		// when
+		MultiStatus status = new RSync(service, "/opt/app", server).syncDirectoryToPods(folder, consoleWriter);
+		// then
+		assertThat(status.isOK()).isTrue();
+		assertThat(concurrent.get()).isTrue();
+	}
+
+	@Test
+	public void shouldPumpLogsOfPodsWhileTheySync() {
+		// given
+		mockPods(new CountDownLatch(0), new AtomicBoolean(), "pod1", "pod2", "pod3");
+		// when
+		MultiStatus status = new RSync(service, "/opt/app", server).syncDirectoryToPods(folder, consoleWriter);
+		// then
+		assertThat(status.isOK()).isTrue();
+		assertThat(lines).containsExactlyInAnyOrder("[pod1] synced pod1", "[pod2] synced pod2", "[pod3] synced pod3");
+	}
+
+	@Test
+	public void shouldLogAllPodsIfMorePodsSyncThanThereAreLogThreads() throws InterruptedException {
+		// given
+		List<IPod> pods = new ArrayList<>();
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			pods.add(mockPod("pod" + i, "uid" + i, 0, new CopyOnWriteArrayList<>()));
+			expected.add("[pod" + i + "] synced pod" + i);
+		}
+		doReturn(pods).when(connection).getResources(ResourceKind.POD, project.getName());
+		// when
+		MultiStatus status = new RSync(service, "/opt/app", server).syncDirectoryToPods(folder, consoleWriter);
+		// then
+		assertThat(status.isOK()).isTrue();
+		long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT);
+		while (lines.size() < expected.size() && System.currentTimeMillis() < timeout) {
+			Thread.sleep(10);
+		}
+		assertThat(lines).containsExactlyInAnyOrderElementsOf(expected);
+	}
+
+	@Test
+	public void shouldPullPodBeforeDeletingFilesInIt() throws IOException {
+		// given
+		List<String> syncs = new CopyOnWriteArrayList<>();
+		IPod pod = mockPod("pod1", "uid1", 0, syncs);
+		doReturn(Collections.singletonList(pod)).when(connection).getResources(ResourceKind.POD, project.getName());
+		write("a.txt", "a");
+		write("b.txt", "b");
+		RSync rsync = new RSync(service, "/opt/app", server);
+		rsync.syncChangesToPods(folder, consoleWriter);
+		syncs.clear();
+		// when
+		Files.delete(new File(folder, "b.txt").toPath());
+		MultiStatus status = rsync.syncChangesToPods(folder, consoleWriter);
+		// then
+		assertThat(status.isOK()).isTrue();
+		assertThat(syncs).containsExactly("pull", "push");
+	}
+
+	@Test
+	public void shouldNotPullPodIfNoFileWasDeleted() throws IOException {
+		// given
+		List<String> syncs = new CopyOnWriteArrayList<>();
+		IPod pod = mockPod("pod1", "uid1", 0, syncs);
+		doReturn(Collections.singletonList(pod)).when(connection).getResources(ResourceKind.POD, project.getName());
+		write("a.txt", "a");
+		RSync rsync = new RSync(service, "/opt/app", server);
+		rsync.syncChangesToPods(folder, consoleWriter);
+		syncs.clear();
+		// when
+		write("a.txt", "changed");
+		MultiStatus status = rsync.syncChangesToPods(folder, consoleWriter);
+		// then
+		assertThat(status.isOK()).isTrue();
+		assertThat(syncs).containsExactly("push");
+	}
+
+	@Test
+	public void shouldSyncRestartedPodToDirectory() throws IOException {
+		// given
+		List<String> syncs = new CopyOnWriteArrayList<>();
+		IPod pod = mockPod("pod1", "uid1", 0, syncs);
+		doReturn(Collections.singletonList(pod)).when(connection).getResources(ResourceKind.POD, project.getName());
+		write("a.txt", "a");
+		RSync rsync = new RSync(service, "/opt/app", server);
+		rsync.syncChangesToPods(folder, consoleWriter);
+		rsync.syncUnknownPodsToDirectory(folder, consoleWriter);
+		syncs.clear();
+		// when
+		IPod restarted = mockPod("pod1", "uid1", 1, syncs);
+		doReturn(Collections.singletonList(restarted)).when(connection).getResources(ResourceKind.POD,
+				project.getName());
+		MultiStatus status = rsync.syncUnknownPodsToDirectory(folder, consoleWriter);
+		// then
+		assertThat(status.isOK()).isTrue();
+		assertThat(syncs).containsExactly("pull");
+	}
+
+	/**
+	 * Mocks a running pod with the given uid and container restarts whose syncs
+	 * are recorded as "pull" or "push" in the given list.
+	 */
+	private IPod mockPod(String name, String uid, int restarts, List<String> syncs) {
+		IPod pod = ResourceMocks.createPod(name, project, SELECTOR);
+		when(pod.getStatus()).thenReturn("Running");
+		when(pod.toJson(true)).thenReturn("{\"metadata\": {\"name\": \"" + name + "\", \"uid\": \"" + uid
+				+ "\"}, \"status\": {\"containerStatuses\": [{\"restartCount\": " + restarts + "}]}}");
+		IRSyncable rsyncable = mock(IRSyncable.class);
+		when(rsyncable.sync(any(), any(), any())).thenAnswer(invocation -> {
+			syncs.add(invocation.getArgument(0) instanceof PodPeer ? "pull" : "push");
+			return new ByteArrayInputStream(("synced " + name + "\n").getBytes(StandardCharsets.UTF_8));
+		});
+		doAnswer(invocation -> {
+			CapabilityVisitor<IRSyncable, IRSyncable> visitor = invocation.getArgument(0);
+			return visitor.visit(rsyncable);
+		}).when(pod).accept(any(), any());
+		return pod;
+	}
+
+	private void write(String file, String content) throws IOException {
+		Files.write(new File(folder, file).toPath(), content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Mocks running pods whose syncs count down the given latch and wait for it to
+	 * be released by the other syncs. A sync only ends once its output was logged,
+	 * the output stream stays open until then.
+	 */
+	private void mockPods(CountDownLatch syncing, AtomicBoolean concurrent, String... names) {
+		List<IPod> pods = new CopyOnWriteArrayList<>();
+		for (String name : names) {
+			IPod pod = ResourceMocks.createPod(name, project, SELECTOR);
+			when(pod.getStatus()).thenReturn("Running");
+			CountDownLatch logged = new CountDownLatch(1);
+			IRSyncable rsyncable = mock(IRSyncable.class);
+			when(rsyncable.sync(any(), any(), any())).thenReturn(output("synced " + name, logged));
+			try {
+				doAnswer(invocation -> {
+					syncing.countDown();
+					if (!syncing.await(TIMEOUT, TimeUnit.SECONDS)) {
+						concurrent.set(false);
+					}
+					// the sync is stuck if its output is not pumped
+					long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT);
+					while (!lines.contains("[" + name + "] synced " + name)
+							&& System.currentTimeMillis() < timeout) {
+						Thread.sleep(10);
+					}
+					logged.countDown();
+					return null;
+				}).when(rsyncable).await();
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+			doAnswer(invocation -> {
+				CapabilityVisitor<IRSyncable, IRSyncable> visitor = invocation.getArgument(0);
+				return visitor.visit(rsyncable);
+			}).when(pod).accept(any(), any());
+			pods.add(pod);
+		}
+		doReturn(pods).when(connection).getResources(ResourceKind.POD, project.getName());
+	}
+
+	/**
+	 * Returns a stream that returns the given line and then blocks until the given
+	 * latch is released.
+	 */
+	private static InputStream output(String line, CountDownLatch done) {
+		InputStream lines = new ByteArrayInputStream((line + "\n").getBytes(StandardCharsets.UTF_8));
+		return new InputStream() {
+
+			@Override
+			public int read() throws IOException {
+				byte[] b = new byte[1];
+				return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				if (lines.available() > 0) {
+					return lines.read(b, off, len);
+				}
+				try {
+					done.await(TIMEOUT, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return -1;
+			}
+		};
+	}
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.test.core.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceRuleFactory;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.MultiRule;
+import org.eclipse.wst.server.core.IServer;
+import org.eclipse.wst.server.core.ServerUtil;
+import org.jboss.tools.openshift.core.server.OpenShiftServer;
+import org.jboss.tools.openshift.internal.core.server.resources.ResourceChangePublisher;
+import org.jboss.tools.openshift.internal.core.server.resources.ResourceChangePublisher.MagicProjectChangeJob;
+import org.jboss.tools.openshift.test.core.server.util.OpenShiftServerTestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testing the debouncing and coalescing of {@link ResourceChangePublisher}.
+ */
+public class ResourceChangePublisherTest {
+
+	private IServer server;
+	private OpenShiftServer openshiftServer;
+	private TestableResourceChangePublisher publisher;
+	private IProject project1;
+	private IProject project2;
+
+	@Before
+	public void setUp() throws Exception {
+		// dont run the job while the test looks at it
+		System.setProperty(ResourceChangePublisher.QUIET_PERIOD_KEY, String.valueOf(60 * 1000));
+		System.setProperty(ResourceChangePublisher.MAX_LATENCY_KEY, String.valueOf(120 * 1000));
+		this.server = OpenShiftServerTestUtils.createOpenshift3Server("coalescing", null);
+		this.openshiftServer = (OpenShiftServer) server.loadAdapter(OpenShiftServer.class, new NullProgressMonitor());
+		this.publisher = new TestableResourceChangePublisher();
+		this.project1 = ResourcesPlugin.getWorkspace().getRoot().getProject("coalescing1");
+		this.project2 = ResourcesPlugin.getWorkspace().getRoot().getProject("coalescing2");
+	}
+
+	@After
+	public void tearDown() {
+		getJobs().forEach(Job::cancel);
+		System.clearProperty(ResourceChangePublisher.QUIET_PERIOD_KEY);
+		System.clearProperty(ResourceChangePublisher.MAX_LATENCY_KEY);
+		OpenShiftServerTestUtils.cleanup();
+	}
+
+	@Test
+	public void shouldCoalesceChangesIntoSingleWaitingJob() {
+		// given
+		IFile index = project1.getFile("index.html");
+		IFile style = project1.getFile("style.css");
+		publisher.handle(project1, Arrays.asList(index));
+		// when
+		publisher.handle(project1, Arrays.asList(index, style));
+		publisher.handle(project1, Arrays.asList(style));
+		// then
+		List<MagicProjectChangeJob> jobs = getJobs();
+		assertThat(jobs).hasSize(1);
+		MagicProjectChangeJob job = jobs.get(0);
+		assertThat(job.getState()).isEqualTo(Job.SLEEPING);
+		assertThat(job.getCoalescedDeltas()).isEqualTo(3);
+		assertThat(job.getChanges()).containsExactly(index, style);
+	}
+
+	@Test
+	public void shouldRunWithRuleForAllProjectsOfCoalescedChanges() {
+		// given
+		publisher.handle(project1, Arrays.asList(project1.getFile("index.html")));
+		// when
+		publisher.handle(project2, Arrays.asList(project2.getFile("index.html")));
+		// then
+		List<MagicProjectChangeJob> jobs = getJobs();
+		assertThat(jobs).hasSize(1);
+		ISchedulingRule rule = jobs.get(0).getResourcesRule();
+		IResourceRuleFactory ruleFactory = ResourcesPlugin.getWorkspace().getRuleFactory();
+		assertThat(rule.contains(ruleFactory.createRule(project1))).isTrue();
+		assertThat(rule.contains(ruleFactory.createRule(project2))).isTrue();
+		assertThat(((MultiRule) rule).getChildren()).contains(server);
+	}
+
+	private List<MagicProjectChangeJob> getJobs() {
+		return Arrays.stream(Job.getJobManager().find(ServerUtil.SERVER_JOB_FAMILY))
+				.filter(MagicProjectChangeJob.class::isInstance)
+				.map(MagicProjectChangeJob.class::cast)
+				.filter(job -> server.equals(job.getServer()))
+				.collect(Collectors.toList());
+	}
+
+	private class TestableResourceChangePublisher extends ResourceChangePublisher {
+
+		private void handle(IProject project, List<? extends IResource> changes) {
+			IResourceDelta delta = mock(IResourceDelta.class);
+			when(delta.getResource()).thenReturn(project);
+			handleSpecialProjectChange(openshiftServer, delta, new ArrayList<>(changes), null);
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.test.core.server.behavior.eap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.jboss.tools.common.util.FileUtils;
+import org.jboss.tools.openshift.core.server.behavior.eap.DeploymentMarkerProbe;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testing the {@link DeploymentMarkerProbe} class.
+ */
+public class DeploymentMarkerProbeTest {
+
+	private Path deployments;
+	private String undeployed;
+	private String failed;
+
+	@Before
+	public void setUp() throws IOException {
+		this.deployments = Files.createTempDirectory("deployments");
+		this.undeployed = deployments.resolve("it's.war.undeployed").toString();
+		this.failed = deployments.resolve("it's.war.failed").toString();
+	}
+
+	@After
+	public void tearDown() {
+		FileUtils.remove(deployments.toFile());
+	}
+
+	@Test
+	public void shouldPrintMarkerThatExists() throws IOException, InterruptedException {
+		// given
+		Files.createFile(deployments.resolve("it's.war.failed"));
+		// when
+		String output = runScript(DeploymentMarkerProbe.createScript(Arrays.asList(undeployed, failed), 1000));
+		// then
+		assertThat(output.trim()).isEqualTo(failed);
+	}
+
+	@Test
+	public void shouldPrintMarkerThatShowsUpWhileProbing() throws IOException, InterruptedException {
+		// given
+		new Thread(() -> {
+			try {
+				Thread.sleep(500);
+				Files.createFile(deployments.resolve("it's.war.undeployed"));
+			} catch (IOException | InterruptedException e) {
+				// test fails
+			}
+		}).start();
+		// when
+		String output = runScript(DeploymentMarkerProbe.createScript(Arrays.asList(undeployed, failed), 10_000));
+		// then
+		assertThat(output.trim()).isEqualTo(undeployed);
+	}
+
+	@Test
+	public void shouldPrintNothingIfNoMarkerShowsUp() throws IOException, InterruptedException {
+		// given
+		// when
+		String output = runScript(DeploymentMarkerProbe.createScript(Arrays.asList(undeployed, failed), 400));
+		// then
+		assertThat(output).isEmpty();
+	}
+
+	@Test
+	public void shouldReturnPrintedMarkerOnSuccess() throws IOException {
+		// given
+		// when
+		String marker = DeploymentMarkerProbe.getMarker(undeployed + "\n", "{\"metadata\":{},\"status\":\"Success\"}");
+		// then
+		assertThat(marker).isEqualTo(undeployed);
+	}
+
+	@Test
+	public void shouldReturnNullIfScriptFoundNoMarker() throws IOException {
+		// given
+		// when
+		String marker = DeploymentMarkerProbe.getMarker("",
+				"{\"metadata\":{},\"status\":\"Failure\",\"reason\":\"NonZeroExitCode\","
+				+ "\"details\":{\"causes\":[{\"reason\":\"ExitCode\",\"message\":\"1\"}]}}");
+		// then
+		assertThat(marker).isNull();
+	}
+
+	@Test(expected = IOException.class)
+	public void shouldThrowIfScriptCouldNotRun() throws IOException {
+		// given
+		// when
+		DeploymentMarkerProbe.getMarker("",
+				"{\"metadata\":{},\"status\":\"Failure\",\"reason\":\"NonZeroExitCode\","
+				+ "\"message\":\"command terminated with non-zero exit code\","
+				+ "\"details\":{\"causes\":[{\"reason\":\"ExitCode\",\"message\":\"127\"}]}}");
+		// then
+	}
+
+	private String runScript(String script) throws IOException, InterruptedException {
+		assumeTrue(new File("/bin/sh").canExecute());
+		Process process = new ProcessBuilder("/bin/sh", "-c", script).start();
+		assertThat(process.waitFor(20, TimeUnit.SECONDS)).isTrue();
+		return IOUtils.toString(process.getInputStream(), StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.test.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.egit.core.project.RepositoryMapping;
+import org.eclipse.jgit.events.ConfigChangedEvent;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.jboss.tools.openshift.internal.core.util.GitRemoteIndex;
+import org.jboss.tools.openshift.test.util.ResourceMocks;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Testing the {@link GitRemoteIndex} class.
+ */
+public class GitRemoteIndexTest {
+
+	private IProject plainProject;
+	private IProject sshProject;
+	private IProject httpsProject;
+
+	@Before
+	public void setUp() throws CoreException {
+		this.plainProject = ResourceMocks.createEclipseProject("plain");
+		this.sshProject = ResourceMocks.createGitSharedProject("ssh", "git@github.com:jbosstools/ssh.git");
+		this.httpsProject = ResourceMocks.createGitSharedProject("https", "https://github.com/jbosstools/https");
+	}
+
+	@After
+	public void tearDown() {
+		GitRemoteIndex.getInstance().clear();
+	}
+
+	@Test
+	public void shouldReturnProjectWithMatchingRemote() {
+		// given
+		// when
+		IProject project = GitRemoteIndex.getInstance().getProjectFor("git@github.com:jbosstools/ssh.git",
+				Arrays.asList(plainProject, sshProject, httpsProject));
+		// then
+		assertThat(project).isEqualTo(sshProject);
+	}
+
+	@Test
+	public void shouldNotMatchOtherNotationOfRemote() {
+		// given
+		// when
+		IProject project = GitRemoteIndex.getInstance().getProjectFor("https://github.com/jbosstools/ssh.git",
+				Arrays.asList(plainProject, sshProject, httpsProject));
+		// then
+		assertThat(project).isNull();
+	}
+
+	@Test
+	public void shouldNotReadProjectsAgainOnceIndexed() {
+		// given
+		List<IProject> projects = Arrays.asList(plainProject, sshProject, httpsProject);
+		GitRemoteIndex.getInstance().getProjectFor("https://github.com/jbosstools/https", projects);
+		int invocations = getInvocations(projects);
+		// when
+		IProject project = GitRemoteIndex.getInstance().getProjectFor("https://github.com/jbosstools/https", projects);
+		// then
+		assertThat(project).isEqualTo(httpsProject);
+		assertThat(getInvocations(projects)).isEqualTo(invocations);
+	}
+
+	@Test
+	public void shouldReadRemotesAgainWhenRepositoryConfigChanged() {
+		// given
+		Repository repository = RepositoryMapping.getMapping(httpsProject).getRepository();
+		when(repository.getDirectory()).thenReturn(new File("/repositories/https/.git"));
+		List<IProject> projects = Arrays.asList(plainProject, sshProject, httpsProject);
+		GitRemoteIndex.getInstance().getProjectFor("https://github.com/jbosstools/https", projects);
+		StoredConfig config = repository.getConfig();
+		when(config.getStringList("remote", "origin", "url")).thenReturn(new String[] { "https://github.com/jbosstools/moved" });
+		ConfigChangedEvent event = new ConfigChangedEvent();
+		event.setRepository(repository);
+		// when
+		Repository.getGlobalListenerList().dispatch(event);
+		// then
+		assertThat(GitRemoteIndex.getInstance().getProjectFor("https://github.com/jbosstools/moved", projects))
+				.isEqualTo(httpsProject);
+		assertThat(GitRemoteIndex.getInstance().getProjectFor("https://github.com/jbosstools/https", projects))
+				.isNull();
+	}
+
+	private static int getInvocations(List<IProject> projects) {
+		return projects.stream()
+				.mapToInt(project -> Mockito.mockingDetails(project).getInvocations().size())
+				.sum();
+	}
+
+	@Test
+	public void shouldReturnNullIfNoRemoteMatches() {
+		// given
+		// when
+		IProject project = GitRemoteIndex.getInstance().getProjectFor("https://github.com/jbosstools/other",
+				Arrays.asList(plainProject, sshProject, httpsProject));
+		// then
+		assertThat(project).isNull();
+	}
+
+	@Test
+	public void shouldNotMatchProjectThatIsNotIncluded() {
+		// given
+		GitRemoteIndex.getInstance().getProjectFor("https://github.com/jbosstools/https",
+				Arrays.asList(sshProject, httpsProject));
+		// when
+		IProject project = GitRemoteIndex.getInstance().getProjectFor("https://github.com/jbosstools/https",
+				Arrays.asList(plainProject, sshProject));
+		// then
+		assertThat(project).isNull();
+	}
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.test.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.jboss.tools.openshift.common.core.connection.ConnectionsRegistrySingleton;
+import org.jboss.tools.openshift.core.OpenShiftAPIAnnotations;
+import org.jboss.tools.openshift.core.connection.Connection;
+import org.jboss.tools.openshift.core.connection.ConnectionProperties;
+import org.jboss.tools.openshift.internal.core.util.NewPodDetector;
+import org.jboss.tools.openshift.test.util.ResourceMocks;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.model.IDeploymentConfig;
+import com.openshift.restclient.model.IPod;
+import com.openshift.restclient.model.IProject;
+
+/**
+ * Testing the {@link NewPodDetector} class.
+ */
+public class NewPodDetectorTest {
+
+	private static final long TIMEOUT = 10_000;
+	private static final Map<String, String> SELECTOR = Collections.singletonMap("deploymentconfig", "app");
+
+	private Connection connection;
+	private IProject project;
+	private IDeploymentConfig dc;
+	private IPod oldPod;
+
+	@Before
+	public void setUp() {
+		this.connection = ResourceMocks.createConnection("https://localhost:8443", "developer");
+		when(connection.ownsResource(any())).thenReturn(true);
+		ConnectionsRegistrySingleton.getInstance().add(connection);
+		this.project = ResourceMocks.createProject("newpod");
+		this.dc = mock(IDeploymentConfig.class);
+		when(dc.getKind()).thenReturn(ResourceKind.DEPLOYMENT_CONFIG);
+		when(dc.getName()).thenReturn("app");
+		when(dc.getNamespaceName()).thenReturn(project.getName());
+		when(dc.getReplicaSelector()).thenReturn(SELECTOR);
+		this.oldPod = createPod("app-1-abcde");
+		doReturn(Arrays.asList(oldPod)).when(connection).getResources(ResourceKind.POD, project.getName());
+	}
+
+	@After
+	public void tearDown() {
+		ConnectionsRegistrySingleton.getInstance().remove(connection);
+	}
+
+	@Test
+	public void shouldCompleteWaitWhenNewPodIsReported() throws Exception {
+		// given
+		CompletableFuture<IPod> newPod = NewPodDetector.detect(dc, TIMEOUT);
+		IPod pod = createPod("app-2-fghij");
+		fireLater(oldPod, pod);
+		long start = System.currentTimeMillis();
+		// when
+		IPod detected = NewPodDetector.waitFor(newPod);
+		// then
+		assertThat(detected).isSameAs(pod);
+		assertThat(System.currentTimeMillis() - start).isLessThan(TIMEOUT);
+	}
+
+	@Test
+	public void shouldTimeOutIfOnlyOldPodIsReported() {
+		// given
+		CompletableFuture<IPod> newPod = NewPodDetector.detect(dc, 1_000);
+		fireLater(oldPod);
+		// when
+		Throwable thrown = catchThrowable(() -> NewPodDetector.waitFor(newPod));
+		// then
+		assertThat(thrown).isInstanceOf(ExecutionException.class);
+		assertThat(thrown.getCause()).isInstanceOf(TimeoutException.class);
+	}
+
+	@Test
+	public void shouldStopWaitingIfFutureIsCancelled() {
+		// given
+		CompletableFuture<IPod> newPod = NewPodDetector.detect(dc, TIMEOUT);
+		new Thread(() -> newPod.cancel(false)).start();
+		// when
+		Throwable thrown = catchThrowable(() -> NewPodDetector.waitFor(newPod));
+		// then
+		assertThat(thrown).isInstanceOf(OperationCanceledException.class);
+	}
+
+	private IPod createPod(String name) {
+		IPod pod = ResourceMocks.createPod(name, project, SELECTOR,
+				Collections.singletonMap(OpenShiftAPIAnnotations.DEPLOYMENT_CONFIG_NAME, "app"));
+		when(pod.getStatus()).thenReturn("Running");
+		return pod;
+	}
+
+	/**
+	 * Fires changes of the given pods to the connections registry as the watches
+	 * do, in a thread of its own.
+	 */
+	private void fireLater(IPod... pods) {
+		Thread thread = new Thread(() -> {
+			for (IPod pod : pods) {
+				ConnectionsRegistrySingleton.getInstance().fireConnectionChanged(connection,
+						ConnectionProperties.PROPERTY_RESOURCE, null, pod);
+			}
+		});
+		thread.setDaemon(true);
+		thread.start();
+	}
+}
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.test.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.jboss.tools.openshift.common.core.connection.ConnectionsRegistrySingleton;
+import org.jboss.tools.openshift.core.connection.Connection;
+import org.jboss.tools.openshift.core.connection.ConnectionProperties;
+import org.jboss.tools.openshift.internal.core.util.ResourceCondition;
+import org.jboss.tools.openshift.test.util.ResourceMocks;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.model.IPod;
+import com.openshift.restclient.model.IProject;
+
+/**
+ * Testing the {@link ResourceCondition} class.
+ */
+public class ResourceConditionTest {
+
+	private static final long TIMEOUT = 10_000;
+
+	private Connection connection;
+	private IProject project;
+	private AtomicBoolean met;
+	private AtomicInteger checks;
+	private ResourceCondition condition;
+
+	@Before
+	public void setUp() {
+		// dont recheck unless there's a change
+		System.setProperty(ResourceCondition.RECHECK_INTERVAL_KEY, String.valueOf(TIMEOUT * 2));
+		System.setProperty(ResourceCondition.UNWATCHED_RECHECK_INTERVAL_KEY, String.valueOf(TIMEOUT * 2));
+		this.connection = ResourceMocks.createConnection("https://localhost:8443", "admin");
+		this.project = ResourceMocks.createProject("project");
+		this.met = new AtomicBoolean();
+		this.checks = new AtomicInteger();
+		this.condition = new ResourceCondition(connection, project.getName(), () -> {
+			checks.incrementAndGet();
+			return met.get();
+		}, ResourceKind.POD);
+	}
+
+	@After
+	public void tearDown() {
+		System.clearProperty(ResourceCondition.RECHECK_INTERVAL_KEY);
+		System.clearProperty(ResourceCondition.UNWATCHED_RECHECK_INTERVAL_KEY);
+	}
+
+	@Test
+	public void shouldNotWaitIfConditionIsMet() throws CoreException {
+		// given
+		met.set(true);
+		// when
+		boolean result = condition.waitFor(TIMEOUT, new NullProgressMonitor());
+		// then
+		assertThat(result).isTrue();
+		assertThat(checks.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldRecheckWhenResourceOfKindInNamespaceChanges() throws CoreException {
+		// given
+		IPod pod = ResourceMocks.createPod("pod", project, Collections.emptyMap());
+		fireWhenChecked(pod);
+		long start = System.currentTimeMillis();
+		// when
+		boolean result = condition.waitFor(TIMEOUT, new NullProgressMonitor());
+		// then
+		assertThat(result).isTrue();
+		assertThat(System.currentTimeMillis() - start).isLessThan(TIMEOUT);
+	}
+
+	@Test
+	public void shouldNotRecheckWhenResourceInOtherNamespaceChanges() throws CoreException {
+		// given
+		IPod pod = ResourceMocks.createPod("pod", ResourceMocks.createProject("other"), Collections.emptyMap());
+		fireWhenChecked(pod);
+		// when
+		boolean result = condition.waitFor(2_000, new NullProgressMonitor());
+		// then
+		assertThat(result).isFalse();
+		assertThat(checks.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldRecheckAfterRecheckInterval() throws CoreException {
+		// given
+		System.setProperty(ResourceCondition.RECHECK_INTERVAL_KEY, "200");
+		System.setProperty(ResourceCondition.UNWATCHED_RECHECK_INTERVAL_KEY, "200");
+		// when
+		boolean result = condition.waitFor(2_000, new NullProgressMonitor());
+		// then
+		assertThat(result).isFalse();
+		assertThat(checks.get()).isGreaterThan(1);
+	}
+
+	@Test
+	public void shouldRecheckEverySecondIfNamespaceIsNotWatched() throws CoreException {
+		// given
+		System.clearProperty(ResourceCondition.UNWATCHED_RECHECK_INTERVAL_KEY);
+		// when
+		boolean result = condition.waitFor(2_500, new NullProgressMonitor());
+		// then
+		assertThat(result).isFalse();
+		assertThat(checks.get()).isGreaterThanOrEqualTo(3);
+	}
+
+	@Test
+	public void shouldStopWaitingIfMonitorIsCancelled() throws CoreException {
+		// given
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		long start = System.currentTimeMillis();
+		// when
+		boolean result = condition.waitFor(TIMEOUT, monitor);
+		// then
+		assertThat(result).isFalse();
+		assertThat(System.currentTimeMillis() - start).isLessThan(TIMEOUT);
+	}
+
+	/**
+	 * Fires a change of the given pod once the condition was checked the first
+	 * time, the condition is then met.
+	 */
+	private void fireWhenChecked(IPod pod) {
+		Thread thread = new Thread(() -> {
+			while (checks.get() == 0) {
+				Thread.yield();
+			}
+			met.set(true);
+			ConnectionsRegistrySingleton.getInstance().fireConnectionChanged(connection,
+					ConnectionProperties.PROPERTY_RESOURCE, null, pod);
+		});
+		thread.setDaemon(true);
+		thread.start();
+	}
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.test.ui.applicationexplorer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.jboss.tools.openshift.core.odo.DevfileRegistry;
+import org.jboss.tools.openshift.internal.ui.models.applicationexplorer.ApplicationExplorerCache;
+import org.jboss.tools.openshift.internal.ui.models.applicationexplorer.ApplicationExplorerUIModel;
+import org.jboss.tools.openshift.internal.ui.models.applicationexplorer.DevfileRegistriesElement;
+import org.jboss.tools.openshift.internal.ui.models.applicationexplorer.DevfileRegistryElement;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ApplicationExplorerCacheTest {
+
+	private static final long TTL = 1000;
+	private static final Executor SAME_THREAD = Runnable::run;
+
+	private TestableCache cache;
+	private AtomicInteger loads;
+	private Supplier<Object[]> loader;
+
+	@Before
+	public void setUp() {
+		this.cache = new TestableCache();
+		this.loads = new AtomicInteger();
+		this.loader = () -> new Object[] { "child" + loads.incrementAndGet() };
+	}
+
+	@Test
+	public void shouldReturnNullIfNotLoaded() {
+		// given
+		// when
+		Object[] children = cache.getIfPresent("namespace");
+		// then
+		assertThat(children).isNull();
+	}
+
+	@Test
+	public void shouldLoadOnlyOnce() {
+		// given
+		cache.get("namespace", loader, SAME_THREAD);
+		// when
+		Object[] children = cache.get("namespace", loader, SAME_THREAD).join();
+		// then
+		assertThat(children).containsExactly("child1");
+		assertThat(cache.getIfPresent("namespace")).containsExactly("child1");
+		assertThat(loads.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldReloadWhenExpired() {
+		// given
+		cache.get("namespace", loader, SAME_THREAD);
+		cache.time += TTL + 1;
+		// when
+		Object[] children = cache.get("namespace", loader, SAME_THREAD).join();
+		// then
+		assertThat(children).containsExactly("child2");
+	}
+
+	@Test
+	public void shouldReloadWhenInvalidated() {
+		// given
+		cache.get("namespace", loader, SAME_THREAD);
+		cache.get("registry", loader, SAME_THREAD);
+		// when
+		cache.invalidate("namespace");
+		// then
+		assertThat(cache.getIfPresent("namespace")).isNull();
+		assertThat(cache.getIfPresent("registry")).containsExactly("child2");
+		assertThat(cache.get("namespace", loader, SAME_THREAD).join()).containsExactly("child3");
+	}
+
+	@Test
+	public void shouldNotCacheFailures() {
+		// given
+		cache.get("namespace", () -> {
+			throw new IllegalStateException();
+		}, SAME_THREAD);
+		// when
+		Object[] children = cache.get("namespace", loader, SAME_THREAD).join();
+		// then
+		assertThat(children).containsExactly("child1");
+	}
+
+	@Test
+	public void shouldReturnChildrenOfRecreatedElement() {
+		// given
+		DevfileRegistriesElement registries = new DevfileRegistriesElement(mock(ApplicationExplorerUIModel.class));
+		cache.get(new DevfileRegistryElement(mockRegistry("default"), registries), loader, SAME_THREAD);
+		// when
+		DevfileRegistryElement recreated = new DevfileRegistryElement(mockRegistry("default"), registries);
+		Object[] children = cache.get(recreated, loader, SAME_THREAD).join();
+		// then
+		assertThat(children).containsExactly("child1");
+		assertThat(cache.getIfPresent(recreated)).containsExactly("child1");
+		assertThat(cache.getIfPresent(new DevfileRegistryElement(mockRegistry("other"), registries))).isNull();
+		assertThat(loads.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldInvalidateRecreatedElement() {
+		// given
+		DevfileRegistriesElement registries = new DevfileRegistriesElement(mock(ApplicationExplorerUIModel.class));
+		cache.get(new DevfileRegistryElement(mockRegistry("default"), registries), loader, SAME_THREAD);
+		DevfileRegistryElement recreated = new DevfileRegistryElement(mockRegistry("default"), registries);
+		// when
+		cache.invalidate(recreated);
+		// then
+		assertThat(cache.getIfPresent(recreated)).isNull();
+	}
+
+	private static DevfileRegistry mockRegistry(String name) {
+		DevfileRegistry registry = mock(DevfileRegistry.class);
+		when(registry.getName()).thenReturn(name);
+		return registry;
+	}
+
+	private static class TestableCache extends ApplicationExplorerCache {
+
+		private long time = 0;
+
+		private TestableCache() {
+			super(TTL);
+		}
+
+		@Override
+		protected long now() {
+			return time;
+		}
+	}
+}
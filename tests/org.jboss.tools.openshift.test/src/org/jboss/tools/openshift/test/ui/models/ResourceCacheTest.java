@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.test.ui.models;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.tools.openshift.internal.ui.models.ResourceCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.model.IResource;
+
+/**
+ * Testing the concurrent adds and removes and the cleanup of the kind and
+ * namespace buckets of {@link ResourceCache}.
+ */
+public class ResourceCacheTest {
+
+	private static final int THREADS = 8;
+	private static final int RESOURCES = 500;
+	private static final String NAMESPACE = "cache";
+	private static final String[] KINDS = { ResourceKind.POD, ResourceKind.SERVICE, ResourceKind.ROUTE,
+			ResourceKind.BUILD, ResourceKind.REPLICATION_CONTROLLER };
+
+	private ResourceCache cache;
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		this.cache = new ResourceCache(2);
+		this.executor = Executors.newFixedThreadPool(THREADS);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+		cache.dispose();
+	}
+
+	@Test
+	public void shouldCacheEachResourceOnceIfAddedConcurrently() throws Exception {
+		// given
+		List<IResource> pods = new ArrayList<>();
+		for (int i = 0; i < RESOURCES; i++) {
+			pods.add(mockResource(NAMESPACE, ResourceKind.POD, "pod-" + i));
+		}
+		AtomicInteger added = new AtomicInteger();
+		// when
+		runConcurrently(thread -> pods.forEach(pod -> {
+			if (cache.add(pod)) {
+				added.incrementAndGet();
+			}
+		}));
+		// then
+		assertThat(added.get()).isEqualTo(RESOURCES);
+		assertThat(cache.<IResource>getResources(NAMESPACE, ResourceKind.POD))
+				.containsExactlyInAnyOrderElementsOf(pods);
+	}
+
+	@Test
+	public void shouldNotLoseResourcesAddedWhileBucketsOfTheSameKindAreEmptied() throws Exception {
+		// given
+		cache.setVisible(NAMESPACE, true);
+		List<IResource> kept = new ArrayList<>();
+		List<IResource> dropped = new ArrayList<>();
+		for (int i = 0; i < RESOURCES; i++) {
+			kept.add(mockResource(NAMESPACE, KINDS[i % KINDS.length], "kept-" + i));
+			dropped.add(mockResource(NAMESPACE, KINDS[i % KINDS.length], "dropped-" + i));
+		}
+		// when
+		runConcurrently(thread -> {
+			for (int i = thread; i < RESOURCES; i += THREADS) {
+				if (thread % 2 == 0) {
+					cache.add(kept.get(i));
+				} else {
+					// empties the bucket of this kind if no kept resource was added yet
+					cache.add(dropped.get(i));
+					cache.remove(dropped.get(i));
+				}
+			}
+		});
+		runConcurrently(thread -> {
+			for (int i = thread; i < RESOURCES; i += THREADS) {
+				if (thread % 2 != 0) {
+					cache.add(kept.get(i));
+				}
+			}
+		});
+		// then
+		assertThat(cache.<IResource>getResources(NAMESPACE)).containsExactlyInAnyOrderElementsOf(kept);
+	}
+
+	@Test
+	public void shouldRemoveNamespaceOnceItsLastResourceIsRemoved() {
+		// given
+		IResource old = mockResource("old", ResourceKind.POD, "pod");
+		cache.add(old);
+		IResource pod = mockResource("emptied", ResourceKind.POD, "pod");
+		IResource service = mockResource("emptied", ResourceKind.SERVICE, "service");
+		cache.add(pod);
+		cache.add(service);
+		// when
+		cache.remove(pod);
+		cache.remove(service);
+		cache.add(mockResource("new", ResourceKind.POD, "pod"));
+		// then
+		// the emptied namespace does not count as inactive namespace anymore
+		assertThat(cache.<IResource>getResources("old")).containsExactly(old);
+		assertThat(cache.<IResource>getResources("emptied")).isEmpty();
+	}
+
+	@Test
+	public void shouldRemoveNamespacesEmptiedConcurrently() throws Exception {
+		// given
+		IResource old = mockResource("old", ResourceKind.POD, "pod");
+		cache.add(old);
+		List<IResource> resources = new ArrayList<>();
+		for (int i = 0; i < RESOURCES; i++) {
+			resources.add(mockResource("emptied-" + (i % THREADS), KINDS[i % KINDS.length], "resource-" + i));
+		}
+		for (int i = 0; i < THREADS; i++) {
+			cache.setVisible("emptied-" + i, true);
+		}
+		resources.forEach(cache::add);
+		// when
+		runConcurrently(thread -> {
+			for (int i = thread; i < RESOURCES; i += THREADS) {
+				cache.remove(resources.get(i));
+			}
+		});
+		for (int i = 0; i < THREADS; i++) {
+			cache.setVisible("emptied-" + i, false);
+		}
+		cache.add(mockResource("new", ResourceKind.POD, "pod"));
+		// then
+		assertThat(cache.<IResource>getResources("old")).containsExactly(old);
+	}
+
+	/**
+	 * Runs the given task in all the threads at once and waits for them to
+	 * complete.
+	 */
+	private void runConcurrently(ThreadTask task) throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			int thread = i;
+			futures.add(executor.submit(() -> {
+				start.await();
+				task.run(thread);
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(10, TimeUnit.SECONDS);
+		}
+	}
+
+	private static IResource mockResource(String namespace, String kind, String name) {
+		IResource resource = mock(IResource.class);
+		when(resource.getNamespaceName()).thenReturn(namespace);
+		when(resource.getKind()).thenReturn(kind);
+		when(resource.getName()).thenReturn(name);
+		return resource;
+	}
+
+	private interface ThreadTask {
+
+		void run(int thread);
+	}
+}
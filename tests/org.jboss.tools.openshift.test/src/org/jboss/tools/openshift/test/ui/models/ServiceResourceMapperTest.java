@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.test.ui.models;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jboss.tools.openshift.test.util.ResourceMocks.createDeploymentConfig;
+import static org.jboss.tools.openshift.test.util.ResourceMocks.createPod;
+import static org.jboss.tools.openshift.test.util.ResourceMocks.createReplicationController;
+import static org.jboss.tools.openshift.test.util.ResourceMocks.createRoute;
+import static org.jboss.tools.openshift.test.util.ResourceMocks.createService;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.tools.openshift.core.OpenShiftAPIAnnotations;
+import org.jboss.tools.openshift.internal.ui.models.ResourceRelationIndex;
+import org.jboss.tools.openshift.internal.ui.models.ServiceResourceMapper;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.openshift.restclient.model.IDeploymentConfig;
+import com.openshift.restclient.model.IPod;
+import com.openshift.restclient.model.IProject;
+import com.openshift.restclient.model.IReplicationController;
+import com.openshift.restclient.model.IResource;
+import com.openshift.restclient.model.IService;
+
+public class ServiceResourceMapperTest {
+
+	private static final Map<String, String> APP_LABELS = Collections.singletonMap("app", "hello");
+	private static final Map<String, String> OTHER_LABELS = Collections.singletonMap("app", "bye");
+
+	private IProject project;
+	private IService service;
+
+	@Before
+	public void setUp() {
+		this.project = mock(IProject.class);
+		when(project.getName()).thenReturn("project");
+		this.service = createService("hello", project, APP_LABELS);
+	}
+
+	@Test
+	public void podMatchingServiceSelectorShouldAffectService() {
+		// given
+		IPod pod = createPod("hello-1", project, APP_LABELS);
+		// when - then
+		assertThat(ServiceResourceMapper.mayAffectRelatedResources(service, Collections.emptyList(), pod)).isTrue();
+	}
+
+	@Test
+	public void podNotMatchingServiceSelectorShouldNotAffectService() {
+		// given
+		IPod pod = createPod("bye-1", project, OTHER_LABELS);
+		// when - then
+		assertThat(ServiceResourceMapper.mayAffectRelatedResources(service, Collections.emptyList(), pod)).isFalse();
+	}
+
+	@Test
+	public void routeForServiceShouldAffectService() {
+		assertThat(ServiceResourceMapper.mayAffectRelatedResources(service, Collections.emptyList(),
+				createRoute("hello-route", project, "hello"))).isTrue();
+		assertThat(ServiceResourceMapper.mayAffectRelatedResources(service, Collections.emptyList(),
+				createRoute("bye-route", project, "bye"))).isFalse();
+	}
+
+	@Test
+	public void replicationControllerOfRelatedPodShouldAffectService() {
+		// given
+		IPod pod = createPod("hello-1-abcde", project, APP_LABELS,
+				Collections.singletonMap(OpenShiftAPIAnnotations.DEPLOYMENT_NAME, "hello-1"));
+		// when - then
+		assertThat(ServiceResourceMapper.mayAffectRelatedResources(service, Collections.singletonList(pod),
+				createReplicationController("hello-1", project, OTHER_LABELS))).isTrue();
+		assertThat(ServiceResourceMapper.mayAffectRelatedResources(service, Collections.singletonList(pod),
+				createReplicationController("bye-1", project, OTHER_LABELS))).isFalse();
+	}
+
+	@Test
+	public void indexShouldRelateSameResourcesAsScanIn100ResourcesNamespace() {
+		assertIndexRelatesSameResourcesAsScan(100);
+	}
+
+	@Test
+	public void indexShouldRelateSameResourcesAsScanIn1kResourcesNamespace() {
+		assertIndexRelatesSameResourcesAsScan(1_000);
+	}
+
+	@Test
+	public void indexShouldRelateSameResourcesAsScanIn10kResourcesNamespace() {
+		assertIndexRelatesSameResourcesAsScan(10_000);
+	}
+
+	@Test
+	public void indexShouldNotRelateRemovedResources() {
+		// given
+		IPod pod = createPod("hello-1", project, APP_LABELS);
+		ResourceRelationIndex index = new ResourceRelationIndex(Arrays.asList(service, pod));
+		assertThat(ServiceResourceMapper.computeRelatedResources(service, index)).containsOnly(pod);
+		// when
+		index.remove(pod);
+		// then
+		assertThat(ServiceResourceMapper.computeRelatedResources(service, index)).isEmpty();
+	}
+
+	@Test
+	public void indexShouldMatchEmptySelectorAndNullLabelsLikeScan() {
+		// given
+		IService unselective = createService("unselective", project, Collections.emptyMap());
+		List<IResource> resources = Arrays.asList(unselective,
+				createPod("unlabeled-1", project, null),
+				createPod("empty-1", project, Collections.emptyMap()),
+				createPod("hello-1", project, APP_LABELS),
+				createDeploymentConfigWithSelector("unselective", project, null),
+				createDeploymentConfigWithSelector("empty", project, Collections.emptyMap()),
+				createDeploymentConfigWithSelector("hello", project, APP_LABELS));
+		// when
+		ResourceRelationIndex index = new ResourceRelationIndex(resources);
+		// then
+		assertThat(ServiceResourceMapper.computeRelatedResources(unselective, index))
+				.containsExactlyInAnyOrderElementsOf(
+						ServiceResourceMapper.computeRelatedResources(unselective, resources));
+		assertThat(ServiceResourceMapper.computeRelatedResources(service, index))
+				.containsExactlyInAnyOrderElementsOf(
+						ServiceResourceMapper.computeRelatedResources(service, resources));
+	}
+
+	@Test
+	public void indexShouldMatchReplicationControllersWithEmptyOrNullSelectorLikeScan() {
+		// given
+		IReplicationController unselective = createReplicationController("unselective-1", project, null);
+		IReplicationController empty = createReplicationController("empty-1", project, Collections.emptyMap());
+		List<IResource> resources = Arrays.asList(unselective, empty,
+				createPod("unlabeled-1", project, null),
+				createPod("empty-1", project, Collections.emptyMap()),
+				createPod("hello-1", project, APP_LABELS));
+		// when
+		ResourceRelationIndex index = new ResourceRelationIndex(resources);
+		// then
+		assertThat(ServiceResourceMapper.computeRelatedResources(unselective, index))
+				.containsExactlyInAnyOrderElementsOf(
+						ServiceResourceMapper.computeRelatedResources(unselective, resources));
+		assertThat(ServiceResourceMapper.computeRelatedResources(empty, index))
+				.containsExactlyInAnyOrderElementsOf(
+						ServiceResourceMapper.computeRelatedResources(empty, resources));
+	}
+
+	private IDeploymentConfig createDeploymentConfigWithSelector(String name, IProject project,
+			Map<String, String> selector) {
+		IDeploymentConfig dc = createDeploymentConfig(name, project, Collections.emptyList(),
+				Collections.emptyList());
+		when(dc.getReplicaSelector()).thenReturn(selector);
+		return dc;
+	}
+
+	/**
+	 * Creates a synthetic namespace with the given number of resources where
+	 * each application consists of a service, a route, a deployment config, a
+	 * replication controller and pods, and verifies that the index relates the
+	 * same resources to the services and deployment configs as a full scan.
+	 */
+	private void assertIndexRelatesSameResourcesAsScan(int numOfResources) {
+		// given
+		int resourcesPerApp = 10;
+		List<IResource> resources = new ArrayList<>(numOfResources);
+		List<IService> services = new ArrayList<>();
+		List<IDeploymentConfig> dcs = new ArrayList<>();
+		for (int i = 0; i < numOfResources / resourcesPerApp; i++) {
+			String app = "app" + i;
+			Map<String, String> labels = Collections.singletonMap("app", app);
+			IService appService = createService(app, project, labels);
+			services.add(appService);
+			resources.add(appService);
+			resources.add(createRoute(app + "-route", project, app));
+			IDeploymentConfig dc = createDeploymentConfig(app, project, Collections.emptyList(),
+					Collections.emptyList());
+			when(dc.getReplicaSelector()).thenReturn(labels);
+			dcs.add(dc);
+			resources.add(dc);
+			IReplicationController rc = createReplicationController(app + "-1", project, labels);
+			when(rc.getAnnotation(OpenShiftAPIAnnotations.DEPLOYMENT_CONFIG_NAME)).thenReturn(app);
+			resources.add(rc);
+			Map<String, String> annotations = new HashMap<>();
+			annotations.put(OpenShiftAPIAnnotations.DEPLOYMENT_CONFIG_NAME, app);
+			annotations.put(OpenShiftAPIAnnotations.DEPLOYMENT_NAME, app + "-1");
+			for (int j = 0; j < resourcesPerApp - 4; j++) {
+				resources.add(createPod(app + "-1-" + j, project, labels, annotations));
+			}
+		}
+		// when
+		ResourceRelationIndex index = new ResourceRelationIndex(resources);
+		// then
+		int step = Math.max(1, services.size() / 10);
+		for (int i = 0; i < services.size(); i += step) {
+			assertThat(ServiceResourceMapper.computeRelatedResources(services.get(i), index))
+					.containsExactlyInAnyOrderElementsOf(
+							ServiceResourceMapper.computeRelatedResources(services.get(i), resources));
+			assertThat(ServiceResourceMapper.computeRelatedResources(dcs.get(i), index))
+					.containsExactlyInAnyOrderElementsOf(
+							ServiceResourceMapper.computeRelatedResources(dcs.get(i), resources));
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.test.ui.odo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.tools.openshift.core.odo.Component;
+import org.jboss.tools.openshift.internal.ui.odo.ExecHelper;
+import org.jboss.tools.openshift.internal.ui.odo.OdoCli;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Testing {@link ExecHelper#executeAndParse(String, File, Map, ExecHelper.OutputParser, String...)}
+ * and the parsing of the components that odo lists.
+ */
+public class ExecHelperTest {
+
+	private static final String SHELL = "/bin/sh";
+	private static final String COMPONENTS = "{\"components\":["
+			+ "{\"name\":\"nodejs\",\"projectType\":\"Node.js\",\"runningIn\":{\"dev\":true,\"deploy\":false}},"
+			+ "{\"name\":\"quarkus\",\"projectType\":\"Quarkus\",\"runningIn\":{\"dev\":false,\"deploy\":true}}]}";
+
+	@Before
+	public void setUp() {
+		assumeTrue(new File(SHELL).canExecute());
+	}
+
+	@Test
+	public void shouldParseOutputThatIsFollowedByNotifications() throws IOException {
+		// given
+		ObjectMapper mapper = new ObjectMapper();
+		// when
+		Map<String, Object> result = ExecHelper.executeAndParse(SHELL, new File("."), Collections.emptyMap(),
+				out -> mapper.readValue(out, new TypeReference<Map<String, Object>>() {
+				}), "-c", "echo '{\"name\":\"value\"}'; echo 'a new version of odo is available'");
+		// then
+		assertThat(result).containsEntry("name", "value");
+	}
+
+	@Test
+	public void shouldParseOutputThatExceedsPipeBuffer() throws IOException {
+		// given
+		ObjectMapper mapper = new ObjectMapper();
+		// when
+		Map<String, Object> result = ExecHelper.executeAndParse(SHELL, new File("."), Collections.emptyMap(),
+				out -> mapper.readValue(out, new TypeReference<Map<String, Object>>() {
+				}), "-c", "echo '{\"name\":\"value\"}'; i=0; while [ $i -lt 5000 ]; do echo 'trailing output'; i=$((i+1)); done");
+		// then
+		assertThat(result).containsEntry("name", "value");
+	}
+
+	@Test(expected = IOException.class)
+	public void shouldThrowIfProcessFails() throws IOException {
+		// given
+		// when
+		ExecHelper.executeAndParse(SHELL, new File("."), Collections.emptyMap(), out -> out.read(), "-c",
+				"echo 'failed' >&2; exit 2");
+		// then
+	}
+
+	@Test(expected = IOException.class)
+	public void shouldThrowIfOutputCannotBeParsed() throws IOException {
+		// given
+		ObjectMapper mapper = new ObjectMapper();
+		// when
+		ExecHelper.executeAndParse(SHELL, new File("."), Collections.emptyMap(),
+				out -> mapper.readValue(out, new TypeReference<Map<String, Object>>() {
+				}), "-c", "echo 'not json'");
+		// then
+	}
+
+	@Test
+	public void shouldParseComponentsThatOdoLists() throws IOException {
+		// given
+		// when
+		List<Component> components = ExecHelper.executeAndParse(SHELL, new File("."), Collections.emptyMap(),
+				OdoCli::parseComponents, "-c", "echo '" + COMPONENTS + "'; echo 'a new version of odo is available'");
+		// then
+		assertThat(components).hasSize(2);
+		assertThat(components.get(0).getName()).isEqualTo("nodejs");
+		assertThat(components.get(0).getLiveFeatures().isDev()).isTrue();
+		assertThat(components.get(0).getInfo().getComponentTypeName()).isEqualTo("Node.js");
+		assertThat(components.get(1).getName()).isEqualTo("quarkus");
+		assertThat(components.get(1).getLiveFeatures().isDev()).isFalse();
+		assertThat(components.get(1).getLiveFeatures().isDeploy()).isTrue();
+	}
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.test.ui.odo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.jboss.tools.openshift.internal.ui.odo.LatencyHistogram;
+import org.junit.Test;
+
+/**
+ * Testing the {@link LatencyHistogram} class.
+ */
+public class LatencyHistogramTest {
+
+	@Test
+	public void shouldCountDurationInBucketOfItsUpperBound() {
+		// given
+		LatencyHistogram histogram = new LatencyHistogram();
+		// when
+		histogram.record(0);
+		histogram.record(50);
+		histogram.record(51);
+		histogram.record(100);
+		histogram.record(2500);
+		// then
+		assertThat(histogram.getCount(50)).isEqualTo(2);
+		assertThat(histogram.getCount(100)).isEqualTo(2);
+		assertThat(histogram.getCount(250)).isZero();
+		assertThat(histogram.getCount(2500)).isEqualTo(1);
+		assertThat(histogram.getCount()).isEqualTo(5);
+	}
+
+	@Test
+	public void shouldCountDurationAboveHighestBoundInOverflowBucket() {
+		// given
+		LatencyHistogram histogram = new LatencyHistogram();
+		// when
+		histogram.record(10_000);
+		histogram.record(10_001);
+		// then
+		assertThat(histogram.getCount(10_000)).isEqualTo(1);
+		assertThat(histogram.getCount(Long.MAX_VALUE)).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldReturnZeroForUnknownBound() {
+		// given
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(42);
+		// when
+		long count = histogram.getCount(42);
+		// then
+		assertThat(count).isZero();
+	}
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.test.ui.odo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.tools.common.util.FileUtils;
+import org.jboss.tools.openshift.internal.ui.odo.OdoQueryCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testing the {@link OdoQueryCache} class.
+ */
+public class OdoQueryCacheTest {
+
+	private static final long TTL = 60_000;
+	private static final String[] DESCRIBE = { "describe", "component", "-o", "json" };
+
+	private File workingDirectory;
+	private AtomicInteger runs;
+
+	@Before
+	public void setUp() throws IOException {
+		this.workingDirectory = Files.createTempDirectory("odo").toFile();
+		this.runs = new AtomicInteger();
+	}
+
+	@After
+	public void tearDown() {
+		FileUtils.remove(workingDirectory);
+	}
+
+	@Test
+	public void shouldReturnMemoizedOutput() throws IOException {
+		// given
+		OdoQueryCache cache = new OdoQueryCache(TTL);
+		cache.query(workingDirectory, DESCRIBE, this::run);
+		// when
+		String output = cache.query(workingDirectory, DESCRIBE, this::run);
+		// then
+		assertThat(output).isEqualTo("output 1");
+		assertThat(runs.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldRunAgainOnceOutputExpired() throws IOException, InterruptedException {
+		// given
+		OdoQueryCache cache = new OdoQueryCache(50);
+		cache.query(workingDirectory, DESCRIBE, this::run);
+		Thread.sleep(200);
+		// when
+		String output = cache.query(workingDirectory, DESCRIBE, this::run);
+		// then
+		assertThat(output).isEqualTo("output 2");
+	}
+
+	@Test
+	public void shouldRunAgainForOtherArguments() throws IOException {
+		// given
+		OdoQueryCache cache = new OdoQueryCache(TTL);
+		cache.query(workingDirectory, DESCRIBE, this::run);
+		// when
+		String output = cache.query(workingDirectory, new String[] { "analyze", "-o", "json" }, this::run);
+		// then
+		assertThat(output).isEqualTo("output 2");
+	}
+
+	@Test
+	public void shouldRunAgainOnceCommandWasExecuted() throws IOException {
+		// given
+		OdoQueryCache cache = new OdoQueryCache(TTL);
+		cache.query(workingDirectory, DESCRIBE, this::run);
+		cache.execute(new String[] { "delete", "component" }, () -> "deleted");
+		// when
+		String output = cache.query(workingDirectory, DESCRIBE, this::run);
+		// then
+		assertThat(output).isEqualTo("output 2");
+	}
+
+	@Test
+	public void shouldNotMemoizeOutputIfInvalidatedWhileRunning() throws IOException {
+		// given
+		OdoQueryCache cache = new OdoQueryCache(TTL);
+		cache.query(workingDirectory, DESCRIBE, () -> {
+			String output = run();
+			// a command that is not read-only ran meanwhile
+			cache.invalidate();
+			return output;
+		});
+		// when
+		String output = cache.query(workingDirectory, DESCRIBE, this::run);
+		// then
+		assertThat(output).isEqualTo("output 2");
+	}
+
+	@Test
+	public void shouldRunAgainOnceDevfileChanged() throws IOException {
+		// given
+		File devfile = new File(workingDirectory, "devfile.yaml");
+		Files.write(devfile.toPath(), "schemaVersion: 2.2.0".getBytes());
+		devfile.setLastModified(System.currentTimeMillis() - 10_000);
+		OdoQueryCache cache = new OdoQueryCache(TTL);
+		cache.query(workingDirectory, DESCRIBE, this::run);
+		devfile.setLastModified(System.currentTimeMillis());
+		// when
+		String output = cache.query(workingDirectory, DESCRIBE, this::run);
+		// then
+		assertThat(output).isEqualTo("output 2");
+	}
+
+	@Test
+	public void shouldRecordLatencyByCommandName() throws IOException {
+		// given
+		OdoQueryCache cache = new OdoQueryCache(TTL);
+		// when
+		cache.query(workingDirectory, DESCRIBE, this::run);
+		cache.query(workingDirectory, DESCRIBE, this::run);
+		// then
+		assertThat(cache.getLatencies()).containsOnlyKeys("describe component");
+		// memoized outputs are not measured
+		assertThat(cache.getLatencies().get("describe component").getCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldGetCommandNameFromLeadingWords() {
+		// given
+		// when
+		// then
+		assertThat(OdoQueryCache.getCommandName(DESCRIBE)).isEqualTo("describe component");
+		assertThat(OdoQueryCache.getCommandName(new String[] { "list", "--namespace", "ns" })).isEqualTo("list");
+		assertThat(OdoQueryCache.getCommandName(new String[] { "service", "list", "extra" }))
+				.isEqualTo("service list");
+	}
+
+	private String run() {
+		return "output " + runs.incrementAndGet();
+	}
+}
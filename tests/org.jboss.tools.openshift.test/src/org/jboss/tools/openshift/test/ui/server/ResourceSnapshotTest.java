@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.test.ui.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.jboss.tools.openshift.core.connection.Connection;
+import org.jboss.tools.openshift.internal.ui.server.ResourceSnapshot;
+import org.jboss.tools.openshift.test.util.ResourceMocks;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.openshift.restclient.OpenShiftException;
+import com.openshift.restclient.ResourceKind;
+import com.openshift.restclient.model.IProject;
+import com.openshift.restclient.model.IService;
+
+/**
+ * Testing the {@link ResourceSnapshot} class.
+ */
+public class ResourceSnapshotTest {
+
+	private Connection connection;
+	private IProject project1;
+	private IProject project2;
+	private IService service1;
+	private IService service2;
+
+	@Before
+	public void setUp() {
+		this.connection = ResourceMocks.createConnection("https://localhost:8443", "admin");
+		this.project1 = ResourceMocks.createProject("project1");
+		this.project2 = ResourceMocks.createProject("project2");
+		when(connection.getResources(ResourceKind.PROJECT)).thenReturn(Arrays.asList(project1, project2));
+		this.service1 = ResourceMocks.createService("service1", project1);
+		this.service2 = ResourceMocks.createService("service2", project2);
+		when(project1.getResources(ResourceKind.SERVICE)).thenReturn(Collections.singletonList(service1));
+		when(project2.getResources(ResourceKind.SERVICE)).thenReturn(Collections.singletonList(service2));
+	}
+
+	@After
+	public void tearDown() {
+		System.clearProperty(ResourceSnapshot.CLUSTER_WIDE_THRESHOLD_KEY);
+	}
+
+	@Test
+	public void shouldListEachProjectIfThereAreFewProjects() {
+		// given
+		// when
+		ResourceSnapshot snapshot = ResourceSnapshot.load(connection, ResourceKind.SERVICE);
+		// then
+		assertThat(snapshot.getProjects()).containsExactly(project1, project2);
+		assertThat(snapshot.<IService>getResources(project1, ResourceKind.SERVICE)).containsExactly(service1);
+		assertThat(snapshot.<IService>getResources(project2, ResourceKind.SERVICE)).containsExactly(service2);
+		verify(connection, never()).getResources(ResourceKind.SERVICE);
+	}
+
+	@Test
+	public void shouldListAllNamespacesAtOnceIfThereAreManyProjects() {
+		// given
+		System.setProperty(ResourceSnapshot.CLUSTER_WIDE_THRESHOLD_KEY, "2");
+		IService foreign = ResourceMocks.createService("foreign", ResourceMocks.createProject("foreign"));
+		when(connection.getResources(ResourceKind.SERVICE)).thenReturn(Arrays.asList(service2, foreign, service1));
+		// when
+		ResourceSnapshot snapshot = ResourceSnapshot.load(connection, ResourceKind.SERVICE);
+		// then
+		assertThat(snapshot.<IService>getResources(project1, ResourceKind.SERVICE)).containsExactly(service1);
+		assertThat(snapshot.<IService>getResources(project2, ResourceKind.SERVICE)).containsExactly(service2);
+		verify(project1, never()).getResources(any());
+		verify(project2, never()).getResources(any());
+	}
+
+	@Test
+	public void shouldListEachProjectIfNotAllowedToListAllNamespaces() {
+		// given
+		System.setProperty(ResourceSnapshot.CLUSTER_WIDE_THRESHOLD_KEY, "2");
+		when(connection.getResources(ResourceKind.SERVICE)).thenThrow(new OpenShiftException("forbidden"));
+		// when
+		ResourceSnapshot snapshot = ResourceSnapshot.load(connection, ResourceKind.SERVICE);
+		// then
+		assertThat(snapshot.<IService>getResources(project1, ResourceKind.SERVICE)).containsExactly(service1);
+		assertThat(snapshot.<IService>getResources(project2, ResourceKind.SERVICE)).containsExactly(service2);
+	}
+
+	@Test
+	public void shouldReturnEmptyListForKindThatWasNotLoaded() {
+		// given
+		// when
+		ResourceSnapshot snapshot = ResourceSnapshot.load(connection, ResourceKind.SERVICE);
+		// then
+		assertThat(snapshot.getResources(project1, ResourceKind.ROUTE)).isEmpty();
+	}
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.openshift.test.ui.wizard.newapp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.jboss.tools.openshift.internal.core.util.ResourceUtils;
+import org.jboss.tools.openshift.internal.ui.wizard.newapp.ApplicationSourceIndex;
+import org.jboss.tools.openshift.internal.ui.wizard.newapp.IApplicationSource;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ApplicationSourceIndexTest {
+
+	private ApplicationSourceIndex index;
+	private IApplicationSource eap;
+	private IApplicationSource nodejs;
+
+	@Before
+	public void setUp() {
+		this.index = new ApplicationSourceIndex();
+		this.eap = mockSource("eap72-basic-s2i", "javaee", "xPaaS", "jboss");
+		this.nodejs = mockSource("nodejs-mongodb-example", "quickstart", "nodejs", "mongodb");
+	}
+
+	@Test
+	public void shouldMatchAllSourcesIfFilterIsBlank() {
+		// given
+		// when
+		// then
+		assertThat(index.matches("", eap)).isTrue();
+		assertThat(index.matches("  ", nodejs)).isTrue();
+	}
+
+	@Test
+	public void shouldMatchLikeResourceUtils() {
+		// given
+		String[] filters = { "eap", "EAP basic", "xpaas,jboss", "java jbo", "node quick", "mongo", "eap mongo",
+				"basic jboss", "s2i" };
+		for (String filter : filters) {
+			for (IApplicationSource source : Arrays.asList(eap, nodejs)) {
+				// when
+				boolean matches = index.matches(filter, source);
+				// then
+				assertThat(matches)
+						.as("filter \"%s\" on %s", filter, source.getName())
+						.isEqualTo(ResourceUtils.isMatchingNameOrTag(filter, source.getName(), source.getTags()));
+			}
+		}
+	}
+
+	@Test
+	public void shouldNotMatchSourceThatDidNotMatchShorterFilter() {
+		// given
+		assertThat(index.matches("nod", eap)).isFalse();
+		// when
+		boolean matches = index.matches("node", eap);
+		// then
+		assertThat(matches).isFalse();
+		verify(eap, times(1)).getName();
+	}
+
+	@Test
+	public void shouldMatchAgainIfFilterIsShortened() {
+		// given
+		assertThat(index.matches("eap mongo", eap)).isFalse();
+		// when
+		boolean matches = index.matches("eap", eap);
+		// then
+		assertThat(matches).isTrue();
+	}
+
+	private IApplicationSource mockSource(String name, String... tags) {
+		IApplicationSource source = mock(IApplicationSource.class);
+		doReturn(name).when(source).getName();
+		Collection<String> sourceTags = Arrays.asList(tags);
+		doReturn(sourceTags).when(source).getTags();
+		return source;
+	}
+}